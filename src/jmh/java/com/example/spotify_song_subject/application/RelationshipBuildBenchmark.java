@@ -0,0 +1,106 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.domain.Album;
+import com.example.spotify_song_subject.domain.Artist;
+import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.dto.BatchContext;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.mapper.SpotifyDomainMapper;
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관계 데이터 생성(RelationshipDataProcessor.buildRelationships) 벤치마크
+ * 배치 처리 중 저장이 끝난 상태(id가 지정된 Song/Artist/Album)를 재현하여 입력으로 사용
+ * - 전체 곡 수(TOTAL_SONGS)를 고정하고 batchSize(data.batch.size) 단위로 나누어 처리
+ * - OperationsPerInvocation으로 곡당 비용을 보고하므로 배치 크기가 커져도 점수가 일정해야 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RelationshipBuildBenchmark {
+
+    private static final int TOTAL_SONGS = 10_000;
+
+    @Param({"100", "1000", "10000"})
+    private int batchSize;
+
+    private List<Batch> batches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SpotifySongDto> songDtos = SyntheticSpotifyDataset.generateSongDtos(TOTAL_SONGS);
+        batches = new ArrayList<>();
+        long id = 1L;
+
+        for (int from = 0; from < songDtos.size(); from += batchSize) {
+            List<SpotifySongDto> batchDtos = songDtos.subList(from, Math.min(from + batchSize, songDtos.size()));
+            BatchContext context = BatchContext.from(batchDtos);
+
+            Map<String, Artist> artistsMap = new HashMap<>();
+            for (String name : context.artistNames()) {
+                Artist artist = Artist.of(name);
+                artist.assignId(id++);
+                artistsMap.put(name, artist);
+            }
+
+            Map<String, Album> albumsMap = new HashMap<>();
+            for (Map.Entry<String, Set<AlbumBatchProcessor.AlbumInfo>> entry : context.albumsByTitle().entrySet()) {
+                for (AlbumBatchProcessor.AlbumInfo info : entry.getValue()) {
+                    Album album = Album.of(entry.getKey(), info.releaseDate(), info.artistName());
+                    album.assignId(id++);
+                    albumsMap.put(entry.getKey() + "|" + info.releaseDate() + "|" + info.artistName(), album);
+                }
+            }
+
+            List<SongBatchProcessor.SavedSong> savedSongs = new ArrayList<>(batchDtos.size());
+            for (SpotifySongDto dto : batchDtos) {
+                String albumKey = dto.getAlbumTitle() + "|" + SpotifyDomainMapper.parseReleaseDate(dto.getReleaseDate())
+                    + "|" + dto.getArtists().trim();
+                Album album = albumsMap.get(albumKey);
+
+                Song song = SpotifyDomainMapper.convertToSong(dto, album != null ? album.getId() : null);
+                song.assignId(id++);
+                savedSongs.add(new SongBatchProcessor.SavedSong(song, dto, album != null ? albumKey : null));
+            }
+
+            batches.add(new Batch(savedSongs, artistsMap, albumsMap));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_SONGS)
+    public void buildRelationships(Blackhole blackhole) {
+        for (Batch batch : batches) {
+            blackhole.consume(RelationshipDataProcessor.buildRelationships(
+                batch.savedSongs(), batch.artistsMap(), batch.albumsMap()));
+        }
+    }
+
+    private record Batch(List<SongBatchProcessor.SavedSong> savedSongs,
+                         Map<String, Artist> artistsMap,
+                         Map<String, Album> albumsMap) {}
+}
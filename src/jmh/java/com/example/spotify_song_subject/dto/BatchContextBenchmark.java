@@ -0,0 +1,45 @@
+package com.example.spotify_song_subject.dto;
+
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 단위 아티스트/앨범 집계(BatchContext.from) 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchContextBenchmark {
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private List<SpotifySongDto> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        batch = SyntheticSpotifyDataset.generateSongDtos(batchSize);
+    }
+
+    @Benchmark
+    public BatchContext from() {
+        return BatchContext.from(batch);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.spotify_song_subject.loader;
+
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 데이터셋 파일 입력 방식 벤치마크 (buffered vs mmap)
+ * - 합성 데이터셋 파일을 반복 읽기 하므로 페이지 캐시가 데워진 상태(재임포트)를 측정
+ * - 실제 데이터셋으로 측정하려면 datasetDir 파라미터에 데이터셋 디렉토리를 지정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SpotifyDataReaderModeBenchmark {
+
+    @Param({"buffered", "mmap"})
+    private String readerMode;
+
+    @Param({"1", "4"})
+    private int parallelParsers;
+
+    @Param({"50000"})
+    private int songCount;
+
+    /**
+     * 비어 있으면 합성 데이터셋 사용, 지정하면 해당 디렉토리의 실제 데이터셋 파일 사용
+     */
+    @Param({""})
+    private String datasetDir;
+
+    private Path generatedDirectory;
+    private SpotifyDataStreamReader reader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path directory;
+        if (datasetDir.isBlank()) {
+            generatedDirectory = Files.createTempDirectory("reader-mode-benchmark");
+            SyntheticSpotifyDataset.writeDataset(generatedDirectory, songCount);
+            directory = generatedDirectory;
+        } else {
+            directory = Path.of(datasetDir);
+        }
+
+        reader = new SpotifyDataStreamReader();
+        ReflectionTestUtils.setField(reader, "dataDirectory", directory.toString());
+        ReflectionTestUtils.setField(reader, "batchSize", 1000);
+        ReflectionTestUtils.setField(reader, "bufferSize", 131072);
+        ReflectionTestUtils.setField(reader, "parallelParsers", parallelParsers);
+        ReflectionTestUtils.setField(reader, "readerMode", readerMode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (generatedDirectory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(generatedDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(generatedDirectory);
+    }
+
+    @Benchmark
+    public long readDataset() {
+        return reader.streamSpotifySongsInBatches()
+            .map(List::size)
+            .reduce(0L, Long::sum)
+            .block();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.spotify_song_subject.loader;
+
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.mapper.SpotifyDataMapper;
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 곡 JSON 파싱 벤치마크
+ * - mapPath: Map 파싱 후 SpotifyDataMapper로 DTO 변환 (기존 경로)
+ * - directPath: 토큰을 SpotifySongDto로 직접 파싱
+ * gc 프로파일러와 함께 실행해 곡당 할당량(gc.alloc.rate.norm)을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpotifySongParsingBenchmark {
+
+    @Param({"10000"})
+    private int songCount;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private byte[] dataset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = SyntheticSpotifyDataset.generateBytes(songCount);
+    }
+
+    @Benchmark
+    public void mapPath(Blackhole blackhole) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(dataset)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    Map<String, Object> songData = SpotifySongJsonParser.parseSongMap(parser);
+                    blackhole.consume(SpotifyDataMapper.mapToSpotifySongDto(songData));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void directPath(Blackhole blackhole) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(dataset)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    SpotifySongDto dto = SpotifySongJsonParser.parseSongDto(parser);
+                    blackhole.consume(dto);
+                }
+            }
+        }
+    }
+}
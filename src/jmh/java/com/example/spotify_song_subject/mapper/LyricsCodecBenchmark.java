@@ -0,0 +1,169 @@
+package com.example.spotify_song_subject.mapper;
+
+import com.example.spotify_song_subject.application.SongLyricsService;
+import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.repository.SongLyricsRepository;
+import com.example.spotify_song_subject.repository.bulk.SongBulkRepository;
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가사 저장 코덱 벤치마크 (H2 인메모리, MySQL 모드)
+ * - encode / insert: 적재 경로의 압축 비용과 SongBulkRepository 삽입 처리량
+ * - readLyrics: song_lyrics 한 건 조회 + 압축 해제 지연 (SongLyricsService)
+ * - 압축률과 song_lyrics에 실제 저장된 바이트 수는 Trial 시작 시 출력
+ * 합성 가사는 실제 가사보다 어휘가 단순하므로 압축률의 절대값보다 코덱 간 비교로 해석
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LyricsCodecBenchmark {
+
+    private static final int SONG_COUNT = 1_000;
+    private static final int TRAINING_SONG_COUNT = 1_000;
+
+    /**
+     * plain: 비압축, deflate: dictionary 없음,
+     * deflate-bundled: 기본 제공 dictionary, deflate-trained: 별도 샘플로 학습한 dictionary
+     */
+    @Param({"plain", "deflate", "deflate-bundled", "deflate-trained"})
+    private String codecName;
+
+    private LyricsCodec codec;
+    private List<Song> songs;
+    private List<String> lyrics;
+
+    private DatabaseClient writeClient;
+    private SongBulkRepository songBulkRepository;
+
+    private SongLyricsService songLyricsService;
+    private List<Long> storedIds;
+    private int readCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SpotifySongDto> songDtos = SyntheticSpotifyDataset.generateSongDtos(TRAINING_SONG_COUNT + SONG_COUNT);
+        List<String> trainingLyrics = songDtos.subList(0, TRAINING_SONG_COUNT).stream()
+            .map(SpotifySongDto::getLyrics)
+            .toList();
+        codec = createCodec(codecName, trainingLyrics);
+
+        songs = new ArrayList<>(SONG_COUNT);
+        lyrics = new ArrayList<>(SONG_COUNT);
+        for (SpotifySongDto dto : songDtos.subList(TRAINING_SONG_COUNT, songDtos.size())) {
+            songs.add(SpotifyDomainMapper.convertToSong(dto, null));
+            lyrics.add(dto.getLyrics());
+        }
+
+        writeClient = DatabaseClient.create(createDatabase("jmh-lyrics-write"));
+        songBulkRepository = new SongBulkRepository(writeClient, codec);
+
+        ConnectionFactory readFactory = createDatabase("jmh-lyrics-read");
+        SongBulkRepository readLoader = new SongBulkRepository(DatabaseClient.create(readFactory), codec);
+        storedIds = readLoader.bulkInsertReturningIds(songs).block();
+        SongLyricsRepository songLyricsRepository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(readFactory))
+            .getRepository(SongLyricsRepository.class);
+        songLyricsService = new SongLyricsService(songLyricsRepository, codec);
+
+        reportFootprint(DatabaseClient.create(readFactory));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncateTables() {
+        Flux.just("songs", "song_lyrics")
+            .concatMap(table -> writeClient.sql("TRUNCATE TABLE " + table).then())
+            .blockLast();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SONG_COUNT)
+    public void encode(Blackhole blackhole) {
+        for (String text : lyrics) {
+            blackhole.consume(codec.encode(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SONG_COUNT)
+    public List<Long> insert() {
+        return songBulkRepository.bulkInsertReturningIds(songs).block();
+    }
+
+    @Benchmark
+    public String readLyrics() {
+        Long songId = storedIds.get(readCursor);
+        readCursor = (readCursor + 1) % storedIds.size();
+        return songLyricsService.findLyrics(songId).block();
+    }
+
+    private static LyricsCodec createCodec(String codecName, List<String> trainingLyrics) {
+        return switch (codecName) {
+            case "plain" -> new PlainLyricsCodec();
+            case "deflate" -> new DeflateLyricsCodec(new byte[0], 6);
+            case "deflate-bundled" -> new DeflateLyricsCodec(bundledDictionary(), 6);
+            case "deflate-trained" -> new DeflateLyricsCodec(
+                LyricsDictionaryTrainer.train(trainingLyrics, LyricsDictionaryTrainer.MAX_DICTIONARY_SIZE), 6);
+            default -> throw new IllegalArgumentException("Unknown codec: " + codecName);
+        };
+    }
+
+    private static byte[] bundledDictionary() {
+        try {
+            return new ClassPathResource("lyrics-dictionary.txt").getContentAsByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ConnectionFactory createDatabase(String name) {
+        ConnectionFactory connectionFactory =
+            ConnectionFactories.get("r2dbc:h2:mem:///" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        return connectionFactory;
+    }
+
+    private void reportFootprint(DatabaseClient readClient) {
+        long rawBytes = lyrics.stream()
+            .mapToLong(text -> text.getBytes(StandardCharsets.UTF_8).length)
+            .sum();
+        Long storedBytes = readClient.sql("SELECT SUM(OCTET_LENGTH(lyrics)) AS stored FROM song_lyrics")
+            .map(row -> row.get("stored", Long.class))
+            .one()
+            .block();
+
+        System.out.printf("%n[%s] raw=%d bytes, stored=%d bytes, ratio=%.2f%n",
+            codecName, rawBytes, storedBytes, (double) rawBytes / storedBytes);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.spotify_song_subject.mapper;
+
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매퍼 변환 벤치마크
+ * - mapToSpotifySongDto: 곡 Map → SpotifySongDto
+ * - convertToSong: SpotifySongDto → Song 엔티티
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpotifyMapperBenchmark {
+
+    @Param({"10000"})
+    private int songCount;
+
+    private List<Map<String, Object>> songMaps;
+    private List<SpotifySongDto> songDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        songMaps = SyntheticSpotifyDataset.generateSongMaps(songCount);
+        songDtos = SyntheticSpotifyDataset.generateSongDtos(songCount);
+    }
+
+    @Benchmark
+    public void mapToSpotifySongDto(Blackhole blackhole) {
+        for (Map<String, Object> songMap : songMaps) {
+            blackhole.consume(SpotifyDataMapper.mapToSpotifySongDto(songMap));
+        }
+    }
+
+    @Benchmark
+    public void convertToSong(Blackhole blackhole) {
+        long albumId = 1L;
+        for (SpotifySongDto songDto : songDtos) {
+            blackhole.consume(SpotifyDomainMapper.convertToSong(songDto, albumId++));
+        }
+    }
+}
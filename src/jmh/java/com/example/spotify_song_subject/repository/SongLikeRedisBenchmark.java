@@ -0,0 +1,114 @@
+package com.example.spotify_song_subject.repository;
+
+import com.redis.testcontainers.RedisContainer;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좋아요 한 건의 Redis 반영 비용 벤치마크 (testcontainers Redis)
+ * - separate: 변경 전 방식 (ZINCRBY, EXPIRE, SET을 각각 기다리며 순차 호출)
+ * - scripted: SongLikeRedisRepository.applyLike (EVALSHA 한 번)
+ * 클라이언트가 보낸 명령 수를 Lettuce CommandListener로 세어 Trial 종료 시 좋아요당 명령 수로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SongLikeRedisBenchmark {
+
+    private static final String BUCKET_KEY = "likes:bucket:bench";
+    private static final String CACHE_KEY_PREFIX = "song:like:cache:";
+    private static final int SONG_COUNT = 1_000;
+
+    @Param({"separate", "scripted"})
+    private String mode;
+
+    private RedisContainer redisContainer;
+    private LettuceConnectionFactory connectionFactory;
+    private ReactiveStringRedisTemplate redisTemplate;
+    private SongLikeRedisRepository songLikeRedisRepository;
+
+    private final AtomicLong commands = new AtomicLong();
+    private long likes;
+    private long songCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisContainer = new RedisContainer(DockerImageName.parse("redis:7-alpine"));
+        redisContainer.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redisContainer.getRedisHost(), redisContainer.getRedisPort()));
+        connectionFactory.afterPropertiesSet();
+
+        AbstractRedisClient client = connectionFactory.getNativeClient();
+        client.addListener(new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                commands.incrementAndGet();
+            }
+        });
+
+        redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        songLikeRedisRepository = new SongLikeRedisRepository(redisTemplate);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        redisTemplate.execute(connection -> connection.serverCommands().flushAll()).blockLast();
+        commands.set(0);
+        likes = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCommands() {
+        System.out.printf("%n[%s] likes=%d, commands=%d, commands/like=%.2f%n",
+            mode, likes, commands.get(), (double) commands.get() / likes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @Benchmark
+    public Long like() {
+        Long songId = songCursor++ % SONG_COUNT + 1;
+        likes++;
+
+        if ("separate".equals(mode)) {
+            return redisTemplate.opsForZSet()
+                .incrementScore(BUCKET_KEY, songId.toString(), 1.0)
+                .then(redisTemplate.expire(BUCKET_KEY, Duration.ofMinutes(70)))
+                .then(redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + songId, "1", Duration.ofMinutes(5)))
+                .thenReturn(1L)
+                .block();
+        }
+        return songLikeRedisRepository.applyLike(songId, 1, 1L).block();
+    }
+}
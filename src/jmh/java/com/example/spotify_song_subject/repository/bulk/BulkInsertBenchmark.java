@@ -0,0 +1,159 @@
+package com.example.spotify_song_subject.repository.bulk;
+
+import com.example.spotify_song_subject.domain.Album;
+import com.example.spotify_song_subject.domain.Artist;
+import com.example.spotify_song_subject.domain.ArtistAlbum;
+import com.example.spotify_song_subject.domain.ArtistSong;
+import com.example.spotify_song_subject.domain.SimilarSong;
+import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.dto.SimilarSongDto;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.mapper.PlainLyricsCodec;
+import com.example.spotify_song_subject.mapper.SpotifyDomainMapper;
+import com.example.spotify_song_subject.support.SyntheticSpotifyDataset;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk insert 벤치마크 (H2 인메모리, MySQL 모드)
+ * - 각 BulkRepository의 바인딩 + 실행 비용을 배치 크기별로 측정
+ * - 반복(iteration)마다 테이블을 비워 누적 데이터가 결과에 영향을 주지 않도록 함
+ * - artists는 INSERT IGNORE이므로 첫 호출 이후에는 중복 무시 경로를 측정
+ * - 가사 압축 비용은 LyricsCodecBenchmark에서 따로 측정하므로 여기서는 비압축 코덱 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final List<String> TABLES = List.of(
+        "songs", "song_lyrics", "albums", "artists", "artist_songs", "artist_albums", "similar_songs");
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private DatabaseClient databaseClient;
+
+    private SongBulkRepository songBulkRepository;
+    private AlbumBulkRepository albumBulkRepository;
+    private ArtistBulkRepository artistBulkRepository;
+    private ArtistSongBulkRepository artistSongBulkRepository;
+    private ArtistAlbumBulkRepository artistAlbumBulkRepository;
+    private SimilarSongBulkRepository similarSongBulkRepository;
+
+    private List<Song> songs;
+    private List<Album> albums;
+    private List<Artist> artists;
+    private List<ArtistSong> artistSongs;
+    private List<ArtistAlbum> artistAlbums;
+    private List<SimilarSong> similarSongs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConnectionFactory connectionFactory =
+            ConnectionFactories.get("r2dbc:h2:mem:///jmh-bulk-insert;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        databaseClient = DatabaseClient.create(connectionFactory);
+
+        songBulkRepository = new SongBulkRepository(databaseClient, new PlainLyricsCodec());
+        albumBulkRepository = new AlbumBulkRepository(databaseClient);
+        artistBulkRepository = new ArtistBulkRepository(databaseClient);
+        artistSongBulkRepository = new ArtistSongBulkRepository(databaseClient);
+        artistAlbumBulkRepository = new ArtistAlbumBulkRepository(databaseClient);
+        similarSongBulkRepository = new SimilarSongBulkRepository(databaseClient);
+
+        createEntities(SyntheticSpotifyDataset.generateSongDtos(batchSize));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncateTables() {
+        Flux.fromIterable(TABLES)
+            .concatMap(table -> databaseClient.sql("TRUNCATE TABLE " + table).then())
+            .blockLast();
+    }
+
+    @Benchmark
+    public Long songs() {
+        return songBulkRepository.bulkInsert(songs).block();
+    }
+
+    @Benchmark
+    public List<Long> songsReturningIds() {
+        return songBulkRepository.bulkInsertReturningIds(songs).block();
+    }
+
+    @Benchmark
+    public Long albums() {
+        return albumBulkRepository.bulkInsert(albums).block();
+    }
+
+    @Benchmark
+    public Long artists() {
+        return artistBulkRepository.bulkInsert(artists).block();
+    }
+
+    @Benchmark
+    public Long artistSongs() {
+        return artistSongBulkRepository.bulkInsert(artistSongs).block();
+    }
+
+    @Benchmark
+    public Long artistAlbums() {
+        return artistAlbumBulkRepository.bulkInsert(artistAlbums).block();
+    }
+
+    @Benchmark
+    public Long similarSongs() {
+        return similarSongBulkRepository.bulkInsert(similarSongs).block();
+    }
+
+    private void createEntities(List<SpotifySongDto> songDtos) {
+        songs = new ArrayList<>(songDtos.size());
+        albums = new ArrayList<>(songDtos.size());
+        artists = new ArrayList<>();
+        artistSongs = new ArrayList<>(songDtos.size());
+        artistAlbums = new ArrayList<>(songDtos.size());
+        similarSongs = new ArrayList<>();
+
+        for (int i = 0; i < songDtos.size(); i++) {
+            SpotifySongDto dto = songDtos.get(i);
+            long id = i + 1;
+
+            songs.add(SpotifyDomainMapper.convertToSong(dto, id));
+            albums.add(SpotifyDomainMapper.extractAlbum(dto));
+            artists.addAll(SpotifyDomainMapper.extractArtists(dto));
+            artistSongs.add(SpotifyDomainMapper.createArtistSong(id, id));
+            artistAlbums.add(SpotifyDomainMapper.createArtistAlbum(id, id));
+
+            if (dto.getSimilarSongs() != null) {
+                for (SimilarSongDto similar : dto.getSimilarSongs()) {
+                    similarSongs.add(SpotifyDomainMapper.createSimilarSong(
+                        id, similar.getArtistName(), similar.getSongTitle(), similar.getSimilarityScore()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.spotify_song_subject.support;
+
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.loader.SpotifySongJsonParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 Spotify 데이터셋 생성기
+ * - 실제 데이터셋과 같은 필드 구성의 NDJSON을 생성
+ * - 고정 seed를 사용해 실행마다 같은 데이터를 생성
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SyntheticSpotifyDataset {
+
+    public static final String JSON_FILE_NAME = "900k Definitive Spotify Dataset.json";
+
+    private static final long SEED = 20240901L;
+    private static final int ARTIST_POOL_SIZE = 5_000;
+    private static final int ALBUM_POOL_SIZE = 20_000;
+    private static final int SIMILAR_SONG_COUNT = 3;
+    private static final String[] EMOTIONS = {"joy", "sadness", "anger", "fear", "love", "surprise"};
+    private static final String[] GENRES = {"pop", "rock", "hip hop", "jazz", "country", "electronic"};
+    private static final String[] KEYS = {"C Maj", "D min", "E Maj", "F# min", "A Maj", "Bb min"};
+    private static final String[] GOOD_FOR_FIELDS = {
+        "Good for Party", "Good for Work/Study", "Good for Relaxation/Meditation", "Good for Exercise",
+        "Good for Running", "Good for Yoga/Stretching", "Good for Driving", "Good for Social Gatherings",
+        "Good for Morning Routine"
+    };
+
+    /**
+     * 지정한 디렉토리에 songCount 개의 곡을 가진 데이터셋 파일 생성
+     */
+    public static Path writeDataset(Path directory, int songCount) {
+        Path file = directory.resolve(JSON_FILE_NAME);
+
+        try (OutputStream out = Files.newOutputStream(file);
+             JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            Random random = new Random(SEED);
+
+            for (int i = 0; i < songCount; i++) {
+                writeSong(generator, random, i);
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write synthetic dataset", e);
+        }
+
+        return file;
+    }
+
+    /**
+     * 메모리 상의 NDJSON 바이트 배열 생성
+     */
+    public static byte[] generateBytes(int songCount) {
+        try {
+            Path directory = Files.createTempDirectory("synthetic-spotify");
+            Path file = writeDataset(directory, songCount);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.delete(file);
+            Files.delete(directory);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate synthetic dataset", e);
+        }
+    }
+
+    /**
+     * 곡 단위 Map 목록 생성 (Map 파싱 경로 입력)
+     */
+    public static List<Map<String, Object>> generateSongMaps(int songCount) {
+        List<Map<String, Object>> songMaps = new ArrayList<>(songCount);
+        try (JsonParser parser = new JsonFactory().createParser(generateBytes(songCount))) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    songMaps.add(SpotifySongJsonParser.parseSongMap(parser));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse synthetic dataset", e);
+        }
+        return songMaps;
+    }
+
+    /**
+     * SpotifySongDto 목록 생성 (DTO 직접 파싱 경로 입력)
+     */
+    public static List<SpotifySongDto> generateSongDtos(int songCount) {
+        List<SpotifySongDto> songDtos = new ArrayList<>(songCount);
+        try (JsonParser parser = new JsonFactory().createParser(generateBytes(songCount))) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    songDtos.add(SpotifySongJsonParser.parseSongDto(parser));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse synthetic dataset", e);
+        }
+        return songDtos;
+    }
+
+    private static void writeSong(JsonGenerator generator, Random random, int index) throws IOException {
+        int artistIndex = random.nextInt(ARTIST_POOL_SIZE);
+        int albumIndex = random.nextInt(ALBUM_POOL_SIZE);
+
+        generator.writeStartObject();
+        generator.writeStringField("Artist(s)", "Artist " + artistIndex);
+        generator.writeStringField("song", "Song " + index);
+        generator.writeStringField("text", lyrics(random));
+        generator.writeStringField("Length", String.format("%02d:%02d", 2 + random.nextInt(4), random.nextInt(60)));
+        generator.writeStringField("emotion", pick(random, EMOTIONS));
+        generator.writeStringField("Genre", pick(random, GENRES));
+        generator.writeStringField("Album", "Album " + albumIndex);
+        generator.writeStringField("Release Date", LocalDate.of(1970, 1, 1).plusDays(random.nextInt(20_000)).toString());
+        generator.writeStringField("Key", pick(random, KEYS));
+        generator.writeFieldName("Tempo");
+        generator.writeNumber(decimal(random));
+        generator.writeFieldName("Loudness (db)");
+        generator.writeNumber(decimal(random));
+        generator.writeStringField("Time signature", "4/4");
+        generator.writeStringField("Explicit", random.nextBoolean() ? "Yes" : "No");
+        generator.writeNumberField("Popularity", random.nextInt(101));
+        generator.writeNumberField("Energy", random.nextInt(101));
+        generator.writeNumberField("Danceability", random.nextInt(101));
+        generator.writeNumberField("Positiveness", random.nextInt(101));
+        generator.writeNumberField("Speechiness", random.nextInt(101));
+        generator.writeNumberField("Liveness", random.nextInt(101));
+        generator.writeNumberField("Acousticness", random.nextInt(101));
+        generator.writeNumberField("Instrumentalness", random.nextInt(101));
+        for (String field : GOOD_FOR_FIELDS) {
+            generator.writeNumberField(field, random.nextInt(2));
+        }
+
+        generator.writeArrayFieldStart("Similar Songs");
+        for (int i = 1; i <= SIMILAR_SONG_COUNT; i++) {
+            generator.writeStartObject();
+            generator.writeStringField("Similar Artist " + i, "Artist " + random.nextInt(ARTIST_POOL_SIZE));
+            generator.writeStringField("Similar Song " + i, "Song " + random.nextInt(Math.max(index, 1)));
+            generator.writeFieldName("Similarity Score");
+            generator.writeNumber(decimal(random));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static String lyrics(Random random) {
+        StringBuilder sb = new StringBuilder(1_024);
+        int words = 100 + random.nextInt(150);
+        for (int i = 0; i < words; i++) {
+            sb.append("word").append(random.nextInt(500)).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private static BigDecimal decimal(Random random) {
+        return BigDecimal.valueOf(random.nextDouble()).setScale(10, RoundingMode.HALF_UP);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
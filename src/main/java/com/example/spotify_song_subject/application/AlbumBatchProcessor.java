@@ -28,7 +28,7 @@ public class AlbumBatchProcessor {
      * Albums 배치 처리 - Bulk Insert 최적화 버전
      * 1. 기존 앨범 조회
      * 2. 새 앨범 필터링
-     * 3. Bulk Insert
+     * 3. Bulk Insert (생성 id를 INSERT 결과로 받아 재조회 생략)
      */
     public Mono<Map<String, Album>> processAlbumsBatch(Map<String, Set<AlbumInfo>> albumsByTitle) {
         if (albumsByTitle.isEmpty()) {
@@ -106,32 +106,21 @@ public class AlbumBatchProcessor {
             return Mono.just(new ArrayList<>(existingAlbums.values()));
         }
 
-        return albumBulkRepository.bulkInsert(newAlbums)
-            .flatMap(count -> reloadAlbums(allKeys));
-    }
-
-    /**
-     * 모든 앨범 재조회 (삽입 후 ID 포함된 데이터 가져오기)
-     * IN 절을 사용하여 한 번에 조회
-     */
-    private Mono<List<Album>> reloadAlbums(List<AlbumKey> albumKeys) {
-        if (albumKeys.isEmpty()) {
-            return Mono.just(Collections.emptyList());
-        }
-
-        Set<String> titles = albumKeys.stream()
-            .map(AlbumKey::title)
-            .collect(Collectors.toSet());
-
-        Set<String> validKeys = albumKeys.stream()
-            .map(key -> key.title() + "|" + key.releaseDate() + "|" + key.artistName())
-            .collect(Collectors.toSet());
+        return albumBulkRepository.bulkInsertReturningIds(newAlbums)
+            .map(ids -> {
+                if (ids.size() != newAlbums.size()) {
+                    throw new IllegalStateException(
+                        "Generated id count mismatch. albums=" + newAlbums.size() + ", ids=" + ids.size());
+                }
 
-        return albumRepository.findAllByTitleIn(titles)
-            .filter(album -> {
-                String albumKey = album.getTitle() + "|" + album.getReleaseDate() + "|" + album.getArtistName();
-                return validKeys.contains(albumKey);
-            }).collectList();
+                List<Album> albums = new ArrayList<>(existingAlbums.values());
+                for (int i = 0; i < newAlbums.size(); i++) {
+                    Album album = newAlbums.get(i);
+                    album.assignId(ids.get(i));
+                    albums.add(album);
+                }
+                return albums;
+            });
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.repository.AlbumStatisticsCustomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연도별 앨범 통계 전체 개수 캐시
+ * - 연도별 아티스트 수는 그 연도의 앨범이 적재될 때만 바뀌므로, 연도마다 한 번 계산해 재사용
+ * - 적재 배치 커밋 후 해당 연도를, 통계 재계산 후 전체를 무효화
+ * - 같은 연도의 동시 미스는 하나의 조회를 공유하고, 조회가 실패하면 캐시에 남기지 않음
+ */
+@Slf4j
+@Component
+public class AlbumStatisticsCountCache {
+
+    private final AlbumStatisticsCustomRepository albumStatisticsCustomRepository;
+
+    private final Map<Integer, Mono<Long>> counts = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public AlbumStatisticsCountCache(AlbumStatisticsCustomRepository albumStatisticsCustomRepository,
+                                     MeterRegistry meterRegistry) {
+        this.albumStatisticsCustomRepository = albumStatisticsCustomRepository;
+
+        this.hits = Counter.builder("album.statistics.count.cache").tag("result", "hit")
+            .description("연도별 통계 개수 캐시 조회").register(meterRegistry);
+        this.misses = Counter.builder("album.statistics.count.cache").tag("result", "miss")
+            .description("연도별 통계 개수 캐시 조회").register(meterRegistry);
+        Gauge.builder("album.statistics.count.cache.size", counts, Map::size)
+            .description("캐시된 연도 수").register(meterRegistry);
+    }
+
+    /**
+     * 해당 연도에 앨범을 발매한 아티스트 수
+     */
+    public Mono<Long> countByYear(Integer year) {
+        boolean[] loaded = {false};
+        Mono<Long> count = counts.computeIfAbsent(year, key -> {
+            loaded[0] = true;
+            return load(key);
+        });
+
+        (loaded[0] ? misses : hits).increment();
+        return count;
+    }
+
+    /**
+     * 적재로 앨범 수가 바뀌었을 수 있는 연도 무효화
+     */
+    public void invalidate(Collection<Integer> years) {
+        if (!years.isEmpty()) {
+            counts.keySet().removeAll(years);
+        }
+    }
+
+    /**
+     * 전체 무효화 (통계 요약 재계산 후)
+     */
+    public void invalidateAll() {
+        counts.clear();
+        log.debug("Invalidated all album statistics counts");
+    }
+
+    private Mono<Long> load(Integer year) {
+        AtomicReference<Mono<Long>> self = new AtomicReference<>();
+        Mono<Long> load = albumStatisticsCustomRepository.countAlbumStatisticsByYear(year)
+            .doOnError(error -> counts.remove(year, self.get()))
+            .cache();
+        self.set(load);
+        return load;
+    }
+}
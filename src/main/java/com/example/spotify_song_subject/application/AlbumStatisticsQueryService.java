@@ -1,23 +1,32 @@
 package com.example.spotify_song_subject.application;
 
+import com.example.spotify_song_subject.dto.AlbumStatisticsCursor;
 import com.example.spotify_song_subject.dto.AlbumStatisticsDto;
+import com.example.spotify_song_subject.dto.AlbumStatisticsSlice;
 import com.example.spotify_song_subject.repository.AlbumStatisticsCustomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AlbumStatisticsQueryService {
 
     private final AlbumStatisticsCustomRepository albumStatisticsCustomRepository;
+    private final AlbumStatisticsCountCache albumStatisticsCountCache;
 
     /**
      * 특정 연도의 아티스트별 앨범 통계 조회
+     * 전체 개수는 연도별 캐시에서 가져옴
      *
      * @param year 조회할 연도
      * @param pageable 페이지네이션 정보
@@ -25,6 +34,72 @@ public class AlbumStatisticsQueryService {
      */
     public Mono<Page<AlbumStatisticsDto>> getAlbumStatisticsByYear(Integer year, Pageable pageable) {
         log.debug("Fetching album statistics for year: {}", year);
-        return albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+        return Mono.zip(
+                albumStatisticsCustomRepository.findAlbumStatisticsData(year, pageable).collectList(),
+                albumStatisticsCountCache.countByYear(year))
+            .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    /**
+     * 커서 기반 아티스트별 앨범 통계 조회
+     * - 다음 페이지 유무를 알기 위해 size + 1 건을 읽고, 마지막으로 반환한 행으로 다음 커서를 만듦
+     * - 전체 개수는 요청한 경우에만 연도별 캐시에서 가져옴
+     *
+     * @param year 조회할 연도
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param includeTotal 전체 개수 포함 여부
+     * @return 해당 연도의 아티스트별 앨범 발매 수와 다음 커서
+     */
+    public Mono<AlbumStatisticsSlice> getAlbumStatisticsSlice(Integer year, String cursorToken, int size, boolean includeTotal) {
+        return Mono.defer(() -> {
+            if (size < 1) {
+                return Mono.error(new IllegalArgumentException("Page size must not be less than one"));
+            }
+
+            AlbumStatisticsCursor cursor = cursorToken != null ? AlbumStatisticsCursor.decode(cursorToken) : null;
+            if (cursor != null && !year.equals(cursor.releaseYear())) {
+                return Mono.error(new IllegalArgumentException("Cursor does not belong to year " + year));
+            }
+
+            log.debug("Fetching album statistics slice for year: {}", year);
+
+            Mono<Optional<Long>> total = includeTotal
+                ? albumStatisticsCountCache.countByYear(year).map(Optional::of)
+                : Mono.just(Optional.empty());
+
+            return Mono.zip(
+                    albumStatisticsCustomRepository.findAlbumStatisticsAfter(year, cursor, size + 1).collectList(),
+                    total)
+                .map(tuple -> toSlice(tuple.getT1(), size, tuple.getT2().orElse(null)));
+        });
+    }
+
+    /**
+     * 연도 범위의 아티스트별 앨범 통계 전체를 스트리밍 조회 (페이지 크기 제한 없음)
+     * 조회 결과를 모으지 않고 DB에서 읽는 대로 전달하므로 결과 크기와 무관하게 메모리 사용량이 일정
+     *
+     * @param fromYear 시작 연도 (포함)
+     * @param toYear 종료 연도 (포함, null이면 시작 연도만)
+     * @return 연도, 앨범 수 내림차순, 아티스트명 순으로 정렬된 앨범 통계
+     */
+    public Flux<AlbumStatisticsDto> streamAlbumStatistics(Integer fromYear, Integer toYear) {
+        Integer endYear = toYear != null ? toYear : fromYear;
+        if (endYear < fromYear) {
+            return Flux.error(new IllegalArgumentException("toYear must not be before fromYear"));
+        }
+
+        log.debug("Exporting album statistics for years: {}-{}", fromYear, endYear);
+        return albumStatisticsCustomRepository.streamAlbumStatistics(fromYear, endYear);
+    }
+
+    private AlbumStatisticsSlice toSlice(List<AlbumStatisticsDto> rows, int size, Long totalElements) {
+        if (rows.size() <= size) {
+            return new AlbumStatisticsSlice(rows, null, totalElements);
+        }
+
+        List<AlbumStatisticsDto> content = rows.subList(0, size);
+        String nextCursor = AlbumStatisticsCursor.after(content.get(size - 1)).encode();
+        return new AlbumStatisticsSlice(content, nextCursor, totalElements);
     }
 }
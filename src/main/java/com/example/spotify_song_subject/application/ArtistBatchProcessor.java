@@ -37,19 +37,38 @@ public class ArtistBatchProcessor {
     
     /**
      * INSERT IGNORE를 활용한 빠른 배치 처리
-     * 1. 모든 아티스트를 INSERT IGNORE로 시도
-     * 2. 이후 전체 조회하여 반환
+     * 1. 모든 아티스트를 INSERT IGNORE로 시도하고 새로 삽입된 아티스트의 생성 id를 바로 받음
+     * 2. 이미 존재해 무시된 아티스트만 조회
      */
     private Mono<Map<String, Artist>> processArtistsBatchFast(Set<String> artistNames) {
         List<Artist> allArtists = artistNames.stream()
             .map(Artist::of)
             .collect(Collectors.toList());
-        
-        return artistBulkRepository.bulkInsert(allArtists)
-            .doOnNext(count -> log.debug("Attempted to insert {} artists, {} were new", 
-                allArtists.size(), count))
-            .then(artistRepository.findAllByNameIn(artistNames)
-                .collectMap(Artist::getName));
+
+        return artistBulkRepository.bulkInsertReturningIds(allArtists)
+            .doOnNext(insertedIds -> log.debug("Attempted to insert {} artists, {} were new",
+                allArtists.size(), insertedIds.size()))
+            .flatMap(insertedIds -> {
+                Map<String, Artist> artistsByName = new HashMap<>();
+                for (Artist artist : allArtists) {
+                    Long id = insertedIds.get(artist.getName());
+                    if (id != null) {
+                        artist.assignId(id);
+                        artistsByName.put(artist.getName(), artist);
+                    }
+                }
+
+                Set<String> existingNames = artistNames.stream()
+                    .filter(name -> !artistsByName.containsKey(name))
+                    .collect(Collectors.toSet());
+                if (existingNames.isEmpty()) {
+                    return Mono.just(artistsByName);
+                }
+
+                return artistRepository.findAllByNameIn(existingNames)
+                    .doOnNext(artist -> artistsByName.put(artist.getName(), artist))
+                    .then(Mono.just(artistsByName));
+            });
     }
 
 }
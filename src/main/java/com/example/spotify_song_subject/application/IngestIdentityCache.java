@@ -0,0 +1,94 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.domain.Album;
+import com.example.spotify_song_subject.domain.Artist;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 데이터 적재 동안 병렬 배치가 공유하는 아티스트/앨범 식별자 캐시
+ * - 아티스트 이름 → Artist, 앨범 키(title|releaseDate|artistName) → Album
+ * - 커밋이 끝난 배치의 결과만 등록하여 롤백된 id가 캐시에 남지 않도록 함
+ * - 항목 수가 상한에 도달하면 더 이상 등록하지 않음 (자주 등장하는 아티스트/앨범은 적재 초반에 대부분 등록됨)
+ */
+@Slf4j
+@Component
+public class IngestIdentityCache {
+
+    private final int maxEntries;
+    private final Map<String, Artist> artistsByName = new ConcurrentHashMap<>();
+    private final Map<String, Album> albumsByKey = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IngestIdentityCache(@Value("${data.ingest.identity-cache.max-entries:200000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시에 있는 아티스트 조회
+     */
+    public Map<String, Artist> findArtists(Collection<String> names) {
+        return findAll(artistsByName, names);
+    }
+
+    /**
+     * 캐시에 있는 앨범 조회
+     */
+    public Map<String, Album> findAlbums(Collection<String> albumKeys) {
+        return findAll(albumsByKey, albumKeys);
+    }
+
+    /**
+     * 커밋이 끝난 배치의 아티스트/앨범 등록
+     */
+    public void register(Map<String, Artist> artists, Map<String, Album> albums) {
+        putAll(artistsByName, artists);
+        putAll(albumsByKey, albums);
+    }
+
+    /**
+     * 적재 종료 시 캐시 비우기
+     */
+    public void clear() {
+        if (hits.sum() + misses.sum() > 0) {
+            log.info("Identity cache stats: hits={}, misses={}, artists={}, albums={}",
+                hits.sum(), misses.sum(), artistsByName.size(), albumsByKey.size());
+        }
+
+        artistsByName.clear();
+        albumsByKey.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private <V> Map<String, V> findAll(Map<String, V> cache, Collection<String> keys) {
+        Map<String, V> found = new HashMap<>();
+        for (String key : keys) {
+            V value = cache.get(key);
+            if (value != null) {
+                found.put(key, value);
+            }
+        }
+
+        hits.add(found.size());
+        misses.add(keys.size() - found.size());
+        return found;
+    }
+
+    private <V> void putAll(Map<String, V> cache, Map<String, V> entries) {
+        for (Map.Entry<String, V> entry : entries.entrySet()) {
+            if (artistsByName.size() + albumsByKey.size() >= maxEntries) {
+                return;
+            }
+            cache.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+}
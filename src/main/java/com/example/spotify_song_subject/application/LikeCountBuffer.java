@@ -0,0 +1,178 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.LikeCountDelta;
+import com.example.spotify_song_subject.repository.SongRepository;
+import com.example.spotify_song_subject.repository.bulk.SongBulkRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요 수 write-behind 버퍼
+ * - 좋아요/취소는 곡별 메모리 카운터만 갱신하고 현재 좋아요 수를 바로 반환
+ *   인기 곡에 요청이 몰려도 songs 행 잠금을 기다리지 않음
+ * - 누적된 증감분은 주기적으로 모아 곡별 UPDATE 한 번씩 일괄 실행 (DB 쓰기 빈도가 좋아요 QPS와 무관)
+ * - 곡의 첫 요청에서만 songs.like_count를 읽어 카운터 초기값으로 사용
+ * - 반영 전 증감분은 프로세스가 비정상 종료되면 유실되므로 종료 시 한 번 더 반영
+ * - 카운터는 좋아요가 발생한 곡 수만큼만 생기며 (최대 songs 행 수) 제거하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SongRepository songRepository;
+    private final SongBulkRepository songBulkRepository;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    /**
+     * 좋아요 1 증가 후 현재 좋아요 수 반환
+     */
+    public Mono<Long> increment(Long songId) {
+        return counter(songId).map(counter -> counter.add(1));
+    }
+
+    /**
+     * 좋아요 1 감소 후 현재 좋아요 수 반환 (0 미만으로 내려가지 않음)
+     */
+    public Mono<Long> decrement(Long songId) {
+        return counter(songId).map(counter -> counter.add(-1));
+    }
+
+    /**
+     * songs.like_count에 아직 반영되지 않은 증감분이 있는 곡 수
+     */
+    public int pendingSongCount() {
+        int count = 0;
+        for (Counter counter : counters.values()) {
+            if (counter.pending.sum() != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${like.count-buffer.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush().subscribe(
+            flushed -> {
+                if (flushed > 0) {
+                    log.debug("Flushed like count deltas for {} songs", flushed);
+                }
+            },
+            error -> log.error("Failed to flush like count deltas: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush().block(SHUTDOWN_FLUSH_TIMEOUT);
+        } catch (Exception e) {
+            log.error("Failed to flush like count deltas on shutdown: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 누적된 증감분을 songs.like_count에 일괄 반영하고 반영한 곡 수 반환
+     * 이미 반영 중이면 건너뜀. 실패하면 꺼낸 증감분을 되돌려 다음 주기에 다시 반영
+     */
+    public Mono<Integer> flush() {
+        return Mono.defer(() -> {
+            if (!flushing.compareAndSet(false, true)) {
+                return Mono.just(0);
+            }
+
+            List<LikeCountDelta> deltas = drain();
+            if (deltas.isEmpty()) {
+                flushing.set(false);
+                return Mono.just(0);
+            }
+
+            return songBulkRepository.bulkAddLikeCounts(deltas)
+                .thenReturn(deltas.size())
+                .doOnError(error -> restore(deltas))
+                .doFinally(signal -> flushing.set(false));
+        });
+    }
+
+    private Mono<Counter> counter(Long songId) {
+        Counter counter = counters.get(songId);
+        if (counter != null) {
+            return Mono.just(counter);
+        }
+
+        // 동시에 초기화되어도 먼저 등록된 카운터를 사용 (반영 전 증감분이 없으므로 DB 값이 같음)
+        return songRepository.findLikeCountById(songId)
+            .defaultIfEmpty(0L)
+            .map(likeCount -> counters.computeIfAbsent(songId, id -> new Counter(likeCount)));
+    }
+
+    private List<LikeCountDelta> drain() {
+        List<LikeCountDelta> deltas = new ArrayList<>();
+        counters.forEach((songId, counter) -> {
+            long delta = counter.drain();
+            if (delta != 0) {
+                deltas.add(new LikeCountDelta(songId, delta));
+            }
+        });
+        return deltas;
+    }
+
+    private void restore(List<LikeCountDelta> deltas) {
+        for (LikeCountDelta delta : deltas) {
+            counters.get(delta.songId()).pending.add(delta.delta());
+        }
+    }
+
+    /**
+     * 곡별 카운터
+     * total은 응답에 쓰는 현재 값, pending은 아직 DB에 반영하지 않은 증감분
+     * total이 0 미만으로 내려가지 않도록 실제로 적용된 증감분만 pending에 쌓음 (DB 값과 어긋나지 않음)
+     */
+    private static final class Counter {
+
+        private final AtomicLong total;
+        private final LongAdder pending = new LongAdder();
+
+        private Counter(long initial) {
+            total = new AtomicLong(Math.max(initial, 0L));
+        }
+
+        private long add(long delta) {
+            while (true) {
+                long current = total.get();
+                long updated = Math.max(current + delta, 0L);
+                if (total.compareAndSet(current, updated)) {
+                    if (updated != current) {
+                        pending.add(updated - current);
+                    }
+                    return updated;
+                }
+            }
+        }
+
+        private long drain() {
+            long delta = pending.sum();
+            if (delta != 0) {
+                pending.add(-delta);
+            }
+            return delta;
+        }
+    }
+}
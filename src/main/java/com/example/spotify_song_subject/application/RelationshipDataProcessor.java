@@ -1,10 +1,12 @@
 package com.example.spotify_song_subject.application;
 
 import com.example.spotify_song_subject.domain.*;
+import com.example.spotify_song_subject.dto.ArtistAlbumYearCount;
 import com.example.spotify_song_subject.dto.SimilarSongDto;
 import com.example.spotify_song_subject.dto.SpotifySongDto;
 import com.example.spotify_song_subject.mapper.SpotifyDomainMapper;
 import com.example.spotify_song_subject.repository.bulk.ArtistAlbumBulkRepository;
+import com.example.spotify_song_subject.repository.bulk.ArtistAlbumYearStatsBulkRepository;
 import com.example.spotify_song_subject.repository.bulk.ArtistSongBulkRepository;
 import com.example.spotify_song_subject.repository.bulk.SimilarSongBulkRepository;
 import lombok.Builder;
@@ -18,6 +20,7 @@ import java.util.*;
 /**
  * Song과 관련된 관계 데이터를 처리하는 유틸리티 클래스
  * ArtistSong, ArtistAlbum, SimilarSong 관계 데이터를 생성하고 관리
+ * ArtistAlbum 저장 시 연도별 아티스트 앨범 수 요약도 함께 갱신
  */
 @Slf4j
 @Component
@@ -27,6 +30,7 @@ public class RelationshipDataProcessor {
     private final ArtistSongBulkRepository artistSongBulkRepository;
     private final ArtistAlbumBulkRepository artistAlbumBulkRepository;
     private final SimilarSongBulkRepository similarSongBulkRepository;
+    private final ArtistAlbumYearStatsBulkRepository artistAlbumYearStatsBulkRepository;
 
     /**
      * Song 관계 데이터를 일괄 생성
@@ -34,52 +38,54 @@ public class RelationshipDataProcessor {
     @Builder
     public record RelationshipData(List<ArtistSong> artistSongs,
                                    List<ArtistAlbum> artistAlbums,
-                                   List<SimilarSong> similarSongs) {
+                                   List<SimilarSong> similarSongs,
+                                   List<ArtistAlbumYearCount> albumYearCounts) {
         public static RelationshipData empty() {
             return RelationshipData.builder()
                 .artistSongs(new ArrayList<>())
                 .artistAlbums(new ArrayList<>())
                 .similarSongs(new ArrayList<>())
+                .albumYearCounts(new ArrayList<>())
                 .build();
         }
     }
 
     /**
      * 저장된 Song들로부터 관계 데이터 생성
+     * Song과 원본 DTO가 이미 짝지어져 있으므로 배치를 한 번만 순회
      */
-    public static RelationshipData buildRelationships(List<Song> savedSongs,
-                                                      List<SpotifySongDto> originalDtos,
+    public static RelationshipData buildRelationships(List<SongBatchProcessor.SavedSong> savedSongs,
                                                       Map<String, Artist> artistsMap,
-                                                      Map<String, Album> albumsMap,
-                                                      Map<Integer, String> songIndexToAlbumKey) {
+                                                      Map<String, Album> albumsMap) {
 
         if (savedSongs.isEmpty()) {
             return RelationshipData.empty();
         }
 
-        List<ArtistSong> artistSongs = new ArrayList<>();
+        List<ArtistSong> artistSongs = new ArrayList<>(savedSongs.size());
         List<ArtistAlbum> artistAlbums = new ArrayList<>();
         List<SimilarSong> similarSongs = new ArrayList<>();
         Set<String> artistAlbumKeys = new HashSet<>();
+        Map<String, ArtistAlbumYearCount> albumYearCounts = new LinkedHashMap<>();
 
-        for (int i = 0; i < savedSongs.size(); i++) {
-            Song song = savedSongs.get(i);
-            SpotifySongDto dto = findOriginalDto(i, originalDtos, songIndexToAlbumKey);
+        for (SongBatchProcessor.SavedSong savedSong : savedSongs) {
+            Song song = savedSong.song();
+            SpotifySongDto dto = savedSong.dto();
+            Album album = savedSong.albumKey() != null ? albumsMap.get(savedSong.albumKey()) : null;
 
-            if (dto == null) {
-                log.warn("Could not find original DTO for saved song at index {}", i);
-                continue;
+            for (Artist artistDto : SpotifyDomainMapper.extractArtists(dto)) {
+                Artist artist = artistsMap.get(artistDto.getName());
+                if (artist == null) {
+                    continue;
+                }
+
+                artistSongs.add(SpotifyDomainMapper.createArtistSong(artist.getId(), song.getId()));
+                if (album != null && artistAlbumKeys.add(artist.getId() + "-" + album.getId())) {
+                    artistAlbums.add(SpotifyDomainMapper.createArtistAlbum(artist.getId(), album.getId()));
+                    countAlbumYear(albumYearCounts, artist, album);
+                }
             }
 
-            artistSongs.addAll(buildArtistSongRelationships(song, dto, artistsMap));
-            List<ArtistAlbum> artistAlbumsItems = buildArtistAlbumRelationships(
-                dto,
-                artistsMap,
-                albumsMap,
-                songIndexToAlbumKey.get(i),
-                artistAlbumKeys
-            );
-            artistAlbums.addAll(artistAlbumsItems);
             similarSongs.addAll(buildSimilarSongRelationships(song, dto));
         }
 
@@ -87,82 +93,24 @@ public class RelationshipDataProcessor {
             .artistSongs(artistSongs)
             .artistAlbums(artistAlbums)
             .similarSongs(similarSongs)
+            .albumYearCounts(new ArrayList<>(albumYearCounts.values()))
             .build();
     }
 
     /**
-     * 원본 DTO 찾기
-     */
-    private static SpotifySongDto findOriginalDto(int index,
-                                                  List<SpotifySongDto> originalDtos,
-                                                  Map<Integer, String> songIndexToAlbumKey) {
-
-        Integer dtoIndex = songIndexToAlbumKey.keySet().stream()
-            .filter(songIndexToAlbumKey::containsKey)
-            .skip(index)
-            .findFirst()
-            .orElse(index);
-
-        if (dtoIndex >= 0 && dtoIndex < originalDtos.size()) {
-            return originalDtos.get(dtoIndex);
-        }
-
-        return null;
-    }
-
-    /**
-     * ArtistSong 관계 생성
+     * 새 아티스트-앨범 관계 한 건을 (발매 연도, 아티스트) 단위로 합산
+     * 발매일이 없는 앨범은 연도 통계에 포함되지 않음
      */
-    private static List<ArtistSong> buildArtistSongRelationships(Song song,
-                                                                 SpotifySongDto dto,
-                                                                 Map<String, Artist> artistsMap) {
-
-        List<ArtistSong> artistSongs = new ArrayList<>();
-        List<Artist> artists = SpotifyDomainMapper.extractArtists(dto);
-
-        for (Artist artistDto : artists) {
-            Artist artist = artistsMap.get(artistDto.getName());
-            if (artist != null) {
-                ArtistSong artistSong = SpotifyDomainMapper.createArtistSong(artist.getId(), song.getId());
-                artistSongs.add(artistSong);
-            }
+    private static void countAlbumYear(Map<String, ArtistAlbumYearCount> albumYearCounts, Artist artist, Album album) {
+        if (album.getReleaseDate() == null) {
+            return;
         }
 
-        return artistSongs;
-    }
-
-    /**
-     * ArtistAlbum 관계 생성 (중복 제거 포함)
-     */
-    private static List<ArtistAlbum> buildArtistAlbumRelationships(SpotifySongDto dto,
-                                                                   Map<String, Artist> artistsMap,
-                                                                   Map<String, Album> albumsMap,
-                                                                   String albumKey,
-                                                                   Set<String> artistAlbumKeys) {
-        List<ArtistAlbum> artistAlbums = new ArrayList<>();
-        if (albumKey == null) {
-            return artistAlbums;
-        }
-
-        Album album = albumsMap.get(albumKey);
-        if (album == null) {
-            return artistAlbums;
-        }
-
-        List<Artist> artists = SpotifyDomainMapper.extractArtists(dto);
-
-        for (Artist artistDto : artists) {
-            Artist artist = artistsMap.get(artistDto.getName());
-            if (artist != null) {
-                String uniqueKey = artist.getId() + "-" + album.getId();
-                if (artistAlbumKeys.add(uniqueKey)) {
-                    ArtistAlbum artistAlbum = SpotifyDomainMapper.createArtistAlbum(artist.getId(), album.getId());
-                    artistAlbums.add(artistAlbum);
-                }
-            }
-        }
-
-        return artistAlbums;
+        int releaseYear = album.getReleaseDate().getYear();
+        albumYearCounts.merge(releaseYear + "-" + artist.getId(),
+            new ArtistAlbumYearCount(releaseYear, artist.getId(), artist.getName(), 1),
+            (current, added) -> new ArtistAlbumYearCount(releaseYear, artist.getId(), artist.getName(),
+                current.albumCount() + added.albumCount()));
     }
 
     /**
@@ -209,6 +157,23 @@ public class RelationshipDataProcessor {
         return artistAlbumBulkRepository.bulkInsert(artistAlbums);
     }
 
+    /**
+     * 연도별 아티스트 앨범 수 증분 반영
+     */
+    public Mono<Long> bulkApplyAlbumYearCounts(Collection<ArtistAlbumYearCount> albumYearCounts) {
+        if (albumYearCounts.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return artistAlbumYearStatsBulkRepository.bulkInsert(albumYearCounts);
+    }
+
+    /**
+     * 연도별 아티스트 앨범 수 요약 전체 재계산
+     */
+    public Mono<Long> rebuildAlbumYearStats() {
+        return artistAlbumYearStatsBulkRepository.rebuild();
+    }
+
     /**
      * SimilarSong 관계 데이터를 일괄 저장
      */
@@ -4,7 +4,6 @@ import com.example.spotify_song_subject.domain.Album;
 import com.example.spotify_song_subject.domain.Song;
 import com.example.spotify_song_subject.dto.SpotifySongDto;
 import com.example.spotify_song_subject.mapper.SpotifyDomainMapper;
-import com.example.spotify_song_subject.repository.SongRepository;
 import com.example.spotify_song_subject.repository.bulk.SongBulkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +12,6 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Song 배치 처리를 담당하는 전용 프로세서
@@ -24,7 +22,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SongBatchProcessor {
 
-    private final SongRepository songRepository;
     private final SongBulkRepository songBulkRepository;
 
     /**
@@ -33,19 +30,49 @@ public class SongBatchProcessor {
     public Mono<SongProcessResult> processSongsBatch(List<SpotifySongDto> songDtos, 
                                                      Map<String, Album> albumsMap) {
         if (songDtos.isEmpty()) {
-            return Mono.just(new SongProcessResult(Collections.emptyList(), Collections.emptyMap()));
+            return Mono.just(new SongProcessResult(Collections.emptyList()));
         }
 
         PreparedSongs preparedSongs = prepareSongs(songDtos, albumsMap);
         if (preparedSongs.songs().isEmpty()) {
             log.warn("No valid songs to process after album mapping");
-            return Mono.just(new SongProcessResult(Collections.emptyList(), Collections.emptyMap()));
+            return Mono.just(new SongProcessResult(Collections.emptyList()));
         }
 
-        return songBulkRepository.bulkInsert(preparedSongs.songs())
-            .doOnNext(count -> log.info("Bulk inserted {} songs", count))
-            .then(Mono.defer(() -> reloadSavedSongsByAlbumIds(preparedSongs.songs())))
-            .map(savedSongs -> new SongProcessResult(savedSongs, preparedSongs.songIndexToAlbumKey()));
+        return songBulkRepository.bulkInsertReturningIds(preparedSongs.songs())
+            .doOnNext(ids -> log.info("Bulk inserted {} songs", ids.size()))
+            .map(ids -> assignGeneratedIds(preparedSongs.songs(), ids))
+            .map(savedSongs -> new SongProcessResult(pairWithSource(savedSongs, songDtos, preparedSongs.albumKeys())));
+    }
+
+    /**
+     * INSERT 결과로 받은 생성 id를 삽입 순서대로 Song에 지정
+     * savedSongs의 순서는 입력 DTO 순서와 동일하게 유지됨
+     */
+    private List<Song> assignGeneratedIds(List<Song> songs, List<Long> ids) {
+        if (songs.size() != ids.size()) {
+            throw new IllegalStateException(
+                "Generated id count mismatch. songs=" + songs.size() + ", ids=" + ids.size());
+        }
+
+        for (int i = 0; i < songs.size(); i++) {
+            songs.get(i).assignId(ids.get(i));
+        }
+        return songs;
+    }
+
+    /**
+     * 저장된 Song을 같은 인덱스의 원본 DTO, 앨범 키와 묶음
+     * prepareSongs가 DTO마다 정확히 한 건의 Song을 만들기 때문에 세 리스트의 인덱스가 일치함
+     */
+    private List<SavedSong> pairWithSource(List<Song> savedSongs,
+                                           List<SpotifySongDto> songDtos,
+                                           List<String> albumKeys) {
+        List<SavedSong> pairs = new ArrayList<>(savedSongs.size());
+        for (int i = 0; i < savedSongs.size(); i++) {
+            pairs.add(new SavedSong(savedSongs.get(i), songDtos.get(i), albumKeys.get(i)));
+        }
+        return pairs;
     }
 
     /**
@@ -53,8 +80,8 @@ public class SongBatchProcessor {
      */
     private PreparedSongs prepareSongs(List<SpotifySongDto> songDtos, 
                                        Map<String, Album> albumsMap) {
-        List<Song> songsToSave = new ArrayList<>();
-        Map<Integer, String> songIndexToAlbumKey = new HashMap<>();
+        List<Song> songsToSave = new ArrayList<>(songDtos.size());
+        List<String> albumKeys = new ArrayList<>(songDtos.size());
 
         for (int i = 0; i < songDtos.size(); i++) {
             SpotifySongDto dto = songDtos.get(i);
@@ -64,77 +91,17 @@ public class SongBatchProcessor {
             if (album != null) {
                 Song song = SpotifyDomainMapper.convertToSong(dto, album.getId());
                 songsToSave.add(song);
-                songIndexToAlbumKey.put(i, albumKey);
+                albumKeys.add(albumKey);
             } else {
                 Song song = SpotifyDomainMapper.convertToSong(dto, null);
                 songsToSave.add(song);
-                songIndexToAlbumKey.put(i, null);
+                albumKeys.add(null);
             }
         }
 
-        return new PreparedSongs(songsToSave, songIndexToAlbumKey);
+        return new PreparedSongs(songsToSave, albumKeys);
     }
 
-
-    /**
-     * 저장된 Song들을 다시 조회하여 ID 포함된 객체 반환
-     * title로 모든 song 조회 (album_id가 null인 것도 포함)
-     */
-    private Mono<List<Song>> reloadSavedSongsByAlbumIds(List<Song> songsToSave) {
-        if (songsToSave.isEmpty()) {
-            return Mono.just(Collections.emptyList());
-        }
-        
-        // 모든 title을 수집
-        Set<String> titles = songsToSave.stream()
-            .map(Song::getTitle)
-            .collect(Collectors.toSet());
-        
-        // title로 모든 song 조회 (album_id가 null인 것도 포함)
-        return songRepository.findAllByTitleIn(titles)
-            .collectList()
-            .map(dbSongs -> {
-                // DB에서 조회한 Song들을 키로 매핑
-                Map<String, Song> dbSongMap = new HashMap<>();
-                for (Song dbSong : dbSongs) {
-                    String key;
-                    if (dbSong.getAlbumId() != null) {
-                        key = createSongKey(dbSong.getAlbumId(), dbSong.getTitle());
-                    } else {
-                        key = "null|" + dbSong.getTitle();
-                    }
-                    dbSongMap.put(key, dbSong);
-                }
-                
-                // 저장하려던 Song들과 매칭
-                List<Song> resultSongs = new ArrayList<>();
-                for (Song savedSong : songsToSave) {
-                    String key;
-                    if (savedSong.getAlbumId() != null) {
-                        key = createSongKey(savedSong.getAlbumId(), savedSong.getTitle());
-                    } else {
-                        key = "null|" + savedSong.getTitle();
-                    }
-                    
-                    Song dbSong = dbSongMap.get(key);
-                    if (dbSong != null) {
-                        resultSongs.add(dbSong);
-                    } else {
-                        log.warn("Could not find saved song in DB: {}", savedSong.getTitle());
-                    }
-                }
-                
-                return resultSongs;
-            });
-    }
-    
-    /**
-     * Song의 고유 키 생성 (albumId + title)
-     */
-    private String createSongKey(Long albumId, String title) {
-        return albumId + "|" + title;
-    }
-    
     /**
      * 앨범 키 생성 (title|releaseDate|artistName)
      */
@@ -157,13 +124,18 @@ public class SongBatchProcessor {
     }
 
     /**
-     * Song 처리 결과
+     * 저장된 Song과 원본 DTO, 앨범 키(앨범이 없으면 null)
+     */
+    public record SavedSong(Song song, SpotifySongDto dto, String albumKey) {}
+
+    /**
+     * Song 처리 결과 (입력 DTO 순서 유지)
      */
-    public record SongProcessResult(List<Song> savedSongs, Map<Integer, String> songIndexToAlbumKey) {}
+    public record SongProcessResult(List<SavedSong> savedSongs) {}
 
     /**
-     * 준비된 Songs 정보
+     * 준비된 Songs 정보 (songs와 albumKeys는 입력 DTO와 인덱스가 일치)
      */
-    private record PreparedSongs(List<Song> songs, Map<Integer, String> songIndexToAlbumKey) {}
+    private record PreparedSongs(List<Song> songs, List<String> albumKeys) {}
 
 }
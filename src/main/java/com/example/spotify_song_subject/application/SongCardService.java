@@ -0,0 +1,87 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.SongCard;
+import com.example.spotify_song_subject.repository.SongCardRedisRepository;
+import com.example.spotify_song_subject.repository.SongCardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 곡 카드 read-through 캐시
+ * - 여러 곡을 MGET 한 번으로 조회하고, 없는 곡만 DB에서 한 번에 읽어 캐시에 채움
+ * - 곡/아티스트/앨범 정보가 바뀌면 evict로 무효화 (데이터 재적재 시 전체 무효화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongCardService {
+
+    private final SongCardRepository songCardRepository;
+    private final SongCardRedisRepository songCardRedisRepository;
+
+    /**
+     * 곡 카드 일괄 조회
+     *
+     * @param songIds 조회할 곡 ID 목록
+     * @return 곡 ID → 곡 카드 (존재하지 않는 곡은 빠짐)
+     */
+    public Mono<Map<Long, SongCard>> findCards(List<Long> songIds) {
+        if (songIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return songCardRedisRepository.findAll(songIds)
+            .flatMap(cached -> {
+                List<Long> missingIds = songIds.stream()
+                    .filter(songId -> !cached.containsKey(songId))
+                    .distinct()
+                    .toList();
+
+                if (missingIds.isEmpty()) {
+                    return Mono.just(cached);
+                }
+                return loadAndCache(missingIds, cached);
+            });
+    }
+
+    /**
+     * 캐시에 없는 곡을 DB에서 읽어 캐시에 저장한 뒤 기존 결과와 합침
+     */
+    private Mono<Map<Long, SongCard>> loadAndCache(List<Long> missingIds, Map<Long, SongCard> cached) {
+        return songCardRepository.findSongCardsByIds(missingIds)
+            .collectList()
+            .flatMap(loaded -> songCardRedisRepository.saveAll(loaded)
+                .map(saved -> {
+                    Map<Long, SongCard> cards = new HashMap<>(cached);
+                    loaded.forEach(card -> cards.put(card.songId(), card));
+                    return cards;
+                }));
+    }
+
+    /**
+     * 곡 카드 무효화
+     */
+    public Mono<Long> evict(Collection<Long> songIds) {
+        return songCardRedisRepository.deleteAll(songIds);
+    }
+
+    /**
+     * 전체 곡 카드 무효화
+     * 캐시는 TTL로도 만료되므로 Redis 실패는 로그만 남김
+     */
+    public Mono<Long> evictAll() {
+        return songCardRedisRepository.deleteAllCards()
+            .doOnNext(deleted -> log.info("Evicted {} song cards", deleted))
+            .onErrorResume(error -> {
+                log.error("Failed to evict song cards: {}", error.getMessage());
+                return Mono.just(0L);
+            });
+    }
+}
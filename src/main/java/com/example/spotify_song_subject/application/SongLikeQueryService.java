@@ -1,9 +1,9 @@
 package com.example.spotify_song_subject.application;
 
+import com.example.spotify_song_subject.dto.SongCard;
 import com.example.spotify_song_subject.dto.SongLikeScore;
 import com.example.spotify_song_subject.dto.TrendingSongDto;
 import com.example.spotify_song_subject.repository.SongLikeRedisRepository;
-import com.example.spotify_song_subject.repository.SongLikeCustomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,11 +19,11 @@ import java.util.stream.Collectors;
 public class SongLikeQueryService {
 
     private final SongLikeRedisRepository songLikeRedisRepository;
-    private final SongLikeCustomRepository songLikeCustomRepository;
+    private final SongCardService songCardService;
 
     /**
      * 최근 1시간 동안 좋아요 증가 Top 10 조회
-     * Redis 버킷에서 집계한 데이터를 기반으로 트렌딩 곡 조회
+     * Redis 버킷에서 집계한 데이터를 기반으로 트렌딩 곡 조회 (곡 정보는 곡 카드 캐시에서 채움)
      */
     public Mono<List<TrendingSongDto>> getTrendingSongs() {
         return getTop10LikeScores()
@@ -43,6 +43,7 @@ public class SongLikeQueryService {
 
     /**
      * 좋아요 점수 리스트를 TrendingSongDto 리스트로 변환
+     * 점수 목록은 이미 좋아요 증가 수 내림차순이므로 그 순서대로 곡 카드를 붙임
      * @param likeScores Redis에서 조회한 좋아요 점수 목록
      * @return 트렌딩 곡 정보 목록 (좋아요 증가 수 내림차순 정렬)
      */
@@ -53,7 +54,24 @@ public class SongLikeQueryService {
 
         List<Long> songIds = extractSongIds(likeScores);
         Map<Long, Long> likeIncreaseMap = createLikeIncreaseMap(likeScores);
-        return songLikeCustomRepository.findTrendingSongsByIds(songIds, likeIncreaseMap);
+        return songCardService.findCards(songIds)
+                .map(cards -> songIds.stream()
+                        .filter(cards::containsKey)
+                        .map(songId -> toTrendingSong(cards.get(songId), likeIncreaseMap.get(songId)))
+                        .toList());
+    }
+
+    /**
+     * 곡 카드와 좋아요 증가 수로 TrendingSongDto 생성
+     */
+    private TrendingSongDto toTrendingSong(SongCard card, Long likeIncrease) {
+        return TrendingSongDto.builder()
+                .songId(card.songId())
+                .songTitle(card.title())
+                .artistName(card.artistNames())
+                .albumName(card.albumTitle())
+                .likeIncrease(likeIncrease)
+                .build();
     }
 
     /**
@@ -1,20 +1,18 @@
 package com.example.spotify_song_subject.application;
 
-import com.example.spotify_song_subject.domain.Song;
-import com.example.spotify_song_subject.domain.SongLike;
 import com.example.spotify_song_subject.dto.SongLikeContext;
 import com.example.spotify_song_subject.dto.SongLikeDto;
+import com.example.spotify_song_subject.dto.SongSummary;
 import com.example.spotify_song_subject.exception.ResourceNotFoundException;
 import com.example.spotify_song_subject.repository.SongLikeRedisRepository;
 import com.example.spotify_song_subject.repository.SongLikeRepository;
 import com.example.spotify_song_subject.repository.SongRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
 
 import java.time.LocalDateTime;
 
@@ -26,120 +24,56 @@ public class SongLikeService {
     private final SongRepository songRepository;
     private final SongLikeRepository songLikeRepository;
     private final SongLikeRedisRepository songLikeRedisRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     /**
      * 노래 좋아요 토글
+     * - 토글은 단일 MERGE 문이라 그 자체로 원자적이므로 트랜잭션 없이 실행
+     * - 곡 요약 조회와 토글은 서로 의존하지 않으므로 동시에 실행
+     * - 좋아요 수는 LikeCountBuffer에서 바로 응답 (DB 왕복 없음)
+     * - 트렌딩 버킷과 좋아요 수 캐시는 Redis 한 번의 왕복으로 반영
      */
-    @Transactional
     public Mono<SongLikeDto> like(Long songId, Long userId) {
-        Mono<Song> songMono = findSongById(songId);
-
-        Mono<Tuple2<Song, Boolean>> songWithLikeStatus = songMono
-            .flatMap(song -> checkIfLikeExists(songId, userId)
-                .map(exists -> Tuples.of(song, exists)));
-
-        return songWithLikeStatus
-            .flatMap(tuple -> processLikeToggle(songId, userId, tuple.getT1(), tuple.getT2()));
+        return Mono.zip(findSongById(songId), toggleLike(songId, userId))
+            .flatMap(tuple -> tuple.getT2()
+                ? addLike(songId, tuple.getT1())
+                : removeLike(songId, tuple.getT1()));
     }
 
     /**
-     * Song 엔티티 조회
+     * 곡 요약 조회 (가사 등 좋아요와 무관한 컬럼은 읽지 않음)
      */
-    private Mono<Song> findSongById(Long songId) {
-        return songRepository.findById(songId)
+    private Mono<SongSummary> findSongById(Long songId) {
+        return songRepository.findSummaryById(songId)
             .switchIfEmpty(Mono.error(new ResourceNotFoundException("Song", "id", songId)));
     }
 
     /**
-     * 좋아요 존재 여부 확인
-     */
-    private Mono<Boolean> checkIfLikeExists(Long songId, Long userId) {
-        return songLikeRepository.findBySongIdAndUserId(songId, userId)
-            .hasElement();
-    }
-
-    /**
-     * 좋아요 토글 처리
-     */
-    private Mono<SongLikeDto> processLikeToggle(Long songId, Long userId, Song song, Boolean exists) {
-        if (exists) {
-            return removeLike(songId, userId, song);
-        }
-
-        return addLike(songId, userId, song);
-    }
-
-    /**
-     * 좋아요 추가 내부 처리
-     */
-    private Mono<SongLikeDto> addLike(Long songId, Long userId, Song song) {
-        return saveLikeToDatabase(songId, userId, song)
-            .flatMap(context -> recordLikeToRedis(songId, userId, context))
-            .flatMap(context -> updateLikeCountCache(songId, context))
-            .map(context -> buildLikeResponse(context, true));
-    }
-
-    /**
-     * 좋아요 취소 내부 처리
+     * 좋아요 상태 토글 후 새 상태 반환
+     * 같은 사용자의 첫 좋아요가 동시에 들어오면 한쪽이 유니크 제약에 걸리므로 한 번 재시도 (재시도는 기존 행을 토글)
      */
-    private Mono<SongLikeDto> removeLike(Long songId, Long userId, Song song) {
-        return songLikeRepository.deleteBySongIdAndUserId(songId, userId)
-            .then(songRepository.decrementLikeCount(songId))
-            .then(songLikeRedisRepository.decrementLikeInBucket(songId))
-            .then(songRepository.findById(songId))
-            .flatMap(updatedSong -> songLikeRedisRepository.updateLikeCountCache(songId, updatedSong.getLikeCount())
-                .thenReturn(updatedSong.getLikeCount()))
-            .map(totalLikes -> {
-                SongLikeContext context = SongLikeContext.likeRemoved(song, totalLikes);
-                return buildLikeResponse(context, false);
-            });
-    }
-
-    /**
-     * 데이터베이스에 좋아요 저장 및 카운트 증가
-     */
-    private Mono<SongLikeContext> saveLikeToDatabase(Long songId, Long userId, Song song) {
-        SongLike songLike = SongLike.create(songId, userId);
-        Mono<SongLike> savedLikeMono = songLikeRepository.save(songLike);
-
-        return savedLikeMono
-            .flatMap(savedLike -> incrementAndReturnLike(songId, savedLike))
-            .map(savedLike -> SongLikeContext.likeAdded(song, savedLike));
-    }
-
-    /**
-     * 좋아요 카운트 증가 후 좋아요 엔티티 반환
-     */
-    private Mono<SongLike> incrementAndReturnLike(Long songId, SongLike savedLike) {
-        return songRepository.incrementLikeCount(songId)
-            .thenReturn(savedLike);
-    }
-
-    /**
-     * Redis 버킷에 좋아요 기록
-     */
-    private Mono<SongLikeContext> recordLikeToRedis(Long songId, Long userId, SongLikeContext context) {
-        return songLikeRedisRepository.recordLikeToBucket(songId)
-            .thenReturn(context);
+    private Mono<Boolean> toggleLike(Long songId, Long userId) {
+        return songLikeRepository.toggle(songId, userId)
+            .retryWhen(Retry.max(1).filter(DataIntegrityViolationException.class::isInstance))
+            .switchIfEmpty(Mono.error(new ResourceNotFoundException("Song", "id", songId)));
     }
 
     /**
-     * Redis 캐시에 좋아요 수 업데이트
+     * 좋아요 추가 후처리
      */
-    private Mono<SongLikeContext> updateLikeCountCache(Long songId, SongLikeContext context) {
-        return songRepository.findById(songId)
-            .flatMap(song -> updateCacheAndReturnContext(songId, song.getLikeCount(), context));
+    private Mono<SongLikeDto> addLike(Long songId, SongSummary song) {
+        return likeCountBuffer.increment(songId)
+            .flatMap(totalLikes -> songLikeRedisRepository.applyLike(songId, 1, totalLikes))
+            .map(totalLikes -> buildLikeResponse(SongLikeContext.likeAdded(song, null, totalLikes), true));
     }
 
     /**
-     * Redis 캐시 업데이트 후 context 반환
+     * 좋아요 취소 후처리
      */
-    private Mono<SongLikeContext> updateCacheAndReturnContext(Long songId, Long totalLikes, SongLikeContext context) {
-        return songLikeRedisRepository.updateLikeCountCache(songId, totalLikes)
-            .map(updatedCount -> {
-                context.setTotalLikes(updatedCount);
-                return context;
-            });
+    private Mono<SongLikeDto> removeLike(Long songId, SongSummary song) {
+        return likeCountBuffer.decrement(songId)
+            .flatMap(totalLikes -> songLikeRedisRepository.applyLike(songId, -1, totalLikes))
+            .map(totalLikes -> buildLikeResponse(SongLikeContext.likeRemoved(song, totalLikes), false));
     }
 
     /**
@@ -147,8 +81,8 @@ public class SongLikeService {
      */
     private SongLikeDto buildLikeResponse(SongLikeContext context, boolean liked) {
         return SongLikeDto.builder()
-            .songId(context.getSong().getId())
-            .songTitle(context.getSong().getTitle())
+            .songId(context.getSong().id())
+            .songTitle(context.getSong().title())
             .totalLikes(context.getTotalLikes())
             .liked(liked)
             .actionAt(LocalDateTime.now())
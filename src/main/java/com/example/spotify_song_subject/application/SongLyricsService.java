@@ -0,0 +1,24 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.mapper.LyricsCodec;
+import com.example.spotify_song_subject.repository.SongLyricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class SongLyricsService {
+
+    private final SongLyricsRepository songLyricsRepository;
+    private final LyricsCodec lyricsCodec;
+
+    /**
+     * 곡 가사 조회
+     * 압축 해제는 조회 시점에만 수행 (가사가 없는 곡은 빈 Mono)
+     */
+    public Mono<String> findLyrics(Long songId) {
+        return songLyricsRepository.findById(songId)
+            .map(songLyrics -> lyricsCodec.decode(songLyrics.getLyrics()));
+    }
+}
@@ -4,6 +4,7 @@ import com.example.spotify_song_subject.domain.*;
 import com.example.spotify_song_subject.dto.BatchContext;
 import com.example.spotify_song_subject.dto.SpotifySongDto;
 import com.example.spotify_song_subject.mapper.SpotifyDataMapper;
+import com.example.spotify_song_subject.repository.SongRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,7 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,33 @@ public class SpotifyDataPersistenceService {
     private final AlbumBatchProcessor albumBatchProcessor;
     private final SongBatchProcessor songBatchProcessor;
     private final RelationshipDataProcessor relationshipProcessor;
+    private final IngestIdentityCache identityCache;
+    private final SongRepository songRepository;
+    private final AlbumStatisticsCountCache albumStatisticsCountCache;
+
+    /**
+     * 저장된 곡이 하나라도 있는지 확인 (적재 체크포인트 유효성 판단용)
+     */
+    public Mono<Boolean> hasPersistedSongs() {
+        return songRepository.existsAny();
+    }
+
+    /**
+     * 적재가 끝나면 아티스트/앨범 식별자 캐시 비우기
+     */
+    public void clearIdentityCache() {
+        identityCache.clear();
+    }
+
+    /**
+     * 적재가 끝난 뒤 연도별 아티스트 앨범 수 요약을 원본 테이블 기준으로 다시 계산
+     * 한 트랜잭션으로 실행하여 재계산 중에도 이전 요약이 조회됨
+     */
+    public Mono<Long> rebuildAlbumStatistics() {
+        return relationshipProcessor.rebuildAlbumYearStats()
+            .as(transactionalOperator::transactional)
+            .doOnSuccess(rows -> albumStatisticsCountCache.invalidateAll());
+    }
 
     /**
      * Map 데이터 리스트를 처리하고 저장
@@ -37,15 +66,24 @@ public class SpotifyDataPersistenceService {
      * 배치 크기: 1000개 단위로 처리
      */
     public Mono<Void> processSongBatch(List<Map<String, Object>> songMaps) {
-        List<SpotifySongDto> songDtos = convertToDtos(songMaps);
+        return processSongDtoBatch(convertToDtos(songMaps));
+    }
 
+    /**
+     * 파싱이 끝난 DTO 리스트를 처리하고 저장
+     * JSON 토큰을 DTO로 바로 파싱한 경우 Map 변환 단계 없이 사용
+     */
+    public Mono<Void> processSongDtoBatch(List<SpotifySongDto> songDtos) {
         if (songDtos.isEmpty()) {
             log.debug("No valid songs in batch");
             return Mono.empty();
         }
 
-        return processBatchInternal(songDtos)
+        return Mono.defer(() -> processBatchInternal(songDtos)) // 구독 시점의 식별자 캐시 기준으로 처리
             .as(transactionalOperator::transactional)
+            .doOnNext(resolved -> identityCache.register(resolved.getT1(), resolved.getT2())) // 커밋 완료 후 등록
+            .doOnNext(resolved -> albumStatisticsCountCache.invalidate(releaseYears(resolved.getT2()))) // 커밋 완료 후 무효화
+            .then()
             .subscribeOn(Schedulers.boundedElastic()); // I/O 작업에 최적화된 스케줄러
     }
 
@@ -63,24 +101,88 @@ public class SpotifyDataPersistenceService {
      * 배치 데이터 내부 처리
      * 1. Artists & Albums 병렬 처리 (중복 체크 필요)
      * 2. Songs & Relations 순차 처리 (Bulk Insert)
+     *
+     * @return 배치에서 사용한 아티스트/앨범 (식별자 캐시 등록용)
      */
-    private Mono<Void> processBatchInternal(List<SpotifySongDto> songDtos) {
+    private Mono<Tuple2<Map<String, Artist>, Map<String, Album>>> processBatchInternal(List<SpotifySongDto> songDtos) {
         BatchContext context = BatchContext.from(songDtos);
 
         return processArtistsAndAlbums(context)
-            .flatMap(tuple -> processSongsWithRelations(songDtos, tuple.getT1(), tuple.getT2()));
+            .flatMap(tuple -> processSongsWithRelations(songDtos, tuple.getT1(), tuple.getT2())
+                .thenReturn(tuple));
     }
 
     /**
      * Artists와 Albums 병렬 처리
+     * 식별자 캐시에 있는 아티스트/앨범은 제외하고 처음 보는 것만 DB에서 처리
      */
     private Mono<Tuple2<Map<String, Artist>, Map<String, Album>>> processArtistsAndAlbums(BatchContext context) {
-        Mono<Map<String, Artist>> artistsMapMono = artistBatchProcessor.processArtistsBatch(context.artistNames());
-        Mono<Map<String, Album>> albumsMapMono = albumBatchProcessor.processAlbumsBatch(context.albumsByTitle());
+        Map<String, Artist> cachedArtists = identityCache.findArtists(context.artistNames());
+        Set<String> unseenArtistNames = context.artistNames().stream()
+            .filter(name -> !cachedArtists.containsKey(name))
+            .collect(Collectors.toSet());
+
+        Map<String, Album> cachedAlbums = identityCache.findAlbums(albumKeys(context.albumsByTitle()));
+        Map<String, Set<AlbumBatchProcessor.AlbumInfo>> unseenAlbums = excludeCachedAlbums(context.albumsByTitle(), cachedAlbums);
+
+        Mono<Map<String, Artist>> artistsMapMono = artistBatchProcessor.processArtistsBatch(unseenArtistNames)
+            .map(artists -> merge(cachedArtists, artists));
+        Mono<Map<String, Album>> albumsMapMono = albumBatchProcessor.processAlbumsBatch(unseenAlbums)
+            .map(albums -> merge(cachedAlbums, albums));
 
         return Mono.zip(artistsMapMono, albumsMapMono);
     }
 
+    /**
+     * 앨범 키(title|releaseDate|artistName) 목록 생성
+     */
+    private List<String> albumKeys(Map<String, Set<AlbumBatchProcessor.AlbumInfo>> albumsByTitle) {
+        List<String> keys = new ArrayList<>();
+        albumsByTitle.forEach((title, infos) -> infos.forEach(info -> keys.add(albumKey(title, info))));
+        return keys;
+    }
+
+    /**
+     * 캐시에 있는 앨범을 제외한 앨범 정보
+     */
+    private Map<String, Set<AlbumBatchProcessor.AlbumInfo>> excludeCachedAlbums(
+            Map<String, Set<AlbumBatchProcessor.AlbumInfo>> albumsByTitle,
+            Map<String, Album> cachedAlbums) {
+        if (cachedAlbums.isEmpty()) {
+            return albumsByTitle;
+        }
+
+        Map<String, Set<AlbumBatchProcessor.AlbumInfo>> unseen = new HashMap<>();
+        albumsByTitle.forEach((title, infos) -> infos.stream()
+            .filter(info -> !cachedAlbums.containsKey(albumKey(title, info)))
+            .forEach(info -> unseen.computeIfAbsent(title, k -> new HashSet<>()).add(info)));
+        return unseen;
+    }
+
+    /**
+     * 배치에서 사용한 앨범의 발매 연도 (통계 개수 캐시 무효화 대상)
+     */
+    private Set<Integer> releaseYears(Map<String, Album> albumsMap) {
+        return albumsMap.values().stream()
+            .map(Album::getReleaseDate)
+            .filter(Objects::nonNull)
+            .map(LocalDate::getYear)
+            .collect(Collectors.toSet());
+    }
+
+    private String albumKey(String title, AlbumBatchProcessor.AlbumInfo info) {
+        return title + "|" + info.releaseDate() + "|" + info.artistName();
+    }
+
+    private <V> Map<String, V> merge(Map<String, V> cached, Map<String, V> loaded) {
+        if (cached.isEmpty()) {
+            return loaded;
+        }
+
+        Map<String, V> merged = new HashMap<>(cached);
+        merged.putAll(loaded);
+        return merged;
+    }
 
     /**
      * Songs와 관계 데이터 처리
@@ -94,28 +196,18 @@ public class SpotifyDataPersistenceService {
                     return Mono.empty();
                 }
                 
-                return processRelationships(
-                    songResult.savedSongs(), 
-                    songDtos, 
-                    artistsMap, 
-                    albumsMap, 
-                    songResult.songIndexToAlbumKey()
-                );
+                return processRelationships(songResult.savedSongs(), artistsMap, albumsMap);
             });
     }
 
     /**
      * 관계 데이터 처리
      */
-    private Mono<Void> processRelationships(List<Song> savedSongs,
-                                            List<SpotifySongDto> songDtos,
+    private Mono<Void> processRelationships(List<SongBatchProcessor.SavedSong> savedSongs,
                                             Map<String, Artist> artistsMap,
-                                            Map<String, Album> albumsMap,
-                                            Map<Integer, String> songIndexToAlbumKey) {
+                                            Map<String, Album> albumsMap) {
         RelationshipDataProcessor.RelationshipData relationships =
-            RelationshipDataProcessor.buildRelationships(
-                savedSongs, songDtos, artistsMap, albumsMap, songIndexToAlbumKey
-            );
+            RelationshipDataProcessor.buildRelationships(savedSongs, artistsMap, albumsMap);
 
         return insertRelationships(relationships);
     }
@@ -134,6 +226,10 @@ public class SpotifyDataPersistenceService {
             insertOps.add(relationshipProcessor.bulkInsertArtistAlbums(relationships.artistAlbums()));
         }
 
+        if (!relationships.albumYearCounts().isEmpty()) {
+            insertOps.add(relationshipProcessor.bulkApplyAlbumYearCounts(relationships.albumYearCounts()));
+        }
+
         if (!relationships.similarSongs().isEmpty()) {
             insertOps.add(relationshipProcessor.bulkInsertSimilarSongs(relationships.similarSongs()));
         }
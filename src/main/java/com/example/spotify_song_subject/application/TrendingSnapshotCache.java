@@ -0,0 +1,69 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.TrendingSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 트렌딩 곡 스냅샷 캐시
+ * - 조회는 메모리에 보관한 스냅샷을 그대로 반환 (Redis/DB 접근 없음)
+ * - 스냅샷은 주기적으로, 그리고 트렌딩 윈도우가 재구성될 때 다시 계산
+ * - 동시에 여러 갱신 요청이 와도 계산은 한 번만 실행하고 결과를 공유 (single-flight)
+ * - 기동 직후처럼 스냅샷이 없을 때만 요청 경로에서 계산을 기다림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingSnapshotCache {
+
+    private final SongLikeQueryService songLikeQueryService;
+
+    private final AtomicReference<TrendingSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<Mono<TrendingSnapshot>> inFlight = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷 조회
+     */
+    public Mono<TrendingSnapshot> current() {
+        TrendingSnapshot current = snapshot.get();
+        return current != null ? Mono.just(current) : refresh();
+    }
+
+    /**
+     * 스냅샷 재계산
+     * 이미 진행 중인 계산이 있으면 새로 시작하지 않고 그 결과를 기다림
+     */
+    public Mono<TrendingSnapshot> refresh() {
+        while (true) {
+            Mono<TrendingSnapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+
+            AtomicReference<Mono<TrendingSnapshot>> self = new AtomicReference<>();
+            Mono<TrendingSnapshot> load = Mono.defer(songLikeQueryService::getTrendingSongs)
+                .map(songs -> TrendingSnapshot.of(songs, Instant.now()))
+                .doOnNext(snapshot::set)
+                .doFinally(signal -> inFlight.compareAndSet(self.get(), null))
+                .cache();
+            self.set(load);
+
+            if (inFlight.compareAndSet(null, load)) {
+                return load;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like.trending.snapshot-refresh-ms:5000}")
+    public void scheduledRefresh() {
+        refresh().subscribe(
+            refreshed -> log.debug("Refreshed trending snapshot with {} songs", refreshed.songs().size()),
+            error -> log.error("Failed to refresh trending snapshot: {}", error.getMessage()));
+    }
+}
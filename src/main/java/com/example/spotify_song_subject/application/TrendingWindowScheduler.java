@@ -0,0 +1,43 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.repository.SongLikeRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 트렌딩 윈도우 재구성 스케줄러
+ * - 좋아요는 윈도우 ZSET에 바로 더해지므로, 5분 버킷이 바뀔 때만 윈도우를 최근 12개 버킷 합으로 다시 만들어 만료된 버킷을 뺌
+ * - 기동 시에도 한 번 재구성 (재기동 사이에 만료된 버킷 반영)
+ * - 재구성 직후 트렌딩 스냅샷도 바로 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingWindowScheduler {
+
+    private final SongLikeRedisRepository songLikeRedisRepository;
+    private final TrendingSnapshotCache trendingSnapshotCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 버킷 경계 직후(매 5분 + 1초)에 실행
+     */
+    @Scheduled(cron = "${like.trending.rebuild-cron:1 */5 * * * *}")
+    public void rebuild() {
+        songLikeRedisRepository.rebuildTrendingWindow()
+            .doOnNext(size -> log.debug("Rebuilt trending window with {} songs", size))
+            .then(Mono.defer(trendingSnapshotCache::refresh))
+            .subscribe(
+                snapshot -> log.debug("Refreshed trending snapshot after window rebuild"),
+                error -> log.error("Failed to rebuild trending window: {}", error.getMessage()));
+    }
+}
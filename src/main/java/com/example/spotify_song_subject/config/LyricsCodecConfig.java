@@ -0,0 +1,37 @@
+package com.example.spotify_song_subject.config;
+
+import com.example.spotify_song_subject.mapper.DeflateLyricsCodec;
+import com.example.spotify_song_subject.mapper.LyricsCodec;
+import com.example.spotify_song_subject.mapper.PlainLyricsCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+
+@Slf4j
+@Configuration
+public class LyricsCodecConfig {
+
+    /**
+     * 가사 저장 코덱 선택 (data.lyrics.codec)
+     * - deflate: preset dictionary(data.lyrics.dictionary)를 사용한 Deflate 압축
+     * - plain: 압축 없이 UTF-8 저장
+     */
+    @Bean
+    public LyricsCodec lyricsCodec(@Value("${data.lyrics.codec:deflate}") String codec,
+                                   @Value("${data.lyrics.dictionary:classpath:lyrics-dictionary.txt}") Resource dictionary,
+                                   @Value("${data.lyrics.compression-level:6}") int compressionLevel) throws IOException {
+        return switch (codec) {
+            case "plain" -> new PlainLyricsCodec();
+            case "deflate" -> {
+                byte[] dictionaryBytes = dictionary.exists() ? dictionary.getContentAsByteArray() : new byte[0];
+                log.info("Lyrics codec: deflate (level={}, dictionary={} bytes)", compressionLevel, dictionaryBytes.length);
+                yield new DeflateLyricsCodec(dictionaryBytes, compressionLevel);
+            }
+            default -> throw new IllegalArgumentException("Unsupported lyrics codec: " + codec);
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.spotify_song_subject.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -23,13 +24,25 @@ public class R2dbcConfig {
      * application.yml의 spring.r2dbc 설정을 사용
      */
 
+    /**
+     * 테이블과 적재에 필요한 인덱스(schema.sql) 생성
+     * 대량 적재 모드(data.bulk-load.enabled)에서는 보조 인덱스(schema-indexes.sql)를 적재가 끝난 뒤 만들도록 미룸
+     * 데이터 초기화를 하지 않으면 인덱스를 만들 적재 단계가 없으므로 기동 시 함께 생성
+     */
     @Bean
-    public ConnectionFactoryInitializer initializer(ConnectionFactory connectionFactory) {
+    public ConnectionFactoryInitializer initializer(ConnectionFactory connectionFactory,
+                                                   @Value("${data.bulk-load.enabled:false}") boolean bulkLoadEnabled,
+                                                   @Value("${data.initialization.enabled:true}") boolean initializationEnabled) {
         ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
         initializer.setConnectionFactory(connectionFactory);
 
         ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
         populator.addScript(new ClassPathResource("schema.sql"));
+        if (bulkLoadEnabled && initializationEnabled) {
+            log.info("Bulk load mode: secondary indexes are deferred until data load completes");
+        } else {
+            populator.addScript(new ClassPathResource("schema-indexes.sql"));
+        }
         populator.setSeparator(";");
         populator.setContinueOnError(false);
 
@@ -0,0 +1,12 @@
+package com.example.spotify_song_subject.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 활성화 (좋아요 수 write-behind flush 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
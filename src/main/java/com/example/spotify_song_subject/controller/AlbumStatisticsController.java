@@ -1,14 +1,17 @@
 package com.example.spotify_song_subject.controller;
 
 import com.example.spotify_song_subject.controller.response.AlbumStatisticsResponse;
+import com.example.spotify_song_subject.controller.response.AlbumStatisticsSliceResponse;
 import com.example.spotify_song_subject.controller.util.PageableUtils;
 import com.example.spotify_song_subject.application.AlbumStatisticsQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -38,4 +41,42 @@ public class AlbumStatisticsController {
             .map(ResponseEntity::ok)
             .switchIfEmpty(Mono.just(ResponseEntity.noContent().build()));
     }
+
+    /**
+     * 특정 연도의 아티스트별 앨범 발매 통계 조회 (커서 기반)
+     * 깊은 페이지도 OFFSET 없이 이전 페이지의 마지막 행 다음부터 읽음
+     *
+     * @param year 조회할 연도 (필수)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @param includeTotal 전체 개수 포함 여부 (기본값: false)
+     * @return 해당 연도의 아티스트별 앨범 발매 수와 다음 커서
+     */
+    @GetMapping("/cursor")
+    public Mono<ResponseEntity<AlbumStatisticsSliceResponse>> getAlbumStatisticsByCursor(@RequestParam(required = true) Integer year,
+                                                                                         @RequestParam(required = false) String cursor,
+                                                                                         @RequestParam(required = false) Integer size,
+                                                                                         @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        return albumStatisticsQueryService.getAlbumStatisticsSlice(year, cursor, PageableUtils.resolvePageSize(size), includeTotal)
+            .map(AlbumStatisticsSliceResponse::from)
+            .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 연도 범위의 아티스트별 앨범 발매 통계 전체 내보내기 (스트리밍)
+     * NDJSON(application/x-ndjson) 또는 SSE(text/event-stream)로 한 행씩 전송하며,
+     * 클라이언트가 읽는 속도에 맞춰 DB에서 읽음 (backpressure)
+     *
+     * @param fromYear 시작 연도 (필수)
+     * @param toYear 종료 연도 (생략 시 시작 연도만)
+     * @return 연도, 앨범 수 내림차순, 아티스트명 순의 앨범 통계 스트림
+     */
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<AlbumStatisticsResponse> exportAlbumStatistics(@RequestParam(required = true) Integer fromYear,
+                                                               @RequestParam(required = false) Integer toYear) {
+
+        return albumStatisticsQueryService.streamAlbumStatistics(fromYear, toYear)
+            .map(AlbumStatisticsResponse::from);
+    }
 }
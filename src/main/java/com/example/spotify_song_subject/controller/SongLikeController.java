@@ -1,11 +1,12 @@
 package com.example.spotify_song_subject.controller;
 
-import com.example.spotify_song_subject.application.SongLikeQueryService;
+import com.example.spotify_song_subject.application.TrendingSnapshotCache;
 import com.example.spotify_song_subject.controller.response.SongLikeResponse;
 import com.example.spotify_song_subject.controller.response.TrendingSongResponse;
 import com.example.spotify_song_subject.application.SongLikeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -18,7 +19,7 @@ import java.util.List;
 @RequestMapping("/api/v1/songs")
 public class SongLikeController {
 
-    private final SongLikeQueryService songLikeQueryService;
+    private final TrendingSnapshotCache trendingSnapshotCache;
     private final SongLikeService songLikeService;
 
     /**
@@ -33,15 +34,17 @@ public class SongLikeController {
 
     /**
      * 최근 1시간 동안 좋아요 증가 Top 10 조회
-     * Service layer에서 정렬된 List<TrendingSongDto>를 받아서 Response로 변환
+     * 메모리에 보관한 트렌딩 스냅샷을 반환하며, If-None-Match가 스냅샷 ETag와 같으면 304 응답
      */
     @GetMapping("/trending/likes")
     public Mono<ResponseEntity<List<TrendingSongResponse>>> getTrendingSongs() {
-        return songLikeQueryService.getTrendingSongs()
-            .map(dtos -> dtos.stream()
+        return trendingSnapshotCache.current()
+            .map(snapshot -> ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.songs().stream()
                     .map(TrendingSongResponse::from)
-                    .toList())
-            .map(ResponseEntity::ok)
+                    .toList()))
             .defaultIfEmpty(ResponseEntity.ok(List.of()));
     }
 
@@ -0,0 +1,26 @@
+package com.example.spotify_song_subject.controller.response;
+
+import com.example.spotify_song_subject.dto.AlbumStatisticsSlice;
+
+import java.util.List;
+
+/**
+ * 커서 기반 앨범 통계 응답 DTO
+ *
+ * @param nextCursor 다음 페이지 요청 시 cursor 파라미터로 전달할 토큰 (마지막 페이지면 null)
+ * @param totalElements 전체 아티스트 수 (includeTotal=true 일 때만 포함)
+ */
+public record AlbumStatisticsSliceResponse(List<AlbumStatisticsResponse> content,
+                                           String nextCursor,
+                                           boolean hasNext,
+                                           Long totalElements) {
+
+    public static AlbumStatisticsSliceResponse from(AlbumStatisticsSlice slice) {
+        return new AlbumStatisticsSliceResponse(
+                slice.content().stream().map(AlbumStatisticsResponse::from).toList(),
+                slice.nextCursor(),
+                slice.hasNext(),
+                slice.totalElements()
+        );
+    }
+}
@@ -18,8 +18,14 @@ public class PageableUtils {
      */
     public static Pageable createPageable(Integer page, Integer size) {
         int pageNumber = page != null ? page : DEFAULT_PAGE;
-        int pageSize = size != null ? Math.min(size, MAX_SIZE) : DEFAULT_SIZE;
 
-        return PageRequest.of(pageNumber, pageSize);
+        return PageRequest.of(pageNumber, resolvePageSize(size));
+    }
+
+    /**
+     * 요청 파라미터로부터 페이지 크기 결정 (커서 기반 조회에서도 사용)
+     */
+    public static int resolvePageSize(Integer size) {
+        return size != null ? Math.min(size, MAX_SIZE) : DEFAULT_SIZE;
     }
 }
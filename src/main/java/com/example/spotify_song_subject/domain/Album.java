@@ -56,4 +56,10 @@ public class Album extends BaseDomain {
             .build();
     }
 
+    /**
+     * 삽입 시 생성된 id 지정
+     */
+    public void assignId(Long id) {
+        this.id = id;
+    }
 }
@@ -30,4 +30,11 @@ public class Artist extends BaseDomain {
             .name(name)
             .build();
     }
+
+    /**
+     * 생성 id 지정
+     */
+    public void assignId(Long id) {
+        this.id = id;
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -25,7 +26,11 @@ public class Song extends BaseDomain {
     @Column("title")
     private String title;
 
-    @Column("lyrics")
+    /**
+     * 가사는 song_lyrics 테이블에 별도 저장 (SongLyrics)
+     * 적재 시 전달용으로만 사용하며 songs 조회 시에는 채워지지 않음
+     */
+    @Transient
     private String lyrics;
 
     @Column("length")
@@ -149,4 +154,10 @@ public class Song extends BaseDomain {
         this.likeCount = likeCount != null ? likeCount : 0L;
     }
 
+    /**
+     * bulk insert 결과로 받은 생성 id 지정
+     */
+    public void assignId(Long id) {
+        this.id = id;
+    }
 }
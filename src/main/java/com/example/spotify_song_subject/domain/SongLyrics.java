@@ -0,0 +1,35 @@
+package com.example.spotify_song_subject.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * 곡 가사
+ * 크기가 큰 가사를 songs 행과 분리하여 목록/좋아요 조회가 가사를 읽지 않도록 함
+ * lyrics는 LyricsCodec으로 인코딩된 바이트이며 해제는 SongLyricsService에서 수행
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table("song_lyrics")
+public class SongLyrics {
+
+    @Id
+    @Column("song_id")
+    private Long songId;
+
+    @Column("lyrics")
+    private byte[] lyrics;
+
+    private SongLyrics(Long songId, byte[] lyrics) {
+        this.songId = songId;
+        this.lyrics = lyrics;
+    }
+
+    public static SongLyrics of(Long songId, byte[] lyrics) {
+        return new SongLyrics(songId, lyrics);
+    }
+}
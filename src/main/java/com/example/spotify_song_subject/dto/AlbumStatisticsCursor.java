@@ -0,0 +1,42 @@
+package com.example.spotify_song_subject.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 앨범 통계 커서 (마지막으로 읽은 행의 정렬 키)
+ * 정렬 순서(album_count DESC, artist_name)에서 이 행 다음부터 읽음
+ * 클라이언트에는 Base64 URL 인코딩한 토큰으로만 전달
+ */
+public record AlbumStatisticsCursor(Integer releaseYear, Long albumCount, String artistName) {
+
+    private static final String DELIMITER = "|";
+
+    public static AlbumStatisticsCursor after(AlbumStatisticsDto last) {
+        return new AlbumStatisticsCursor(last.getReleaseYear(), last.getAlbumCount(), last.getArtistName());
+    }
+
+    /**
+     * 토큰으로 변환 (연도|앨범 수|아티스트명)
+     */
+    public String encode() {
+        String raw = releaseYear + DELIMITER + albumCount + DELIMITER + artistName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석
+     * 아티스트명에 구분자가 있어도 마지막 필드로 그대로 복원
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static AlbumStatisticsCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new AlbumStatisticsCursor(Integer.valueOf(parts[0]), Long.valueOf(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) { // Base64/숫자 형식 오류, 필드 누락
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.spotify_song_subject.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 앨범 통계 조회 결과
+ *
+ * @param nextCursor 다음 페이지 토큰 (마지막 페이지면 null)
+ * @param totalElements 전체 아티스트 수 (요청하지 않았으면 null)
+ */
+public record AlbumStatisticsSlice(List<AlbumStatisticsDto> content, String nextCursor, Long totalElements) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
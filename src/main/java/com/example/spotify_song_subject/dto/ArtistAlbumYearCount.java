@@ -0,0 +1,8 @@
+package com.example.spotify_song_subject.dto;
+
+/**
+ * 연도별 아티스트 앨범 수 (artist_album_year_stats 한 행)
+ * 적재 중에는 배치에서 새로 생긴 아티스트-앨범 관계 수(증분)를 담음
+ */
+public record ArtistAlbumYearCount(Integer releaseYear, Long artistId, String artistName, long albumCount) {
+}
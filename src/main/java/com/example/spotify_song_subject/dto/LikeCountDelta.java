@@ -0,0 +1,7 @@
+package com.example.spotify_song_subject.dto;
+
+/**
+ * 아직 songs.like_count에 반영되지 않은 곡별 좋아요 증감분
+ */
+public record LikeCountDelta(Long songId, long delta) {
+}
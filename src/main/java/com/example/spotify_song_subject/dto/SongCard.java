@@ -0,0 +1,10 @@
+package com.example.spotify_song_subject.dto;
+
+/**
+ * 곡 카드
+ * 목록 응답에 필요한 곡 정보를 한 건으로 비정규화한 DTO (Redis에 곡 ID 단위로 캐시)
+ *
+ * @param artistNames 참여 아티스트 이름 (", "로 연결)
+ */
+public record SongCard(Long songId, String title, String artistNames, String albumTitle) {
+}
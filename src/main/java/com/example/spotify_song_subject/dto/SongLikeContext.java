@@ -1,6 +1,5 @@
 package com.example.spotify_song_subject.dto;
 
-import com.example.spotify_song_subject.domain.Song;
 import com.example.spotify_song_subject.domain.SongLike;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +15,7 @@ import lombok.Setter;
 @Builder
 public class SongLikeContext {
 
-    private final Song song;
+    private final SongSummary song;
     private final SongLike songLike;
 
     @Setter
@@ -25,7 +24,7 @@ public class SongLikeContext {
     /**
      * 좋아요 추가 시 컨텍스트 생성
      */
-    public static SongLikeContext likeAdded(Song song, SongLike songLike) {
+    public static SongLikeContext likeAdded(SongSummary song, SongLike songLike) {
         return SongLikeContext.builder()
                 .song(song)
                 .songLike(songLike)
@@ -35,7 +34,7 @@ public class SongLikeContext {
     /**
      * 좋아요 추가 시 컨텍스트 생성 (총 좋아요 수 포함)
      */
-    public static SongLikeContext likeAdded(Song song, SongLike songLike, Long totalLikes) {
+    public static SongLikeContext likeAdded(SongSummary song, SongLike songLike, Long totalLikes) {
         return SongLikeContext.builder()
                 .song(song)
                 .songLike(songLike)
@@ -46,7 +45,7 @@ public class SongLikeContext {
     /**
      * 좋아요 취소 시 컨텍스트 생성
      */
-    public static SongLikeContext likeRemoved(Song song, Long totalLikes) {
+    public static SongLikeContext likeRemoved(SongSummary song, Long totalLikes) {
         return SongLikeContext.builder()
                 .song(song)
                 .totalLikes(totalLikes)
@@ -57,7 +56,7 @@ public class SongLikeContext {
      * 기존 호환성을 위한 메서드 (deprecated 예정)
      */
     @Deprecated
-    public static SongLikeContext of(Song song, SongLike songLike) {
+    public static SongLikeContext of(SongSummary song, SongLike songLike) {
         return likeAdded(song, songLike);
     }
 
@@ -65,7 +64,7 @@ public class SongLikeContext {
      * 기존 호환성을 위한 메서드 (deprecated 예정)
      */
     @Deprecated
-    public static SongLikeContext of(Song song, SongLike songLike, Long totalLikes) {
+    public static SongLikeContext of(SongSummary song, SongLike songLike, Long totalLikes) {
         return likeAdded(song, songLike, totalLikes);
     }
 }
\ No newline at end of file
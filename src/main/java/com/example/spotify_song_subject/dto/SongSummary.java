@@ -0,0 +1,8 @@
+package com.example.spotify_song_subject.dto;
+
+/**
+ * 곡 요약 프로젝션
+ * 좋아요/인기 조회 경로에서 songs 전체 컬럼 대신 필요한 컬럼만 읽기 위한 DTO
+ */
+public record SongSummary(Long id, String title, Long albumId, Long likeCount) {
+}
@@ -0,0 +1,33 @@
+package com.example.spotify_song_subject.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 트렌딩 곡 스냅샷
+ * 주기적으로 계산해 메모리에 보관하는 트렌딩 결과와 그 내용으로 만든 ETag
+ * 내용이 같으면 다시 계산해도 ETag가 같으므로 클라이언트는 304를 받음
+ */
+public record TrendingSnapshot(List<TrendingSongDto> songs, String etag, Instant createdAt) {
+
+    public static TrendingSnapshot of(List<TrendingSongDto> songs, Instant createdAt) {
+        return new TrendingSnapshot(List.copyOf(songs), computeEtag(songs), createdAt);
+    }
+
+    private static String computeEtag(List<TrendingSongDto> songs) {
+        StringBuilder content = new StringBuilder();
+        for (TrendingSongDto song : songs) {
+            content.append(song.getSongId()).append('|')
+                .append(song.getSongTitle()).append('|')
+                .append(song.getArtistName()).append('|')
+                .append(song.getAlbumName()).append('|')
+                .append(song.getLikeIncrease()).append('\n');
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(content.toString().getBytes(StandardCharsets.UTF_8));
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + songs.size() + "\"";
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.spotify_song_subject.loader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 데이터 적재의 배치 크기와 동시 배치 수를 실행 중에 조정하는 AIMD 컨트롤러
+ * - 동시 배치 수만큼 배치가 커밋될 때마다(한 라운드) 커밋 지연, 커넥션 풀 대기, 처리량을 보고 조정
+ * - 정상이면 배치 크기와 동시 배치 수를 한 단계씩 늘림 (additive increase)
+ * - 커밋 지연이 목표를 넘으면 배치 크기를, 풀 대기가 생기면 동시 배치 수를 절반으로 줄임 (multiplicative decrease)
+ * - 늘린 직후 라운드의 처리량(rows/s)이 떨어지면 직전 증가를 되돌림
+ * - 배치가 실패하면 두 값을 모두 절반으로 줄이고, 줄어든 동시 배치 수 안에서 같은 배치를 제한된 횟수만큼 다시 시도
+ * - 현재 결정 값은 ingest.adaptive.* 지표로 노출
+ */
+@Slf4j
+@Component
+public class AdaptiveIngestController {
+
+    private static final double THROUGHPUT_DROP_RATIO = 0.9;
+
+    private final Settings settings;
+    private final IntSupplier pendingAcquires;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger batchSize;
+    private final AtomicInteger concurrencyLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Sinks.Empty<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    private final Counter increases;
+    private final Counter decreases;
+    private final Counter failures;
+
+    private Round round;
+    private boolean increasedLastRound;
+    private volatile double rowsPerSecond;
+    private volatile double commitLatencyMillis;
+    private volatile int lastPendingAcquires;
+
+    @Autowired
+    public AdaptiveIngestController(ConnectionFactory connectionFactory,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${data.adaptive.enabled:false}") boolean enabled,
+                                    @Value("${data.batch.size:1000}") int initialBatchSize,
+                                    @Value("${data.parallel.batches:6}") int initialConcurrency,
+                                    @Value("${data.adaptive.batch-size.min:50}") int minBatchSize,
+                                    @Value("${data.adaptive.batch-size.max:2000}") int maxBatchSize,
+                                    @Value("${data.adaptive.batch-size.step:50}") int batchSizeStep,
+                                    @Value("${data.adaptive.concurrency.min:1}") int minConcurrency,
+                                    @Value("${data.adaptive.concurrency.max:16}") int maxConcurrency,
+                                    @Value("${data.adaptive.target-commit-latency-ms:1000}") long targetCommitLatencyMillis,
+                                    @Value("${data.adaptive.retry.max-attempts:3}") int maxRetries,
+                                    @Value("${data.adaptive.retry.backoff-ms:200}") long retryBackoffMillis) {
+        this(new Settings(enabled, initialBatchSize, initialConcurrency, minBatchSize, maxBatchSize, batchSizeStep,
+                minConcurrency, maxConcurrency, targetCommitLatencyMillis, maxRetries, retryBackoffMillis),
+            pendingAcquires(connectionFactory), System::nanoTime, meterRegistry);
+    }
+
+    AdaptiveIngestController(Settings settings, IntSupplier pendingAcquires, LongSupplier nanoClock,
+                             MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.pendingAcquires = pendingAcquires;
+        this.nanoClock = nanoClock;
+        this.batchSize = new AtomicInteger(clamp(settings.initialBatchSize(), settings.minBatchSize(), settings.maxBatchSize()));
+        this.concurrencyLimit = new AtomicInteger(
+            clamp(settings.initialConcurrency(), settings.minConcurrency(), settings.maxConcurrency()));
+        this.round = new Round(nanoClock.getAsLong());
+
+        Gauge.builder("ingest.adaptive.batch.size", batchSize, AtomicInteger::get)
+            .description("현재 적재 배치 크기").register(meterRegistry);
+        Gauge.builder("ingest.adaptive.concurrency.limit", concurrencyLimit, AtomicInteger::get)
+            .description("현재 허용 동시 배치 수").register(meterRegistry);
+        Gauge.builder("ingest.adaptive.in.flight", inFlight, AtomicInteger::get)
+            .description("처리 중인 배치 수").register(meterRegistry);
+        Gauge.builder("ingest.adaptive.throughput", this, controller -> controller.rowsPerSecond)
+            .description("직전 라운드 처리량").baseUnit("rows/s").register(meterRegistry);
+        Gauge.builder("ingest.adaptive.commit.latency", this, controller -> controller.commitLatencyMillis)
+            .description("직전 라운드 평균 배치 커밋 지연").baseUnit("ms").register(meterRegistry);
+        Gauge.builder("ingest.adaptive.pool.pending.acquires", this, controller -> controller.lastPendingAcquires)
+            .description("마지막 배치 커밋 시점의 커넥션 획득 대기 수").register(meterRegistry);
+
+        this.increases = Counter.builder("ingest.adaptive.adjustments").tag("direction", "increase").register(meterRegistry);
+        this.decreases = Counter.builder("ingest.adaptive.adjustments").tag("direction", "decrease").register(meterRegistry);
+        this.failures = Counter.builder("ingest.adaptive.batch.failures").register(meterRegistry);
+    }
+
+    /**
+     * 적응형 조정 사용 여부 (false면 data.batch.size / data.parallel.batches 고정값 사용)
+     */
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    /**
+     * 다음에 만들 배치의 크기
+     */
+    public int batchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * 현재 허용 동시 배치 수
+     */
+    public int concurrencyLimit() {
+        return concurrencyLimit.get();
+    }
+
+    /**
+     * 동시 배치 수 상한 (flatMap 동시성으로 사용, 실제 동시 실행 수는 허용 동시 배치 수로 제한)
+     */
+    public int maxConcurrency() {
+        return settings.maxConcurrency();
+    }
+
+    /**
+     * 허용 동시 배치 수 안에서 배치를 실행하고 커밋 지연을 기록
+     * 실패한 배치는 트랜잭션이 롤백되므로, 물러난 뒤 허가를 다시 받아 재시도 (재시도를 모두 실패하면 원래 오류 전달)
+     *
+     * @param rows      배치 행 수 (처리량 계산용)
+     * @param batchWork 배치 저장 작업 (허가를 받은 뒤 구독, 재시도마다 다시 호출)
+     */
+    public Mono<Void> run(int rows, Supplier<Mono<Void>> batchWork) {
+        return attempt(rows, batchWork)
+            .retryWhen(Retry.backoff(settings.maxRetries(), Duration.ofMillis(settings.retryBackoffMillis()))
+                .doBeforeRetry(signal -> log.warn("Retrying ingest batch ({}/{}): {}",
+                    signal.totalRetries() + 1, settings.maxRetries(), signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<Void> attempt(int rows, Supplier<Mono<Void>> batchWork) {
+        return acquirePermit()
+            .then(Mono.defer(() -> {
+                long startNanos = nanoClock.getAsLong();
+                return batchWork.get()
+                    .doOnSuccess(ignored -> onBatchCommitted(rows, nanoClock.getAsLong() - startNanos))
+                    .doOnError(error -> onBatchFailed())
+                    .doFinally(signal -> releasePermit());
+            }));
+    }
+
+    private Mono<Void> acquirePermit() {
+        return Mono.defer(() -> {
+            if (tryAcquire()) {
+                return Mono.empty();
+            }
+
+            Sinks.Empty<Void> waiter = Sinks.empty();
+            waiters.add(waiter);
+            drainWaiters(); // 등록 직전에 반납된 허가가 있으면 바로 깨움
+            return waiter.asMono()
+                .doOnCancel(() -> {
+                    // 대기 중 취소되면 대기열에서 빼고, 이미 허가를 받은 뒤라면 반납
+                    if (!waiters.remove(waiter)) {
+                        releasePermit();
+                    }
+                });
+        });
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= concurrencyLimit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void releasePermit() {
+        inFlight.decrementAndGet();
+        drainWaiters();
+    }
+
+    private void drainWaiters() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Sinks.Empty<Void> waiter = waiters.poll();
+            if (waiter == null) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            waiter.tryEmitEmpty();
+        }
+    }
+
+    synchronized void onBatchCommitted(int rows, long latencyNanos) {
+        int pending = pendingAcquires.getAsInt();
+        lastPendingAcquires = pending;
+        round.record(rows, latencyNanos, pending);
+
+        if (round.batches >= concurrencyLimit.get()) {
+            adjust();
+        }
+    }
+
+    synchronized void onBatchFailed() {
+        failures.increment();
+        decrease(batchSize, settings.minBatchSize());
+        decrease(concurrencyLimit, settings.minConcurrency());
+        log.warn("Ingest batch failed. Backing off: batchSize={}, concurrency={}", batchSize.get(), concurrencyLimit.get());
+        startNextRound(false);
+    }
+
+    /**
+     * 라운드 결과로 배치 크기/동시 배치 수 결정
+     */
+    private void adjust() {
+        long elapsedNanos = Math.max(1, nanoClock.getAsLong() - round.startNanos);
+        double throughput = round.rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        long averageLatencyNanos = round.latencyNanos / round.batches;
+        boolean slowCommit = averageLatencyNanos > TimeUnit.MILLISECONDS.toNanos(settings.targetCommitLatencyMillis());
+        boolean poolSaturated = round.maxPendingAcquires > 0;
+        double previousThroughput = rowsPerSecond;
+
+        rowsPerSecond = throughput;
+        commitLatencyMillis = averageLatencyNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+
+        if (slowCommit || poolSaturated) {
+            if (slowCommit) {
+                decrease(batchSize, settings.minBatchSize());
+            }
+            if (poolSaturated) {
+                decrease(concurrencyLimit, settings.minConcurrency());
+            }
+            decreases.increment();
+            startNextRound(false);
+        } else if (increasedLastRound && throughput < previousThroughput * THROUGHPUT_DROP_RATIO) {
+            step(batchSize, -settings.batchSizeStep(), settings.minBatchSize(), settings.maxBatchSize());
+            step(concurrencyLimit, -1, settings.minConcurrency(), settings.maxConcurrency());
+            decreases.increment();
+            startNextRound(false);
+        } else {
+            step(batchSize, settings.batchSizeStep(), settings.minBatchSize(), settings.maxBatchSize());
+            step(concurrencyLimit, 1, settings.minConcurrency(), settings.maxConcurrency());
+            increases.increment();
+            startNextRound(true);
+        }
+
+        log.debug("Adaptive ingest round: {} rows/s, commit latency {} ms, pending acquires {} -> batchSize={}, concurrency={}",
+            Math.round(throughput), Math.round(commitLatencyMillis), round.maxPendingAcquires,
+            batchSize.get(), concurrencyLimit.get());
+    }
+
+    private void startNextRound(boolean increased) {
+        increasedLastRound = increased;
+        round = new Round(nanoClock.getAsLong());
+        drainWaiters(); // 허용 동시 배치 수가 늘었으면 대기 중인 배치 시작
+    }
+
+    private static void decrease(AtomicInteger value, int min) {
+        value.set(Math.max(min, value.get() / 2));
+    }
+
+    private static void step(AtomicInteger value, int delta, int min, int max) {
+        value.set(clamp(value.get() + delta, min, max));
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 커넥션 풀의 획득 대기 수 (풀이 아니면 항상 0)
+     */
+    private static IntSupplier pendingAcquires(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            return () -> pool.getMetrics().map(PoolMetrics::pendingAcquireSize).orElse(0);
+        }
+        return () -> 0;
+    }
+
+    /**
+     * 컨트롤러 설정 (data.adaptive.*)
+     */
+    record Settings(boolean enabled,
+                    int initialBatchSize,
+                    int initialConcurrency,
+                    int minBatchSize,
+                    int maxBatchSize,
+                    int batchSizeStep,
+                    int minConcurrency,
+                    int maxConcurrency,
+                    long targetCommitLatencyMillis,
+                    int maxRetries,
+                    long retryBackoffMillis) {
+    }
+
+    /**
+     * 한 라운드 동안 커밋된 배치 집계
+     */
+    private static final class Round {
+        private final long startNanos;
+        private int batches;
+        private long rows;
+        private long latencyNanos;
+        private int maxPendingAcquires;
+
+        private Round(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private void record(int rows, long latencyNanos, int pendingAcquires) {
+            this.batches++;
+            this.rows += rows;
+            this.latencyNanos += latencyNanos;
+            this.maxPendingAcquires = Math.max(maxPendingAcquires, pendingAcquires);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.spotify_song_subject.loader;
 
+import com.example.spotify_song_subject.application.SongCardService;
 import com.example.spotify_song_subject.application.SpotifyDataPersistenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,10 +9,17 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @Slf4j
 @Component
@@ -26,6 +34,9 @@ public class DataInitializationRunner {
     private final GoogleDriveDownloader googleDriveDownloader;
     private final SpotifyDataStreamReader spotifyDataStreamReader;
     private final SpotifyDataPersistenceService spotifyDataPersistenceService;
+    private final AdaptiveIngestController adaptiveIngestController;
+    private final DeferredIndexBuilder deferredIndexBuilder;
+    private final SongCardService songCardService;
 
     @Value("${data.directory:data}")
     private String dataDirectory;
@@ -36,6 +47,21 @@ public class DataInitializationRunner {
     @Value("${data.parallel.batches:6}")
     private int parallelBatches;
 
+    @Value("${data.reader.direct-dto-parsing:true}")
+    private boolean directDtoParsing;
+
+    @Value("${data.download.pipelined:false}")
+    private boolean pipelinedDownload;
+
+    @Value("${data.checkpoint.enabled:false}")
+    private boolean checkpointEnabled;
+
+    @Value("${data.bulk-load.enabled:false}")
+    private boolean bulkLoadEnabled;
+
+    private static final String JSON_FILE_NAME = "900k Definitive Spotify Dataset.json";
+    private static final String CHECKPOINT_FILE_NAME = "ingest.checkpoint";
+
     /**
      * ApplicationReadyEvent를 사용하여 애플리케이션이 완전히 준비된 후 실행
      * 이렇게 하면 모든 빈이 초기화되고 스키마가 생성된 후에 실행됨
@@ -44,28 +70,24 @@ public class DataInitializationRunner {
     public void onApplicationReady() {
         log.info("=== Starting Data Initialization (After Application Ready) ===");
 
+        if (adaptiveIngestController.isEnabled()) {
+            spotifyDataStreamReader.useBatchSizeSource(adaptiveIngestController::batchSize);
+        }
+
         try {
             Path dataPath = Paths.get(dataDirectory);
             if (!Files.exists(dataPath)) {
                 Files.createDirectories(dataPath);
             }
 
-            Path jsonFilePath = Paths.get(dataDirectory, "900k Definitive Spotify Dataset.json");
-            boolean fileExists = Files.exists(jsonFilePath);
-
-            if (!fileExists || !skipDownloadIfExists) {
-                log.info("Downloading data from Google Drive...");
-                googleDriveDownloader.downloadAndExtractFile();
+            loadData();
 
-                if (!Files.exists(jsonFilePath)) {
-                    log.error("JSON file still missing after download: {}", jsonFilePath.toAbsolutePath());
-                    throw new IllegalStateException(String.format("Failed to download Spotify dataset. File not found: %s", jsonFilePath.toAbsolutePath()));
-                }
-            } else {
-                log.info("Data file already exists. Skipping download.");
+            if (bulkLoadEnabled) {
+                runPhase("index", () -> deferredIndexBuilder.buildIndexes().block());
             }
-
-            processSpotifyData();
+            runPhase("stats", () -> spotifyDataPersistenceService.rebuildAlbumStatistics().block());
+            // 재적재로 곡 ID와 곡 정보의 대응이 바뀌었을 수 있으므로 이전 곡 카드는 모두 무효화
+            runPhase("card-cache", () -> songCardService.evictAll().block());
             log.info("✅ === Data Initialization Process Completed Successfully ===");
         } catch (Exception e) {
             log.error("Failed to initialize data during startup", e);
@@ -73,14 +95,141 @@ public class DataInitializationRunner {
         }
     }
 
+    /**
+     * 데이터셋 다운로드(필요 시) 후 적재
+     */
+    private void loadData() throws IOException {
+        Path jsonFilePath = Paths.get(dataDirectory, JSON_FILE_NAME);
+        boolean fileExists = Files.exists(jsonFilePath);
+        boolean needsDownload = !fileExists || !skipDownloadIfExists;
+
+        if (needsDownload && pipelinedDownload) {
+            log.info("Streaming data from Google Drive (download, decompress and ingest pipelined)...");
+            runPhase("load", this::processStreamedSpotifyData);
+            return;
+        }
+
+        if (needsDownload) {
+            log.info("Downloading data from Google Drive...");
+            runPhase("download", googleDriveDownloader::downloadAndExtractFile);
+
+            if (!Files.exists(jsonFilePath)) {
+                log.error("JSON file still missing after download: {}", jsonFilePath.toAbsolutePath());
+                throw new IllegalStateException(String.format("Failed to download Spotify dataset. File not found: %s", jsonFilePath.toAbsolutePath()));
+            }
+        } else {
+            log.info("Data file already exists. Skipping download.");
+        }
+
+        runPhase("load", this::processSpotifyData);
+    }
+
+    /**
+     * 초기화 단계 실행 시간 기록 (download, load, index, stats, card-cache)
+     */
+    private void runPhase(String phase, Phase action) throws IOException {
+        long startNanos = System.nanoTime();
+        action.run();
+        log.info("⏱️ Data initialization phase '{}' finished in {} ms", phase,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
     /**
      * JSON 파일을 스트리밍으로 읽어 처리
+     * - direct-dto-parsing: JSON 토큰을 DTO로 바로 파싱 (곡 단위 Map 생성 생략)
+     * - 그 외: Map 파싱 후 DTO 변환
+     */
+    private void processSpotifyData() throws IOException {
+        if (checkpointEnabled && directDtoParsing) {
+            processSpotifyDataWithCheckpoint();
+            return;
+        }
+
+        Flux<Void> processing = directDtoParsing
+            ? persistBatches(spotifyDataStreamReader.streamSpotifySongsInBatches(),
+                List::size, spotifyDataPersistenceService::processSongDtoBatch)
+            : persistBatches(spotifyDataStreamReader.streamSpotifyDataInBatches(),
+                List::size, spotifyDataPersistenceService::processSongBatch);
+
+        awaitProcessing(processing);
+    }
+
+    /**
+     * 체크포인트 기반으로 처리 (중단된 적재 재개)
+     * - 배치 커밋이 끝날 때마다 파티션별 커밋 위치를 체크포인트 파일에 기록
+     * - 재시작 시 데이터셋 지문이 같고 DB에 곡이 남아 있으면 커밋 위치 이후부터 적재
+     * - DB가 비어 있으면(인메모리 DB 재시작 등) 체크포인트를 버리고 처음부터 적재
+     * - 이미 적재를 마친 데이터셋이면 적재를 생략
+     */
+    private void processSpotifyDataWithCheckpoint() throws IOException {
+        Path checkpointFile = Paths.get(dataDirectory, CHECKPOINT_FILE_NAME);
+        String fingerprint = IngestCheckpoint.fingerprint(Paths.get(dataDirectory, JSON_FILE_NAME));
+
+        boolean hasPersistedSongs = Boolean.TRUE.equals(spotifyDataPersistenceService.hasPersistedSongs().block());
+        IngestCheckpoint checkpoint = hasPersistedSongs ? IngestCheckpoint.load(checkpointFile, fingerprint) : null;
+
+        if (checkpoint != null && checkpoint.isCompleted()) {
+            log.info("Dataset already ingested according to checkpoint. Skipping data processing.");
+            return;
+        }
+
+        if (checkpoint == null) {
+            checkpoint = IngestCheckpoint.create(checkpointFile, fingerprint, spotifyDataStreamReader.planPartitions());
+        } else {
+            log.info("⏯️ Resuming data ingest from checkpoint: {} rows already committed", checkpoint.committedRowCount());
+        }
+
+        IngestCheckpoint activeCheckpoint = checkpoint;
+        Flux<Void> processing = persistBatches(
+            spotifyDataStreamReader.streamSongBatches(activeCheckpoint.partitions(), activeCheckpoint::resumeRow),
+            batch -> batch.songs().size(),
+            batch -> spotifyDataPersistenceService.processSongDtoBatch(batch.songs())
+                .then(Mono.fromRunnable(() -> activeCheckpoint.markCommitted(batch))));
+
+        awaitProcessing(processing);
+        activeCheckpoint.markIngestCompleted();
+    }
+
+    /**
+     * 다운로드 중인 zip 엔트리를 바로 파싱하여 처리 (파이프라인 모드)
+     * 다운로드, 압축 해제, 파싱, 저장이 순차가 아닌 겹쳐서 진행되며 DTO 직접 파싱 경로를 사용
      */
-    private void processSpotifyData() {
-        spotifyDataStreamReader.streamSpotifyDataInBatches()
-            .flatMap(spotifyDataPersistenceService::processSongBatch, parallelBatches, 5)
+    private void processStreamedSpotifyData() {
+        Flux<Void> processing = persistBatches(
+            spotifyDataStreamReader.streamSpotifySongsInBatches(() -> googleDriveDownloader.openExtractedEntryStream(JSON_FILE_NAME)),
+            List::size, spotifyDataPersistenceService::processSongDtoBatch);
+
+        awaitProcessing(processing);
+    }
+
+    /**
+     * 배치를 병렬로 저장
+     * - 적응형 적재가 켜져 있으면 컨트롤러가 허용한 동시 배치 수 안에서 실행하고 커밋 지연을 컨트롤러에 전달
+     * - 꺼져 있으면 data.parallel.batches 고정 동시성으로 실행
+     */
+    private <B> Flux<Void> persistBatches(Flux<B> batches, ToIntFunction<B> rowCount, Function<B, Mono<Void>> persister) {
+        if (!adaptiveIngestController.isEnabled()) {
+            return batches.flatMap(persister, parallelBatches, 5);
+        }
+
+        return batches.flatMap(
+            batch -> adaptiveIngestController.run(rowCount.applyAsInt(batch), () -> persister.apply(batch)),
+            adaptiveIngestController.maxConcurrency(), 1);
+    }
+
+    private void awaitProcessing(Flux<Void> processing) {
+        processing
             .doOnComplete(() -> log.info("✅ Successfully processed Spotify dataset"))
             .doOnError(error -> log.error("❌ Error processing Spotify data", error))
+            .doFinally(signal -> spotifyDataPersistenceService.clearIdentityCache())
             .blockLast();
     }
+
+    /**
+     * 실행 시간을 기록할 초기화 단계
+     */
+    @FunctionalInterface
+    private interface Phase {
+        void run() throws IOException;
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.spotify_song_subject.loader;
+
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 대량 적재 모드에서 미뤄둔 보조 인덱스(schema-indexes.sql)를 적재 후 한 번에 생성
+ * 모든 구문이 CREATE INDEX IF NOT EXISTS 이므로 이미 인덱스가 있으면 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredIndexBuilder {
+
+    static final String INDEX_SCRIPT = "schema-indexes.sql";
+
+    private final ConnectionFactory connectionFactory;
+
+    /**
+     * 보조 인덱스 생성
+     */
+    public Mono<Void> buildIndexes() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(INDEX_SCRIPT));
+        populator.setSeparator(";");
+        populator.setContinueOnError(false);
+        return populator.populate(connectionFactory);
+    }
+}
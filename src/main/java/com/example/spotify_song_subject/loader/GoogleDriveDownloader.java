@@ -11,8 +11,14 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 import java.util.Enumeration;
 
 @Slf4j
@@ -22,10 +28,21 @@ public class GoogleDriveDownloader {
     @Value("${google.drive.file.id:1VDXbTqEH15B3oyHCXjgAI2lHa9aSmCcy}")
     private String fileId;
 
+    @Value("${google.drive.download-url-template:https://drive.google.com/uc?export=download&id=%s&confirm=t}")
+    private String downloadUrlTemplate;
+
+    @Value("${google.drive.file.sha256:}")
+    private String expectedSha256;
+
+    @Value("${google.drive.download.segments:1}")
+    private int downloadSegments;
+
     @Value("${data.directory:data}")
     private String dataDirectory;
 
-    private static final String DOWNLOAD_URL_TEMPLATE = "https://drive.google.com/uc?export=download&id=%s&confirm=t";
+    private static final String CONFIRM_DOWNLOAD_URL_TEMPLATE = "https://drive.usercontent.google.com/download?id=%s&export=download&confirm=t&uuid=%s";
+    private static final String PARTIAL_FILE_SUFFIX = ".part";
+    private static final int DOWNLOAD_BUFFER_SIZE = 65536;
 
     public void downloadAndExtractFile() {
         try {
@@ -33,6 +50,7 @@ public class GoogleDriveDownloader {
             ensureDirectoryExists(dataPath);
 
             Path zipFile = downloadFile(fileId, dataPath);
+            verifyChecksum(zipFile);
             extractZipFile(zipFile, dataPath);
 
             Files.deleteIfExists(zipFile);
@@ -43,6 +61,41 @@ public class GoogleDriveDownloader {
         }
     }
 
+    /**
+     * 다운로드 중인 zip에서 지정한 엔트리의 압축 해제 스트림을 바로 반환 (파이프라인 모드)
+     * - HTTP 응답 본문 → ZipInputStream → 호출자 순으로 흘러가므로 다운로드 중에도 파싱 가능
+     * - 읽은 바이트는 data 디렉토리의 .part 파일에도 기록하고, 엔트리를 끝까지 읽으면 원래 이름으로 변경
+     * - 끝까지 읽기 전에 닫히면 .part 파일을 삭제하여 불완전한 파일이 남지 않도록 함
+     */
+    public InputStream openExtractedEntryStream(String entryFileName) {
+        HttpURLConnection connection = null;
+        try {
+            Path dataPath = Paths.get(dataDirectory);
+            ensureDirectoryExists(dataPath);
+
+            connection = openDownloadConnection(fileId);
+            ZipInputStream zis = new ZipInputStream(
+                new BufferedInputStream(connection.getInputStream(), DOWNLOAD_BUFFER_SIZE));
+
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                if (!entry.isDirectory() && entryFileName.equals(Paths.get(entry.getName()).getFileName().toString())) {
+                    log.info("📦 Streaming zip entry while downloading: {}", entry.getName());
+                    return new TeeToFileInputStream(zis, dataPath.resolve(entryFileName));
+                }
+            }
+
+            zis.close();
+            throw new IOException("Zip entry not found: " + entryFileName);
+        } catch (Exception e) {
+            if (connection != null) {
+                connection.disconnect();
+            }
+            log.error("❌ Failed to open streaming download", e);
+            throw new RuntimeException("Failed to stream data from Google Drive", e);
+        }
+    }
+
     private void ensureDirectoryExists(Path directory) throws IOException {
         if (!Files.exists(directory)) {
             Files.createDirectories(directory);
@@ -53,66 +106,24 @@ public class GoogleDriveDownloader {
     private Path downloadFile(String fileId, Path targetDirectory) throws IOException {
         Path targetFile = targetDirectory.resolve("downloaded_file.zip");
 
-        try {
-            // First attempt - basic download URL
-            String downloadUrl = String.format(DOWNLOAD_URL_TEMPLATE, fileId);
-            URL url = new URL(downloadUrl);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestProperty("User-Agent", "Mozilla/5.0");
-            connection.setConnectTimeout(30000);
-            connection.setReadTimeout(60000);
-            connection.setInstanceFollowRedirects(false);
-
-            int responseCode = connection.getResponseCode();
-
-            // Handle redirect to Google Drive confirmation page
-            if (responseCode == 302 || responseCode == 303) {
-                String location = connection.getHeaderField("Location");
-                if (location != null) {
-                    url = new URL(location);
-                    connection = (HttpURLConnection) url.openConnection();
-                    connection.setRequestProperty("User-Agent", "Mozilla/5.0");
-                    responseCode = connection.getResponseCode();
-                }
-            }
-
-            String contentType = connection.getContentType();
-            if (contentType != null && contentType.contains("text/html")) {
-                StringBuilder html = new StringBuilder();
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        html.append(line);
-                    }
-                }
+        HttpURLConnection connection = openDownloadConnection(fileId);
+        if (supportsSegmentedDownload(connection)) {
+            URL resolvedUrl = connection.getURL();
+            long contentLength = connection.getContentLengthLong();
+            connection.disconnect();
 
-                String uuidPattern = "name=\"uuid\" value=\"([^\"]+)\"";
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(uuidPattern);
-                java.util.regex.Matcher matcher = pattern.matcher(html.toString());
-
-                if (matcher.find()) {
-                    String uuid = matcher.group(1);
-                    downloadUrl = String.format("https://drive.usercontent.google.com/download?id=%s&export=download&confirm=t&uuid=%s", fileId, uuid);
-                    url = new URL(downloadUrl);
-                    connection = (HttpURLConnection) url.openConnection();
-                    connection.setRequestProperty("User-Agent", "Mozilla/5.0");
-                    connection.setConnectTimeout(30000);
-                    connection.setReadTimeout(60000);
-                } else {
-                    throw new IOException("Could not extract UUID from Google Drive warning page");
-                }
-            }
+            // 실패 시 부분 파일과 저널을 남겨두어 다음 실행에서 이어받기
+            new SegmentedFileDownloader(resolvedUrl, contentLength, downloadSegments, targetFile).download();
+            return targetFile;
+        }
 
-            // Download the actual file
-            long contentLength = connection.getContentLengthLong();
-            if (contentLength > 0) {
-                log.info("📊 File size: {} MB", contentLength / 1024 / 1024);
-            }
+        Files.deleteIfExists(targetFile.resolveSibling(targetFile.getFileName() + SegmentedFileDownloader.JOURNAL_SUFFIX));
 
+        try {
             try (InputStream is = new BufferedInputStream(connection.getInputStream());
                  FileOutputStream fos = new FileOutputStream(targetFile.toFile())) {
 
-                byte[] buffer = new byte[65536];
+                byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
                 int bytesRead;
                 long totalBytes = 0;
                 long lastLog = System.currentTimeMillis();
@@ -135,6 +146,108 @@ public class GoogleDriveDownloader {
         }
     }
 
+    /**
+     * 분할 다운로드 가능 여부 - 구간 수 설정이 2 이상이고 서버가 Range 요청과 전체 길이를 제공하는 경우
+     */
+    private boolean supportsSegmentedDownload(HttpURLConnection connection) {
+        return downloadSegments > 1
+            && connection.getContentLengthLong() > 0
+            && "bytes".equalsIgnoreCase(connection.getHeaderField("Accept-Ranges"));
+    }
+
+    /**
+     * 압축 해제 전 SHA-256 검증 (기대값이 설정되지 않은 경우 생략)
+     * 불일치 시 손상된 파일을 삭제하여 다음 실행에서 새로 내려받도록 함
+     */
+    private void verifyChecksum(Path file) throws IOException {
+        if (expectedSha256 == null || expectedSha256.isBlank()) {
+            return;
+        }
+
+        String actualSha256 = sha256(file);
+        if (!expectedSha256.trim().equalsIgnoreCase(actualSha256)) {
+            Files.deleteIfExists(file);
+            throw new IOException(String.format("Checksum mismatch for %s. expected=%s, actual=%s",
+                file.getFileName(), expectedSha256, actualSha256));
+        }
+        log.info("🔐 Checksum verified: {}", actualSha256);
+    }
+
+    private String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream is = new DigestInputStream(
+                    new BufferedInputStream(Files.newInputStream(file), DOWNLOAD_BUFFER_SIZE), digest)) {
+                is.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 실제 파일 본문을 내려주는 연결을 반환
+     * 리다이렉트와 Google Drive 바이러스 검사 경고 페이지(uuid 확인)를 처리
+     */
+    private HttpURLConnection openDownloadConnection(String fileId) throws IOException {
+        // First attempt - basic download URL
+        String downloadUrl = String.format(downloadUrlTemplate, fileId);
+        URL url = new URL(downloadUrl);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestProperty("User-Agent", "Mozilla/5.0");
+        connection.setConnectTimeout(30000);
+        connection.setReadTimeout(60000);
+        connection.setInstanceFollowRedirects(false);
+
+        int responseCode = connection.getResponseCode();
+
+        // Handle redirect to Google Drive confirmation page
+        if (responseCode == 302 || responseCode == 303) {
+            String location = connection.getHeaderField("Location");
+            if (location != null) {
+                url = new URL(location);
+                connection = (HttpURLConnection) url.openConnection();
+                connection.setRequestProperty("User-Agent", "Mozilla/5.0");
+                responseCode = connection.getResponseCode();
+            }
+        }
+
+        String contentType = connection.getContentType();
+        if (contentType != null && contentType.contains("text/html")) {
+            StringBuilder html = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    html.append(line);
+                }
+            }
+
+            String uuidPattern = "name=\"uuid\" value=\"([^\"]+)\"";
+            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(uuidPattern);
+            java.util.regex.Matcher matcher = pattern.matcher(html.toString());
+
+            if (matcher.find()) {
+                String uuid = matcher.group(1);
+                downloadUrl = String.format(CONFIRM_DOWNLOAD_URL_TEMPLATE, fileId, uuid);
+                url = new URL(downloadUrl);
+                connection = (HttpURLConnection) url.openConnection();
+                connection.setRequestProperty("User-Agent", "Mozilla/5.0");
+                connection.setConnectTimeout(30000);
+                connection.setReadTimeout(60000);
+            } else {
+                throw new IOException("Could not extract UUID from Google Drive warning page");
+            }
+        }
+
+        long contentLength = connection.getContentLengthLong();
+        if (contentLength > 0) {
+            log.info("📊 File size: {} MB", contentLength / 1024 / 1024);
+        }
+
+        return connection;
+    }
+
     private void extractZipFile(Path zipFilePath, Path targetDirectory) throws IOException {
         try (ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
             Enumeration<? extends ZipEntry> entries = zipFile.entries();
@@ -163,4 +276,74 @@ public class GoogleDriveDownloader {
             log.info("Extracted {} files", fileCount);
         }
     }
+
+    /**
+     * 읽은 바이트를 .part 파일에 함께 기록하는 InputStream
+     * 원본 스트림 끝(EOF)까지 읽은 경우에만 target 파일로 이름을 변경
+     */
+    private static class TeeToFileInputStream extends FilterInputStream {
+
+        private final Path target;
+        private final Path partialFile;
+        private final OutputStream out;
+        private boolean completed;
+        private boolean closed;
+
+        TeeToFileInputStream(InputStream in, Path target) throws IOException {
+            super(in);
+            this.target = target;
+            this.partialFile = target.resolveSibling(target.getFileName() + PARTIAL_FILE_SUFFIX);
+            this.out = new BufferedOutputStream(Files.newOutputStream(partialFile), DOWNLOAD_BUFFER_SIZE);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                out.write(b);
+            } else {
+                completed = true;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                out.write(b, off, read);
+            } else if (read < 0) {
+                completed = true;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(n, DOWNLOAD_BUFFER_SIZE)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            try {
+                out.close();
+                super.close();
+            } finally {
+                if (completed) {
+                    Files.move(partialFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    log.info("✅ Saved streamed file: {}", target.toAbsolutePath());
+                } else {
+                    Files.deleteIfExists(partialFile);
+                    log.warn("Streaming stopped before end of entry. Discarded partial file: {}", partialFile.toAbsolutePath());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,209 @@
+package com.example.spotify_song_subject.loader;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 데이터 적재 체크포인트
+ * - 데이터셋 지문(fingerprint), 파티션(바이트 구간) 목록, 파티션별 커밋 완료 행 수를 파일에 기록
+ * - 배치는 병렬로 커밋되어 완료 순서가 뒤섞이므로, 연속으로 완료된 구간까지만 커밋 위치(watermark)를 전진
+ * - 재시작 시 파티션별 커밋 위치 이후 행부터 다시 적재
+ */
+@Slf4j
+public class IngestCheckpoint {
+
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String PARTITIONS_KEY = "partitions";
+    private static final String COMPLETED_KEY = "completed";
+    private static final String PARTITION_KEY_PREFIX = "partition.";
+    private static final int FINGERPRINT_SAMPLE_SIZE = 1024 * 1024;
+
+    private final Path checkpointFile;
+    private final String fingerprint;
+    private final List<SpotifyDataStreamReader.ByteRange> partitions;
+    private final long[] committedRows;
+    private final List<TreeMap<Long, Long>> pendingIntervals;
+    private boolean completed;
+
+    private IngestCheckpoint(Path checkpointFile,
+                             String fingerprint,
+                             List<SpotifyDataStreamReader.ByteRange> partitions,
+                             long[] committedRows,
+                             boolean completed) {
+        this.checkpointFile = checkpointFile;
+        this.fingerprint = fingerprint;
+        this.partitions = List.copyOf(partitions);
+        this.committedRows = committedRows;
+        this.completed = completed;
+        this.pendingIntervals = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            pendingIntervals.add(new TreeMap<>());
+        }
+    }
+
+    /**
+     * 새 체크포인트 생성 후 파일에 기록
+     */
+    public static IngestCheckpoint create(Path checkpointFile, String fingerprint, List<SpotifyDataStreamReader.ByteRange> partitions) {
+        IngestCheckpoint checkpoint = new IngestCheckpoint(
+            checkpointFile, fingerprint, partitions, new long[partitions.size()], false);
+        checkpoint.persist();
+        return checkpoint;
+    }
+
+    /**
+     * 체크포인트 파일 로드
+     *
+     * @return 파일이 없거나, 손상되었거나, 데이터셋 지문이 다르면 null
+     */
+    public static IngestCheckpoint load(Path checkpointFile, String fingerprint) {
+        if (!Files.exists(checkpointFile)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(checkpointFile)) {
+            properties.load(is);
+
+            if (!fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+                log.info("Dataset changed since last checkpoint. Ignoring checkpoint: {}", checkpointFile);
+                return null;
+            }
+
+            int partitionCount = Integer.parseInt(properties.getProperty(PARTITIONS_KEY));
+            List<SpotifyDataStreamReader.ByteRange> partitions = new ArrayList<>(partitionCount);
+            long[] committedRows = new long[partitionCount];
+
+            for (int i = 0; i < partitionCount; i++) {
+                String[] values = properties.getProperty(PARTITION_KEY_PREFIX + i).split(",");
+                partitions.add(new SpotifyDataStreamReader.ByteRange(Long.parseLong(values[0]), Long.parseLong(values[1])));
+                committedRows[i] = Long.parseLong(values[2]);
+            }
+
+            boolean completed = Boolean.parseBoolean(properties.getProperty(COMPLETED_KEY));
+            return new IngestCheckpoint(checkpointFile, fingerprint, partitions, committedRows, completed);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable checkpoint: {}", checkpointFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * 데이터셋 지문 계산 - 파일 크기 + 앞/뒤 1MB의 SHA-256
+     * 전체 해시 대비 비용이 작으면서 다른 파일로 교체된 경우를 구분
+     */
+    public static String fingerprint(Path dataFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            updateDigest(digest, channel, 0, Math.min(FINGERPRINT_SAMPLE_SIZE, size));
+            long tailStart = Math.max(0, size - FINGERPRINT_SAMPLE_SIZE);
+            updateDigest(digest, channel, tailStart, size - tailStart);
+
+            return size + ":" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, FileChannel channel, long position, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        digest.update(buffer);
+    }
+
+    public List<SpotifyDataStreamReader.ByteRange> partitions() {
+        return partitions;
+    }
+
+    /**
+     * 파티션에서 다시 적재를 시작할 행 번호
+     */
+    public synchronized long resumeRow(int partition) {
+        return committedRows[partition];
+    }
+
+    public synchronized boolean isCompleted() {
+        return completed;
+    }
+
+    public synchronized long committedRowCount() {
+        long total = 0;
+        for (long rows : committedRows) {
+            total += rows;
+        }
+        return total;
+    }
+
+    /**
+     * 커밋이 끝난 배치의 행 구간 [startRow, endRow)를 기록하고 체크포인트 파일 갱신
+     */
+    public synchronized void markCommitted(SongBatch batch) {
+        TreeMap<Long, Long> pending = pendingIntervals.get(batch.partition());
+        pending.put(batch.startRow(), batch.endRow());
+
+        Map.Entry<Long, Long> next;
+        while ((next = pending.firstEntry()) != null && next.getKey() <= committedRows[batch.partition()]) {
+            committedRows[batch.partition()] = Math.max(committedRows[batch.partition()], next.getValue());
+            pending.pollFirstEntry();
+        }
+
+        persist();
+    }
+
+    /**
+     * 전체 적재 완료 기록
+     */
+    public synchronized void markIngestCompleted() {
+        completed = true;
+        persist();
+    }
+
+    /**
+     * 체크포인트 파일을 임시 파일에 쓴 뒤 원자적으로 교체
+     */
+    private void persist() {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        properties.setProperty(PARTITIONS_KEY, String.valueOf(partitions.size()));
+        properties.setProperty(COMPLETED_KEY, String.valueOf(completed));
+        for (int i = 0; i < partitions.size(); i++) {
+            SpotifyDataStreamReader.ByteRange range = partitions.get(i);
+            properties.setProperty(PARTITION_KEY_PREFIX + i, range.start() + "," + range.end() + "," + committedRows[i]);
+        }
+
+        Path tempFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                properties.store(os, "data ingest checkpoint");
+            }
+            Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ingest checkpoint", e);
+        }
+    }
+}
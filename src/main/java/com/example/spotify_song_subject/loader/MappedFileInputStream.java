@@ -0,0 +1,91 @@
+package com.example.spotify_song_subject.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파일의 [start, end) 구간을 MappedByteBuffer 윈도우 단위로 읽는 InputStream
+ * - 힙 버퍼 복사 없이 페이지 캐시를 직접 읽음
+ * - 윈도우 단위로 매핑하므로 2GB를 넘는 파일도 처리 가능
+ * - 매핑 해제는 GC 시점에 이루어지며, close 시에는 채널만 닫음
+ */
+class MappedFileInputStream extends InputStream {
+
+    static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long end;
+    private final long windowSize;
+
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedFileInputStream(FileChannel channel, long start, long end) throws IOException {
+        this(channel, start, end, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileInputStream(FileChannel channel, long start, long end, long windowSize) throws IOException {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("windowSize must be between 1 and " + Integer.MAX_VALUE);
+        }
+        this.channel = channel;
+        this.end = Math.min(end, channel.size());
+        this.windowSize = windowSize;
+        this.windowStart = start;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureWindow()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureWindow()) {
+            return -1;
+        }
+        int read = Math.min(len, window.remaining());
+        window.get(b, off, read);
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return window == null ? 0 : window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * 현재 윈도우를 다 읽었으면 다음 구간을 매핑
+     *
+     * @return 읽을 바이트가 남아 있으면 true
+     */
+    private boolean ensureWindow() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        if (window != null) {
+            windowStart += window.capacity();
+        }
+        if (windowStart >= end) {
+            return false;
+        }
+
+        long size = Math.min(windowSize, end - windowStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+        return true;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.spotify_song_subject.loader;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HTTP Range 요청 기반 분할 다운로더
+ * - 파일을 여러 구간으로 나누어 동시에 내려받고 각 구간을 파일의 해당 위치에 직접 기록
+ * - 구간별 진행 상황을 저널 파일(.journal)에 남겨 중단된 다운로드를 이어받기
+ * - 모든 구간이 완료되면 저널 파일 삭제
+ */
+@Slf4j
+class SegmentedFileDownloader {
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final long JOURNAL_FLUSH_INTERVAL_BYTES = 4L * 1024 * 1024;
+    private static final String LENGTH_KEY = "length";
+    private static final String SEGMENTS_KEY = "segments";
+    private static final String SEGMENT_DONE_KEY_PREFIX = "segment.done.";
+
+    private final URL url;
+    private final long contentLength;
+    private final int segmentCount;
+    private final Path targetFile;
+    private final Path journalFile;
+
+    private final long[] segmentStarts;
+    private final long[] segmentEnds;
+    private final AtomicLongArray downloaded;
+
+    SegmentedFileDownloader(URL url, long contentLength, int segmentCount, Path targetFile) {
+        this.url = url;
+        this.contentLength = contentLength;
+        this.segmentCount = (int) Math.max(1, Math.min(segmentCount, contentLength));
+        this.targetFile = targetFile;
+        this.journalFile = targetFile.resolveSibling(targetFile.getFileName() + JOURNAL_SUFFIX);
+        this.segmentStarts = new long[this.segmentCount];
+        this.segmentEnds = new long[this.segmentCount];
+        this.downloaded = new AtomicLongArray(this.segmentCount);
+
+        long segmentSize = contentLength / this.segmentCount;
+        for (int i = 0; i < this.segmentCount; i++) {
+            segmentStarts[i] = i * segmentSize;
+            segmentEnds[i] = (i == this.segmentCount - 1) ? contentLength : (i + 1) * segmentSize;
+        }
+    }
+
+    /**
+     * 구간별 다운로드 실행
+     * 저널이 있고 파일 길이/구간 수가 같으면 각 구간의 남은 부분만 내려받음
+     */
+    void download() throws IOException {
+        boolean resumed = restoreJournal();
+        if (resumed) {
+            log.info("⏯️ Resuming download: {} / {} MB already downloaded",
+                totalDownloaded() / 1024 / 1024, contentLength / 1024 / 1024);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(segmentCount);
+        try (FileChannel channel = FileChannel.open(targetFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (!resumed) {
+                channel.truncate(0);
+            }
+            writeJournal();
+
+            List<Future<?>> futures = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                int segment = i;
+                futures.add(executor.submit(() -> {
+                    downloadSegment(channel, segment);
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                awaitSegment(future);
+            }
+
+            if (channel.size() != contentLength) {
+                throw new IOException("Downloaded size mismatch. expected=" + contentLength + ", actual=" + channel.size());
+            }
+        } finally {
+            executor.shutdownNow();
+            writeJournal();
+        }
+
+        Files.deleteIfExists(journalFile);
+        log.info("✅ Segmented download completed: {} MB in {} segments", contentLength / 1024 / 1024, segmentCount);
+    }
+
+    private void downloadSegment(FileChannel channel, int segment) throws IOException {
+        long position = segmentStarts[segment] + downloaded.get(segment);
+        long end = segmentEnds[segment];
+        if (position >= end) {
+            return;
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestProperty("User-Agent", "Mozilla/5.0");
+        connection.setRequestProperty("Range", "bytes=" + position + "-" + (end - 1));
+        connection.setConnectTimeout(30000);
+        connection.setReadTimeout(60000);
+
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode != HttpURLConnection.HTTP_PARTIAL) {
+                throw new IOException("Range request not honoured. segment=" + segment + ", status=" + responseCode);
+            }
+
+            try (InputStream is = new BufferedInputStream(connection.getInputStream(), BUFFER_SIZE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long sinceFlush = 0;
+                int bytesRead;
+
+                while (position < end && (bytesRead = is.read(buffer, 0, (int) Math.min(buffer.length, end - position))) != -1) {
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                    while (byteBuffer.hasRemaining()) {
+                        position += channel.write(byteBuffer, position);
+                    }
+                    downloaded.addAndGet(segment, bytesRead);
+                    sinceFlush += bytesRead;
+
+                    if (sinceFlush >= JOURNAL_FLUSH_INTERVAL_BYTES) {
+                        channel.force(false);
+                        writeJournal();
+                        sinceFlush = 0;
+                    }
+                }
+            }
+
+            if (position < end) {
+                throw new IOException("Segment ended early. segment=" + segment + ", missing=" + (end - position) + " bytes");
+            }
+            channel.force(false);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void awaitSegment(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Segmented download interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Segmented download failed", cause);
+        }
+    }
+
+    /**
+     * 저널을 읽어 구간별 진행 상황 복원
+     *
+     * @return 이어받기가 가능하면 true
+     */
+    private boolean restoreJournal() throws IOException {
+        if (!Files.exists(journalFile) || !Files.exists(targetFile)) {
+            return false;
+        }
+
+        Properties journal = new Properties();
+        try (InputStream is = Files.newInputStream(journalFile)) {
+            journal.load(is);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring corrupted download journal: {}", journalFile);
+            return false;
+        }
+
+        if (!String.valueOf(contentLength).equals(journal.getProperty(LENGTH_KEY))
+            || !String.valueOf(segmentCount).equals(journal.getProperty(SEGMENTS_KEY))) {
+            log.info("Download journal does not match current file. Starting over.");
+            return false;
+        }
+
+        for (int i = 0; i < segmentCount; i++) {
+            long done = Long.parseLong(journal.getProperty(SEGMENT_DONE_KEY_PREFIX + i, "0"));
+            downloaded.set(i, Math.min(Math.max(done, 0), segmentEnds[i] - segmentStarts[i]));
+        }
+        return true;
+    }
+
+    /**
+     * 구간별 진행 상황을 저널에 기록 (임시 파일 작성 후 원자적 교체)
+     */
+    private synchronized void writeJournal() {
+        Properties journal = new Properties();
+        journal.setProperty(LENGTH_KEY, String.valueOf(contentLength));
+        journal.setProperty(SEGMENTS_KEY, String.valueOf(segmentCount));
+        for (int i = 0; i < segmentCount; i++) {
+            journal.setProperty(SEGMENT_DONE_KEY_PREFIX + i, String.valueOf(downloaded.get(i)));
+        }
+
+        Path tempJournal = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tempJournal)) {
+                journal.store(os, "segmented download progress");
+            }
+            Files.move(tempJournal, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write download journal", e);
+        }
+    }
+
+    private long totalDownloaded() {
+        long total = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            total += downloaded.get(i);
+        }
+        return total;
+    }
+}
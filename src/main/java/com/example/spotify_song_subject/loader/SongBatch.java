@@ -0,0 +1,16 @@
+package com.example.spotify_song_subject.loader;
+
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+
+import java.util.List;
+
+/**
+ * 파티션 내 행 구간 정보를 함께 가진 곡 배치
+ *
+ * @param partition 파티션(파일 바이트 구간) 번호
+ * @param startRow  파티션 내 첫 행 번호 (포함)
+ * @param endRow    파티션 내 마지막 행 번호 (미포함)
+ * @param songs     파싱된 곡 목록 (빈 객체 행은 제외)
+ */
+public record SongBatch(int partition, long startRow, long endRow, List<SpotifySongDto> songs) {
+}
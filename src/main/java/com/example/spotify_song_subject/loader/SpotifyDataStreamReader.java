@@ -1,5 +1,6 @@
 package com.example.spotify_song_subject.loader;
 
+import com.example.spotify_song_subject.dto.SpotifySongDto;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
@@ -8,16 +9,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.BufferedInputStream;
-import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
 
 /**
  * Spotify JSON 데이터셋을 리액티브 스트림으로 읽어 처리하는 Reader
@@ -36,20 +47,189 @@ public class SpotifyDataStreamReader {
     @Value("${data.buffer.size:65536}")
     private int bufferSize;
 
+    @Value("${data.parallel.parsers:1}")
+    private int parallelParsers;
+
+    @Value("${data.reader.mode:buffered}")
+    private String readerMode;
+
+    private IntSupplier batchSizeSource;
+
     private static final String JSON_FILE_NAME = "900k Definitive Spotify Dataset.json";
-    private static final String SIMILAR_SONGS_FIELD = "Similar Songs";
+    private static final int BOUNDARY_SCAN_BUFFER_SIZE = 8192;
+    private static final String MMAP_READER_MODE = "mmap";
 
-    private static final int EXPECTED_SONG_FIELDS = 30;
-    private static final int EXPECTED_SIMILAR_SONGS = 5;
-    private static final int EXPECTED_SIMILAR_SONG_FIELDS = 10;
+    /**
+     * 배치 크기를 매 배치마다 조회할 공급자 지정 (적응형 적재용, null이면 data.batch.size 고정)
+     */
+    public void useBatchSizeSource(IntSupplier batchSizeSource) {
+        this.batchSizeSource = batchSizeSource;
+    }
 
     /**
      * Spotify 데이터를 배치 단위로 스트리밍
      */
     public Flux<List<Map<String, Object>>> streamSpotifyDataInBatches() {
         Path jsonFilePath = Paths.get(dataDirectory, JSON_FILE_NAME);
-        return createStreamingFlux(jsonFilePath)
-            .buffer(batchSize);
+        return streamInBatches(jsonFilePath, SpotifyDataStreamReader::parseNonEmptySongMap);
+    }
+
+    /**
+     * Spotify 데이터를 SpotifySongDto 배치 단위로 스트리밍
+     * 중간 Map 없이 JSON 토큰을 DTO로 바로 파싱
+     */
+    public Flux<List<SpotifySongDto>> streamSpotifySongsInBatches() {
+        Path jsonFilePath = Paths.get(dataDirectory, JSON_FILE_NAME);
+        return streamInBatches(jsonFilePath, SpotifySongJsonParser::parseSongDto);
+    }
+
+    /**
+     * 외부에서 제공하는 입력 스트림(예: 다운로드 중인 zip 엔트리)을 SpotifySongDto 배치로 스트리밍
+     * 입력 스트림은 구독 시점에 열고 스트림 종료 시 닫음 (단일 파서로 순차 처리)
+     */
+    public Flux<List<SpotifySongDto>> streamSpotifySongsInBatches(Supplier<InputStream> inputStreamSupplier) {
+        return bufferBatches(createStreamingFlux(inputStreamSupplier::get, SpotifySongJsonParser::parseSongDto));
+    }
+
+    /**
+     * 데이터셋 파일을 파서 워커 수만큼 줄 경계 바이트 구간(파티션)으로 분할
+     */
+    public List<ByteRange> planPartitions() throws IOException {
+        return splitIntoRanges(Paths.get(dataDirectory, JSON_FILE_NAME), Math.max(1, parallelParsers));
+    }
+
+    /**
+     * 파티션별로 행 번호를 매긴 SongBatch 스트리밍 (체크포인트 재개용)
+     * - 행 번호는 파티션 내 JSON 객체 순번이며 빈 객체도 번호를 차지함
+     * - resumeRowByPartition 이전 행은 DTO로 파싱하지 않고 건너뜀
+     */
+    public Flux<SongBatch> streamSongBatches(List<ByteRange> partitions, IntToLongFunction resumeRowByPartition) {
+        Path jsonFilePath = Paths.get(dataDirectory, JSON_FILE_NAME);
+
+        return Flux.range(0, partitions.size())
+            .flatMap(partition -> streamPartition(jsonFilePath, partition, partitions.get(partition),
+                        resumeRowByPartition.applyAsLong(partition))
+                    .subscribeOn(Schedulers.boundedElastic()),
+                Math.max(1, parallelParsers));
+    }
+
+    private Flux<SongBatch> streamPartition(Path jsonFilePath, int partition, ByteRange range, long resumeRow) {
+        return Flux.defer(() -> {
+            AtomicLong nextRow = new AtomicLong();
+
+            SongObjectParser<IndexedSong> indexedParser = parser -> {
+                long row = nextRow.getAndIncrement();
+                if (row < resumeRow) {
+                    parser.skipChildren();
+                    return null;
+                }
+                return new IndexedSong(row, SpotifySongJsonParser.parseSongDto(parser));
+            };
+
+            return bufferBatches(createStreamingFlux(() -> openRangeStream(jsonFilePath, range.start(), range.end()), indexedParser))
+                .map(rows -> toSongBatch(partition, rows));
+        });
+    }
+
+    private static SongBatch toSongBatch(int partition, List<IndexedSong> rows) {
+        List<SpotifySongDto> songs = new ArrayList<>(rows.size());
+        for (IndexedSong row : rows) {
+            if (row.song() != null) {
+                songs.add(row.song());
+            }
+        }
+        return new SongBatch(partition, rows.get(0).row(), rows.get(rows.size() - 1).row() + 1, songs);
+    }
+
+    /**
+     * 파서 워커 수에 따라 단일 스트림 또는 병렬 청크 스트림으로 배치 생성
+     * - parallel.parsers <= 1: 파일 전체를 하나의 파서로 순차 처리
+     * - parallel.parsers > 1: 파일을 줄 경계에 맞춘 바이트 구간으로 나누고 구간마다 별도 파서로 병렬 처리
+     *   (구간별 배치가 섞여서 방출되므로 배치 간 순서는 보장하지 않음)
+     */
+    private <T> Flux<List<T>> streamInBatches(Path jsonFilePath, SongObjectParser<T> objectParser) {
+        if (parallelParsers <= 1) {
+            return bufferBatches(createStreamingFlux(() -> openRangeStream(jsonFilePath, 0, Long.MAX_VALUE), objectParser));
+        }
+
+        return Mono.fromCallable(() -> splitIntoRanges(jsonFilePath, parallelParsers))
+            .flatMapMany(Flux::fromIterable)
+            .flatMap(range -> bufferBatches(createStreamingFlux(() -> openRangeStream(jsonFilePath, range.start(), range.end()), objectParser))
+                    .subscribeOn(Schedulers.boundedElastic()),
+                parallelParsers);
+    }
+
+    /**
+     * 항목을 배치 크기만큼 묶음
+     * 배치 크기 공급자가 있으면 배치를 닫을 때마다 크기를 다시 읽어 다음 배치에 반영
+     */
+    private <T> Flux<List<T>> bufferBatches(Flux<T> items) {
+        IntSupplier source = batchSizeSource;
+        if (source == null) {
+            return items.buffer(batchSize);
+        }
+
+        return Flux.defer(() -> {
+            int[] filled = {0};
+            int[] limit = {Math.max(1, source.getAsInt())};
+            return items.bufferUntil(item -> {
+                if (++filled[0] < limit[0]) {
+                    return false;
+                }
+                filled[0] = 0;
+                limit[0] = Math.max(1, source.getAsInt());
+                return true;
+            });
+        });
+    }
+
+    /**
+     * NDJSON 파일을 줄 경계에 맞춘 바이트 구간으로 분할
+     * 각 구간의 시작은 파일 처음이거나 개행 바로 다음 위치이므로 구간마다 완전한 JSON 객체만 포함됨
+     * (NDJSON은 문자열 내 개행이 이스케이프되므로 실제 개행은 객체 경계에서만 나타남)
+     */
+    static List<ByteRange> splitIntoRanges(Path jsonFilePath, int partitions) throws IOException {
+        try (FileChannel channel = FileChannel.open(jsonFilePath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            List<ByteRange> ranges = new ArrayList<>(partitions);
+            long start = 0;
+
+            for (int i = 1; i < partitions && start < fileSize; i++) {
+                long boundary = findNextLineStart(channel, Math.max(start, fileSize * i / partitions));
+                if (boundary >= fileSize) {
+                    break;
+                }
+                if (boundary > start) {
+                    ranges.add(new ByteRange(start, boundary));
+                    start = boundary;
+                }
+            }
+
+            ranges.add(new ByteRange(start, fileSize));
+            return ranges;
+        }
+    }
+
+    /**
+     * position 이후 첫 개행 다음 위치 반환 (개행이 없으면 파일 크기)
+     */
+    private static long findNextLineStart(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_BUFFER_SIZE);
+        long offset = position;
+
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
     }
 
     /**
@@ -58,13 +238,12 @@ public class SpotifyDataStreamReader {
      * - 백프레셔 지원을 위해 Flux.generate 사용
      * - 요청이 있을 때만 다음 데이터 생성
      */
-    private Flux<Map<String, Object>> createStreamingFlux(Path jsonFilePath) {
+    private <T> Flux<T> createStreamingFlux(InputStreamOpener inputStreamOpener, SongObjectParser<T> objectParser) {
         return Flux.generate(
             () -> {
                 try {
                     JsonFactory jsonFactory = new JsonFactory();
-                    BufferedInputStream bis = new BufferedInputStream(
-                        new FileInputStream(jsonFilePath.toFile()), bufferSize);
+                    InputStream bis = inputStreamOpener.open();
                     JsonParser parser = jsonFactory.createParser(bis);
                     return new ParserState(parser, bis);
                 } catch (Exception e) {
@@ -76,9 +255,9 @@ public class SpotifyDataStreamReader {
                     JsonToken token;
                     while ((token = state.parser.nextToken()) != null) {
                         if (token == JsonToken.START_OBJECT) {
-                            Map<String, Object> songData = parseSongObject(state.parser);
-                            if (!songData.isEmpty()) {
-                                sink.next(songData);
+                            T song = objectParser.parse(state.parser);
+                            if (song != null) {
+                                sink.next(song);
                                 return state;
                             }
                         }
@@ -102,73 +281,106 @@ public class SpotifyDataStreamReader {
     }
 
     /**
-     * JsonParser와 InputStream을 함께 관리하는 상태 클래스
-     */
-    private record ParserState(JsonParser parser, BufferedInputStream bis) { }
-
-    /**
-     * 개별 곡 JSON 객체를 Map으로 파싱
+     * 파일의 [start, end) 구간을 읽는 InputStream 생성
+     * - buffered: FileChannel 스트림을 BufferedInputStream(data.buffer.size)으로 감싸 읽음
+     * - mmap: MappedByteBuffer 윈도우로 읽음 (힙 복사 및 read 시스템 콜 감소)
      */
-    private Map<String, Object> parseSongObject(JsonParser jsonParser) throws IOException {
-        Map<String, Object> songData = new HashMap<>(EXPECTED_SONG_FIELDS);
+    private InputStream openRangeStream(Path jsonFilePath, long start, long end) throws IOException {
+        FileChannel channel = FileChannel.open(jsonFilePath, StandardOpenOption.READ);
 
-        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-            String fieldName = jsonParser.currentName();
-            jsonParser.nextToken();
+        try {
+            if (MMAP_READER_MODE.equalsIgnoreCase(readerMode)) {
+                return new MappedFileInputStream(channel, start, end);
+            }
 
-            if (fieldName != null) {
-                if (SIMILAR_SONGS_FIELD.equals(fieldName)) {
-                    songData.put(fieldName, parseSimilarSongs(jsonParser));
-                } else {
-                    Object value = extractValueFromToken(jsonParser);
-                    songData.put(fieldName, value);
-                }
+            channel.position(start);
+            return new BufferedInputStream(
+                new RangeInputStream(Channels.newInputStream(channel), end - start), bufferSize);
+        } catch (IOException | RuntimeException e) {
+            // 스트림을 만들지 못하면 닫을 주체가 없으므로 여기서 채널을 닫음
+            try {
+                channel.close();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
             }
+            throw e;
         }
+    }
 
-        return songData;
+    /**
+     * 곡 객체를 Map으로 파싱 (빈 객체는 건너뜀)
+     */
+    private static Map<String, Object> parseNonEmptySongMap(JsonParser parser) throws IOException {
+        Map<String, Object> songData = SpotifySongJsonParser.parseSongMap(parser);
+        return songData.isEmpty() ? null : songData;
     }
 
     /**
-     * Similar Songs 배열 파싱
+     * JsonParser와 InputStream을 함께 관리하는 상태 클래스
      */
-    private List<Map<String, Object>> parseSimilarSongs(JsonParser jsonParser) throws IOException {
-        List<Map<String, Object>> similarSongs = new ArrayList<>(EXPECTED_SIMILAR_SONGS);
+    private record ParserState(JsonParser parser, InputStream bis) { }
 
-        if (jsonParser.getCurrentToken() == JsonToken.START_ARRAY) {
-            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-                if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
-                    Map<String, Object> similarSong = new HashMap<>(EXPECTED_SIMILAR_SONG_FIELDS);
+    /**
+     * 파일 내 바이트 구간 [start, end)
+     */
+    public record ByteRange(long start, long end) { }
 
-                    while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
-                        String field = jsonParser.currentName();
-                        jsonParser.nextToken();
-                        if (field != null) {
-                            similarSong.put(field, extractValueFromToken(jsonParser));
-                        }
-                    }
+    /**
+     * 파티션 내 행 번호와 파싱 결과 (빈 객체면 song은 null)
+     */
+    private record IndexedSong(long row, SpotifySongDto song) { }
 
-                    similarSongs.add(similarSong);
-                }
+    /**
+     * 지정한 바이트 수까지만 읽는 InputStream
+     */
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        RangeInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
             }
+            return b;
         }
 
-        return similarSongs;
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
     }
 
     /**
-     * JSON 토큰을 Java 타입으로 변환
+     * START_OBJECT 위치의 곡 객체 하나를 파싱하는 함수
+     * null을 반환하면 해당 객체는 건너뜀
      */
-    private Object extractValueFromToken(JsonParser parser) throws IOException {
-        JsonToken token = parser.getCurrentToken();
+    @FunctionalInterface
+    private interface SongObjectParser<T> {
+        T parse(JsonParser parser) throws IOException;
+    }
 
-        return switch (token) {
-            case VALUE_NUMBER_INT -> parser.getLongValue();
-            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
-            case VALUE_TRUE -> true;
-            case VALUE_FALSE -> false;
-            case VALUE_NULL -> null;
-            default -> parser.getText();
-        };
+    /**
+     * 파싱할 입력 스트림을 여는 함수
+     */
+    @FunctionalInterface
+    private interface InputStreamOpener {
+        InputStream open() throws IOException;
     }
 }
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.example.spotify_song_subject.loader;
+
+import com.example.spotify_song_subject.dto.SimilarSongDto;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spotify 곡 JSON 객체 파서
+ * - Map 파싱: 곡 객체를 Map으로 읽은 뒤 SpotifyDataMapper로 변환하는 기존 경로
+ * - DTO 직접 파싱: 필드명 switch로 토큰을 SpotifySongDto에 바로 매핑 (곡 단위 Map, 박싱된 숫자 생성 없음)
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SpotifySongJsonParser {
+
+    private static final String SIMILAR_SONGS_FIELD = "Similar Songs";
+    private static final String SIMILAR_ARTIST_PREFIX = "Similar Artist";
+    private static final String SIMILAR_SONG_PREFIX = "Similar Song";
+    private static final String SIMILARITY_SCORE_FIELD = "Similarity Score";
+
+    private static final int EXPECTED_SONG_FIELDS = 30;
+    private static final int EXPECTED_SIMILAR_SONGS = 5;
+    private static final int EXPECTED_SIMILAR_SONG_FIELDS = 10;
+
+    /**
+     * 개별 곡 JSON 객체를 Map으로 파싱
+     * 호출 시점의 현재 토큰은 START_OBJECT 여야 함
+     */
+    public static Map<String, Object> parseSongMap(JsonParser jsonParser) throws IOException {
+        Map<String, Object> songData = new HashMap<>(EXPECTED_SONG_FIELDS);
+
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jsonParser.currentName();
+            jsonParser.nextToken();
+
+            if (SIMILAR_SONGS_FIELD.equals(fieldName)) {
+                songData.put(fieldName, parseSimilarSongMaps(jsonParser));
+            } else {
+                songData.put(fieldName, extractValueFromToken(jsonParser));
+            }
+        }
+
+        return songData;
+    }
+
+    /**
+     * 개별 곡 JSON 객체를 SpotifySongDto로 직접 파싱
+     * 호출 시점의 현재 토큰은 START_OBJECT 여야 함
+     *
+     * @return 파싱된 DTO (필드가 하나도 없는 빈 객체인 경우 null)
+     */
+    public static SpotifySongDto parseSongDto(JsonParser jsonParser) throws IOException {
+        SpotifySongDto.SpotifySongDtoBuilder builder = SpotifySongDto.builder();
+        List<SimilarSongDto> similarSongs = null;
+        boolean hasField = false;
+
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jsonParser.currentName();
+            jsonParser.nextToken();
+            hasField = true;
+
+            switch (fieldName) {
+                case "Artist(s)" -> builder.artists(readString(jsonParser));
+                case "song" -> builder.songTitle(readString(jsonParser));
+                case "text" -> builder.lyrics(readString(jsonParser));
+                case "Length" -> builder.length(readString(jsonParser));
+                case "emotion" -> builder.emotion(readString(jsonParser));
+                case "Genre" -> builder.genre(readString(jsonParser));
+                case "Album" -> builder.albumTitle(readString(jsonParser));
+                case "Release Date" -> builder.releaseDate(readString(jsonParser));
+                case "Key" -> builder.musicKey(readString(jsonParser));
+                case "Tempo" -> builder.tempo(readDecimal(jsonParser, fieldName));
+                case "Loudness (db)" -> builder.loudnessDb(readDecimal(jsonParser, fieldName));
+                case "Time signature" -> builder.timeSignature(readString(jsonParser));
+                case "Explicit" -> builder.explicit(readString(jsonParser));
+                case "Popularity" -> builder.popularity(readInteger(jsonParser, fieldName));
+                case "Energy" -> builder.energy(readInteger(jsonParser, fieldName));
+                case "Danceability" -> builder.danceability(readInteger(jsonParser, fieldName));
+                case "Positiveness" -> builder.positiveness(readInteger(jsonParser, fieldName));
+                case "Speechiness" -> builder.speechiness(readInteger(jsonParser, fieldName));
+                case "Liveness" -> builder.liveness(readInteger(jsonParser, fieldName));
+                case "Acousticness" -> builder.acousticness(readInteger(jsonParser, fieldName));
+                case "Instrumentalness" -> builder.instrumentalness(readInteger(jsonParser, fieldName));
+                case "Good for Party" -> builder.goodForParty(readInteger(jsonParser, fieldName));
+                case "Good for Work/Study" -> builder.goodForWorkStudy(readInteger(jsonParser, fieldName));
+                case "Good for Relaxation/Meditation" -> builder.goodForRelaxationMeditation(readInteger(jsonParser, fieldName));
+                case "Good for Exercise" -> builder.goodForExercise(readInteger(jsonParser, fieldName));
+                case "Good for Running" -> builder.goodForRunning(readInteger(jsonParser, fieldName));
+                case "Good for Yoga/Stretching" -> builder.goodForYogaStretching(readInteger(jsonParser, fieldName));
+                case "Good for Driving" -> builder.goodForDriving(readInteger(jsonParser, fieldName));
+                case "Good for Social Gatherings" -> builder.goodForSocialGatherings(readInteger(jsonParser, fieldName));
+                case "Good for Morning Routine" -> builder.goodForMorningRoutine(readInteger(jsonParser, fieldName));
+                case SIMILAR_SONGS_FIELD -> similarSongs = readSimilarSongs(jsonParser);
+                default -> jsonParser.skipChildren();
+            }
+        }
+
+        if (!hasField) {
+            return null;
+        }
+
+        return builder
+            .similarSongs(similarSongs != null ? similarSongs : List.of())
+            .build();
+    }
+
+    /**
+     * Similar Songs 배열을 Map 리스트로 파싱
+     */
+    private static List<Map<String, Object>> parseSimilarSongMaps(JsonParser jsonParser) throws IOException {
+        List<Map<String, Object>> similarSongs = new ArrayList<>(EXPECTED_SIMILAR_SONGS);
+
+        if (jsonParser.currentToken() != JsonToken.START_ARRAY) {
+            jsonParser.skipChildren();
+            return similarSongs;
+        }
+
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+                jsonParser.skipChildren();
+                continue;
+            }
+
+            Map<String, Object> similarSong = new HashMap<>(EXPECTED_SIMILAR_SONG_FIELDS);
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jsonParser.currentName();
+                jsonParser.nextToken();
+                similarSong.put(field, extractValueFromToken(jsonParser));
+            }
+            similarSongs.add(similarSong);
+        }
+
+        return similarSongs;
+    }
+
+    /**
+     * Similar Songs 배열을 SimilarSongDto 리스트로 직접 파싱
+     * 동적 필드명(Similar Artist N, Similar Song N)은 prefix로 판별하며 필수 값이 빠진 항목은 제외
+     */
+    private static List<SimilarSongDto> readSimilarSongs(JsonParser jsonParser) throws IOException {
+        List<SimilarSongDto> similarSongs = new ArrayList<>(EXPECTED_SIMILAR_SONGS);
+
+        if (jsonParser.currentToken() != JsonToken.START_ARRAY) {
+            jsonParser.skipChildren();
+            return similarSongs;
+        }
+
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+                jsonParser.skipChildren();
+                continue;
+            }
+
+            String artistName = null;
+            String songTitle = null;
+            BigDecimal similarityScore = null;
+
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jsonParser.currentName();
+                jsonParser.nextToken();
+
+                if (field.startsWith(SIMILAR_ARTIST_PREFIX)) {
+                    artistName = readString(jsonParser);
+                } else if (field.startsWith(SIMILAR_SONG_PREFIX)) {
+                    songTitle = readString(jsonParser);
+                } else if (SIMILARITY_SCORE_FIELD.equals(field)) {
+                    similarityScore = readDecimal(jsonParser, field);
+                } else {
+                    jsonParser.skipChildren();
+                }
+            }
+
+            if (artistName != null && songTitle != null && similarityScore != null) {
+                similarSongs.add(SimilarSongDto.builder()
+                    .artistName(artistName)
+                    .songTitle(songTitle)
+                    .similarityScore(similarityScore)
+                    .build());
+            }
+        }
+
+        return similarSongs;
+    }
+
+    /**
+     * 문자열 필드 읽기 - 숫자/불리언 스칼라는 원문 텍스트로, 배열/객체는 건너뛰고 null 반환
+     */
+    private static String readString(JsonParser jsonParser) throws IOException {
+        if (jsonParser.currentToken().isStructStart()) {
+            jsonParser.skipChildren();
+            return null;
+        }
+
+        return jsonParser.getValueAsString();
+    }
+
+    /**
+     * 정수 필드 읽기 - 숫자 토큰은 박싱 없이 바로 읽고, 문자열은 파싱 시도
+     */
+    private static Integer readInteger(JsonParser jsonParser, String fieldName) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+
+        try {
+            return switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> jsonParser.getIntValue();
+                case VALUE_STRING -> Integer.parseInt(jsonParser.getText());
+                default -> {
+                    jsonParser.skipChildren();
+                    yield null;
+                }
+            };
+        } catch (NumberFormatException | InputCoercionException e) {
+            log.warn("Failed to parse Integer for key: {}, value: {}", fieldName, jsonParser.getText());
+            return null;
+        }
+    }
+
+    /**
+     * 실수 필드 읽기 - 숫자 토큰의 원문 텍스트로 BigDecimal 생성 (double 경유 없음)
+     */
+    private static BigDecimal readDecimal(JsonParser jsonParser, String fieldName) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+
+        try {
+            return switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> jsonParser.getDecimalValue();
+                case VALUE_STRING -> new BigDecimal(jsonParser.getText());
+                default -> {
+                    jsonParser.skipChildren();
+                    yield null;
+                }
+            };
+        } catch (NumberFormatException e) {
+            log.error("Failed to parse BigDecimal for key: {}, value: {}", fieldName, jsonParser.getText());
+            return null;
+        }
+    }
+
+    /**
+     * JSON 토큰을 Java 타입으로 변환
+     */
+    private static Object extractValueFromToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        return switch (token) {
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_NULL -> null;
+            default -> parser.getText();
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.spotify_song_subject.mapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate 압축 코덱 (preset dictionary 지원)
+ * - 가사 한 건은 수 KB 수준이라 단독 압축으로는 반복 패턴이 적음
+ *   말뭉치에서 자주 나오는 단어/구절을 dictionary로 미리 넣어 짧은 가사도 압축되도록 함
+ * - zlib 헤더/체크섬 없는 raw deflate 사용 (행마다 6바이트 절약)
+ *   dictionary가 바뀌면 기존 데이터를 해제할 수 없으므로 같은 dictionary로 읽고 써야 함
+ * - Deflater/Inflater는 네이티브 자원을 잡으므로 스레드별로 재사용
+ */
+public class DeflateLyricsCodec implements LyricsCodec {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final byte[] dictionary;
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    public DeflateLyricsCodec(byte[] dictionary, int level) {
+        this.dictionary = dictionary.clone();
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level, true));
+    }
+
+    @Override
+    public byte[] encode(String lyrics) {
+        byte[] input = lyrics.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        if (dictionary.length > 0) {
+            deflater.setDictionary(dictionary);
+        }
+        deflater.setInput(input);
+        deflater.finish();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            out.write(buffer, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        if (dictionary.length > 0) {
+            inflater.setDictionary(dictionary);
+        }
+        inflater.setInput(encoded);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated or corrupted lyrics data");
+                }
+                out.write(buffer, 0, length);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed lyrics data", e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.spotify_song_subject.mapper;
+
+/**
+ * 가사 저장 형식 변환 (song_lyrics.lyrics 컬럼의 바이트 표현)
+ * 적재 시 encode, 조회 시에만 decode
+ */
+public interface LyricsCodec {
+
+    byte[] encode(String lyrics);
+
+    String decode(byte[] encoded);
+}
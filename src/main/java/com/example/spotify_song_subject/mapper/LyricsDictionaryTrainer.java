@@ -0,0 +1,93 @@
+package com.example.spotify_song_subject.mapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가사 샘플로 Deflate preset dictionary 생성
+ * - 한 줄 안의 1~4 단어 구절 빈도를 세고 (등장 횟수 - 1) * 바이트 수로 절약 효과를 추정
+ * - Deflate는 가까운 위치를 더 짧게 참조하므로 효과가 큰 구절일수록 dictionary 끝쪽에 배치
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LyricsDictionaryTrainer {
+
+    /** Deflate 윈도우 크기. 이보다 긴 dictionary는 앞부분이 참조되지 않음 */
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int MAX_PHRASE_WORDS = 4;
+    private static final int MIN_PHRASE_BYTES = 4;
+
+    public static byte[] train(Collection<String> samples, int maxBytes) {
+        Map<String, Integer> counts = countPhrases(samples);
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > 1) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(LyricsDictionaryTrainer::savings).reversed());
+
+        int limit = Math.min(maxBytes, MAX_DICTIONARY_SIZE);
+        List<String> selected = new ArrayList<>();
+        StringBuilder joined = new StringBuilder();
+        int size = 0;
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            String phrase = candidate.getKey();
+            int bytes = phrase.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (size + bytes > limit) {
+                continue;
+            }
+            // 이미 고른 구절에 포함된 구절은 dictionary에서 그대로 참조 가능
+            if (joined.indexOf(phrase) >= 0) {
+                continue;
+            }
+            selected.add(phrase);
+            joined.append(phrase).append('\n');
+            size += bytes;
+        }
+
+        StringBuilder dictionary = new StringBuilder(size);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            dictionary.append(selected.get(i)).append('\n');
+        }
+        return dictionary.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Integer> countPhrases(Collection<String> samples) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String sample : samples) {
+            if (sample == null) {
+                continue;
+            }
+            for (String line : sample.split("\n")) {
+                String[] words = line.trim().split("\\s+");
+                for (int start = 0; start < words.length; start++) {
+                    StringBuilder phrase = new StringBuilder();
+                    for (int end = start; end < Math.min(words.length, start + MAX_PHRASE_WORDS); end++) {
+                        if (end > start) {
+                            phrase.append(' ');
+                        }
+                        phrase.append(words[end]);
+                        if (phrase.length() >= MIN_PHRASE_BYTES) {
+                            counts.merge(phrase.toString(), 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static long savings(Map.Entry<String, Integer> entry) {
+        return (long) (entry.getValue() - 1) * entry.getKey().length();
+    }
+}
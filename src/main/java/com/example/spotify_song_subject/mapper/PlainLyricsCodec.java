@@ -0,0 +1,19 @@
+package com.example.spotify_song_subject.mapper;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 압축 없이 UTF-8 바이트로 저장하는 코덱 (비교/디버깅용)
+ */
+public class PlainLyricsCodec implements LyricsCodec {
+
+    @Override
+    public byte[] encode(String lyrics) {
+        return lyrics.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
@@ -1,19 +1,17 @@
 package com.example.spotify_song_subject.repository;
 
+import com.example.spotify_song_subject.dto.AlbumStatisticsCursor;
 import com.example.spotify_song_subject.dto.AlbumStatisticsDto;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
-
-import java.time.LocalDate;
-import java.util.List;
 
 @Slf4j
 @Repository
@@ -23,93 +21,118 @@ public class AlbumStatisticsCustomRepository {
     private final DatabaseClient databaseClient;
 
     /**
-     * 특정 연도의 아티스트별 앨범 통계 조회
+     * 특정 연도의 아티스트별 앨범 통계 페이지 데이터 조회
+     * 원본 테이블 조인 대신 연도별 요약 테이블(artist_album_year_stats)의
+     * (release_year, album_count DESC, artist_name) 인덱스 순서대로 읽음
+     * 전체 개수는 countAlbumStatisticsByYear로 따로 조회 (서비스에서 연도별로 캐시)
      * @param year 조회할 연도
      * @param pageable 페이징 정보
-     * @return 페이징된 앨범 통계 데이터
+     * @return 앨범 통계 데이터 Flux
      */
-    public Mono<Page<AlbumStatisticsDto>> findAlbumStatisticsByYear(Integer year, Pageable pageable) {
-        Mono<Tuple2<List<AlbumStatisticsDto>, Long>> zip = Mono.zip(
-            findAlbumStatisticsData(year, pageable).collectList(),
-            countAlbumStatistics(year)
-        );
+    public Flux<AlbumStatisticsDto> findAlbumStatisticsData(Integer year, Pageable pageable) {
+        String sql = """
+            SELECT artist_id, artist_name, release_year, album_count
+            FROM artist_album_year_stats
+            WHERE release_year = :year
+            ORDER BY album_count DESC, artist_name
+            LIMIT :limit OFFSET :offset
+            """;
+
+        log.debug("Executing album statistics query for year: {}", year);
 
-        return zip.map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+        return databaseClient.sql(sql)
+            .bind("year", year)
+            .bind("limit", pageable.getPageSize())
+            .bind("offset", pageable.getOffset())
+            .map(this::toAlbumStatistics)
+            .all();
     }
 
     /**
-     * 데이터 조회용 - BETWEEN 절을 사용하여 인덱스 효율적 활용
+     * 커서 이후 데이터 조회 (keyset) - OFFSET 없이 인덱스에서 커서 위치를 바로 찾아 limit 건만 읽음
      * @param year 조회할 연도
-     * @param pageable 페이징 정보
+     * @param cursor 마지막으로 읽은 행의 정렬 키 (첫 페이지면 null)
+     * @param limit 조회할 최대 건수
      * @return 앨범 통계 데이터 Flux
      */
-    private Flux<AlbumStatisticsDto> findAlbumStatisticsData(Integer year, Pageable pageable) {
-        LocalDate startDate = LocalDate.of(year, 1, 1);
-        LocalDate endDate = LocalDate.of(year, 12, 31);
+    public Flux<AlbumStatisticsDto> findAlbumStatisticsAfter(Integer year, AlbumStatisticsCursor cursor, int limit) {
+        if (cursor == null) {
+            return findAlbumStatisticsData(year, PageRequest.of(0, limit));
+        }
 
         String sql = """
-            SELECT
-                ar.id as artist_id,
-                ar.name as artist_name,
-                :year as release_year,
-                COUNT(DISTINCT aa.id) as album_count
-            FROM artist_albums aa
-            INNER JOIN albums al ON aa.album_id = al.id
-                AND al.release_date BETWEEN :startDate AND :endDate
-                AND al.deleted_at IS NULL
-            INNER JOIN artists ar ON aa.artist_id = ar.id
-                AND ar.deleted_at IS NULL
-            WHERE aa.deleted_at IS NULL
-            GROUP BY ar.id, ar.name
-            ORDER BY album_count DESC, ar.name
-            LIMIT :limit OFFSET :offset
+            SELECT artist_id, artist_name, release_year, album_count
+            FROM artist_album_year_stats
+            WHERE release_year = :year
+              AND (album_count < :albumCount
+                   OR (album_count = :albumCount AND artist_name > :artistName))
+            ORDER BY album_count DESC, artist_name
+            LIMIT :limit
             """;
 
-        log.debug("Executing album statistics query for year: {}", year);
+        log.debug("Executing album statistics seek query for year: {}", year);
 
         return databaseClient.sql(sql)
             .bind("year", year)
-            .bind("startDate", startDate)
-            .bind("endDate", endDate)
-            .bind("limit", pageable.getPageSize())
-            .bind("offset", pageable.getOffset())
-            .map((row, metadata) -> AlbumStatisticsDto.builder()
-                .artistId(row.get("artist_id", Long.class))
-                .artistName(row.get("artist_name", String.class))
-                .releaseYear(row.get("release_year", Integer.class))
-                .albumCount(row.get("album_count", Long.class))
-                .build())
+            .bind("albumCount", cursor.albumCount())
+            .bind("artistName", cursor.artistName())
+            .bind("limit", limit)
+            .map(this::toAlbumStatistics)
+            .all();
+    }
+
+    /**
+     * 연도 범위의 전체 순위 스트리밍 조회 (내보내기용)
+     * 연도, 앨범 수 DESC, 아티스트명 순으로 인덱스를 따라 읽으므로 정렬을 위해 결과를 모으지 않고,
+     * 구독자의 요청량만큼 행을 내보냄
+     * @param fromYear 시작 연도 (포함)
+     * @param toYear 종료 연도 (포함)
+     * @return 앨범 통계 데이터 Flux
+     */
+    public Flux<AlbumStatisticsDto> streamAlbumStatistics(Integer fromYear, Integer toYear) {
+        String sql = """
+            SELECT artist_id, artist_name, release_year, album_count
+            FROM artist_album_year_stats
+            WHERE release_year BETWEEN :fromYear AND :toYear
+            ORDER BY release_year, album_count DESC, artist_name
+            """;
+
+        log.debug("Streaming album statistics for years: {}-{}", fromYear, toYear);
+
+        return databaseClient.sql(sql)
+            .bind("fromYear", fromYear)
+            .bind("toYear", toYear)
+            .map(this::toAlbumStatistics)
             .all();
     }
 
     /**
-     * 전체 개수 조회용 - 해당 연도에 앨범을 발매한 아티스트 수
+     * 전체 개수 조회용 - 해당 연도에 앨범을 발매한 아티스트 수 (요약 테이블 기본 키 범위만 읽음)
      * @param year 조회할 연도
      * @return 전체 아티스트 수
      */
-    private Mono<Long> countAlbumStatistics(Integer year) {
-        LocalDate startDate = LocalDate.of(year, 1, 1);
-        LocalDate endDate = LocalDate.of(year, 12, 31);
-
-        // 해당 연도에 앨범을 발매한 아티스트 수를 직접 카운트
+    public Mono<Long> countAlbumStatisticsByYear(Integer year) {
         String sql = """
-            SELECT COUNT(DISTINCT ar.id) as total
-            FROM artist_albums aa
-            INNER JOIN albums al ON aa.album_id = al.id
-                AND al.release_date BETWEEN :startDate AND :endDate
-                AND al.deleted_at IS NULL
-            INNER JOIN artists ar ON aa.artist_id = ar.id
-                AND ar.deleted_at IS NULL
-            WHERE aa.deleted_at IS NULL
+            SELECT COUNT(*) as total
+            FROM artist_album_year_stats
+            WHERE release_year = :year
             """;
 
         log.debug("Executing count query for year: {}", year);
 
         return databaseClient.sql(sql)
-            .bind("startDate", startDate)
-            .bind("endDate", endDate)
+            .bind("year", year)
             .map(row -> row.get("total", Long.class))
             .one()
             .defaultIfEmpty(0L);
     }
+
+    private AlbumStatisticsDto toAlbumStatistics(Row row, RowMetadata metadata) {
+        return AlbumStatisticsDto.builder()
+            .artistId(row.get("artist_id", Long.class))
+            .artistName(row.get("artist_name", String.class))
+            .releaseYear(row.get("release_year", Integer.class))
+            .albumCount(row.get("album_count", Long.class))
+            .build();
+    }
 }
@@ -0,0 +1,160 @@
+package com.example.spotify_song_subject.repository;
+
+import com.example.spotify_song_subject.dto.SongCard;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 곡 카드 Redis 캐시
+ * 곡 ID 단위 키(song:card:{songId})에 JSON으로 저장하고, 여러 곡은 MGET 한 번으로 조회
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SongCardRedisRepository {
+
+    private static final String SONG_CARD_KEY_PREFIX = "song:card:";
+    private static final Duration CARD_TTL = Duration.ofHours(1);
+
+    /**
+     * 여러 곡 카드를 TTL과 함께 한 번에 저장 (MSET은 TTL을 지정할 수 없으므로 스크립트로 SET EX 반복)
+     * - KEYS: 카드 키 목록
+     * - ARGV[1]: TTL(초), ARGV[2..]: 카드 JSON (KEYS와 같은 순서)
+     */
+    private static final RedisScript<Long> SAVE_ALL_SCRIPT = RedisScript.of("""
+            for i = 1, #KEYS do
+                redis.call('SET', KEYS[i], ARGV[i + 1], 'EX', ARGV[1])
+            end
+            return #KEYS
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 곡 카드 일괄 조회 (MGET)
+     * Redis 실패나 역직렬화 실패는 캐시 미스로 취급
+     *
+     * @param songIds 조회할 곡 ID 목록
+     * @return 캐시에 있던 곡 카드 (곡 ID → 카드)
+     */
+    public Mono<Map<Long, SongCard>> findAll(List<Long> songIds) {
+        if (songIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<String> keys = songIds.stream().map(this::generateKey).toList();
+
+        return redisTemplate.opsForValue()
+                .multiGet(keys)
+                .map(values -> {
+                    Map<Long, SongCard> cards = new HashMap<>();
+                    for (int i = 0; i < songIds.size() && i < values.size(); i++) {
+                        SongCard card = deserialize(values.get(i));
+                        if (card != null) {
+                            cards.put(songIds.get(i), card);
+                        }
+                    }
+                    return cards;
+                })
+                .onErrorResume(error -> {
+                    log.error("Failed to read song cards: {}", error.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    /**
+     * 곡 카드 일괄 저장 (한 번의 왕복)
+     *
+     * @param cards 저장할 곡 카드
+     * @return 저장한 카드 수 (Redis 실패 시 0)
+     */
+    public Mono<Long> saveAll(Collection<SongCard> cards) {
+        if (cards.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        List<String> keys = new ArrayList<>(cards.size());
+        List<String> args = new ArrayList<>(cards.size() + 1);
+        args.add(Long.toString(CARD_TTL.toSeconds()));
+        for (SongCard card : cards) {
+            keys.add(generateKey(card.songId()));
+            args.add(serialize(card));
+        }
+
+        return redisTemplate.execute(SAVE_ALL_SCRIPT, keys, args)
+                .next()
+                .onErrorResume(error -> {
+                    log.error("Failed to save song cards: {}", error.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    /**
+     * 곡 카드 무효화
+     *
+     * @param songIds 무효화할 곡 ID 목록
+     * @return 삭제된 키 수
+     */
+    public Mono<Long> deleteAll(Collection<Long> songIds) {
+        if (songIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return redisTemplate.delete(songIds.stream().map(this::generateKey).toArray(String[]::new));
+    }
+
+    /**
+     * 모든 곡 카드 무효화 (데이터 재적재 후 사용)
+     * KEYS 대신 SCAN으로 키를 찾아 삭제
+     *
+     * @return 삭제된 키 수
+     */
+    public Mono<Long> deleteAllCards() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(SONG_CARD_KEY_PREFIX + "*")
+                .count(1000)
+                .build();
+
+        return redisTemplate.delete(redisTemplate.scan(options));
+    }
+
+    private String generateKey(Long songId) {
+        return SONG_CARD_KEY_PREFIX + songId;
+    }
+
+    private String serialize(SongCard card) {
+        try {
+            return objectMapper.writeValueAsString(card);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize song card: " + card.songId(), e);
+        }
+    }
+
+    private SongCard deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value, SongCard.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable song card: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.spotify_song_subject.repository;
+
+import com.example.spotify_song_subject.dto.SongCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * 곡 카드 조회 Repository
+ * songs, artist_songs, artists, albums를 JOIN하여 곡당 한 행으로 집계 (캐시 미스일 때만 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SongCardRepository {
+
+    private static final String FIND_BY_IDS_SQL = """
+        SELECT
+            s.id AS song_id,
+            s.title AS song_title,
+            GROUP_CONCAT(a.name ORDER BY ars.id SEPARATOR ', ') AS artist_names,
+            al.title AS album_title
+        FROM songs s
+        INNER JOIN artist_songs ars ON s.id = ars.song_id AND ars.deleted_at IS NULL
+        INNER JOIN artists a ON ars.artist_id = a.id AND a.deleted_at IS NULL
+        INNER JOIN albums al ON s.album_id = al.id AND al.deleted_at IS NULL
+        WHERE s.id IN (:songIds)
+          AND s.deleted_at IS NULL
+        GROUP BY s.id, s.title, al.title
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 곡 ID 목록으로 곡 카드 조회
+     * 삭제되었거나 아티스트/앨범이 없는 곡은 결과에서 빠짐
+     *
+     * @param songIds 조회할 곡 ID 목록
+     * @return 곡 카드 (순서 보장 없음)
+     */
+    public Flux<SongCard> findSongCardsByIds(Collection<Long> songIds) {
+        if (songIds == null || songIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return databaseClient.sql(FIND_BY_IDS_SQL)
+            .bind("songIds", songIds)
+            .map((row, metadata) -> new SongCard(
+                row.get("song_id", Long.class),
+                row.get("song_title", String.class),
+                row.get("artist_names", String.class),
+                row.get("album_title", String.class)))
+            .all();
+    }
+}
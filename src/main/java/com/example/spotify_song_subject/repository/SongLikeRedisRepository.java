@@ -9,7 +9,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.core.ZSetOperations;
-import reactor.core.publisher.Flux;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -29,6 +29,7 @@ public class SongLikeRedisRepository {
 
     private static final String LIKE_COUNT_CACHE_KEY_PREFIX = "song:like:cache:";
     private static final String LIKE_BUCKET_KEY_PREFIX = "likes:bucket:";
+    private static final String TRENDING_WINDOW_KEY = "likes:trending:window";
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
     /**
@@ -42,59 +43,49 @@ public class SongLikeRedisRepository {
     private static final int BUCKET_INTERVAL_MINUTES = 5;
 
     /**
-     * Redis 버킷에 좋아요 기록
-     * 5분 단위 버킷에 ZSET으로 좋아요 증가량 기록
-     *
-     * @param songId 노래 ID
-     * @return 성공 여부 (Redis 실패 시에도 true 반환하여 메인 플로우 계속 진행)
+     * 좋아요 반영 스크립트
+     * 버킷 증감(ZINCRBY), 버킷 TTL(최초 1회), 좋아요 수 캐시(SET), 1시간 윈도우 증감을 한 번의 EVALSHA로 처리
+     * - KEYS[1]: 버킷 키, KEYS[2]: 캐시 키, KEYS[3]: 트렌딩 윈도우 키
+     * - ARGV: songId, 증감량, 버킷 TTL(초), 좋아요 수, 캐시 TTL(초)
      */
-    public Mono<Boolean> recordLikeToBucket(Long songId) {
-        String bucketKey = getCurrentBucketKey();
-
-        return redisTemplate.opsForZSet()
-                .incrementScore(bucketKey, songId.toString(), 1.0)
-                .then(redisTemplate.expire(bucketKey, BUCKET_TTL)) // TTL 설정
-                .thenReturn(true)
-                .onErrorResume(error -> {
-                    log.error("Failed to record like to bucket for songId: {}, error: {}", songId, error.getMessage());
-                    return Mono.just(true);
-                });
-    }
+    private static final RedisScript<Long> APPLY_LIKE_SCRIPT = RedisScript.of("""
+            redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            redis.call('SET', KEYS[2], ARGV[4], 'EX', ARGV[5])
+            redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1])
+            return tonumber(ARGV[4])
+            """, Long.class);
 
     /**
-     * Redis 버킷에서 좋아요 카운트 감소
-     * 현재 버킷에서만 감소 (음수 허용)
+     * 좋아요 추가/취소를 Redis에 반영
+     * 현재 5분 버킷의 증가량 기록과 좋아요 수 캐시 갱신을 한 번의 왕복으로 처리
+     * 버킷 TTL은 버킷이 처음 만들어질 때만 설정
      *
      * @param songId 노래 ID
-     * @return 성공 여부 (Redis 실패 시에도 true 반환하여 메인 플로우 계속 진행)
+     * @param delta 증감량 (좋아요 1, 취소 -1)
+     * @param likeCount 캐시에 기록할 좋아요 수
+     * @return 좋아요 수 (Redis 실패 시에도 그대로 반환하여 메인 플로우 계속 진행)
      */
-    public Mono<Boolean> decrementLikeInBucket(Long songId) {
-        String bucketKey = getCurrentBucketKey();
-
-        return redisTemplate.opsForZSet()
-                .incrementScore(bucketKey, songId.toString(), -1.0)
-                .thenReturn(true)
+    public Mono<Long> applyLike(Long songId, long delta, Long likeCount) {
+        List<String> keys = List.of(getCurrentBucketKey(), generateCacheKey(songId), TRENDING_WINDOW_KEY);
+        List<String> args = List.of(
+                songId.toString(),
+                Long.toString(delta),
+                Long.toString(BUCKET_TTL.toSeconds()),
+                likeCount.toString(),
+                Long.toString(CACHE_TTL.toSeconds()));
+
+        return redisTemplate.execute(APPLY_LIKE_SCRIPT, keys, args)
+                .next()
+                .thenReturn(likeCount)
                 .onErrorResume(error -> {
-                    log.error("Failed to decrement like in bucket for songId: {}, error: {}", songId, error.getMessage());
-                    return Mono.just(true);
+                    log.error("Failed to apply like to redis for songId: {}, error: {}", songId, error.getMessage());
+                    return Mono.just(likeCount);
                 });
     }
 
-    /**
-     * Redis 캐시에 좋아요 수 업데이트
-     *
-     * @param songId 노래 ID
-     * @param likeCount 좋아요 수
-     * @return 저장된 좋아요 수
-     */
-    public Mono<Long> updateLikeCountCache(Long songId, Long likeCount) {
-        String cacheKey = generateCacheKey(songId);
-        return redisTemplate.opsForValue()
-                .set(cacheKey, likeCount.toString(), CACHE_TTL)
-                .thenReturn(likeCount)
-                .onErrorResume(error -> Mono.just(likeCount)); // 캐시 실패 시 무시
-    }
-
     /**
      * 캐시 키 생성
      *
@@ -127,24 +118,35 @@ public class SongLikeRedisRepository {
 
     /**
      * 최근 1시간 동안 좋아요가 많이 증가한 상위 10개 노래 조회
-     * Redis ZUNIONSTORE를 사용하여 여러 버킷을 합산한 후 상위 10개 추출
+     * 좋아요마다 갱신되고 버킷 교체 시 재구성되는 윈도우 ZSET에서 ZREVRANGE 한 번으로 조회
      *
      * @return 상위 10개 노래 ID와 좋아요 증가 수 리스트
      */
     public Mono<List<SongLikeScore>> getTop10TrendingSongs() {
-        List<String> bucketKeys = getRecentBucketKeys();
-        String tempKey = "temp:trending:" + System.currentTimeMillis();
-
-        return findExistingBucketKeys(bucketKeys)
-                .flatMap(existingKeys -> performUnionStore(existingKeys, tempKey))
-                .flatMap(count -> retrieveTopSongs(count, tempKey))
-                .doFinally(signal -> cleanupTempKey(tempKey))
+        return redisTemplate.opsForZSet()
+                .reverseRangeWithScores(TRENDING_WINDOW_KEY, Range.closed(0L, 9L))
+                .map(this::convertToSongLikeScore)
+                .collectList()
                 .onErrorResume((error) -> {
                     log.error("Failed to get trending songs: {}", error.getMessage());
                     return Mono.just(List.of());
                 });
     }
 
+    /**
+     * 트렌딩 윈도우 재구성
+     * 최근 12개 버킷을 ZUNIONSTORE로 합산해 윈도우를 원자적으로 덮어씀 (만료된 버킷의 점수가 빠짐)
+     * 없는 버킷은 빈 집합으로 취급되므로 존재 여부를 따로 확인하지 않음
+     *
+     * @return 윈도우에 남은 노래 수
+     */
+    public Mono<Long> rebuildTrendingWindow() {
+        List<String> bucketKeys = getRecentBucketKeys();
+
+        return redisTemplate.opsForZSet()
+                .unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), TRENDING_WINDOW_KEY);
+    }
+
     /**
      * 최근 1시간 동안의 버킷 키 목록 조회
      * 현재 시간부터 과거 12개 버킷 (5분 * 12 = 60분)
@@ -173,74 +175,6 @@ public class SongLikeRedisRepository {
         return bucketKeys;
     }
 
-    /**
-     * 존재하는 버킷 키만 필터링
-     *
-     * @param bucketKeys 확인할 버킷 키 목록
-     * @return 존재하는 키 목록
-     */
-    private Mono<List<String>> findExistingBucketKeys(List<String> bucketKeys) {
-        return Flux.fromIterable(bucketKeys)
-                .flatMap(redisTemplate::hasKey)
-                .collectList()
-                .map(existsList -> filterExistingKeys(bucketKeys, existsList));
-    }
-
-    /**
-     * 존재 여부 리스트를 기반으로 실제 존재하는 키만 필터링
-     *
-     * @param bucketKeys 원본 버킷 키 목록
-     * @param existsList 존재 여부 리스트
-     * @return 존재하는 키 목록
-     */
-    private List<String> filterExistingKeys(List<String> bucketKeys, List<Boolean> existsList) {
-        List<String> existingKeys = new ArrayList<>();
-        for (int i = 0; i < bucketKeys.size() && i < existsList.size(); i++) {
-            if (Boolean.TRUE.equals(existsList.get(i))) {
-                existingKeys.add(bucketKeys.get(i));
-            }
-        }
-        return existingKeys;
-    }
-
-    /**
-     * Redis ZUNIONSTORE 수행하여 버킷들을 합산
-     *
-     * @param existingKeys 존재하는 버킷 키 목록
-     * @param tempKey 임시 키
-     * @return 합산된 아이템 개수
-     */
-    private Mono<Long> performUnionStore(List<String> existingKeys, String tempKey) {
-        if (existingKeys.isEmpty()) {
-            return Mono.just(0L);
-        }
-
-        return redisTemplate.opsForZSet()
-                .unionAndStore(
-                        existingKeys.get(0),
-                        existingKeys.subList(1, existingKeys.size()),
-                        tempKey
-                );
-    }
-
-    /**
-     * 상위 10개 노래 조회
-     *
-     * @param count 합산된 아이템 개수
-     * @param tempKey 임시 키
-     * @return 상위 10개 노래 스코어 리스트
-     */
-    private Mono<List<SongLikeScore>> retrieveTopSongs(Long count, String tempKey) {
-        if (count == 0) {
-            return Mono.just(List.of());
-        }
-
-        return redisTemplate.opsForZSet()
-                .reverseRangeWithScores(tempKey, Range.closed(0L, 9L))
-                .map(this::convertToSongLikeScore)
-                .collectList();
-    }
-
     /**
      * Redis Tuple을 SongLikeScore로 변환
      *
@@ -254,13 +188,4 @@ public class SongLikeRedisRepository {
         );
     }
 
-    /**
-     * 임시 키 삭제
-     *
-     * @param tempKey 삭제할 임시 키
-     */
-    private void cleanupTempKey(String tempKey) {
-        redisTemplate.delete(tempKey).subscribe();
-    }
-
 }
\ No newline at end of file
@@ -26,4 +26,27 @@ public interface SongLikeRepository extends R2dbcRepository<SongLike, Long> {
      */
     @Query("UPDATE song_likes SET deleted_at = CURRENT_TIMESTAMP WHERE song_id = :songId AND user_id = :userId AND deleted_at IS NULL")
     Mono<Void> deleteBySongIdAndUserId(Long songId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 좋아요 토글 (단일 문장, 한 번의 왕복)
+     * - (song_id, user_id) 행이 없으면 생성하고, 있으면 deleted_at을 뒤집음 (uk_like_song_user로 행은 하나)
+     * - 곡이 없거나 삭제된 곡이면 MERGE 대상이 없어 빈 결과
+     * - H2 FINAL TABLE로 변경된 행을 같은 문장에서 돌려받음
+     *
+     * @return 토글 후 상태 (true: 좋아요, false: 취소)
+     */
+    @Query("""
+        SELECT deleted_at IS NULL AS liked
+        FROM FINAL TABLE (
+            MERGE INTO song_likes l
+            USING (SELECT id AS song_id, CAST(:userId AS BIGINT) AS user_id
+                   FROM songs WHERE id = :songId AND deleted_at IS NULL) s
+            ON l.song_id = s.song_id AND l.user_id = s.user_id
+            WHEN MATCHED THEN UPDATE SET
+                deleted_at = CASE WHEN l.deleted_at IS NULL THEN CURRENT_TIMESTAMP ELSE NULL END,
+                updated_at = CURRENT_TIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (song_id, user_id) VALUES (s.song_id, s.user_id)
+        )
+        """)
+    Mono<Boolean> toggle(Long songId, Long userId);
+}
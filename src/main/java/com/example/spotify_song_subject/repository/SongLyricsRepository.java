@@ -0,0 +1,13 @@
+package com.example.spotify_song_subject.repository;
+
+import com.example.spotify_song_subject.domain.SongLyrics;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 곡 가사 조회 (필요할 때만 지연 로딩)
+ * 저장은 SongBulkRepository가 곡 삽입과 함께 수행
+ */
+@Repository
+public interface SongLyricsRepository extends R2dbcRepository<SongLyrics, Long> {
+}
@@ -1,6 +1,7 @@
 package com.example.spotify_song_subject.repository;
 
 import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.dto.SongSummary;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +20,18 @@ public interface SongRepository extends R2dbcRepository<Song, Long> {
     @Query("SELECT * FROM songs WHERE title = :title AND deleted_at IS NULL")
     Flux<Song> findByTitle(String title);
 
+    @Query("SELECT EXISTS (SELECT 1 FROM songs)")
+    Mono<Boolean> existsAny();
+
+    /**
+     * 좋아요 처리에 필요한 컬럼만 조회 (전체 행을 읽지 않음)
+     */
+    @Query("SELECT id, title, album_id, like_count FROM songs WHERE id = :songId")
+    Mono<SongSummary> findSummaryById(Long songId);
+
+    @Query("SELECT like_count FROM songs WHERE id = :songId")
+    Mono<Long> findLikeCountById(Long songId);
+
     @Query("UPDATE songs SET like_count = like_count + 1 WHERE id = :songId")
     Mono<Integer> incrementLikeCount(Long songId);
 
@@ -1,24 +1,27 @@
 package com.example.spotify_song_subject.repository.bulk;
 
 import com.example.spotify_song_subject.domain.Album;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.List;
 
 /**
- * Bulk insert repository for Albums using true bulk SQL
+ * Bulk insert repository for Albums using a batched prepared statement
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class AlbumBulkRepository implements BulkRepository<Album> {
 
+    private static final String INSERT_SQL = "INSERT INTO albums (title, release_date, artist_name) VALUES ($1, $2, $3)";
+
     private final DatabaseClient databaseClient;
 
     @Override
@@ -27,49 +30,30 @@ public class AlbumBulkRepository implements BulkRepository<Album> {
             return Mono.just(0L);
         }
 
-        String sql = buildSql(entities);
-        DatabaseClient.GenericExecuteSpec spec = bindParameters(databaseClient.sql(sql), entities);
-
-        return executeInsert(spec);
-    }
-
-    private String buildSql(Collection<Album> entities) {
-        return "INSERT INTO albums (title, release_date, artist_name) VALUES " +
-                IntStream.range(0, entities.size())
-                        .mapToObj(idx -> "(:title" + idx + ", :release_date" + idx + ", :artist_name" + idx + ")")
-                        .collect(Collectors.joining(", "));
+        return BatchInsertStatement.execute(databaseClient, INSERT_SQL, entities, this::bindAlbum)
+                .doOnSuccess(count -> log.debug("Bulk inserted {} albums", count))
+                .doOnError(error -> log.error("Failed to bulk insert albums", error));
     }
 
-    private DatabaseClient.GenericExecuteSpec bindParameters(DatabaseClient.GenericExecuteSpec spec,
-                                                             Collection<Album> entities) {
-        int index = 0;
-        for (Album album : entities) {
-            spec = bindAlbumParameters(spec, album, index);
-            index++;
+    /**
+     * Bulk insert 후 생성된 id를 삽입 순서대로 반환
+     * INSERT 결과(generated keys)로 id를 받아 별도 재조회 쿼리가 필요 없음
+     */
+    public Mono<List<Long>> bulkInsertReturningIds(List<Album> entities) {
+        if (entities.isEmpty()) {
+            return Mono.just(List.of());
         }
-        return spec;
-    }
-
-    private DatabaseClient.GenericExecuteSpec bindAlbumParameters(DatabaseClient.GenericExecuteSpec spec,
-                                                                  Album album, int index) {
-        spec = spec.bind("title" + index, album.getTitle());
 
-        if (album.getReleaseDate() != null) {
-            spec = spec.bind("release_date" + index, album.getReleaseDate());
-        } else {
-            spec = spec.bindNull("release_date" + index, java.time.LocalDate.class);
-        }
-        
-        if (album.getArtistName() != null) {
-            return spec.bind("artist_name" + index, album.getArtistName());
-        }
-        return spec.bindNull("artist_name" + index, String.class);
+        return BatchInsertStatement.executeReturning(databaseClient, INSERT_SQL, entities, this::bindAlbum,
+                row -> row.get(0, Long.class), "id")
+            .collectList()
+            .doOnSuccess(ids -> log.debug("Bulk inserted {} albums", ids.size()))
+            .doOnError(error -> log.error("Failed to bulk insert albums", error));
     }
 
-    private Mono<Long> executeInsert(DatabaseClient.GenericExecuteSpec spec) {
-        return spec.fetch()
-                .rowsUpdated()
-                .doOnSuccess(count -> log.debug("Bulk inserted {} albums", count))
-                .doOnError(error -> log.error("Failed to bulk insert albums", error));
+    private void bindAlbum(Statement statement, Album album) {
+        statement.bind(0, album.getTitle());
+        BatchInsertStatement.bindNullable(statement, 1, album.getReleaseDate(), LocalDate.class);
+        BatchInsertStatement.bindNullable(statement, 2, album.getArtistName(), String.class);
     }
-}
\ No newline at end of file
+}
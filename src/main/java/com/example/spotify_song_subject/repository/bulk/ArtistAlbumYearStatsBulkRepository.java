@@ -0,0 +1,93 @@
+package com.example.spotify_song_subject.repository.bulk;
+
+import com.example.spotify_song_subject.dto.ArtistAlbumYearCount;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 연도별 아티스트 앨범 수 요약 테이블(artist_album_year_stats) 유지
+ * - 적재 배치마다 새 관계 수를 기존 행에 더함 (ON DUPLICATE KEY UPDATE)
+ * - 동시에 커밋되는 배치들이 같은 행을 반대 순서로 잠그지 않도록 항상 (연도, 아티스트 ID) 순으로 반영
+ * - 적재가 끝나면 원본 테이블 기준으로 전체 재계산
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ArtistAlbumYearStatsBulkRepository implements BulkRepository<ArtistAlbumYearCount> {
+
+    private static final String UPSERT_SQL = "INSERT INTO artist_album_year_stats " +
+            "(release_year, artist_id, artist_name, album_count) VALUES ($1, $2, $3, $4) " +
+            "ON DUPLICATE KEY UPDATE album_count = album_count + VALUES(album_count)";
+
+    private static final Comparator<ArtistAlbumYearCount> LOCK_ORDER =
+            Comparator.comparing(ArtistAlbumYearCount::releaseYear)
+                    .thenComparing(ArtistAlbumYearCount::artistId);
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM artist_album_year_stats";
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO artist_album_year_stats (release_year, artist_id, artist_name, album_count)
+            SELECT
+                YEAR(al.release_date),
+                ar.id,
+                ar.name,
+                COUNT(aa.id)
+            FROM artist_albums aa
+            INNER JOIN albums al ON aa.album_id = al.id
+                AND al.release_date IS NOT NULL
+                AND al.deleted_at IS NULL
+            INNER JOIN artists ar ON aa.artist_id = ar.id
+                AND ar.deleted_at IS NULL
+            WHERE aa.deleted_at IS NULL
+            GROUP BY YEAR(al.release_date), ar.id, ar.name
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 연도별 앨범 수 증분 반영 (없는 행은 새로 삽입)
+     * 행 잠금은 배치 트랜잭션이 끝날 때까지 유지되므로 잠금 순서를 고정해 배치 간 교착을 막음
+     */
+    @Override
+    public Mono<Long> bulkInsert(Collection<ArtistAlbumYearCount> entities) {
+        if (entities.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        List<ArtistAlbumYearCount> ordered = entities.stream().sorted(LOCK_ORDER).toList();
+
+        return BatchInsertStatement.execute(databaseClient, UPSERT_SQL, ordered, this::bindYearCount)
+                .doOnSuccess(count -> log.debug("Applied {} artist album year counts", count))
+                .doOnError(error -> log.error("Failed to apply artist album year counts", error));
+    }
+
+    /**
+     * 요약 테이블 전체 재계산
+     * 호출하는 쪽의 트랜잭션 안에서 실행해야 재계산 중 빈 테이블이 보이지 않음
+     *
+     * @return 재계산된 행 수
+     */
+    public Mono<Long> rebuild() {
+        return databaseClient.sql(DELETE_ALL_SQL)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql(REBUILD_SQL).fetch().rowsUpdated())
+                .doOnSuccess(count -> log.info("Rebuilt artist album year stats with {} rows", count))
+                .doOnError(error -> log.error("Failed to rebuild artist album year stats", error));
+    }
+
+    private void bindYearCount(Statement statement, ArtistAlbumYearCount yearCount) {
+        statement.bind(0, yearCount.releaseYear());
+        statement.bind(1, yearCount.artistId());
+        statement.bind(2, yearCount.artistName());
+        statement.bind(3, yearCount.albumCount());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.spotify_song_subject.repository.bulk;
 
 import com.example.spotify_song_subject.domain.Artist;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -8,17 +9,18 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Map;
 
 /**
- * Bulk insert repository for Artists using true bulk SQL
+ * Bulk insert repository for Artists using a batched prepared statement
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ArtistBulkRepository implements BulkRepository<Artist> {
 
+    private static final String INSERT_SQL = "INSERT IGNORE INTO artists (name) VALUES ($1)";
+
     private final DatabaseClient databaseClient;
 
     @Override
@@ -27,33 +29,28 @@ public class ArtistBulkRepository implements BulkRepository<Artist> {
             return Mono.just(0L);
         }
 
-        String sql = buildSql(entities);
-        DatabaseClient.GenericExecuteSpec spec = bindParameters(databaseClient.sql(sql), entities);
-
-        return executeInsert(spec);
-    }
-
-    private String buildSql(Collection<Artist> entities) {
-        return "INSERT IGNORE INTO artists (name) VALUES " +
-                IntStream.range(0, entities.size())
-                        .mapToObj(idx -> "(:name" + idx + ")")
-                        .collect(Collectors.joining(", "));
+        return BatchInsertStatement.execute(databaseClient, INSERT_SQL, entities, this::bindArtist)
+                .doOnSuccess(count -> log.debug("Bulk inserted {} artists", count))
+                .doOnError(error -> log.error("Failed to bulk insert artists", error));
     }
 
-    private DatabaseClient.GenericExecuteSpec bindParameters(DatabaseClient.GenericExecuteSpec spec,
-                                                             Collection<Artist> entities) {
-        int index = 0;
-        for (Artist artist : entities) {
-            spec = spec.bind("name" + index, artist.getName());
-            index++;
+    /**
+     * INSERT IGNORE 후 새로 삽입된 아티스트의 이름 → 생성 id 반환
+     * 이미 존재해 무시된 아티스트는 결과에 포함되지 않음
+     */
+    public Mono<Map<String, Long>> bulkInsertReturningIds(Collection<Artist> entities) {
+        if (entities.isEmpty()) {
+            return Mono.just(Map.of());
         }
-        return spec;
+
+        return BatchInsertStatement.executeReturning(databaseClient, INSERT_SQL, entities, this::bindArtist,
+                row -> Map.entry(row.get(1, String.class), row.get(0, Long.class)), "id", "name")
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .doOnSuccess(ids -> log.debug("Bulk inserted {} new artists", ids.size()))
+            .doOnError(error -> log.error("Failed to bulk insert artists", error));
     }
 
-    private Mono<Long> executeInsert(DatabaseClient.GenericExecuteSpec spec) {
-        return spec.fetch()
-                .rowsUpdated()
-                .doOnSuccess(count -> log.debug("Bulk inserted {} artists", count))
-                .doOnError(error -> log.error("Failed to bulk insert artists", error));
+    private void bindArtist(Statement statement, Artist artist) {
+        statement.bind(0, artist.getName());
     }
-}
\ No newline at end of file
+}
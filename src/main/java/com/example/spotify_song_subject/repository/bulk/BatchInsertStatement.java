@@ -0,0 +1,80 @@
+package com.example.spotify_song_subject.repository.bulk;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * 고정된 단일 행 INSERT/UPDATE 문에 행마다 바인딩을 추가(Statement.add)하여 일괄 실행하는 유틸리티
+ * - SQL이 배치 크기와 무관하게 항상 같으므로 DB가 파싱한 명령을 재사용
+ * - 위치 기반 바인딩만 수행하여 배치 크기에 비례하는 SQL 문자열/파라미터 맵 생성이 없음
+ * - DatabaseClient의 커넥션을 사용하므로 진행 중인 트랜잭션에 참여
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BatchInsertStatement {
+
+    /**
+     * 엔티티 한 건의 값을 Statement의 현재 바인딩에 설정
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(Statement statement, T entity);
+    }
+
+    /**
+     * 일괄 실행 후 반영된 행 수 합계 반환
+     */
+    static <T> Mono<Long> execute(DatabaseClient databaseClient, String sql,
+                                  Collection<T> entities, Binder<T> binder) {
+        return databaseClient.inConnectionMany(connection ->
+                Flux.from(prepare(connection, sql, entities, binder).execute())
+                    .concatMap(Result::getRowsUpdated))
+            .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 일괄 실행 후 생성된 값(generated keys)을 바인딩 순서대로 반환
+     * INSERT IGNORE로 무시된 행은 결과에 포함되지 않음
+     */
+    static <T, R> Flux<R> executeReturning(DatabaseClient databaseClient, String sql,
+                                           Collection<T> entities, Binder<T> binder,
+                                           Function<Row, R> mapper, String... generatedColumns) {
+        return databaseClient.inConnectionMany(connection ->
+            Flux.from(prepare(connection, sql, entities, binder).returnGeneratedValues(generatedColumns).execute())
+                .concatMap(result -> result.map((row, metadata) -> mapper.apply(row))));
+    }
+
+    /**
+     * 값이 없으면 지정한 타입의 NULL 바인딩
+     */
+    static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value != null) {
+            statement.bind(index, value);
+        } else {
+            statement.bindNull(index, type);
+        }
+    }
+
+    private static <T> Statement prepare(Connection connection, String sql,
+                                         Collection<T> entities, Binder<T> binder) {
+        Statement statement = connection.createStatement(sql);
+        Iterator<T> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            binder.bind(statement, iterator.next());
+            if (iterator.hasNext()) {
+                statement.add();
+            }
+        }
+        return statement;
+    }
+}
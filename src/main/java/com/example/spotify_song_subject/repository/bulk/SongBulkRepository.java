@@ -1,160 +1,170 @@
 package com.example.spotify_song_subject.repository.bulk;
 
 import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.domain.SongLyrics;
+import com.example.spotify_song_subject.dto.LikeCountDelta;
+import com.example.spotify_song_subject.mapper.LyricsCodec;
+import io.r2dbc.spi.Statement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
- * Bulk insert repository for Songs using true bulk SQL
+ * Bulk insert repository for Songs using a batched prepared statement
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class SongBulkRepository implements BulkRepository<Song> {
 
+    private static final List<String> COLUMNS = List.of(
+            "album_id", "title", "length", "music_key", "tempo",
+            "loudness_db", "time_signature", "explicit_content", "emotion", "genre", "popularity",
+            "energy", "danceability", "positiveness", "speechiness", "liveness", "acousticness",
+            "instrumentalness", "activity_suitability_party", "activity_suitability_work",
+            "activity_suitability_relaxation", "activity_suitability_exercise",
+            "activity_suitability_running", "activity_suitability_yoga",
+            "activity_suitability_driving", "activity_suitability_social",
+            "activity_suitability_morning", "like_count");
+
+    private static final String INSERT_SQL = "INSERT INTO songs (" + String.join(", ", COLUMNS) + ") VALUES (" +
+            IntStream.rangeClosed(1, COLUMNS.size())
+                    .mapToObj(idx -> "$" + idx)
+                    .collect(Collectors.joining(", ")) + ")";
+
+    private static final String ADD_LIKE_COUNT_SQL =
+            "UPDATE songs SET like_count = GREATEST(like_count + $1, 0) WHERE id = $2";
+
+    private static final String LYRICS_INSERT_SQL = "INSERT INTO song_lyrics (song_id, lyrics) VALUES ($1, $2)";
+
     private final DatabaseClient databaseClient;
+    private final LyricsCodec lyricsCodec;
 
+    /**
+     * 가사를 song_lyrics에 함께 저장해야 하므로 생성된 id가 필요하여 bulkInsertReturningIds로 위임
+     */
     @Override
     public Mono<Long> bulkInsert(Collection<Song> entities) {
         if (entities.isEmpty()) {
             return Mono.just(0L);
         }
 
-        String sql = buildSql(entities);
-        DatabaseClient.GenericExecuteSpec spec = bindParameters(databaseClient.sql(sql), entities);
-        return spec
-            .fetch()
-            .rowsUpdated();
+        return bulkInsertReturningIds(new ArrayList<>(entities))
+            .map(ids -> (long) ids.size());
     }
 
-    private String buildSql(Collection<Song> entities) {
-        String columns = "INSERT INTO songs (album_id, title, lyrics, length, music_key, tempo, " +
-                "loudness_db, time_signature, explicit_content, emotion, genre, popularity, " +
-                "energy, danceability, positiveness, speechiness, liveness, acousticness, " +
-                "instrumentalness, activity_suitability_party, activity_suitability_work, " +
-                "activity_suitability_relaxation, activity_suitability_exercise, " +
-                "activity_suitability_running, activity_suitability_yoga, " +
-                "activity_suitability_driving, activity_suitability_social, " +
-                "activity_suitability_morning, like_count) VALUES ";
-
-        String values = IntStream.range(0, entities.size())
-                .mapToObj(this::buildValuePlaceholders)
-                .collect(Collectors.joining(", "));
-
-        return columns + values;
+    /**
+     * Bulk insert 후 생성된 id를 삽입 순서대로 반환
+     * INSERT 결과(generated keys)로 id를 받아 별도 재조회 쿼리가 필요 없음
+     * 가사가 있는 곡은 받은 id로 song_lyrics에 이어서 저장 (LyricsCodec으로 압축)
+     */
+    public Mono<List<Long>> bulkInsertReturningIds(List<Song> entities) {
+        if (entities.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        return BatchInsertStatement.executeReturning(databaseClient, INSERT_SQL, entities, this::bindSong,
+                row -> row.get(0, Long.class), "id")
+            .collectList()
+            .flatMap(ids -> insertLyrics(entities, ids).thenReturn(ids));
     }
 
-    private String buildValuePlaceholders(int idx) {
-        return String.format("(:album_id%d, :title%d, :lyrics%d, :length%d, :music_key%d, " +
-                ":tempo%d, :loudness_db%d, :time_signature%d, :explicit_content%d, " +
-                ":emotion%d, :genre%d, :popularity%d, :energy%d, :danceability%d, " +
-                ":positiveness%d, :speechiness%d, :liveness%d, :acousticness%d, " +
-                ":instrumentalness%d, :activity_suitability_party%d, " +
-                ":activity_suitability_work%d, :activity_suitability_relaxation%d, " +
-                ":activity_suitability_exercise%d, :activity_suitability_running%d, " +
-                ":activity_suitability_yoga%d, :activity_suitability_driving%d, " +
-                ":activity_suitability_social%d, :activity_suitability_morning%d, " +
-                ":like_count%d)",
-                idx, idx, idx, idx, idx, idx, idx, idx, idx, idx, idx, idx, idx,
-                idx, idx, idx, idx, idx, idx, idx, idx, idx, idx, idx, idx, idx,
-                idx, idx, idx);
+    /**
+     * 곡별 좋아요 증감분을 like_count에 일괄 반영 (0 미만으로 내려가지 않음)
+     * 같은 UPDATE 문에 곡마다 바인딩만 추가하여 한 번에 실행
+     */
+    public Mono<Long> bulkAddLikeCounts(Collection<LikeCountDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return BatchInsertStatement.execute(databaseClient, ADD_LIKE_COUNT_SQL, deltas, (statement, delta) -> {
+            statement.bind(0, delta.delta());
+            statement.bind(1, delta.songId());
+        });
     }
 
-    private DatabaseClient.GenericExecuteSpec bindParameters(DatabaseClient.GenericExecuteSpec spec,
-                                                             Collection<Song> entities) {
-        int index = 0;
-        for (Song song : entities) {
-            spec = bindSongParameters(spec, song, index);
-            index++;
+    private Mono<Long> insertLyrics(List<Song> songs, List<Long> ids) {
+        List<SongLyrics> lyrics = new ArrayList<>();
+        for (int i = 0; i < songs.size(); i++) {
+            String text = songs.get(i).getLyrics();
+            if (text != null && !text.isEmpty()) {
+                lyrics.add(SongLyrics.of(ids.get(i), lyricsCodec.encode(text)));
+            }
+        }
+
+        if (lyrics.isEmpty()) {
+            return Mono.just(0L);
         }
-        return spec;
+
+        return BatchInsertStatement.execute(databaseClient, LYRICS_INSERT_SQL, lyrics, (statement, songLyrics) -> {
+            statement.bind(0, songLyrics.getSongId());
+            statement.bind(1, songLyrics.getLyrics());
+        });
     }
 
-    private DatabaseClient.GenericExecuteSpec bindSongParameters(DatabaseClient.GenericExecuteSpec spec,
-                                                                 Song song,
-                                                                 int index) {
+    private void bindSong(Statement statement, Song song) {
         // album_id에 대한 null 처리
-        if (song.getAlbumId() != null) {
-            spec = spec.bind("album_id" + index, song.getAlbumId());
-        } else {
-            spec = spec.bindNull("album_id" + index, Long.class);
-        }
-        
-        spec = spec.bind("title" + index, song.getTitle());
-        spec = bindBasicFields(spec, song, index);
-        spec = bindAudioFeatures(spec, song, index);
-        spec = bindActivitySuitabilities(spec, song, index);
-        spec = spec.bind("like_count" + index, song.getLikeCount() != null ? song.getLikeCount() : 0L);
-        return spec;
+        BatchInsertStatement.bindNullable(statement, 0, song.getAlbumId(), Long.class);
+        statement.bind(1, song.getTitle());
+        bindBasicFields(statement, song);
+        bindAudioFeatures(statement, song);
+        bindActivitySuitabilities(statement, song);
+        statement.bind(27, song.getLikeCount() != null ? song.getLikeCount() : 0L);
     }
 
-    private DatabaseClient.GenericExecuteSpec bindBasicFields(DatabaseClient.GenericExecuteSpec spec,
-                                                              Song song,
-                                                              int index) {
-        spec = bindNullableField(spec, "lyrics" + index, song.getLyrics());
-        spec = bindNullableField(spec, "length" + index, song.getLength());
-        spec = bindNullableField(spec, "music_key" + index, song.getMusicKey());
-        spec = bindNullableField(spec, "tempo" + index, song.getTempo());
-        spec = bindNullableField(spec, "loudness_db" + index, song.getLoudnessDb());
-        spec = bindNullableField(spec, "time_signature" + index, song.getTimeSignature());
-        spec = bindNullableField(spec, "explicit_content" + index,
-                song.getExplicitContent() != null ? song.getExplicitContent().name() : null);
-        spec = bindNullableField(spec, "emotion" + index, song.getEmotion());
-        spec = bindNullableField(spec, "genre" + index, song.getGenre());
-        spec = bindNullableField(spec, "popularity" + index, song.getPopularity());
-        return spec;
+    private void bindBasicFields(Statement statement, Song song) {
+        bindNullableField(statement, 2, song.getLength());
+        bindNullableField(statement, 3, song.getMusicKey());
+        bindNullableField(statement, 4, song.getTempo());
+        bindNullableField(statement, 5, song.getLoudnessDb());
+        bindNullableField(statement, 6, song.getTimeSignature());
+        bindNullableField(statement, 7, song.getExplicitContent() != null ? song.getExplicitContent().name() : null);
+        bindNullableField(statement, 8, song.getEmotion());
+        bindNullableField(statement, 9, song.getGenre());
+        bindNullableField(statement, 10, song.getPopularity());
     }
 
-    private DatabaseClient.GenericExecuteSpec bindAudioFeatures(DatabaseClient.GenericExecuteSpec spec,
-                                                                Song song,
-                                                                int index) {
-        spec = bindNullableField(spec, "energy" + index, song.getEnergy());
-        spec = bindNullableField(spec, "danceability" + index, song.getDanceability());
-        spec = bindNullableField(spec, "positiveness" + index, song.getPositiveness());
-        spec = bindNullableField(spec, "speechiness" + index, song.getSpeechiness());
-        spec = bindNullableField(spec, "liveness" + index, song.getLiveness());
-        spec = bindNullableField(spec, "acousticness" + index, song.getAcousticness());
-        spec = bindNullableField(spec, "instrumentalness" + index, song.getInstrumentalness());
-        return spec;
+    private void bindAudioFeatures(Statement statement, Song song) {
+        bindNullableField(statement, 11, song.getEnergy());
+        bindNullableField(statement, 12, song.getDanceability());
+        bindNullableField(statement, 13, song.getPositiveness());
+        bindNullableField(statement, 14, song.getSpeechiness());
+        bindNullableField(statement, 15, song.getLiveness());
+        bindNullableField(statement, 16, song.getAcousticness());
+        bindNullableField(statement, 17, song.getInstrumentalness());
     }
 
-    private DatabaseClient.GenericExecuteSpec bindActivitySuitabilities(DatabaseClient.GenericExecuteSpec spec,
-                                                                        Song song,
-                                                                        int index) {
-        spec = bindNullableField(spec, "activity_suitability_party" + index,
+    private void bindActivitySuitabilities(Statement statement, Song song) {
+        bindNullableField(statement, 18,
                 song.getActivitySuitabilityParty() != null ? song.getActivitySuitabilityParty().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_work" + index,
+        bindNullableField(statement, 19,
                 song.getActivitySuitabilityWork() != null ? song.getActivitySuitabilityWork().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_relaxation" + index,
+        bindNullableField(statement, 20,
                 song.getActivitySuitabilityRelaxation() != null ? song.getActivitySuitabilityRelaxation().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_exercise" + index,
+        bindNullableField(statement, 21,
                 song.getActivitySuitabilityExercise() != null ? song.getActivitySuitabilityExercise().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_running" + index,
+        bindNullableField(statement, 22,
                 song.getActivitySuitabilityRunning() != null ? song.getActivitySuitabilityRunning().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_yoga" + index,
+        bindNullableField(statement, 23,
                 song.getActivitySuitabilityYoga() != null ? song.getActivitySuitabilityYoga().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_driving" + index,
+        bindNullableField(statement, 24,
                 song.getActivitySuitabilityDriving() != null ? song.getActivitySuitabilityDriving().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_social" + index,
+        bindNullableField(statement, 25,
                 song.getActivitySuitabilitySocial() != null ? song.getActivitySuitabilitySocial().name() : null);
-        spec = bindNullableField(spec, "activity_suitability_morning" + index,
+        bindNullableField(statement, 26,
                 song.getActivitySuitabilityMorning() != null ? song.getActivitySuitabilityMorning().name() : null);
-        return spec;
     }
 
-    private DatabaseClient.GenericExecuteSpec bindNullableField(DatabaseClient.GenericExecuteSpec spec,
-                                                                String paramName, Object value) {
-        if (value != null) {
-            return spec.bind(paramName, value);
-        }
-
-        return spec.bindNull(paramName, String.class);
+    private void bindNullableField(Statement statement, int index, Object value) {
+        BatchInsertStatement.bindNullable(statement, index, value, String.class);
     }
 }
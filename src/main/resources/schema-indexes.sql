@@ -0,0 +1,44 @@
+-- 보조 인덱스 (대량 적재 후 생성)
+-- 적재 중에는 행마다 인덱스를 갱신하지 않도록 schema.sql 과 분리
+
+-- Artists
+CREATE INDEX IF NOT EXISTS idx_artist_deleted_at ON artists(deleted_at);
+
+-- Albums
+CREATE INDEX IF NOT EXISTS idx_album_release_date ON albums(release_date);
+CREATE INDEX IF NOT EXISTS idx_album_title_date_artist ON albums(title, release_date, artist_name);
+CREATE INDEX IF NOT EXISTS idx_album_deleted_at ON albums(deleted_at);
+CREATE INDEX IF NOT EXISTS idx_album_release_date_deleted ON albums(release_date, deleted_at);
+
+-- Artist_Albums
+CREATE INDEX IF NOT EXISTS idx_artist_albums_album_artist ON artist_albums(album_id, artist_id);
+CREATE INDEX IF NOT EXISTS idx_artist_albums_artist ON artist_albums(artist_id); -- 아티스트별 앨범 조회용
+CREATE INDEX IF NOT EXISTS idx_artist_albums_deleted_at ON artist_albums(deleted_at);
+CREATE INDEX IF NOT EXISTS idx_artist_albums_deleted_album ON artist_albums(deleted_at, album_id, artist_id); -- deleted_at 필터링 최적화
+
+-- Songs
+CREATE INDEX IF NOT EXISTS idx_song_album ON songs(album_id);
+CREATE INDEX IF NOT EXISTS idx_song_title_album ON songs(title, album_id);
+CREATE INDEX IF NOT EXISTS idx_song_title ON songs(title);
+CREATE INDEX IF NOT EXISTS idx_song_genre ON songs(genre);
+CREATE INDEX IF NOT EXISTS idx_song_like_count ON songs(like_count DESC);
+CREATE INDEX IF NOT EXISTS idx_song_deleted_at ON songs(deleted_at);
+
+-- Artist_Songs
+CREATE INDEX IF NOT EXISTS idx_artist_songs_song_artist ON artist_songs(song_id, artist_id);
+CREATE INDEX IF NOT EXISTS idx_artist_songs_artist ON artist_songs(artist_id); -- 아티스트별 곡 조회용
+CREATE INDEX IF NOT EXISTS idx_artist_songs_deleted_at ON artist_songs(deleted_at);
+
+-- Song_Likes
+CREATE INDEX IF NOT EXISTS idx_like_song ON song_likes(song_id);
+CREATE INDEX IF NOT EXISTS idx_like_user ON song_likes(user_id);
+CREATE INDEX IF NOT EXISTS idx_like_created ON song_likes(created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_like_deleted_at ON song_likes(deleted_at);
+
+-- Similar_Songs
+CREATE INDEX IF NOT EXISTS idx_similar_score ON similar_songs(song_id, similarity_score DESC);
+CREATE INDEX IF NOT EXISTS idx_similar_artist_song ON similar_songs(similar_artist_name, similar_song_title);
+CREATE INDEX IF NOT EXISTS idx_similar_deleted_at ON similar_songs(deleted_at);
+
+-- Artist_Album_Year_Stats
+CREATE INDEX IF NOT EXISTS idx_album_year_stats_rank ON artist_album_year_stats(release_year, album_count DESC, artist_name); -- 연도별 순위 페이징
@@ -1,3 +1,7 @@
+-- 보조 인덱스는 schema-indexes.sql 에 정의
+-- (data.bulk-load.enabled 이면 데이터 적재가 끝난 뒤 한 번에 생성, 아니면 기동 시 이 스크립트 직후 생성)
+-- 여기에는 적재 중 조회/중복 제거에 필요한 인덱스만 둠
+
 -- 1. Artists 테이블: 아티스트 정보를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS artists (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '아티스트 고유 ID',
@@ -10,7 +14,6 @@ CREATE TABLE IF NOT EXISTS artists (
 );
 
 CREATE UNIQUE INDEX IF NOT EXISTS uk_artist_name ON artists(name);
-CREATE INDEX IF NOT EXISTS idx_artist_deleted_at ON artists(deleted_at);
 
 -- 2. Albums 테이블: 앨범 정보를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS albums (
@@ -25,10 +28,6 @@ CREATE TABLE IF NOT EXISTS albums (
     updated_by VARCHAR(100) COMMENT '수정자'
 );
 
-CREATE INDEX IF NOT EXISTS idx_album_release_date ON albums(release_date);
-CREATE INDEX IF NOT EXISTS idx_album_title_date_artist ON albums(title, release_date, artist_name);
-CREATE INDEX IF NOT EXISTS idx_album_deleted_at ON albums(deleted_at);
-CREATE INDEX IF NOT EXISTS idx_album_release_date_deleted ON albums(release_date, deleted_at);
 CREATE INDEX IF NOT EXISTS idx_album_title ON albums(title);
 
 -- 3. Artist_Albums 테이블: 아티스트와 앨범의 관계를 저장하는 테이블
@@ -43,17 +42,11 @@ CREATE TABLE IF NOT EXISTS artist_albums (
     updated_by VARCHAR(100) COMMENT '수정자'
 );
 
-CREATE INDEX IF NOT EXISTS idx_artist_albums_album_artist ON artist_albums(album_id, artist_id);
-CREATE INDEX IF NOT EXISTS idx_artist_albums_artist ON artist_albums(artist_id); -- 아티스트별 앨범 조회용
-CREATE INDEX IF NOT EXISTS idx_artist_albums_deleted_at ON artist_albums(deleted_at);
-CREATE INDEX IF NOT EXISTS idx_artist_albums_deleted_album ON artist_albums(deleted_at, album_id, artist_id); -- deleted_at 필터링 최적화
-
 -- 4. Songs 테이블: 곡 정보를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS songs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '곡 고유 ID',
     album_id BIGINT COMMENT '앨범 ID',
     title VARCHAR(500) NOT NULL COMMENT '곡 제목',
-    lyrics CLOB COMMENT '가사',
     length TIME COMMENT '곡 길이',
     music_key VARCHAR(20) COMMENT '음악 키 (예: C major)',
     tempo DECIMAL(10,2) COMMENT '템포 (BPM)',
@@ -87,12 +80,11 @@ CREATE TABLE IF NOT EXISTS songs (
     updated_by VARCHAR(100) COMMENT '수정자'
 );
 
-CREATE INDEX IF NOT EXISTS idx_song_album ON songs(album_id);
-CREATE INDEX IF NOT EXISTS idx_song_title_album ON songs(title, album_id);
-CREATE INDEX IF NOT EXISTS idx_song_title ON songs(title);
-CREATE INDEX IF NOT EXISTS idx_song_genre ON songs(genre);
-CREATE INDEX IF NOT EXISTS idx_song_like_count ON songs(like_count DESC);
-CREATE INDEX IF NOT EXISTS idx_song_deleted_at ON songs(deleted_at);
+-- 4-1. Song_Lyrics 테이블: 곡 가사 (songs 행 크기를 줄이기 위해 분리, 상세 조회 시에만 읽음)
+CREATE TABLE IF NOT EXISTS song_lyrics (
+    song_id BIGINT PRIMARY KEY COMMENT '곡 ID',
+    lyrics VARBINARY NOT NULL COMMENT '가사 (LyricsCodec으로 인코딩된 바이트, 기본 Deflate 압축, 길이 제한 없음)'
+);
 
 -- 5. Artist_Songs 테이블: 아티스트와 곡의 관계를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS artist_songs (
@@ -106,10 +98,6 @@ CREATE TABLE IF NOT EXISTS artist_songs (
     updated_by VARCHAR(100) COMMENT '수정자'
 );
 
-CREATE INDEX IF NOT EXISTS idx_artist_songs_song_artist ON artist_songs(song_id, artist_id);
-CREATE INDEX IF NOT EXISTS idx_artist_songs_artist ON artist_songs(artist_id); -- 아티스트별 곡 조회용
-CREATE INDEX IF NOT EXISTS idx_artist_songs_deleted_at ON artist_songs(deleted_at);
-
 -- 6. Song_Likes 테이블: 곡에 대한 사용자의 좋아요를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS song_likes (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '좋아요 고유 ID',
@@ -122,11 +110,7 @@ CREATE TABLE IF NOT EXISTS song_likes (
     updated_by VARCHAR(100) COMMENT '수정자'
 );
 
-CREATE INDEX IF NOT EXISTS idx_like_song ON song_likes(song_id);
-CREATE INDEX IF NOT EXISTS idx_like_user ON song_likes(user_id);
-CREATE INDEX IF NOT EXISTS idx_like_song_user ON song_likes(song_id, user_id); -- 중복 체크용 복합 인덱스
-CREATE INDEX IF NOT EXISTS idx_like_created ON song_likes(created_at DESC);
-CREATE INDEX IF NOT EXISTS idx_like_deleted_at ON song_likes(deleted_at);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_like_song_user ON song_likes(song_id, user_id); -- 사용자당 곡별 좋아요 한 행 (토글은 deleted_at만 변경)
 
 -- 7. Similar_Songs 테이블: 유사한 곡들의 관계를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS similar_songs (
@@ -142,6 +126,13 @@ CREATE TABLE IF NOT EXISTS similar_songs (
     updated_by VARCHAR(100) COMMENT '수정자'
 );
 
-CREATE INDEX IF NOT EXISTS idx_similar_score ON similar_songs(song_id, similarity_score DESC);
-CREATE INDEX IF NOT EXISTS idx_similar_artist_song ON similar_songs(similar_artist_name, similar_song_title);
-CREATE INDEX IF NOT EXISTS idx_similar_deleted_at ON similar_songs(deleted_at);
+
+-- 8. Artist_Album_Year_Stats 테이블: 연도별 아티스트 앨범 수 요약 (앨범 통계 조회용)
+-- 적재 중 관계 저장과 함께 증분 반영하고, 적재가 끝나면 원본 테이블 기준으로 다시 계산
+CREATE TABLE IF NOT EXISTS artist_album_year_stats (
+    release_year INT NOT NULL COMMENT '발매 연도',
+    artist_id BIGINT NOT NULL COMMENT '아티스트 ID',
+    artist_name VARCHAR(255) NOT NULL COMMENT '아티스트명 (역정규화)',
+    album_count BIGINT NOT NULL DEFAULT 0 COMMENT '해당 연도 앨범 수',
+    PRIMARY KEY (release_year, artist_id)
+);
@@ -55,17 +55,13 @@ class AlbumBatchProcessorTest {
         albumsByTitle.put("Album 1", Set.of(new AlbumBatchProcessor.AlbumInfo(LocalDate.of(2023, 1, 1), "Artist1")));
         albumsByTitle.put("Album 2", Set.of(new AlbumBatchProcessor.AlbumInfo(LocalDate.of(2023, 2, 1), "Artist2")));
 
-        Album album1 = createAlbumWithId(1L, "Album 1", LocalDate.of(2023, 1, 1), "Artist1");
-        Album album2 = createAlbumWithId(2L, "Album 2", LocalDate.of(2023, 2, 1), "Artist2");
-
         // Mock: IN 절로 조회 시 빈 결과 반환 (기존 앨범 없음)
         when(albumRepository.findAllByTitleIn(anyCollection()))
-            .thenReturn(Flux.empty())  // 첫 번째 조회: 기존 앨범 없음
-            .thenReturn(Flux.just(album1, album2));  // 두 번째 조회: 삽입 후
+            .thenReturn(Flux.empty());
 
-        // Mock bulk insert
-        when(albumBulkRepository.bulkInsert(anyCollection()))
-            .thenReturn(Mono.just(2L));
+        // Mock bulk insert - 삽입 순서대로 생성 id 반환
+        when(albumBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(1L, 2L)));
 
         // when
         StepVerifier.create(albumBatchProcessor.processAlbumsBatch(albumsByTitle))
@@ -75,11 +71,13 @@ class AlbumBatchProcessorTest {
                 assertThat(resultMap).containsKey("Album 2|2023-02-01|Artist2");
                 assertThat(resultMap.get("Album 1|2023-01-01|Artist1").getTitle()).isEqualTo("Album 1");
                 assertThat(resultMap.get("Album 2|2023-02-01|Artist2").getTitle()).isEqualTo("Album 2");
+                assertThat(resultMap.values()).extracting(Album::getId).containsExactlyInAnyOrder(1L, 2L);
             })
             .verifyComplete();
 
-        // verify bulk insert was called
-        verify(albumBulkRepository, times(1)).bulkInsert(anyCollection());
+        // verify bulk insert was called and albums were not reloaded
+        verify(albumBulkRepository, times(1)).bulkInsertReturningIds(anyList());
+        verify(albumRepository, times(1)).findAllByTitleIn(anyCollection());
     }
 
     @Test
@@ -91,28 +89,27 @@ class AlbumBatchProcessorTest {
         albumsByTitle.put("New Album", Set.of(new AlbumBatchProcessor.AlbumInfo(LocalDate.of(2023, 2, 1), "Artist2")));
 
         Album existingAlbum = createAlbumWithId(1L, "Existing Album", LocalDate.of(2023, 1, 1), "Artist1");
-        Album newAlbum = createAlbumWithId(2L, "New Album", LocalDate.of(2023, 2, 1), "Artist2");
 
-        // Mock: IN 절 조회 - 첫 번째는 기존 앨범만, 두 번째는 모든 앨범
+        // Mock: IN 절 조회 - 기존 앨범만 존재
         when(albumRepository.findAllByTitleIn(anyCollection()))
-            .thenReturn(Flux.just(existingAlbum))  // 첫 번째 조회: 기존 앨범만
-            .thenReturn(Flux.just(existingAlbum, newAlbum));  // 두 번째 조회: 모든 앨범
+            .thenReturn(Flux.just(existingAlbum));
 
         // Mock bulk insert for new album only
-        when(albumBulkRepository.bulkInsert(anyCollection()))
-            .thenReturn(Mono.just(1L));
+        when(albumBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(2L)));
 
         // when
         StepVerifier.create(albumBatchProcessor.processAlbumsBatch(albumsByTitle))
             .assertNext(resultMap -> {
                 assertThat(resultMap).hasSize(2);
                 assertThat(resultMap).containsKey("Existing Album|2023-01-01|Artist1");
-                assertThat(resultMap).containsKey("New Album|2023-02-01|Artist2");
+                assertThat(resultMap.get("Existing Album|2023-01-01|Artist1")).isEqualTo(existingAlbum);
+                assertThat(resultMap.get("New Album|2023-02-01|Artist2").getId()).isEqualTo(2L);
             })
             .verifyComplete();
 
         // verify bulk insert was called once for the new album
-        verify(albumBulkRepository, times(1)).bulkInsert(argThat(collection -> collection.size() == 1));
+        verify(albumBulkRepository, times(1)).bulkInsertReturningIds(argThat(albums -> albums.size() == 1));
     }
 
     @Test
@@ -140,7 +137,7 @@ class AlbumBatchProcessorTest {
             .verifyComplete();
 
         // verify bulk insert was never called
-        verify(albumBulkRepository, never()).bulkInsert(anyCollection());
+        verify(albumBulkRepository, never()).bulkInsertReturningIds(anyList());
     }
 
     @Test
@@ -154,18 +151,13 @@ class AlbumBatchProcessorTest {
         albumInfos.add(new AlbumBatchProcessor.AlbumInfo(LocalDate.of(2023, 12, 1), "Artist3"));
         albumsByTitle.put("Album", albumInfos);
 
-        Album album1 = createAlbumWithId(1L, "Album", LocalDate.of(2023, 1, 1), "Artist1");
-        Album album2 = createAlbumWithId(2L, "Album", LocalDate.of(2023, 6, 1), "Artist2");
-        Album album3 = createAlbumWithId(3L, "Album", LocalDate.of(2023, 12, 1), "Artist3");
-
         // Mock: IN 절 조회 - 모든 앨범이 새로운 것
         when(albumRepository.findAllByTitleIn(anyCollection()))
-            .thenReturn(Flux.empty())  // 첫 번째 조회: 비어있음
-            .thenReturn(Flux.just(album1, album2, album3));  // 두 번째 조회: 삽입 후
+            .thenReturn(Flux.empty());
 
         // Mock bulk insert
-        when(albumBulkRepository.bulkInsert(anyCollection()))
-            .thenReturn(Mono.just(3L));
+        when(albumBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(1L, 2L, 3L)));
 
         // when
         StepVerifier.create(albumBatchProcessor.processAlbumsBatch(albumsByTitle))
@@ -178,7 +170,7 @@ class AlbumBatchProcessorTest {
             .verifyComplete();
 
         // verify bulk insert was called with 3 albums
-        verify(albumBulkRepository, times(1)).bulkInsert(argThat(collection -> collection.size() == 3));
+        verify(albumBulkRepository, times(1)).bulkInsertReturningIds(argThat(albums -> albums.size() == 3));
     }
 
     @Test
@@ -186,34 +178,34 @@ class AlbumBatchProcessorTest {
     void processLargeDataSet() {
         // given
         Map<String, Set<AlbumBatchProcessor.AlbumInfo>> albumsByTitle = new HashMap<>();
-        List<Album> expectedAlbums = new ArrayList<>();
-        
+        List<Long> generatedIds = new ArrayList<>();
+
         for (int i = 0; i < 100; i++) {
             String title = "Album " + i;
             LocalDate date = LocalDate.of(2023, 1, 1).plusDays(i);
             String artistName = "Artist " + i;
             albumsByTitle.put(title, Set.of(new AlbumBatchProcessor.AlbumInfo(date, artistName)));
-            expectedAlbums.add(createAlbumWithId((long)(i + 1), title, date, artistName));
+            generatedIds.add((long) (i + 1));
         }
 
         // Mock: IN 절 조회 - 모든 앨범이 새로운 것
         when(albumRepository.findAllByTitleIn(anyCollection()))
-            .thenReturn(Flux.empty())  // 첫 번째 조회: 비어있음
-            .thenReturn(Flux.fromIterable(expectedAlbums));  // 두 번째 조회: 삽입 후
+            .thenReturn(Flux.empty());
 
         // Mock bulk insert
-        when(albumBulkRepository.bulkInsert(anyCollection()))
-            .thenReturn(Mono.just(100L));
+        when(albumBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(generatedIds));
 
         // when
         StepVerifier.create(albumBatchProcessor.processAlbumsBatch(albumsByTitle))
             .assertNext(resultMap -> {
                 assertThat(resultMap).hasSize(100);
+                assertThat(resultMap.values()).extracting(Album::getId).containsExactlyInAnyOrderElementsOf(generatedIds);
             })
             .verifyComplete();
 
         // verify bulk insert was called once
-        verify(albumBulkRepository, times(1)).bulkInsert(argThat(collection -> collection.size() == 100));
+        verify(albumBulkRepository, times(1)).bulkInsertReturningIds(argThat(albums -> albums.size() == 100));
     }
 
     private Album createAlbumWithId(Long id, String title, LocalDate releaseDate) {
@@ -0,0 +1,105 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.repository.AlbumStatisticsCustomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AlbumStatisticsCountCache 단위 테스트")
+class AlbumStatisticsCountCacheTest {
+
+    private AlbumStatisticsCustomRepository albumStatisticsCustomRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AlbumStatisticsCountCache albumStatisticsCountCache;
+
+    private final AtomicLong queries = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        albumStatisticsCustomRepository = mock(AlbumStatisticsCustomRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        albumStatisticsCountCache = new AlbumStatisticsCountCache(albumStatisticsCustomRepository, meterRegistry);
+
+        // 조회할 때마다 값이 증가하여 다시 계산되었는지 구분
+        when(albumStatisticsCustomRepository.countAlbumStatisticsByYear(anyInt()))
+            .thenAnswer(invocation -> Mono.fromSupplier(queries::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("같은 연도는 한 번만 계산하고 이후에는 캐시된 개수를 반환한다")
+    void countIsComputedOncePerYear() {
+        // when & then
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2023)).expectNext(1L).verifyComplete();
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2023)).expectNext(1L).verifyComplete();
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2023)).expectNext(1L).verifyComplete();
+
+        assertThat(queries).hasValue(1);
+        assertThat(counter("miss")).isEqualTo(1.0);
+        assertThat(counter("hit")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("album.statistics.count.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화한 연도만 다시 계산한다")
+    void invalidateYears() {
+        // given
+        albumStatisticsCountCache.countByYear(2022).block();
+        albumStatisticsCountCache.countByYear(2023).block();
+
+        // when
+        albumStatisticsCountCache.invalidate(List.of(2023, 1999));
+
+        // then
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2022)).expectNext(1L).verifyComplete();
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2023)).expectNext(3L).verifyComplete();
+        assertThat(counter("miss")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 모든 연도를 다시 계산한다")
+    void invalidateAll() {
+        // given
+        albumStatisticsCountCache.countByYear(2022).block();
+        albumStatisticsCountCache.countByYear(2023).block();
+
+        // when
+        albumStatisticsCountCache.invalidateAll();
+
+        // then
+        albumStatisticsCountCache.countByYear(2022).block();
+        albumStatisticsCountCache.countByYear(2023).block();
+        assertThat(queries).hasValue(4);
+        assertThat(counter("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("조회에 실패한 개수는 캐시하지 않는다")
+    void failureIsNotCached() {
+        // given
+        when(albumStatisticsCustomRepository.countAlbumStatisticsByYear(2023))
+            .thenReturn(Mono.error(new IllegalStateException("db down")))
+            .thenReturn(Mono.just(7L));
+
+        // when & then
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2023))
+            .expectError(IllegalStateException.class)
+            .verify();
+        StepVerifier.create(albumStatisticsCountCache.countByYear(2023))
+            .expectNext(7L)
+            .verifyComplete();
+        assertThat(counter("miss")).isEqualTo(2.0);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("album.statistics.count.cache").tag("result", result).counter().count();
+    }
+}
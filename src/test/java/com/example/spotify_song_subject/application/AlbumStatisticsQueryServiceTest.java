@@ -1,11 +1,13 @@
 package com.example.spotify_song_subject.application;
 
+import com.example.spotify_song_subject.dto.AlbumStatisticsCursor;
 import com.example.spotify_song_subject.dto.AlbumStatisticsDto;
 import com.example.spotify_song_subject.repository.AlbumStatisticsCustomRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -23,12 +25,14 @@ import static org.mockito.Mockito.*;
 class AlbumStatisticsQueryServiceTest {
 
     private AlbumStatisticsCustomRepository albumStatisticsCustomRepository;
+    private AlbumStatisticsCountCache albumStatisticsCountCache;
     private AlbumStatisticsQueryService albumStatisticsQueryService;
 
     @BeforeEach
     void setUp() {
         albumStatisticsCustomRepository = mock(AlbumStatisticsCustomRepository.class);
-        albumStatisticsQueryService = new AlbumStatisticsQueryService(albumStatisticsCustomRepository);
+        albumStatisticsCountCache = mock(AlbumStatisticsCountCache.class);
+        albumStatisticsQueryService = new AlbumStatisticsQueryService(albumStatisticsCustomRepository, albumStatisticsCountCache);
     }
 
     @Test
@@ -55,8 +59,7 @@ class AlbumStatisticsQueryServiceTest {
 
         Page<AlbumStatisticsDto> expectedPage = new PageImpl<>(dtoList, pageable, dtoList.size());
 
-        given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable))
-            .willReturn(Mono.just(expectedPage));
+        givenPage(year, pageable, expectedPage);
 
         // when
         Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
@@ -77,7 +80,7 @@ class AlbumStatisticsQueryServiceTest {
             .verifyComplete();
 
         verify(albumStatisticsCustomRepository, times(1))
-            .findAlbumStatisticsByYear(year, pageable);
+            .findAlbumStatisticsData(year, pageable);
     }
 
     @Test
@@ -98,8 +101,7 @@ class AlbumStatisticsQueryServiceTest {
 
         Page<AlbumStatisticsDto> expectedPage = new PageImpl<>(dtoList, pageable, 10);
 
-        given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable))
-            .willReturn(Mono.just(expectedPage));
+        givenPage(year, pageable, expectedPage);
 
         // when
         Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
@@ -126,8 +128,7 @@ class AlbumStatisticsQueryServiceTest {
 
         Page<AlbumStatisticsDto> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable))
-            .willReturn(Mono.just(emptyPage));
+        givenPage(year, pageable, emptyPage);
 
         // when
         Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
@@ -163,8 +164,7 @@ class AlbumStatisticsQueryServiceTest {
 
         Page<AlbumStatisticsDto> expectedPage = new PageImpl<>(dtoList, pageable, 1);
 
-        given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable))
-            .willReturn(Mono.just(expectedPage));
+        givenPage(year, pageable, expectedPage);
 
         // when
         Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
@@ -191,8 +191,10 @@ class AlbumStatisticsQueryServiceTest {
 
         RuntimeException expectedException = new RuntimeException("Database error");
 
-        given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable))
-            .willReturn(Mono.error(expectedException));
+        given(albumStatisticsCustomRepository.findAlbumStatisticsData(year, pageable))
+            .willReturn(Flux.error(expectedException));
+        given(albumStatisticsCountCache.countByYear(year))
+            .willReturn(Mono.just(0L));
 
         // when
         Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
@@ -204,21 +206,29 @@ class AlbumStatisticsQueryServiceTest {
     }
 
     @Test
-    @DisplayName("repository가 empty Mono를 반환하면 그대로 전달한다")
-    void getAlbumStatisticsByYear_EmptyMono() {
+    @DisplayName("전체 개수는 repository가 아닌 연도별 캐시에서 가져온다")
+    void getAlbumStatisticsByYear_CountFromCache() {
         // given
         Integer year = 2023;
-        Pageable pageable = PageRequest.of(0, 10);
+        Pageable pageable = PageRequest.of(2, 10);
 
-        given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable))
-            .willReturn(Mono.empty());
+        given(albumStatisticsCustomRepository.findAlbumStatisticsData(year, pageable))
+            .willReturn(Flux.empty());
+        given(albumStatisticsCountCache.countByYear(year))
+            .willReturn(Mono.just(25L));
 
         // when
         Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
 
         // then
         StepVerifier.create(result)
+            .assertNext(page -> {
+                assertThat(page.getTotalElements()).isEqualTo(25L);
+                assertThat(page.getTotalPages()).isEqualTo(3);
+            })
             .verifyComplete();
+
+        verify(albumStatisticsCustomRepository, never()).countAlbumStatisticsByYear(any());
     }
 
     @Test
@@ -240,8 +250,7 @@ class AlbumStatisticsQueryServiceTest {
 
             Page<AlbumStatisticsDto> expectedPage = new PageImpl<>(dtoList, pageable, 1);
 
-            given(albumStatisticsCustomRepository.findAlbumStatisticsByYear(eq(year), eq(pageable)))
-                .willReturn(Mono.just(expectedPage));
+            givenPage(year, pageable, expectedPage);
 
             // when
             Mono<Page<AlbumStatisticsDto>> result = albumStatisticsQueryService.getAlbumStatisticsByYear(year, pageable);
@@ -257,6 +266,130 @@ class AlbumStatisticsQueryServiceTest {
         }
 
         verify(albumStatisticsCustomRepository, times(years.length))
-            .findAlbumStatisticsByYear(any(Integer.class), eq(pageable));
+            .findAlbumStatisticsData(any(Integer.class), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("커서 조회는 size + 1 건을 읽어 다음 페이지가 있으면 마지막 행으로 커서를 만든다")
+    void getAlbumStatisticsSlice_HasNext() {
+        // given
+        given(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, null, 3))
+            .willReturn(Flux.just(stat("BTS", 3L), stat("IU", 2L), stat("Seventeen", 1L)));
+
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, null, 2, false))
+            .assertNext(slice -> {
+                assertThat(slice.content()).extracting(AlbumStatisticsDto::getArtistName).containsExactly("BTS", "IU");
+                assertThat(slice.hasNext()).isTrue();
+                assertThat(AlbumStatisticsCursor.decode(slice.nextCursor()))
+                    .isEqualTo(new AlbumStatisticsCursor(2023, 2L, "IU"));
+                assertThat(slice.totalElements()).isNull();
+            })
+            .verifyComplete();
+
+        verify(albumStatisticsCountCache, never()).countByYear(any());
+    }
+
+    @Test
+    @DisplayName("커서를 해석해 이어서 조회하고 마지막 페이지면 다음 커서가 없다")
+    void getAlbumStatisticsSlice_LastPage() {
+        // given
+        AlbumStatisticsCursor cursor = new AlbumStatisticsCursor(2023, 2L, "IU");
+        given(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, cursor, 3))
+            .willReturn(Flux.just(stat("Seventeen", 1L)));
+
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, cursor.encode(), 2, false))
+            .assertNext(slice -> {
+                assertThat(slice.content()).extracting(AlbumStatisticsDto::getArtistName).containsExactly("Seventeen");
+                assertThat(slice.hasNext()).isFalse();
+                assertThat(slice.nextCursor()).isNull();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("전체 개수를 요청하면 함께 조회한다")
+    void getAlbumStatisticsSlice_IncludeTotal() {
+        // given
+        given(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, null, 11))
+            .willReturn(Flux.just(stat("BTS", 3L)));
+        given(albumStatisticsCountCache.countByYear(2023))
+            .willReturn(Mono.just(1L));
+
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, null, 10, true))
+            .assertNext(slice -> assertThat(slice.totalElements()).isEqualTo(1L))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("다른 연도의 커서나 잘못된 커서는 IllegalArgumentException으로 실패한다")
+    void getAlbumStatisticsSlice_InvalidCursor() {
+        // given
+        String cursorOf2022 = new AlbumStatisticsCursor(2022, 1L, "BTS").encode();
+
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, cursorOf2022, 10, false))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        StepVerifier.create(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, "broken", 10, false))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        verifyNoInteractions(albumStatisticsCustomRepository);
+    }
+
+    @Test
+    @DisplayName("연도 범위의 앨범 통계를 스트리밍 조회한다")
+    void streamAlbumStatistics_Range() {
+        // given
+        given(albumStatisticsCustomRepository.streamAlbumStatistics(2022, 2023))
+            .willReturn(Flux.just(stat("BTS", 3L), stat("IU", 2L)));
+
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.streamAlbumStatistics(2022, 2023))
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("종료 연도를 생략하면 시작 연도 한 해만 조회한다")
+    void streamAlbumStatistics_SingleYear() {
+        // given
+        given(albumStatisticsCustomRepository.streamAlbumStatistics(2023, 2023))
+            .willReturn(Flux.just(stat("BTS", 3L)));
+
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.streamAlbumStatistics(2023, null))
+            .assertNext(dto -> assertThat(dto.getArtistName()).isEqualTo("BTS"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("종료 연도가 시작 연도보다 앞서면 IllegalArgumentException으로 실패한다")
+    void streamAlbumStatistics_InvalidRange() {
+        // when & then
+        StepVerifier.create(albumStatisticsQueryService.streamAlbumStatistics(2024, 2023))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        verifyNoInteractions(albumStatisticsCustomRepository);
+    }
+
+    private void givenPage(Integer year, Pageable pageable, Page<AlbumStatisticsDto> page) {
+        given(albumStatisticsCustomRepository.findAlbumStatisticsData(year, pageable))
+            .willReturn(Flux.fromIterable(page.getContent()));
+        given(albumStatisticsCountCache.countByYear(year))
+            .willReturn(Mono.just(page.getTotalElements()));
+    }
+
+    private AlbumStatisticsDto stat(String artistName, Long albumCount) {
+        return AlbumStatisticsDto.builder()
+            .artistName(artistName)
+            .releaseYear(2023)
+            .albumCount(albumCount)
+            .build();
     }
-}
\ No newline at end of file
+}
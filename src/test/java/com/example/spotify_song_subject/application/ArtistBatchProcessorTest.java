@@ -60,7 +60,7 @@ class ArtistBatchProcessorTest {
             .verifyComplete();
 
         verify(artistRepository, never()).findAllByNameIn(any());
-        verify(artistBulkRepository, never()).bulkInsert(any());
+        verify(artistBulkRepository, never()).bulkInsertReturningIds(any());
     }
 
     @Test
@@ -72,9 +72,9 @@ class ArtistBatchProcessorTest {
         allExisting.put("Artist2", createArtist(2L, "Artist2"));
         allExisting.put("Artist3", createArtist(3L, "Artist3"));
 
-        // processArtistsBatchFast 방식에서는 항상 bulkInsert를 시도함
-        when(artistBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(0L)); // 이미 존재하므로 0개 삽입
+        // processArtistsBatchFast 방식에서는 항상 bulk insert를 시도함
+        when(artistBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(Map.of())); // 이미 존재하므로 0개 삽입
 
         when(artistRepository.findAllByNameIn(artistNames))
             .thenReturn(Flux.fromIterable(allExisting.values()));
@@ -87,25 +87,20 @@ class ArtistBatchProcessorTest {
             })
             .verifyComplete();
 
-        verify(artistBulkRepository).bulkInsert(any());
+        verify(artistBulkRepository).bulkInsertReturningIds(any());
     }
 
     @Test
-    @DisplayName("새로운 아티스트만 bulk insert하고 전체 맵을 반환한다")
+    @DisplayName("새로 삽입된 아티스트는 생성 id를 사용하고 기존 아티스트만 조회한다")
     void processNewArtists() {
         // given
         // processArtistsBatchFast에서는 모든 아티스트를 INSERT IGNORE로 시도
-        when(artistBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(2L)); // 2개가 새로 삽입됨
+        when(artistBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(Map.of("Artist2", 2L, "Artist3", 3L))); // 2개가 새로 삽입됨
 
-        // 전체 아티스트 조회 시 모든 아티스트 반환
-        Map<String, Artist> allArtists = new HashMap<>();
-        allArtists.put("Artist1", createArtist(1L, "Artist1"));
-        allArtists.put("Artist2", createArtist(2L, "Artist2"));
-        allArtists.put("Artist3", createArtist(3L, "Artist3"));
-
-        when(artistRepository.findAllByNameIn(artistNames))
-            .thenReturn(Flux.fromIterable(allArtists.values()));
+        // 무시된 Artist1만 조회
+        when(artistRepository.findAllByNameIn(Set.of("Artist1")))
+            .thenReturn(Flux.fromIterable(existingArtists.values()));
 
         // when & then
         StepVerifier.create(artistBatchProcessor.processArtistsBatch(artistNames))
@@ -119,18 +114,38 @@ class ArtistBatchProcessorTest {
             .verifyComplete();
 
         // processArtistsBatchFast는 모든 아티스트를 bulk insert 시도
-        verify(artistBulkRepository).bulkInsert(argThat(artists -> 
+        verify(artistRepository).findAllByNameIn(Set.of("Artist1"));
+        verify(artistBulkRepository).bulkInsertReturningIds(argThat(artists ->
             artists.size() == 3 && 
             artists.stream().map(Artist::getName).collect(Collectors.toSet()).equals(artistNames)
         ));
     }
 
+    @Test
+    @DisplayName("모든 아티스트가 새로 삽입되면 재조회하지 않는다")
+    void processAllNewArtists() {
+        // given
+        when(artistBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(Map.of("Artist1", 1L, "Artist2", 2L, "Artist3", 3L)));
+
+        // when & then
+        StepVerifier.create(artistBatchProcessor.processArtistsBatch(artistNames))
+            .assertNext(result -> {
+                assertThat(result).hasSize(3);
+                assertThat(result.get("Artist1").getId()).isEqualTo(1L);
+                assertThat(result.get("Artist3").getId()).isEqualTo(3L);
+            })
+            .verifyComplete();
+
+        verify(artistRepository, never()).findAllByNameIn(any());
+    }
+
     @Test
     @DisplayName("bulk insert 실패 시 에러를 전파한다")
     void handleBulkInsertError() {
         // given
         // processArtistsBatchFast에서는 모든 아티스트를 bulk insert 시도
-        when(artistBulkRepository.bulkInsert(anyList()))
+        when(artistBulkRepository.bulkInsertReturningIds(anyList()))
             .thenReturn(Mono.error(new RuntimeException("Bulk insert failed")));
 
         // bulk insert가 실패하면 findAllByNameIn이 호출되지 않지만, 
@@ -145,15 +160,15 @@ class ArtistBatchProcessorTest {
     }
 
     @Test
-    @DisplayName("재조회 실패 시 에러를 전파한다")
+    @DisplayName("기존 아티스트 조회 실패 시 에러를 전파한다")
     void handleReloadError() {
         // given
-        // processArtistsBatchFast에서는 bulk insert 후 전체를 다시 조회
-        when(artistBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(2L));
+        // processArtistsBatchFast에서는 bulk insert 후 무시된 아티스트만 조회
+        when(artistBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(Map.of("Artist2", 2L, "Artist3", 3L)));
 
-        // 재조회 시 에러 발생
-        when(artistRepository.findAllByNameIn(artistNames))
+        // 조회 시 에러 발생
+        when(artistRepository.findAllByNameIn(Set.of("Artist1")))
             .thenReturn(Flux.error(new RuntimeException("Reload failed")));
 
         // when & then
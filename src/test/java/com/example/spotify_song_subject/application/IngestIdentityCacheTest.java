@@ -0,0 +1,77 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.domain.Album;
+import com.example.spotify_song_subject.domain.Artist;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IngestIdentityCache 단위 테스트")
+class IngestIdentityCacheTest {
+
+    @Test
+    @DisplayName("등록된 아티스트와 앨범만 조회된다")
+    void 등록후조회() {
+        // given
+        IngestIdentityCache cache = new IngestIdentityCache(100);
+        Artist artist = createArtist(1L, "Artist1");
+        Album album = createAlbum(10L, "Album1");
+        cache.register(Map.of("Artist1", artist), Map.of("Album1|2023-01-01|Artist1", album));
+
+        // when
+        Map<String, Artist> artists = cache.findArtists(List.of("Artist1", "Artist2"));
+        Map<String, Album> albums = cache.findAlbums(List.of("Album1|2023-01-01|Artist1", "Album2|2023-01-01|Artist1"));
+
+        // then
+        assertThat(artists).containsOnlyKeys("Artist1");
+        assertThat(artists.get("Artist1").getId()).isEqualTo(1L);
+        assertThat(albums).containsOnlyKeys("Album1|2023-01-01|Artist1");
+        assertThat(albums.get("Album1|2023-01-01|Artist1").getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("항목 수가 상한에 도달하면 더 이상 등록하지 않는다")
+    void 상한도달_등록중단() {
+        // given
+        IngestIdentityCache cache = new IngestIdentityCache(2);
+
+        // when
+        cache.register(Map.of("Artist1", createArtist(1L, "Artist1"), "Artist2", createArtist(2L, "Artist2")),
+            Map.of("Album1|2023-01-01|Artist1", createAlbum(10L, "Album1")));
+
+        // then
+        assertThat(cache.findArtists(List.of("Artist1", "Artist2"))).hasSize(2);
+        assertThat(cache.findAlbums(List.of("Album1|2023-01-01|Artist1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("clear 후에는 캐시가 비어 있다")
+    void 캐시비우기() {
+        // given
+        IngestIdentityCache cache = new IngestIdentityCache(100);
+        cache.register(Map.of("Artist1", createArtist(1L, "Artist1")), Map.of());
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.findArtists(List.of("Artist1"))).isEmpty();
+    }
+
+    private Artist createArtist(Long id, String name) {
+        Artist artist = Artist.of(name);
+        artist.assignId(id);
+        return artist;
+    }
+
+    private Album createAlbum(Long id, String title) {
+        Album album = Album.of(title, LocalDate.of(2023, 1, 1), "Artist1");
+        album.assignId(id);
+        return album;
+    }
+}
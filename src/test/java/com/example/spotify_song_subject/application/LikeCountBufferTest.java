@@ -0,0 +1,164 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.LikeCountDelta;
+import com.example.spotify_song_subject.repository.SongRepository;
+import com.example.spotify_song_subject.repository.bulk.SongBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LikeCountBuffer 단위 테스트")
+class LikeCountBufferTest {
+
+    private SongRepository songRepository;
+    private SongBulkRepository songBulkRepository;
+
+    private LikeCountBuffer likeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        songRepository = mock(SongRepository.class);
+        songBulkRepository = mock(SongBulkRepository.class);
+        likeCountBuffer = new LikeCountBuffer(songRepository, songBulkRepository);
+
+        when(songRepository.findLikeCountById(1L)).thenReturn(Mono.just(10L));
+        when(songRepository.findLikeCountById(2L)).thenReturn(Mono.just(0L));
+        when(songBulkRepository.bulkAddLikeCounts(anyCollection())).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    @DisplayName("첫 요청에서만 DB 좋아요 수를 읽고 이후에는 메모리 값으로 바로 응답한다")
+    void seedFromDatabaseOnce() {
+        // when & then
+        StepVerifier.create(likeCountBuffer.increment(1L)).expectNext(11L).verifyComplete();
+        StepVerifier.create(likeCountBuffer.increment(1L)).expectNext(12L).verifyComplete();
+        StepVerifier.create(likeCountBuffer.decrement(1L)).expectNext(11L).verifyComplete();
+
+        verify(songRepository, times(1)).findLikeCountById(1L);
+        verifyNoInteractions(songBulkRepository);
+    }
+
+    @Test
+    @DisplayName("flush는 곡별 순 증감분을 한 번에 반영하고 반영한 증감분은 비운다")
+    @SuppressWarnings("unchecked")
+    void flushNetDeltas() {
+        // given
+        likeCountBuffer.increment(1L).block();
+        likeCountBuffer.increment(1L).block();
+        likeCountBuffer.decrement(1L).block();
+        likeCountBuffer.increment(2L).block();
+
+        // when
+        StepVerifier.create(likeCountBuffer.flush())
+            .expectNext(2)
+            .verifyComplete();
+
+        // then
+        ArgumentCaptor<Collection<LikeCountDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(songBulkRepository).bulkAddLikeCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+            new LikeCountDelta(1L, 1L), new LikeCountDelta(2L, 1L));
+        assertThat(likeCountBuffer.pendingSongCount()).isZero();
+
+        StepVerifier.create(likeCountBuffer.flush())
+            .expectNext(0)
+            .verifyComplete();
+        verify(songBulkRepository, times(1)).bulkAddLikeCounts(anyCollection());
+    }
+
+    @Test
+    @DisplayName("flush 후에도 응답하는 좋아요 수는 유지된다")
+    void keepTotalAfterFlush() {
+        // given
+        likeCountBuffer.increment(1L).block();
+        likeCountBuffer.flush().block();
+
+        // when & then
+        StepVerifier.create(likeCountBuffer.increment(1L)).expectNext(12L).verifyComplete();
+        verify(songRepository, times(1)).findLikeCountById(1L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감분을 되돌려 다음 flush에서 다시 반영한다")
+    @SuppressWarnings("unchecked")
+    void restoreDeltasOnFailure() {
+        // given
+        likeCountBuffer.increment(1L).block();
+        when(songBulkRepository.bulkAddLikeCounts(anyCollection()))
+            .thenReturn(Mono.error(new RuntimeException("DB down")))
+            .thenReturn(Mono.just(1L));
+
+        // when & then
+        StepVerifier.create(likeCountBuffer.flush())
+            .expectErrorMessage("DB down")
+            .verify();
+        assertThat(likeCountBuffer.pendingSongCount()).isEqualTo(1);
+
+        likeCountBuffer.increment(1L).block();
+        StepVerifier.create(likeCountBuffer.flush())
+            .expectNext(1)
+            .verifyComplete();
+
+        ArgumentCaptor<Collection<LikeCountDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(songBulkRepository, times(2)).bulkAddLikeCounts(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactly(new LikeCountDelta(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 0 미만으로 응답하지 않는다")
+    void neverReturnNegative() {
+        // when & then
+        StepVerifier.create(likeCountBuffer.decrement(2L)).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 0일 때의 취소는 무시되어 이후 좋아요가 DB 반영값과 일치한다")
+    @SuppressWarnings("unchecked")
+    void ignoreDecrementAtZero() {
+        // when
+        StepVerifier.create(likeCountBuffer.decrement(2L)).expectNext(0L).verifyComplete();
+        StepVerifier.create(likeCountBuffer.increment(2L)).expectNext(1L).verifyComplete();
+        likeCountBuffer.flush().block();
+
+        // then
+        ArgumentCaptor<Collection<LikeCountDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(songBulkRepository).bulkAddLikeCounts(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new LikeCountDelta(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 증가해도 누락 없이 집계한다")
+    @SuppressWarnings("unchecked")
+    void concurrentIncrements() throws InterruptedException {
+        // given
+        likeCountBuffer.increment(2L).block();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        IntStream.range(0, 999).forEach(i -> executor.submit(() -> likeCountBuffer.increment(2L).block()));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        likeCountBuffer.flush().block();
+
+        // then
+        StepVerifier.create(likeCountBuffer.increment(2L)).expectNext(1001L).verifyComplete();
+
+        ArgumentCaptor<Collection<LikeCountDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(songBulkRepository).bulkAddLikeCounts(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(List.of(new LikeCountDelta(2L, 1000L)));
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.spotify_song_subject.application;
 
+import com.example.spotify_song_subject.application.SongBatchProcessor.SavedSong;
 import com.example.spotify_song_subject.domain.*;
+import com.example.spotify_song_subject.dto.ArtistAlbumYearCount;
 import com.example.spotify_song_subject.dto.SimilarSongDto;
 import com.example.spotify_song_subject.dto.SpotifySongDto;
 import com.example.spotify_song_subject.repository.bulk.ArtistAlbumBulkRepository;
+import com.example.spotify_song_subject.repository.bulk.ArtistAlbumYearStatsBulkRepository;
 import com.example.spotify_song_subject.repository.bulk.ArtistSongBulkRepository;
 import com.example.spotify_song_subject.repository.bulk.SimilarSongBulkRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -23,6 +27,7 @@ class RelationshipDataProcessorTest {
     private ArtistSongBulkRepository artistSongBulkRepository;
     private ArtistAlbumBulkRepository artistAlbumBulkRepository;
     private SimilarSongBulkRepository similarSongBulkRepository;
+    private ArtistAlbumYearStatsBulkRepository artistAlbumYearStatsBulkRepository;
 
     private RelationshipDataProcessor relationshipDataProcessor;
 
@@ -31,11 +36,13 @@ class RelationshipDataProcessorTest {
         this.artistSongBulkRepository = mock(ArtistSongBulkRepository.class);
         this.artistAlbumBulkRepository = mock(ArtistAlbumBulkRepository.class);
         this.similarSongBulkRepository = mock(SimilarSongBulkRepository.class);
+        this.artistAlbumYearStatsBulkRepository = mock(ArtistAlbumYearStatsBulkRepository.class);
 
         this.relationshipDataProcessor = new RelationshipDataProcessor(
             artistSongBulkRepository,
             artistAlbumBulkRepository,
-            similarSongBulkRepository
+            similarSongBulkRepository,
+            artistAlbumYearStatsBulkRepository
         );
     }
 
@@ -43,15 +50,13 @@ class RelationshipDataProcessorTest {
     @DisplayName("빈 데이터로 빈 RelationshipData를 반환한다")
     void buildRelationshipsWithEmptyData() {
         // given
-        List<Song> emptySongs = Collections.emptyList();
-        List<SpotifySongDto> emptyDtos = Collections.emptyList();
+        List<SavedSong> emptySongs = Collections.emptyList();
         Map<String, Artist> emptyArtistsMap = Collections.emptyMap();
         Map<String, Album> emptyAlbumsMap = Collections.emptyMap();
-        Map<Integer, String> emptySongIndexMap = Collections.emptyMap();
 
         // when
         RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
-            emptySongs, emptyDtos, emptyArtistsMap, emptyAlbumsMap, emptySongIndexMap
+            emptySongs, emptyArtistsMap, emptyAlbumsMap
         );
 
         // then
@@ -59,6 +64,7 @@ class RelationshipDataProcessorTest {
         assertThat(result.artistSongs()).isEmpty();
         assertThat(result.artistAlbums()).isEmpty();
         assertThat(result.similarSongs()).isEmpty();
+        assertThat(result.albumYearCounts()).isEmpty();
     }
 
     @Test
@@ -79,17 +85,14 @@ class RelationshipDataProcessorTest {
         albumsMap.put("Album 1|2023-01-01", createAlbumWithId(100L));
         albumsMap.put("Album 2|2023-01-01", createAlbumWithId(101L));
 
-        Map<Integer, String> songIndexToAlbumKey = new HashMap<>();
-        songIndexToAlbumKey.put(0, "Album 1|2023-01-01");
-        songIndexToAlbumKey.put(1, "Album 2|2023-01-01");
+        List<SavedSong> savedSongs = Arrays.asList(
+            new SavedSong(song1, dto1, "Album 1|2023-01-01"),
+            new SavedSong(song2, dto2, "Album 2|2023-01-01")
+        );
 
         // when
         RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
-            Arrays.asList(song1, song2),
-            Arrays.asList(dto1, dto2),
-            artistsMap,
-            albumsMap,
-            songIndexToAlbumKey
+            savedSongs, artistsMap, albumsMap
         );
 
         // then
@@ -115,17 +118,14 @@ class RelationshipDataProcessorTest {
         Map<String, Album> albumsMap = new HashMap<>();
         albumsMap.put("Album 1|2023-01-01", createAlbumWithId(100L));
 
-        Map<Integer, String> songIndexToAlbumKey = new HashMap<>();
-        songIndexToAlbumKey.put(0, "Album 1|2023-01-01");
-        songIndexToAlbumKey.put(1, "Album 1|2023-01-01");
+        List<SavedSong> savedSongs = Arrays.asList(
+            new SavedSong(song1, dto1, "Album 1|2023-01-01"),
+            new SavedSong(song2, dto2, "Album 1|2023-01-01")
+        );
 
         // when
         RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
-            Arrays.asList(song1, song2),
-            Arrays.asList(dto1, dto2),
-            artistsMap,
-            albumsMap,
-            songIndexToAlbumKey
+            savedSongs, artistsMap, albumsMap
         );
 
         // then
@@ -134,6 +134,66 @@ class RelationshipDataProcessorTest {
         assertThat(result.artistAlbums().get(0).getAlbumId()).isEqualTo(100L);
     }
 
+    @Test
+    @DisplayName("새 아티스트-앨범 관계를 발매 연도와 아티스트 단위로 합산한다")
+    void buildAlbumYearCounts() {
+        // given
+        Song song1 = createSongWithId(1L, "Song 1", 100L);
+        Song song2 = createSongWithId(2L, "Song 2", 101L);
+        Song song3 = createSongWithId(3L, "Song 3", 101L); // 같은 앨범의 다른 곡
+
+        SpotifySongDto dto1 = createSpotifySongDto("Song 1", Arrays.asList("Artist 1", "Artist 2"));
+        SpotifySongDto dto2 = createSpotifySongDto("Song 2", Arrays.asList("Artist 1"));
+        SpotifySongDto dto3 = createSpotifySongDto("Song 3", Arrays.asList("Artist 1"));
+
+        Map<String, Artist> artistsMap = new HashMap<>();
+        artistsMap.put("Artist 1", createArtistWithId(10L, "Artist 1"));
+        artistsMap.put("Artist 2", createArtistWithId(11L, "Artist 2"));
+
+        Map<String, Album> albumsMap = new HashMap<>();
+        albumsMap.put("Album 1|2023-01-01", createAlbumWithId(100L));
+        albumsMap.put("Album 2|2023-01-01", createAlbumWithId(101L));
+
+        List<SavedSong> savedSongs = Arrays.asList(
+            new SavedSong(song1, dto1, "Album 1|2023-01-01"),
+            new SavedSong(song2, dto2, "Album 2|2023-01-01"),
+            new SavedSong(song3, dto3, "Album 2|2023-01-01")
+        );
+
+        // when
+        RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
+            savedSongs, artistsMap, albumsMap
+        );
+
+        // then
+        assertThat(result.albumYearCounts()).containsExactlyInAnyOrder(
+            new ArtistAlbumYearCount(2023, 10L, "Artist 1", 2),
+            new ArtistAlbumYearCount(2023, 11L, "Artist 2", 1)
+        );
+    }
+
+    @Test
+    @DisplayName("발매일이 없는 앨범은 연도별 앨범 수에 합산하지 않는다")
+    void skipAlbumYearCountWhenReleaseDateMissing() {
+        // given
+        Song song = createSongWithId(1L, "Song 1", 100L);
+        SpotifySongDto dto = createSpotifySongDto("Song 1", Arrays.asList("Artist 1"));
+
+        Map<String, Artist> artistsMap = Map.of("Artist 1", createArtistWithId(10L, "Artist 1"));
+        Album album = createAlbumWithId(100L);
+        ReflectionTestUtils.setField(album, "releaseDate", null);
+        Map<String, Album> albumsMap = Map.of("Album 1|", album);
+
+        // when
+        RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
+            List.of(new SavedSong(song, dto, "Album 1|")), artistsMap, albumsMap
+        );
+
+        // then
+        assertThat(result.artistAlbums()).hasSize(1);
+        assertThat(result.albumYearCounts()).isEmpty();
+    }
+
     @Test
     @DisplayName("유사 노래 관계를 올바르게 생성한다")
     void buildSimilarSongRelationships() {
@@ -153,16 +213,11 @@ class RelationshipDataProcessorTest {
         Map<String, Album> albumsMap = new HashMap<>();
         albumsMap.put("Album 1|2023-01-01", createAlbumWithId(100L));
 
-        Map<Integer, String> songIndexToAlbumKey = new HashMap<>();
-        songIndexToAlbumKey.put(0, "Album 1|2023-01-01");
+        List<SavedSong> savedSongs = List.of(new SavedSong(song1, dto1, "Album 1|2023-01-01"));
 
         // when
         RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
-            Arrays.asList(song1),
-            Arrays.asList(dto1),
-            artistsMap,
-            albumsMap,
-            songIndexToAlbumKey
+            savedSongs, artistsMap, albumsMap
         );
 
         // then
@@ -176,13 +231,11 @@ class RelationshipDataProcessorTest {
     }
 
     @Test
-    @DisplayName("원본 DTO를 찾지 못한 경우 경고 로그를 남기고 건너뛴다")
-    void skipWhenOriginalDtoNotFound() {
+    @DisplayName("앨범 키가 없는 노래는 아티스트-앨범 관계를 만들지 않는다")
+    void skipArtistAlbumWhenAlbumKeyMissing() {
         // given
-        Song song1 = createSongWithId(1L, "Song 1", 100L);
-
-        // Empty DTOs list
-        List<SpotifySongDto> emptyDtos = Collections.emptyList();
+        Song song1 = createSongWithId(1L, "Song 1", null);
+        SpotifySongDto dto1 = createSpotifySongDto("Song 1", Arrays.asList("Artist 1"));
 
         Map<String, Artist> artistsMap = new HashMap<>();
         artistsMap.put("Artist 1", createArtistWithId(10L, "Artist 1"));
@@ -190,23 +243,48 @@ class RelationshipDataProcessorTest {
         Map<String, Album> albumsMap = new HashMap<>();
         albumsMap.put("Album 1|2023-01-01", createAlbumWithId(100L));
 
-        Map<Integer, String> songIndexToAlbumKey = new HashMap<>();
+        List<SavedSong> savedSongs = List.of(new SavedSong(song1, dto1, null));
 
         // when
         RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
-            Arrays.asList(song1),
-            emptyDtos,
-            artistsMap,
-            albumsMap,
-            songIndexToAlbumKey
+            savedSongs, artistsMap, albumsMap
         );
 
         // then
-        assertThat(result.artistSongs()).isEmpty();
+        assertThat(result.artistSongs()).hasSize(1);
         assertThat(result.artistAlbums()).isEmpty();
         assertThat(result.similarSongs()).isEmpty();
     }
 
+    @Test
+    @DisplayName("각 노래는 짝지어진 원본 DTO의 아티스트와 연결된다")
+    void pairEachSongWithItsOwnDto() {
+        // given
+        int songCount = 50;
+        Map<String, Artist> artistsMap = new HashMap<>();
+        List<SavedSong> savedSongs = new ArrayList<>();
+
+        for (int i = 0; i < songCount; i++) {
+            String artistName = "Artist " + i;
+            artistsMap.put(artistName, createArtistWithId(1000L + i, artistName));
+            savedSongs.add(new SavedSong(
+                createSongWithId((long) i, "Song " + i, null),
+                createSpotifySongDto("Song " + i, List.of(artistName)),
+                null
+            ));
+        }
+
+        // when
+        RelationshipDataProcessor.RelationshipData result = RelationshipDataProcessor.buildRelationships(
+            savedSongs, artistsMap, Collections.emptyMap()
+        );
+
+        // then
+        assertThat(result.artistSongs()).hasSize(songCount);
+        assertThat(result.artistSongs())
+            .allMatch(as -> as.getArtistId() == 1000L + as.getSongId());
+    }
+
     @Test
     @DisplayName("repository getter 메소드들이 정상 작동한다")
     void repositoryGettersWork() {
@@ -1,14 +1,13 @@
 package com.example.spotify_song_subject.application;
 
+import com.example.spotify_song_subject.application.SongBatchProcessor.SavedSong;
 import com.example.spotify_song_subject.domain.Album;
 import com.example.spotify_song_subject.domain.Song;
 import com.example.spotify_song_subject.dto.SpotifySongDto;
-import com.example.spotify_song_subject.repository.SongRepository;
 import com.example.spotify_song_subject.repository.bulk.SongBulkRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -16,6 +15,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,20 +25,17 @@ import org.springframework.test.util.ReflectionTestUtils;
 @DisplayName("SongBatchProcessor 단위 테스트")
 class SongBatchProcessorTest {
 
-    private SongRepository songRepository;
     private SongBulkRepository songBulkRepository;
 
     private SongBatchProcessor songBatchProcessor;
 
     private List<SpotifySongDto> songDtos;
     private Map<String, Album> albumsMap;
-    private List<Song> expectedSongs;
 
     @BeforeEach
     void setUp() {
-        this.songRepository = mock(SongRepository.class);
         this.songBulkRepository = mock(SongBulkRepository.class);
-        this.songBatchProcessor = new SongBatchProcessor(songRepository, songBulkRepository);
+        this.songBatchProcessor = new SongBatchProcessor(songBulkRepository);
 
         songDtos = Arrays.asList(
             createSongDto("Song1", "Album1", "2023-01-01", "Artist1"),
@@ -49,12 +46,6 @@ class SongBatchProcessorTest {
         albumsMap = new HashMap<>();
         albumsMap.put("Album1|2023-01-01|Artist1", createAlbum(1L, "Album1", LocalDate.of(2023, 1, 1), "Artist1"));
         albumsMap.put("Album2|2023-02-01|Artist2", createAlbum(2L, "Album2", LocalDate.of(2023, 2, 1), "Artist2"));
-
-        expectedSongs = Arrays.asList(
-            createSong(1L, "Song1", 1L),
-            createSong(2L, "Song2", 1L),
-            createSong(3L, "Song3", 2L)
-        );
     }
 
     @Test
@@ -67,12 +58,10 @@ class SongBatchProcessorTest {
         StepVerifier.create(songBatchProcessor.processSongsBatch(emptyList, albumsMap))
             .assertNext(result -> {
                 assertThat(result.savedSongs()).isEmpty();
-                assertThat(result.songIndexToAlbumKey()).isEmpty();
             })
             .verifyComplete();
 
-        verify(songBulkRepository, never()).bulkInsert(any());
-        verify(songRepository, never()).findAllByTitleIn(any());
+        verify(songBulkRepository, never()).bulkInsertReturningIds(any());
     }
 
     @Test
@@ -81,52 +70,48 @@ class SongBatchProcessorTest {
         // given
         Map<String, Album> emptyMap = Collections.emptyMap();
 
-        when(songBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(3L));
-        
-        // title로 조회하지만 결과가 없음
-        when(songRepository.findAllByTitleIn(anyCollection()))
-            .thenReturn(Flux.empty());
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(1L, 2L, 3L)));
 
         // when & then
         StepVerifier.create(songBatchProcessor.processSongsBatch(songDtos, emptyMap))
             .assertNext(result -> {
-                assertThat(result.savedSongs()).isEmpty(); // title로 조회했지만 결과가 없음
-                assertThat(result.songIndexToAlbumKey()).hasSize(3);
-                assertThat(result.songIndexToAlbumKey().values()).allMatch(Objects::isNull);
+                assertThat(result.savedSongs()).extracting(saved -> saved.song().getId()).containsExactly(1L, 2L, 3L);
+                assertThat(result.savedSongs()).extracting(SavedSong::albumKey).containsOnlyNulls();
             })
             .verifyComplete();
 
-        verify(songBulkRepository).bulkInsert(argThat(songs -> 
+        verify(songBulkRepository).bulkInsertReturningIds(argThat(songs ->
             songs.size() == 3 && 
             songs.stream().allMatch(song -> song.getAlbumId() == null)
         ));
     }
 
     @Test
-    @DisplayName("정상적으로 songs를 bulk insert하고 재조회한다")
+    @DisplayName("songs를 bulk insert하고 생성된 id를 입력 순서대로 지정한다")
     void processNormalSongs() {
         // given
-        when(songBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(3L));
-
-        when(songRepository.findAllByTitleIn(Set.of("Song1", "Song2", "Song3")))
-            .thenReturn(Flux.fromIterable(expectedSongs));
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(11L, 12L, 13L)));
 
         // when & then
         StepVerifier.create(songBatchProcessor.processSongsBatch(songDtos, albumsMap))
             .assertNext(result -> {
-                assertThat(result.savedSongs()).hasSize(3);
-                assertThat(result.savedSongs()).containsExactlyInAnyOrderElementsOf(expectedSongs);
-                
-                assertThat(result.songIndexToAlbumKey()).hasSize(3);
-                assertThat(result.songIndexToAlbumKey()).containsEntry(0, "Album1|2023-01-01|Artist1");
-                assertThat(result.songIndexToAlbumKey()).containsEntry(1, "Album1|2023-01-01|Artist1");
-                assertThat(result.songIndexToAlbumKey()).containsEntry(2, "Album2|2023-02-01|Artist2");
+                List<Song> songs = result.savedSongs().stream().map(SavedSong::song).toList();
+                assertThat(songs).extracting(Song::getId).containsExactly(11L, 12L, 13L);
+                assertThat(songs).extracting(Song::getTitle).containsExactly("Song1", "Song2", "Song3");
+                assertThat(songs).extracting(Song::getAlbumId).containsExactly(1L, 1L, 2L);
+
+                assertThat(result.savedSongs()).extracting(SavedSong::dto).containsExactlyElementsOf(songDtos);
+                assertThat(result.savedSongs()).extracting(SavedSong::albumKey).containsExactly(
+                    "Album1|2023-01-01|Artist1",
+                    "Album1|2023-01-01|Artist1",
+                    "Album2|2023-02-01|Artist2"
+                );
             })
             .verifyComplete();
 
-        verify(songBulkRepository).bulkInsert(argThat(songs -> songs.size() == 3));
+        verify(songBulkRepository).bulkInsertReturningIds(argThat(songs -> songs.size() == 3));
     }
 
     @Test
@@ -138,17 +123,8 @@ class SongBatchProcessorTest {
         partialAlbumsMap.put("Album2|2023-02-01|Artist2", createAlbum(2L, "Album2", LocalDate.of(2023, 2, 1), "Artist2"));
 
         // Song1, Song2는 album이 없어서 null album_id로 저장, Song3만 album_id 2로 저장
-        List<Song> savedSongs = Arrays.asList(
-            createSong(1L, "Song1", null),  // album 없음
-            createSong(2L, "Song2", null),  // album 없음
-            createSong(3L, "Song3", 2L)     // album 있음
-        );
-
-        when(songBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(3L));  // 3개 모두 저장
-
-        when(songRepository.findAllByTitleIn(Set.of("Song1", "Song2", "Song3")))
-            .thenReturn(Flux.fromIterable(savedSongs));  // 모든 song 반환
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(1L, 2L, 3L)));  // 3개 모두 저장
 
         // when & then
         StepVerifier.create(songBatchProcessor.processSongsBatch(songDtos, partialAlbumsMap))
@@ -157,22 +133,23 @@ class SongBatchProcessorTest {
                 
                 // album이 없는 songs
                 assertThat(result.savedSongs().stream()
-                    .filter(s -> s.getAlbumId() == null)
+                    .filter(s -> s.song().getAlbumId() == null)
                     .count()).isEqualTo(2);
                 
                 // album이 있는 song
                 assertThat(result.savedSongs().stream()
-                    .filter(s -> s.getAlbumId() != null)
+                    .filter(s -> s.song().getAlbumId() != null)
                     .count()).isEqualTo(1);
                 
-                assertThat(result.songIndexToAlbumKey()).hasSize(3);
-                assertThat(result.songIndexToAlbumKey()).containsEntry(0, null);  // Song1 - album 없음
-                assertThat(result.songIndexToAlbumKey()).containsEntry(1, null);  // Song2 - album 없음
-                assertThat(result.songIndexToAlbumKey()).containsEntry(2, "Album2|2023-02-01|Artist2");
+                assertThat(result.savedSongs()).extracting(SavedSong::albumKey).containsExactly(
+                    null,  // Song1 - album 없음
+                    null,  // Song2 - album 없음
+                    "Album2|2023-02-01|Artist2"
+                );
             })
             .verifyComplete();
 
-        verify(songBulkRepository).bulkInsert(argThat(songs -> songs.size() == 3));
+        verify(songBulkRepository).bulkInsertReturningIds(argThat(songs -> songs.size() == 3));
     }
 
     @Test
@@ -181,7 +158,6 @@ class SongBatchProcessorTest {
         // given
         List<SpotifySongDto> largeSongDtos = new ArrayList<>();
         Map<String, Album> largeAlbumsMap = new HashMap<>();
-        List<Song> largeSavedSongs = new ArrayList<>();
 
         // 1000개의 song 생성
         for (int i = 0; i < 1000; i++) {
@@ -195,35 +171,28 @@ class SongBatchProcessorTest {
             if (!largeAlbumsMap.containsKey(albumKey)) {
                 largeAlbumsMap.put(albumKey, createAlbum((long) (i / 100), albumTitle, releaseDate, artistName));
             }
-            
-            largeSavedSongs.add(createSong((long) i, "Song" + i, (long) (i / 100)));
         }
 
-        when(songBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(1000L));
-
-        Set<String> titles = largeSongDtos.stream()
-            .map(SpotifySongDto::getSongTitle)
-            .collect(Collectors.toSet());
-        when(songRepository.findAllByTitleIn(titles))
-            .thenReturn(Flux.fromIterable(largeSavedSongs));
+        List<Long> generatedIds = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(generatedIds));
 
         // when & then
         StepVerifier.create(songBatchProcessor.processSongsBatch(largeSongDtos, largeAlbumsMap))
             .assertNext(result -> {
-                assertThat(result.savedSongs()).hasSize(1000);
-                assertThat(result.songIndexToAlbumKey()).hasSize(1000);
+                assertThat(result.savedSongs()).extracting(saved -> saved.song().getId()).containsExactlyElementsOf(generatedIds);
+                assertThat(result.savedSongs()).extracting(SavedSong::dto).containsExactlyElementsOf(largeSongDtos);
             })
             .verifyComplete();
 
-        verify(songBulkRepository).bulkInsert(argThat(songs -> songs.size() == 1000));
+        verify(songBulkRepository).bulkInsertReturningIds(argThat(songs -> songs.size() == 1000));
     }
 
     @Test
     @DisplayName("bulk insert 실패 시 에러를 전파한다")
     void handleBulkInsertError() {
         // given
-        when(songBulkRepository.bulkInsert(anyList()))
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
             .thenReturn(Mono.error(new RuntimeException("Bulk insert failed")));
 
         // when & then
@@ -233,18 +202,15 @@ class SongBatchProcessorTest {
     }
 
     @Test
-    @DisplayName("재조회 실패 시 에러를 전파한다")
-    void handleReloadError() {
+    @DisplayName("생성된 id 개수가 저장한 songs 수와 다르면 에러를 전파한다")
+    void handleGeneratedIdCountMismatch() {
         // given
-        when(songBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(3L));
-
-        when(songRepository.findAllByTitleIn(anySet()))
-            .thenReturn(Flux.error(new RuntimeException("Reload failed")));
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(1L, 2L)));
 
         // when & then
         StepVerifier.create(songBatchProcessor.processSongsBatch(songDtos, albumsMap))
-            .expectErrorMessage("Reload failed")
+            .expectError(IllegalStateException.class)
             .verify();
     }
 
@@ -265,24 +231,14 @@ class SongBatchProcessorTest {
         dateAlbumsMap.put("Album3|2023-03-01|Artist3", createAlbum(3L, "Album3", LocalDate.of(2023, 3, 1), "Artist3"));
         dateAlbumsMap.put("Album4|2023-01-01|Artist4", createAlbum(4L, "Album4", LocalDate.of(2023, 1, 1), "Artist4"));
 
-        List<Song> savedSongs = Arrays.asList(
-            createSong(1L, "Song1", 1L),
-            createSong(2L, "Song2", 2L),
-            createSong(3L, "Song3", 3L),
-            createSong(4L, "Song4", 4L)
-        );
-
-        when(songBulkRepository.bulkInsert(anyList()))
-            .thenReturn(Mono.just(4L));
-
-        when(songRepository.findAllByTitleIn(anySet()))
-            .thenReturn(Flux.fromIterable(savedSongs));
+        when(songBulkRepository.bulkInsertReturningIds(anyList()))
+            .thenReturn(Mono.just(List.of(1L, 2L, 3L, 4L)));
 
         // when & then
         StepVerifier.create(songBatchProcessor.processSongsBatch(mixedDateSongs, dateAlbumsMap))
             .assertNext(result -> {
                 assertThat(result.savedSongs()).hasSize(4);
-                assertThat(result.songIndexToAlbumKey()).hasSize(4);
+                assertThat(result.savedSongs()).extracting(SavedSong::albumKey).doesNotContainNull();
             })
             .verifyComplete();
     }
@@ -327,19 +283,4 @@ class SongBatchProcessorTest {
         ReflectionTestUtils.setField(album, "id", id);
         return album;
     }
-
-    private Song createSong(Long id, String title, Long albumId) {
-        Song song = Song.builder()
-            .title(title)
-            .albumId(albumId)
-            .popularity(50)
-            .energy(50)
-            .tempo(new BigDecimal("120.0"))
-            .loudnessDb(new BigDecimal("-5.0"))
-            .musicKey("C")
-            .timeSignature("4/4")
-            .build();
-        ReflectionTestUtils.setField(song, "id", id);
-        return song;
-    }
 }
@@ -0,0 +1,107 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.SongCard;
+import com.example.spotify_song_subject.repository.SongCardRedisRepository;
+import com.example.spotify_song_subject.repository.SongCardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SongCardService 단위 테스트")
+class SongCardServiceTest {
+
+    private SongCardRepository songCardRepository;
+    private SongCardRedisRepository songCardRedisRepository;
+    private SongCardService songCardService;
+
+    @BeforeEach
+    void setUp() {
+        songCardRepository = mock(SongCardRepository.class);
+        songCardRedisRepository = mock(SongCardRedisRepository.class);
+        songCardService = new SongCardService(songCardRepository, songCardRedisRepository);
+    }
+
+    @Test
+    @DisplayName("모든 곡이 캐시에 있으면 DB를 조회하지 않는다")
+    void findCards_AllCached() {
+        // given
+        Map<Long, SongCard> cached = Map.of(1L, card(1L), 2L, card(2L));
+        when(songCardRedisRepository.findAll(List.of(1L, 2L))).thenReturn(Mono.just(cached));
+
+        // when & then
+        StepVerifier.create(songCardService.findCards(List.of(1L, 2L)))
+            .assertNext(cards -> assertThat(cards).isEqualTo(cached))
+            .verifyComplete();
+
+        verifyNoInteractions(songCardRepository);
+        verify(songCardRedisRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 곡만 DB에서 한 번에 읽어 캐시에 채운다")
+    void findCards_LoadsMissing() {
+        // given
+        when(songCardRedisRepository.findAll(List.of(1L, 2L, 3L))).thenReturn(Mono.just(Map.of(1L, card(1L))));
+        when(songCardRepository.findSongCardsByIds(List.of(2L, 3L))).thenReturn(Flux.just(card(2L), card(3L)));
+        when(songCardRedisRepository.saveAll(List.of(card(2L), card(3L)))).thenReturn(Mono.just(2L));
+
+        // when & then
+        StepVerifier.create(songCardService.findCards(List.of(1L, 2L, 3L)))
+            .assertNext(cards -> assertThat(cards).containsOnlyKeys(1L, 2L, 3L))
+            .verifyComplete();
+
+        verify(songCardRepository, times(1)).findSongCardsByIds(List.of(2L, 3L));
+        verify(songCardRedisRepository).saveAll(List.of(card(2L), card(3L)));
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 곡은 결과에서 빠진다")
+    void findCards_SkipsUnknownSongs() {
+        // given
+        when(songCardRedisRepository.findAll(List.of(9L))).thenReturn(Mono.just(Map.of()));
+        when(songCardRepository.findSongCardsByIds(List.of(9L))).thenReturn(Flux.empty());
+        when(songCardRedisRepository.saveAll(List.of())).thenReturn(Mono.just(0L));
+
+        // when & then
+        StepVerifier.create(songCardService.findCards(List.of(9L)))
+            .assertNext(cards -> assertThat(cards).isEmpty())
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("빈 목록은 캐시와 DB를 조회하지 않는다")
+    void findCards_EmptyList() {
+        // when & then
+        StepVerifier.create(songCardService.findCards(List.of()))
+            .assertNext(cards -> assertThat(cards).isEmpty())
+            .verifyComplete();
+
+        verifyNoInteractions(songCardRedisRepository, songCardRepository);
+    }
+
+    @Test
+    @DisplayName("곡 카드를 무효화한다")
+    void evict() {
+        // given
+        when(songCardRedisRepository.deleteAll(List.of(1L, 2L))).thenReturn(Mono.just(2L));
+
+        // when & then
+        StepVerifier.create(songCardService.evict(List.of(1L, 2L)))
+            .expectNext(2L)
+            .verifyComplete();
+    }
+
+    private SongCard card(Long songId) {
+        return new SongCard(songId, "Song " + songId, "Artist " + songId, "Album " + songId);
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.spotify_song_subject.application;
 
+import com.example.spotify_song_subject.dto.SongCard;
 import com.example.spotify_song_subject.dto.SongLikeScore;
-import com.example.spotify_song_subject.dto.TrendingSongDto;
 import com.example.spotify_song_subject.repository.SongLikeRedisRepository;
-import com.example.spotify_song_subject.repository.SongLikeCustomRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +11,12 @@ import reactor.test.StepVerifier;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -22,18 +24,18 @@ import static org.mockito.Mockito.*;
 class SongLikeQueryServiceTest {
 
     private SongLikeRedisRepository songLikeRedisRepository;
-    private SongLikeCustomRepository songLikeCustomRepository;
+    private SongCardService songCardService;
 
     private SongLikeQueryService songLikeQueryService;
 
     @BeforeEach
     void setUp() {
         this.songLikeRedisRepository = mock(SongLikeRedisRepository.class);
-        this.songLikeCustomRepository =  mock(SongLikeCustomRepository.class);
+        this.songCardService = mock(SongCardService.class);
 
         songLikeQueryService = new SongLikeQueryService(
             songLikeRedisRepository,
-            songLikeCustomRepository
+            songCardService
         );
     }
 
@@ -47,43 +49,20 @@ class SongLikeQueryServiceTest {
             new SongLikeScore(3L, 80L)
         );
 
-        List<TrendingSongDto> expectedDtos = List.of(
-            TrendingSongDto.builder()
-                .songId(1L)
-                .songTitle("Song 1")
-                .artistName("Artist 1")
-                .albumName("Album 1")
-                .likeIncrease(100L)
-                .build(),
-            TrendingSongDto.builder()
-                .songId(2L)
-                .songTitle("Song 2")
-                .artistName("Artist 2")
-                .albumName("Album 2")
-                .likeIncrease(90L)
-                .build(),
-            TrendingSongDto.builder()
-                .songId(3L)
-                .songTitle("Song 3")
-                .artistName("Artist 3")
-                .albumName("Album 3")
-                .likeIncrease(80L)
-                .build()
-        );
-
         when(songLikeRedisRepository.getTop10TrendingSongs())
             .thenReturn(Mono.just(mockScores));
 
-        when(songLikeCustomRepository.findTrendingSongsByIds(
-            eq(List.of(1L, 2L, 3L)),
-            any(Map.class)
-        )).thenReturn(Mono.just(expectedDtos));
+        when(songCardService.findCards(eq(List.of(1L, 2L, 3L))))
+            .thenReturn(Mono.just(cardsOf(1L, 2L, 3L)));
 
         // When & Then
         StepVerifier.create(songLikeQueryService.getTrendingSongs())
             .assertNext(result -> {
                 assertThat(result).hasSize(3);
                 assertThat(result.get(0).getSongId()).isEqualTo(1L);
+                assertThat(result.get(0).getSongTitle()).isEqualTo("Song 1");
+                assertThat(result.get(0).getArtistName()).isEqualTo("Artist 1");
+                assertThat(result.get(0).getAlbumName()).isEqualTo("Album 1");
                 assertThat(result.get(0).getLikeIncrease()).isEqualTo(100L);
                 assertThat(result.get(1).getSongId()).isEqualTo(2L);
                 assertThat(result.get(1).getLikeIncrease()).isEqualTo(90L);
@@ -93,7 +72,7 @@ class SongLikeQueryServiceTest {
             .verifyComplete();
 
         verify(songLikeRedisRepository).getTop10TrendingSongs();
-        verify(songLikeCustomRepository).findTrendingSongsByIds(any(List.class), any(Map.class));
+        verify(songCardService).findCards(anyList());
     }
 
     @Test
@@ -109,7 +88,7 @@ class SongLikeQueryServiceTest {
             .verifyComplete();
 
         verify(songLikeRedisRepository).getTop10TrendingSongs();
-        verify(songLikeCustomRepository, never()).findTrendingSongsByIds(any(), any());
+        verify(songCardService, never()).findCards(any());
     }
 
     @Test
@@ -125,12 +104,12 @@ class SongLikeQueryServiceTest {
             .verifyComplete();
 
         verify(songLikeRedisRepository).getTop10TrendingSongs();
-        verify(songLikeCustomRepository, never()).findTrendingSongsByIds(any(), any());
+        verify(songCardService, never()).findCards(any());
     }
 
     @Test
-    @DisplayName("트렌딩 곡 조회 - Repository 에러 발생시 빈 리스트 반환")
-    void getTrendingSongs_RepositoryError_ReturnsEmptyList() {
+    @DisplayName("트렌딩 곡 조회 - 곡 카드 조회 에러 발생시 빈 리스트 반환")
+    void getTrendingSongs_SongCardError_ReturnsEmptyList() {
         // Given
         List<SongLikeScore> mockScores = List.of(
             new SongLikeScore(1L, 100L),
@@ -140,7 +119,7 @@ class SongLikeQueryServiceTest {
         when(songLikeRedisRepository.getTop10TrendingSongs())
             .thenReturn(Mono.just(mockScores));
 
-        when(songLikeCustomRepository.findTrendingSongsByIds(any(List.class), any(Map.class)))
+        when(songCardService.findCards(anyList()))
             .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         // When & Then
@@ -149,12 +128,12 @@ class SongLikeQueryServiceTest {
             .verifyComplete();
 
         verify(songLikeRedisRepository).getTop10TrendingSongs();
-        verify(songLikeCustomRepository).findTrendingSongsByIds(any(List.class), any(Map.class));
+        verify(songCardService).findCards(anyList());
     }
 
     @Test
-    @DisplayName("트렌딩 곡 조회 - 좋아요 증가 맵 생성 검증")
-    void getTrendingSongs_VerifyLikeIncreaseMapCreation() {
+    @DisplayName("트렌딩 곡 조회 - 점수 순서를 유지하고 곡 카드가 없는 곡은 제외")
+    void getTrendingSongs_KeepsScoreOrderAndSkipsMissingCards() {
         // Given
         List<SongLikeScore> mockScores = List.of(
             new SongLikeScore(10L, 500L),
@@ -165,26 +144,17 @@ class SongLikeQueryServiceTest {
         when(songLikeRedisRepository.getTop10TrendingSongs())
             .thenReturn(Mono.just(mockScores));
 
-        when(songLikeCustomRepository.findTrendingSongsByIds(any(List.class), any(Map.class)))
-            .thenAnswer(invocation -> {
-                List<Long> songIds = invocation.getArgument(0);
-                Map<Long, Long> likeIncreaseMap = invocation.getArgument(1);
-
-                // 맵이 올바르게 생성되었는지 검증
-                assertThat(songIds).containsExactly(10L, 20L, 30L);
-                assertThat(likeIncreaseMap).containsEntry(10L, 500L);
-                assertThat(likeIncreaseMap).containsEntry(20L, 300L);
-                assertThat(likeIncreaseMap).containsEntry(30L, 100L);
-
-                return Mono.just(List.of());
-            });
+        // 20L은 삭제되었거나 아티스트/앨범이 없어 곡 카드가 없음
+        when(songCardService.findCards(eq(List.of(10L, 20L, 30L))))
+            .thenReturn(Mono.just(cardsOf(30L, 10L)));
 
         // When & Then
         StepVerifier.create(songLikeQueryService.getTrendingSongs())
-            .assertNext(result -> assertThat(result).isEmpty())
+            .assertNext(result -> {
+                assertThat(result).extracting("songId").containsExactly(10L, 30L);
+                assertThat(result).extracting("likeIncrease").containsExactly(500L, 100L);
+            })
             .verifyComplete();
-
-        verify(songLikeCustomRepository).findTrendingSongsByIds(any(List.class), any(Map.class));
     }
 
     @Test
@@ -204,21 +174,11 @@ class SongLikeQueryServiceTest {
             new SongLikeScore(10L, 10L)
         );
 
-        List<TrendingSongDto> expectedDtos = mockScores.stream()
-            .map(score -> TrendingSongDto.builder()
-                .songId(score.songId())
-                .songTitle("Song " + score.songId())
-                .artistName("Artist " + score.songId())
-                .albumName("Album " + score.songId())
-                .likeIncrease(score.score())
-                .build())
-            .toList();
-
         when(songLikeRedisRepository.getTop10TrendingSongs())
             .thenReturn(Mono.just(mockScores));
 
-        when(songLikeCustomRepository.findTrendingSongsByIds(any(List.class), any(Map.class)))
-            .thenReturn(Mono.just(expectedDtos));
+        when(songCardService.findCards(anyList()))
+            .thenReturn(Mono.just(cardsOf(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)));
 
         // When & Then
         StepVerifier.create(songLikeQueryService.getTrendingSongs())
@@ -238,23 +198,11 @@ class SongLikeQueryServiceTest {
             new SongLikeScore(42L, 999L)
         );
 
-        List<TrendingSongDto> expectedDtos = List.of(
-            TrendingSongDto.builder()
-                .songId(42L)
-                .songTitle("Single Hit Song")
-                .artistName("Popular Artist")
-                .albumName("Best Album")
-                .likeIncrease(999L)
-                .build()
-        );
-
         when(songLikeRedisRepository.getTop10TrendingSongs())
             .thenReturn(Mono.just(mockScores));
 
-        when(songLikeCustomRepository.findTrendingSongsByIds(
-            eq(List.of(42L)),
-            any(Map.class)
-        )).thenReturn(Mono.just(expectedDtos));
+        when(songCardService.findCards(eq(List.of(42L))))
+            .thenReturn(Mono.just(Map.of(42L, new SongCard(42L, "Single Hit Song", "Popular Artist", "Best Album"))));
 
         // When & Then
         StepVerifier.create(songLikeQueryService.getTrendingSongs())
@@ -262,6 +210,7 @@ class SongLikeQueryServiceTest {
                 assertThat(result).hasSize(1);
                 assertThat(result.get(0).getSongId()).isEqualTo(42L);
                 assertThat(result.get(0).getSongTitle()).isEqualTo("Single Hit Song");
+                assertThat(result.get(0).getArtistName()).isEqualTo("Popular Artist");
                 assertThat(result.get(0).getLikeIncrease()).isEqualTo(999L);
             })
             .verifyComplete();
@@ -286,6 +235,12 @@ class SongLikeQueryServiceTest {
             .verifyComplete();
 
         verify(songLikeRedisRepository).getTop10TrendingSongs();
-        verify(songLikeCustomRepository, never()).findTrendingSongsByIds(any(), any());
+        verify(songCardService, never()).findCards(any());
+    }
+
+    private Map<Long, SongCard> cardsOf(Long... songIds) {
+        return List.of(songIds).stream()
+            .map(songId -> new SongCard(songId, "Song " + songId, "Artist " + songId, "Album " + songId))
+            .collect(Collectors.toMap(SongCard::songId, Function.identity()));
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,7 @@
 package com.example.spotify_song_subject.application;
 
-import com.example.spotify_song_subject.domain.Song;
-import com.example.spotify_song_subject.domain.SongLike;
 import com.example.spotify_song_subject.dto.SongLikeDto;
+import com.example.spotify_song_subject.dto.SongSummary;
 import com.example.spotify_song_subject.exception.ResourceNotFoundException;
 import com.example.spotify_song_subject.repository.SongLikeRedisRepository;
 import com.example.spotify_song_subject.repository.SongLikeRepository;
@@ -11,13 +10,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -26,41 +25,27 @@ class SongLikeServiceTest {
     private SongRepository songRepository;
     private SongLikeRepository songLikeRepository;
     private SongLikeRedisRepository songLikeRedisRepository;
+    private LikeCountBuffer likeCountBuffer;
 
     private SongLikeService songLikeService;
 
     private Long songId;
     private Long userId;
-    private Song testSong;
-    private SongLike testSongLike;
+    private SongSummary testSong;
 
     @BeforeEach
     void setUp() {
         this.songRepository = mock(SongRepository.class);
         this.songLikeRepository = mock(SongLikeRepository.class);
         this.songLikeRedisRepository = mock(SongLikeRedisRepository.class);
-        this.songLikeService = new SongLikeService(songRepository, songLikeRepository, songLikeRedisRepository);
+        this.likeCountBuffer = mock(LikeCountBuffer.class);
+        this.songLikeService = new SongLikeService(
+            songRepository, songLikeRepository, songLikeRedisRepository, likeCountBuffer);
 
         songId = 1L;
         userId = 100L;
 
-        testSong = Song.builder()
-            .title("Test Song")
-            .genre("Pop")
-            .build();
-        setId(testSong, songId);
-
-        testSongLike = SongLike.create(songId, userId);
-    }
-
-    private void setId(Song song, Long id) {
-        try {
-            Field idField = Song.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(song, id);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set id", e);
-        }
+        testSong = new SongSummary(songId, "Test Song", 10L, 0L);
     }
 
     @Nested
@@ -71,30 +56,16 @@ class SongLikeServiceTest {
         @DisplayName("새로운 좋아요 추가 - 정상 케이스")
         void addLike_Success() {
             // given
-            Song updatedSong = Song.builder()
-                .title("Test Song")
-                .genre("Pop")
-                .likeCount(1L)
-                .build();
-            setId(updatedSong, songId);
-
-            when(songRepository.findById(songId))
-                .thenReturn(Mono.just(testSong))
-                .thenReturn(Mono.just(updatedSong));
-
-            when(songLikeRepository.findBySongIdAndUserId(songId, userId))
-                .thenReturn(Mono.empty());
-
-            when(songLikeRepository.save(any(SongLike.class)))
-                .thenReturn(Mono.just(testSongLike));
-
-            when(songRepository.incrementLikeCount(songId))
-                .thenReturn(Mono.just(Integer.valueOf(1)));
+            when(songRepository.findSummaryById(songId))
+                .thenReturn(Mono.just(testSong));
 
-            when(songLikeRedisRepository.recordLikeToBucket(songId))
+            when(songLikeRepository.toggle(songId, userId))
                 .thenReturn(Mono.just(true));
 
-            when(songLikeRedisRepository.updateLikeCountCache(songId, 1L))
+            when(likeCountBuffer.increment(songId))
+                .thenReturn(Mono.just(1L));
+
+            when(songLikeRedisRepository.applyLike(songId, 1, 1L))
                 .thenReturn(Mono.just(1L));
 
             // when
@@ -111,42 +82,30 @@ class SongLikeServiceTest {
                 })
                 .verifyComplete();
 
-            verify(songRepository, times(2)).findById(songId);
-            verify(songLikeRepository).findBySongIdAndUserId(songId, userId);
-            verify(songLikeRepository).save(any(SongLike.class));
-            verify(songRepository).incrementLikeCount(songId);
-            verify(songLikeRedisRepository).recordLikeToBucket(songId);
-            verify(songLikeRedisRepository).updateLikeCountCache(songId, 1L);
+            verify(songRepository).findSummaryById(songId);
+            verify(songRepository, never()).findById(anyLong());
+            verify(songLikeRepository).toggle(songId, userId);
+            verifyNoMoreInteractions(songLikeRepository);
+            verify(likeCountBuffer).increment(songId);
+            verify(songRepository, never()).incrementLikeCount(anyLong());
+            verify(songLikeRedisRepository).applyLike(songId, 1, 1L);
+            verifyNoMoreInteractions(songLikeRedisRepository);
         }
 
         @Test
         @DisplayName("기존 좋아요 삭제 - 정상 케이스")
         void removeLike_Success() {
             // given
-            Song updatedSong = Song.builder()
-                .title("Test Song")
-                .genre("Pop")
-                .likeCount(0L)
-                .build();
-            setId(updatedSong, songId);
-
-            when(songRepository.findById(songId))
-                .thenReturn(Mono.just(testSong))
-                .thenReturn(Mono.just(updatedSong));
-
-            when(songLikeRepository.findBySongIdAndUserId(songId, userId))
-                .thenReturn(Mono.just(testSongLike));
-
-            when(songLikeRepository.deleteBySongIdAndUserId(songId, userId))
-                .thenReturn(Mono.empty());
+            when(songRepository.findSummaryById(songId))
+                .thenReturn(Mono.just(testSong));
 
-            when(songRepository.decrementLikeCount(songId))
-                .thenReturn(Mono.just(Integer.valueOf(1)));
+            when(songLikeRepository.toggle(songId, userId))
+                .thenReturn(Mono.just(false));
 
-            when(songLikeRedisRepository.decrementLikeInBucket(songId))
-                .thenReturn(Mono.just(true));
+            when(likeCountBuffer.decrement(songId))
+                .thenReturn(Mono.just(0L));
 
-            when(songLikeRedisRepository.updateLikeCountCache(songId, 0L))
+            when(songLikeRedisRepository.applyLike(songId, -1, 0L))
                 .thenReturn(Mono.just(0L));
 
             // when
@@ -163,12 +122,44 @@ class SongLikeServiceTest {
                 })
                 .verifyComplete();
 
-            verify(songRepository, times(2)).findById(songId);
-            verify(songLikeRepository).findBySongIdAndUserId(songId, userId);
-            verify(songLikeRepository).deleteBySongIdAndUserId(songId, userId);
-            verify(songRepository).decrementLikeCount(songId);
-            verify(songLikeRedisRepository).decrementLikeInBucket(songId);
-            verify(songLikeRedisRepository).updateLikeCountCache(songId, 0L);
+            verify(songRepository).findSummaryById(songId);
+            verify(songRepository, never()).findById(anyLong());
+            verify(songLikeRepository).toggle(songId, userId);
+            verifyNoMoreInteractions(songLikeRepository);
+            verify(likeCountBuffer).decrement(songId);
+            verify(songRepository, never()).decrementLikeCount(anyLong());
+            verify(songLikeRedisRepository).applyLike(songId, -1, 0L);
+            verifyNoMoreInteractions(songLikeRedisRepository);
+        }
+
+        @Test
+        @DisplayName("동시 첫 좋아요로 유니크 제약에 걸리면 한 번 재시도하여 토글한다")
+        void retryOnUniqueViolation() {
+            // given
+            AtomicInteger attempts = new AtomicInteger();
+            when(songRepository.findSummaryById(songId))
+                .thenReturn(Mono.just(testSong));
+
+            when(songLikeRepository.toggle(songId, userId))
+                .thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+                    ? Mono.error(new DuplicateKeyException("uk_like_song_user"))
+                    : Mono.just(false)));
+
+            when(likeCountBuffer.decrement(songId))
+                .thenReturn(Mono.just(0L));
+
+            when(songLikeRedisRepository.applyLike(songId, -1, 0L))
+                .thenReturn(Mono.just(0L));
+
+            // when
+            Mono<SongLikeDto> result = songLikeService.like(songId, userId);
+
+            // then
+            StepVerifier.create(result)
+                .assertNext(dto -> assertThat(dto.isLiked()).isFalse())
+                .verifyComplete();
+
+            assertThat(attempts).hasValue(2);
         }
     }
 
@@ -180,7 +171,10 @@ class SongLikeServiceTest {
         @DisplayName("존재하지 않는 노래 ID로 좋아요 시도")
         void like_SongNotFound() {
             // given
-            when(songRepository.findById(songId))
+            when(songRepository.findSummaryById(songId))
+                .thenReturn(Mono.empty());
+
+            when(songLikeRepository.toggle(songId, userId))
                 .thenReturn(Mono.empty());
 
             // when
@@ -195,23 +189,19 @@ class SongLikeServiceTest {
                 })
                 .verify();
 
-            verify(songRepository).findById(songId);
-            verifyNoInteractions(songLikeRepository);
+            verifyNoInteractions(likeCountBuffer);
             verifyNoInteractions(songLikeRedisRepository);
         }
 
         @Test
-        @DisplayName("좋아요 저장 실패")
-        void addLike_SaveFailure() {
+        @DisplayName("좋아요 토글 실패")
+        void toggle_Failure() {
             // given
-            when(songRepository.findById(songId))
+            when(songRepository.findSummaryById(songId))
                 .thenReturn(Mono.just(testSong));
 
-            when(songLikeRepository.findBySongIdAndUserId(songId, userId))
-                .thenReturn(Mono.empty());
-
-            when(songLikeRepository.save(any(SongLike.class)))
-                .thenReturn(Mono.error(new RuntimeException("DB save failed")));
+            when(songLikeRepository.toggle(songId, userId))
+                .thenReturn(Mono.error(new RuntimeException("DB toggle failed")));
 
             // when
             Mono<SongLikeDto> result = songLikeService.like(songId, userId);
@@ -220,14 +210,12 @@ class SongLikeServiceTest {
             StepVerifier.create(result)
                 .expectErrorSatisfies(error -> {
                     assertThat(error).isInstanceOf(RuntimeException.class);
-                    assertThat(error.getMessage()).isEqualTo("DB save failed");
+                    assertThat(error.getMessage()).isEqualTo("DB toggle failed");
                 })
                 .verify();
 
-            verify(songRepository).findById(songId);
-            verify(songLikeRepository).findBySongIdAndUserId(songId, userId);
-            verify(songLikeRepository).save(any(SongLike.class));
-            verifyNoMoreInteractions(songRepository);
+            verify(songLikeRepository).toggle(songId, userId);
+            verifyNoInteractions(likeCountBuffer);
             verifyNoInteractions(songLikeRedisRepository);
         }
 
@@ -235,16 +223,13 @@ class SongLikeServiceTest {
         @DisplayName("좋아요 카운트 증가 실패")
         void addLike_IncrementCountFailure() {
             // given
-            when(songRepository.findById(songId))
+            when(songRepository.findSummaryById(songId))
                 .thenReturn(Mono.just(testSong));
 
-            when(songLikeRepository.findBySongIdAndUserId(songId, userId))
-                .thenReturn(Mono.empty());
-
-            when(songLikeRepository.save(any(SongLike.class)))
-                .thenReturn(Mono.just(testSongLike));
+            when(songLikeRepository.toggle(songId, userId))
+                .thenReturn(Mono.just(true));
 
-            when(songRepository.incrementLikeCount(songId))
+            when(likeCountBuffer.increment(songId))
                 .thenReturn(Mono.error(new RuntimeException("Increment failed")));
 
             // when
@@ -258,31 +243,26 @@ class SongLikeServiceTest {
                 })
                 .verify();
 
-            verify(songRepository).findById(songId);
-            verify(songLikeRepository).findBySongIdAndUserId(songId, userId);
-            verify(songLikeRepository).save(any(SongLike.class));
-            verify(songRepository).incrementLikeCount(songId);
+            verify(songLikeRepository).toggle(songId, userId);
+            verify(likeCountBuffer).increment(songId);
             verifyNoInteractions(songLikeRedisRepository);
         }
 
         @Test
-        @DisplayName("Redis 버킷 기록 실패")
-        void addLike_RedisRecordFailure() {
+        @DisplayName("Redis 반영 실패")
+        void addLike_RedisApplyFailure() {
             // given
-            when(songRepository.findById(songId))
+            when(songRepository.findSummaryById(songId))
                 .thenReturn(Mono.just(testSong));
 
-            when(songLikeRepository.findBySongIdAndUserId(songId, userId))
-                .thenReturn(Mono.empty());
-
-            when(songLikeRepository.save(any(SongLike.class)))
-                .thenReturn(Mono.just(testSongLike));
+            when(songLikeRepository.toggle(songId, userId))
+                .thenReturn(Mono.just(true));
 
-            when(songRepository.incrementLikeCount(songId))
-                .thenReturn(Mono.just(Integer.valueOf(1)));
+            when(likeCountBuffer.increment(songId))
+                .thenReturn(Mono.just(1L));
 
-            when(songLikeRedisRepository.recordLikeToBucket(songId))
-                .thenReturn(Mono.error(new RuntimeException("Redis record failed")));
+            when(songLikeRedisRepository.applyLike(songId, 1, 1L))
+                .thenReturn(Mono.error(new RuntimeException("Redis apply failed")));
 
             // when
             Mono<SongLikeDto> result = songLikeService.like(songId, userId);
@@ -291,16 +271,13 @@ class SongLikeServiceTest {
             StepVerifier.create(result)
                 .expectErrorSatisfies(error -> {
                     assertThat(error).isInstanceOf(RuntimeException.class);
-                    assertThat(error.getMessage()).isEqualTo("Redis record failed");
+                    assertThat(error.getMessage()).isEqualTo("Redis apply failed");
                 })
                 .verify();
 
-            verify(songRepository).findById(songId);
-            verify(songLikeRepository).findBySongIdAndUserId(songId, userId);
-            verify(songLikeRepository).save(any(SongLike.class));
-            verify(songRepository).incrementLikeCount(songId);
-            verify(songLikeRedisRepository).recordLikeToBucket(songId);
-            verify(songLikeRedisRepository, never()).updateLikeCountCache(anyLong(), anyLong());
+            verify(songLikeRepository).toggle(songId, userId);
+            verify(likeCountBuffer).increment(songId);
+            verify(songLikeRedisRepository).applyLike(songId, 1, 1L);
         }
     }
 }
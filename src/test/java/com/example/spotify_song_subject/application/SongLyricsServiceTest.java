@@ -0,0 +1,55 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.domain.SongLyrics;
+import com.example.spotify_song_subject.mapper.DeflateLyricsCodec;
+import com.example.spotify_song_subject.mapper.LyricsCodec;
+import com.example.spotify_song_subject.repository.SongLyricsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SongLyricsService 단위 테스트")
+class SongLyricsServiceTest {
+
+    private SongLyricsRepository songLyricsRepository;
+    private LyricsCodec lyricsCodec;
+
+    private SongLyricsService songLyricsService;
+
+    @BeforeEach
+    void setUp() {
+        songLyricsRepository = mock(SongLyricsRepository.class);
+        lyricsCodec = new DeflateLyricsCodec(new byte[0], 6);
+        songLyricsService = new SongLyricsService(songLyricsRepository, lyricsCodec);
+    }
+
+    @Test
+    @DisplayName("저장된 압축 가사를 해제하여 반환한다")
+    void findLyrics() {
+        // given
+        String lyrics = "Is this the real life?\nIs this just fantasy?";
+        when(songLyricsRepository.findById(1L))
+            .thenReturn(Mono.just(SongLyrics.of(1L, lyricsCodec.encode(lyrics))));
+
+        // when & then
+        StepVerifier.create(songLyricsService.findLyrics(1L))
+            .expectNext(lyrics)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("가사가 없는 곡은 빈 결과를 반환한다")
+    void findLyricsWhenAbsent() {
+        // given
+        when(songLyricsRepository.findById(1L)).thenReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(songLyricsService.findLyrics(1L))
+            .verifyComplete();
+    }
+}
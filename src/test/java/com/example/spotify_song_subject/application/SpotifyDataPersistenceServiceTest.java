@@ -0,0 +1,210 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.domain.Album;
+import com.example.spotify_song_subject.domain.Artist;
+import com.example.spotify_song_subject.domain.ArtistAlbum;
+import com.example.spotify_song_subject.domain.ArtistSong;
+import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SpotifyDataPersistenceService 단위 테스트")
+class SpotifyDataPersistenceServiceTest {
+
+    private TransactionalOperator transactionalOperator;
+    private ArtistBatchProcessor artistBatchProcessor;
+    private AlbumBatchProcessor albumBatchProcessor;
+    private SongBatchProcessor songBatchProcessor;
+    private RelationshipDataProcessor relationshipProcessor;
+    private IngestIdentityCache identityCache;
+
+    private SpotifyDataPersistenceService spotifyDataPersistenceService;
+
+    private final Map<String, Long> artistIds = new HashMap<>();
+    private final Map<String, Long> albumIds = new HashMap<>();
+    private final AtomicLong songIds = new AtomicLong();
+
+    private final List<Set<String>> artistRequests = new ArrayList<>();
+    private final List<Set<String>> albumRequests = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionalOperator = mock(TransactionalOperator.class);
+        artistBatchProcessor = mock(ArtistBatchProcessor.class);
+        albumBatchProcessor = mock(AlbumBatchProcessor.class);
+        songBatchProcessor = mock(SongBatchProcessor.class);
+        relationshipProcessor = mock(RelationshipDataProcessor.class);
+        identityCache = new IngestIdentityCache(100);
+
+        spotifyDataPersistenceService = new SpotifyDataPersistenceService(transactionalOperator,
+            artistBatchProcessor, albumBatchProcessor, songBatchProcessor, relationshipProcessor,
+            identityCache, mock(SongRepository.class), mock(AlbumStatisticsCountCache.class));
+
+        when(transactionalOperator.transactional(any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 처리기에 전달된 아티스트/앨범을 기록하고 이름마다 고정 id를 부여
+        when(artistBatchProcessor.processArtistsBatch(anySet())).thenAnswer(invocation -> {
+            Set<String> names = invocation.getArgument(0);
+            artistRequests.add(Set.copyOf(names));
+
+            Map<String, Artist> artists = new HashMap<>();
+            names.forEach(name -> artists.put(name, artist(name)));
+            return Mono.just(artists);
+        });
+        when(albumBatchProcessor.processAlbumsBatch(anyMap())).thenAnswer(invocation -> {
+            Map<String, Set<AlbumBatchProcessor.AlbumInfo>> albumsByTitle = invocation.getArgument(0);
+            albumRequests.add(Set.copyOf(albumsByTitle.keySet()));
+
+            Map<String, Album> albums = new HashMap<>();
+            albumsByTitle.forEach((title, infos) -> infos.forEach(info -> {
+                Album album = Album.of(title, info.releaseDate(), info.artistName());
+                album.assignId(albumIds.computeIfAbsent(title, key -> 100L + albumIds.size()));
+                albums.put(title + "|" + info.releaseDate() + "|" + info.artistName(), album);
+            }));
+            return Mono.just(albums);
+        });
+        when(songBatchProcessor.processSongsBatch(anyList(), anyMap())).thenAnswer(invocation -> {
+            List<SpotifySongDto> dtos = invocation.getArgument(0);
+            Map<String, Album> albumsMap = invocation.getArgument(1);
+
+            List<SongBatchProcessor.SavedSong> savedSongs = new ArrayList<>();
+            for (SpotifySongDto dto : dtos) {
+                Song song = Song.builder().title(dto.getSongTitle()).build();
+                song.assignId(songIds.incrementAndGet());
+                String albumKey = dto.getAlbumTitle() + "|" + dto.getReleaseDate() + "|" + dto.getArtists();
+                savedSongs.add(new SongBatchProcessor.SavedSong(song, dto, albumsMap.containsKey(albumKey) ? albumKey : null));
+            }
+            return Mono.just(new SongBatchProcessor.SongProcessResult(savedSongs));
+        });
+
+        when(relationshipProcessor.bulkInsertArtistSongs(anyCollection())).thenReturn(Mono.just(0L));
+        when(relationshipProcessor.bulkInsertArtistAlbums(anyCollection())).thenReturn(Mono.just(0L));
+        when(relationshipProcessor.bulkApplyAlbumYearCounts(anyCollection())).thenReturn(Mono.just(0L));
+    }
+
+    @Test
+    @DisplayName("앞선 배치에서 본 아티스트와 앨범은 처리기에 다시 보내지 않는다")
+    void onlyUnseenIdentitiesReachProcessors() {
+        // given
+        spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Blueming", "Love poem", "2019-11-18"),
+            song("BTS", "Dynamite", "BE", "2020-11-20")
+        )).block();
+
+        // when
+        spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Unlucky", "Love poem", "2019-11-18"),
+            song("NewJeans", "Ditto", "OMG", "2023-01-02")
+        )).block();
+
+        // then
+        assertThat(artistRequests).containsExactly(Set.of("IU", "BTS"), Set.of("NewJeans"));
+        assertThat(albumRequests).containsExactly(Set.of("Love poem", "BE"), Set.of("OMG"));
+    }
+
+    @Test
+    @DisplayName("캐시에서 찾은 아티스트와 앨범으로도 관계를 만든다")
+    @SuppressWarnings("unchecked")
+    void cachedIdentitiesResolveRelationships() {
+        // given
+        spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Blueming", "Love poem", "2019-11-18")
+        )).block();
+
+        // when
+        spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Unlucky", "Love poem", "2019-11-18"),
+            song("NewJeans", "Ditto", "OMG", "2023-01-02")
+        )).block();
+
+        // then
+        ArgumentCaptor<Collection<ArtistSong>> artistSongs = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<ArtistAlbum>> artistAlbums = ArgumentCaptor.forClass(Collection.class);
+        verify(relationshipProcessor, times(2)).bulkInsertArtistSongs(artistSongs.capture());
+        verify(relationshipProcessor, times(2)).bulkInsertArtistAlbums(artistAlbums.capture());
+
+        assertThat(artistSongs.getAllValues().get(1))
+            .extracting(ArtistSong::getArtistId, ArtistSong::getSongId)
+            .containsExactlyInAnyOrder(tuple(artistIds.get("IU"), 2L), tuple(artistIds.get("NewJeans"), 3L));
+        assertThat(artistAlbums.getAllValues().get(1))
+            .extracting(ArtistAlbum::getArtistId, ArtistAlbum::getAlbumId)
+            .containsExactlyInAnyOrder(
+                tuple(artistIds.get("IU"), albumIds.get("Love poem")),
+                tuple(artistIds.get("NewJeans"), albumIds.get("OMG")));
+    }
+
+    @Test
+    @DisplayName("배치 처리에 실패하면 식별자 캐시에 등록하지 않는다")
+    void failedBatchIsNotCached() {
+        // given
+        when(relationshipProcessor.bulkInsertArtistSongs(anyCollection()))
+            .thenReturn(Mono.error(new IllegalStateException("insert failed")))
+            .thenReturn(Mono.just(0L));
+
+        // when
+        assertThatThrownBy(() -> spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Blueming", "Love poem", "2019-11-18")
+        )).block()).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(identityCache.findArtists(List.of("IU"))).isEmpty();
+        assertThat(identityCache.findAlbums(List.of("Love poem|2019-11-18|IU"))).isEmpty();
+
+        spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Blueming", "Love poem", "2019-11-18")
+        )).block();
+        assertThat(artistRequests).containsExactly(Set.of("IU"), Set.of("IU"));
+    }
+
+    @Test
+    @DisplayName("커밋에 실패해 롤백된 배치는 식별자 캐시에 등록하지 않는다")
+    @SuppressWarnings("unchecked")
+    void rolledBackBatchIsNotCached() {
+        // given
+        doAnswer(invocation -> ((Mono<?>) invocation.getArgument(0))
+            .then(Mono.error(new IllegalStateException("commit failed"))))
+            .when(transactionalOperator).transactional(any(Mono.class));
+
+        // when
+        assertThatThrownBy(() -> spotifyDataPersistenceService.processSongDtoBatch(List.of(
+            song("IU", "Blueming", "Love poem", "2019-11-18")
+        )).block()).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(artistRequests).containsExactly(Set.of("IU"));
+        assertThat(identityCache.findArtists(List.of("IU"))).isEmpty();
+        assertThat(identityCache.findAlbums(List.of("Love poem|2019-11-18|IU"))).isEmpty();
+    }
+
+    private Artist artist(String name) {
+        Artist artist = Artist.of(name);
+        artist.assignId(artistIds.computeIfAbsent(name, key -> 1L + artistIds.size()));
+        return artist;
+    }
+
+    private SpotifySongDto song(String artists, String title, String albumTitle, String releaseDate) {
+        return SpotifySongDto.builder()
+            .artists(artists)
+            .songTitle(title)
+            .albumTitle(albumTitle)
+            .releaseDate(releaseDate)
+            .build();
+    }
+}
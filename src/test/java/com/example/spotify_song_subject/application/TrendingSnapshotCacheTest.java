@@ -0,0 +1,121 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.TrendingSnapshot;
+import com.example.spotify_song_subject.dto.TrendingSongDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TrendingSnapshotCache 단위 테스트")
+class TrendingSnapshotCacheTest {
+
+    private SongLikeQueryService songLikeQueryService;
+    private TrendingSnapshotCache trendingSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        songLikeQueryService = mock(SongLikeQueryService.class);
+        trendingSnapshotCache = new TrendingSnapshotCache(songLikeQueryService);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 다시 계산하지 않고 메모리에서 반환한다")
+    void servesFromMemory() {
+        // given
+        when(songLikeQueryService.getTrendingSongs())
+            .thenReturn(Mono.just(List.of(trendingSong(1L, 10L))));
+
+        // when
+        TrendingSnapshot first = trendingSnapshotCache.current().block();
+        TrendingSnapshot second = trendingSnapshotCache.current().block();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.songs()).extracting(TrendingSongDto::getSongId).containsExactly(1L);
+        verify(songLikeQueryService, times(1)).getTrendingSongs();
+    }
+
+    @Test
+    @DisplayName("계산 중에 들어온 요청은 같은 계산 결과를 공유한다")
+    void singleFlight() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<List<TrendingSongDto>> pending = Sinks.one();
+        when(songLikeQueryService.getTrendingSongs())
+            .thenAnswer(invocation -> {
+                loads.incrementAndGet();
+                return pending.asMono();
+            });
+
+        Mono<TrendingSnapshot> first = trendingSnapshotCache.current();
+        Mono<TrendingSnapshot> second = trendingSnapshotCache.current();
+        Mono<TrendingSnapshot> third = trendingSnapshotCache.refresh();
+
+        // when
+        StepVerifier.create(Mono.zip(first, second, third))
+            .then(() -> pending.tryEmitValue(List.of(trendingSong(2L, 5L))))
+            .assertNext(results -> {
+                assertThat(results.getT1()).isSameAs(results.getT2()).isSameAs(results.getT3());
+                assertThat(results.getT1().songs()).hasSize(1);
+            })
+            .verifyComplete();
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("계산이 끝난 뒤의 갱신은 새로 계산해 스냅샷을 교체한다")
+    void refreshReplacesSnapshot() {
+        // given
+        when(songLikeQueryService.getTrendingSongs())
+            .thenReturn(Mono.just(List.of(trendingSong(1L, 10L))))
+            .thenReturn(Mono.just(List.of(trendingSong(1L, 11L))));
+        TrendingSnapshot before = trendingSnapshotCache.current().block();
+
+        // when
+        trendingSnapshotCache.refresh().block();
+
+        // then
+        TrendingSnapshot after = trendingSnapshotCache.current().block();
+        assertThat(after.songs().get(0).getLikeIncrease()).isEqualTo(11L);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(songLikeQueryService, times(2)).getTrendingSongs();
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 다시 계산해도 ETag가 같다")
+    void sameContentSameEtag() {
+        // given
+        when(songLikeQueryService.getTrendingSongs())
+            .thenReturn(Mono.just(List.of(trendingSong(1L, 10L))))
+            .thenReturn(Mono.just(List.of(trendingSong(1L, 10L))));
+
+        // when
+        TrendingSnapshot first = trendingSnapshotCache.refresh().block();
+        TrendingSnapshot second = trendingSnapshotCache.refresh().block();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    private TrendingSongDto trendingSong(Long songId, Long likeIncrease) {
+        return TrendingSongDto.builder()
+            .songId(songId)
+            .songTitle("Song " + songId)
+            .artistName("Artist " + songId)
+            .albumName("Album " + songId)
+            .likeIncrease(likeIncrease)
+            .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.spotify_song_subject.application;
+
+import com.example.spotify_song_subject.dto.TrendingSnapshot;
+import com.example.spotify_song_subject.repository.SongLikeRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TrendingWindowScheduler 단위 테스트")
+class TrendingWindowSchedulerTest {
+
+    private SongLikeRedisRepository songLikeRedisRepository;
+    private TrendingSnapshotCache trendingSnapshotCache;
+    private TrendingWindowScheduler trendingWindowScheduler;
+
+    @BeforeEach
+    void setUp() {
+        songLikeRedisRepository = mock(SongLikeRedisRepository.class);
+        trendingSnapshotCache = mock(TrendingSnapshotCache.class);
+        trendingWindowScheduler = new TrendingWindowScheduler(songLikeRedisRepository, trendingSnapshotCache);
+    }
+
+    @Test
+    @DisplayName("버킷 교체 시 트렌딩 윈도우를 재구성하고 스냅샷을 갱신한다")
+    void rebuild() {
+        // given
+        AtomicBoolean subscribed = new AtomicBoolean();
+        when(songLikeRedisRepository.rebuildTrendingWindow())
+            .thenReturn(Mono.fromCallable(() -> {
+                subscribed.set(true);
+                return 3L;
+            }));
+        when(trendingSnapshotCache.refresh())
+            .thenReturn(Mono.just(TrendingSnapshot.of(List.of(), Instant.now())));
+
+        // when
+        trendingWindowScheduler.rebuild();
+
+        // then
+        verify(songLikeRedisRepository).rebuildTrendingWindow();
+        assertThat(subscribed).isTrue();
+        verify(trendingSnapshotCache).refresh();
+    }
+
+    @Test
+    @DisplayName("Redis 실패는 로그만 남기고 전파하지 않는다")
+    void rebuildIgnoresFailure() {
+        // given
+        when(songLikeRedisRepository.rebuildTrendingWindow())
+            .thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+        // when & then
+        assertThatCode(() -> trendingWindowScheduler.rebuildOnStartup()).doesNotThrowAnyException();
+        verify(songLikeRedisRepository).rebuildTrendingWindow();
+        verifyNoInteractions(trendingSnapshotCache);
+    }
+}
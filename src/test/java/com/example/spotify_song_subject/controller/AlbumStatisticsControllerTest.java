@@ -1,7 +1,9 @@
 package com.example.spotify_song_subject.controller;
 
 import com.example.spotify_song_subject.application.AlbumStatisticsQueryService;
+import com.example.spotify_song_subject.controller.response.AlbumStatisticsResponse;
 import com.example.spotify_song_subject.dto.AlbumStatisticsDto;
+import com.example.spotify_song_subject.dto.AlbumStatisticsSlice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +13,18 @@ import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -266,4 +273,108 @@ class AlbumStatisticsControllerTest {
             .jsonPath("$.content[0].releaseYear").isEqualTo(2023)
             .jsonPath("$.content[0].albumCount").isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("커서 기반으로 앨범 통계를 조회하면 다음 커서를 함께 반환한다")
+    void getAlbumStatisticsByCursor_Success() {
+        // given
+        List<AlbumStatisticsDto> dtoList = List.of(
+            AlbumStatisticsDto.builder()
+                .artistId(1L)
+                .artistName("Artist 1")
+                .releaseYear(2023)
+                .albumCount(5L)
+                .build()
+        );
+
+        given(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, "token-1", 1, false))
+            .willReturn(Mono.just(new AlbumStatisticsSlice(dtoList, "token-2", null)));
+
+        // when & then
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/api/v1/album-statistics/cursor")
+                .queryParam("year", 2023)
+                .queryParam("cursor", "token-1")
+                .queryParam("size", 1)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content.length()").isEqualTo(1)
+            .jsonPath("$.content[0].artistName").isEqualTo("Artist 1")
+            .jsonPath("$.nextCursor").isEqualTo("token-2")
+            .jsonPath("$.hasNext").isEqualTo(true)
+            .jsonPath("$.totalElements").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회에서 페이지 크기는 최대 100으로 제한하고 전체 개수 요청을 전달한다")
+    void getAlbumStatisticsByCursor_ClampsSizeAndIncludesTotal() {
+        // given
+        given(albumStatisticsQueryService.getAlbumStatisticsSlice(2023, null, 100, true))
+            .willReturn(Mono.just(new AlbumStatisticsSlice(List.of(), null, 0L)));
+
+        // when & then
+        webTestClient.get()
+            .uri("/api/v1/album-statistics/cursor?year=2023&size=500&includeTotal=true")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.content.length()").isEqualTo(0)
+            .jsonPath("$.hasNext").isEqualTo(false)
+            .jsonPath("$.totalElements").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 요청하면 400 Bad Request를 반환한다")
+    void getAlbumStatisticsByCursor_InvalidCursor() {
+        // given
+        given(albumStatisticsQueryService.getAlbumStatisticsSlice(eq(2023), eq("broken"), anyInt(), anyBoolean()))
+            .willReturn(Mono.error(new IllegalArgumentException("Invalid cursor: broken")));
+
+        // when & then
+        webTestClient.get()
+            .uri("/api/v1/album-statistics/cursor?year=2023&cursor=broken")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("연도 범위의 앨범 통계를 NDJSON으로 스트리밍한다")
+    void exportAlbumStatistics_Ndjson() {
+        // given
+        given(albumStatisticsQueryService.streamAlbumStatistics(2022, 2023))
+            .willReturn(Flux.just(
+                AlbumStatisticsDto.builder().artistId(1L).artistName("Artist 1").releaseYear(2022).albumCount(2L).build(),
+                AlbumStatisticsDto.builder().artistId(2L).artistName("Artist 2").releaseYear(2023).albumCount(5L).build()
+            ));
+
+        // when
+        Flux<AlbumStatisticsResponse> body = webTestClient.get()
+            .uri("/api/v1/album-statistics/export?fromYear=2022&toYear=2023")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(AlbumStatisticsResponse.class)
+            .getResponseBody();
+
+        // then
+        StepVerifier.create(body)
+            .assertNext(response -> assertThat(response.artistName()).isEqualTo("Artist 1"))
+            .assertNext(response -> assertThat(response.artistName()).isEqualTo("Artist 2"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("시작 연도 없이 내보내기를 요청하면 400 Bad Request를 반환한다")
+    void exportAlbumStatistics_MissingFromYear() {
+        // when & then
+        webTestClient.get()
+            .uri("/api/v1/album-statistics/export")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.spotify_song_subject.controller;
+
+import com.example.spotify_song_subject.application.SongLikeService;
+import com.example.spotify_song_subject.application.TrendingSnapshotCache;
+import com.example.spotify_song_subject.dto.TrendingSnapshot;
+import com.example.spotify_song_subject.dto.TrendingSongDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SongLikeController 단위 테스트")
+class SongLikeControllerTest {
+
+    private TrendingSnapshotCache trendingSnapshotCache;
+    private WebTestClient webTestClient;
+
+    private TrendingSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        this.trendingSnapshotCache = mock(TrendingSnapshotCache.class);
+        SongLikeController songLikeController =
+            new SongLikeController(trendingSnapshotCache, mock(SongLikeService.class));
+
+        webTestClient = WebTestClient
+            .bindToController(songLikeController)
+            .controllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+        snapshot = TrendingSnapshot.of(List.of(
+            TrendingSongDto.builder()
+                .songId(1L)
+                .songTitle("Song 1")
+                .artistName("Artist 1")
+                .albumName("Album 1")
+                .likeIncrease(42L)
+                .build()
+        ), Instant.now());
+    }
+
+    @Test
+    @DisplayName("트렌딩 스냅샷을 ETag와 함께 반환한다")
+    void getTrendingSongs_WithEtag() {
+        // given
+        given(trendingSnapshotCache.current()).willReturn(Mono.just(snapshot));
+
+        // when & then
+        webTestClient.get()
+            .uri("/api/v1/songs/trending/likes")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, snapshot.etag())
+            .expectHeader().cacheControl(CacheControl.noCache())
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(1)
+            .jsonPath("$[0].songId").isEqualTo(1)
+            .jsonPath("$[0].songTitle").isEqualTo("Song 1")
+            .jsonPath("$[0].likeIncrease").isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 스냅샷 ETag와 같으면 304 Not Modified를 반환한다")
+    void getTrendingSongs_NotModified() {
+        // given
+        given(trendingSnapshotCache.current()).willReturn(Mono.just(snapshot));
+
+        // when & then
+        webTestClient.get()
+            .uri("/api/v1/songs/trending/likes")
+            .header(HttpHeaders.IF_NONE_MATCH, snapshot.etag())
+            .exchange()
+            .expectStatus().isNotModified()
+            .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 바뀌면 이전 ETag로 요청해도 200 OK를 반환한다")
+    void getTrendingSongs_ModifiedSinceEtag() {
+        // given
+        given(trendingSnapshotCache.current()).willReturn(Mono.just(snapshot));
+
+        // when & then
+        webTestClient.get()
+            .uri("/api/v1/songs/trending/likes")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"stale-0\"")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(1);
+    }
+}
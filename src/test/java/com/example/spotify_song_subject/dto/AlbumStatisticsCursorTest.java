@@ -0,0 +1,52 @@
+package com.example.spotify_song_subject.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AlbumStatisticsCursor 테스트")
+class AlbumStatisticsCursorTest {
+
+    @Test
+    @DisplayName("마지막 행으로 만든 커서는 토큰으로 변환 후 그대로 복원된다")
+    void encodeAndDecode() {
+        // given
+        AlbumStatisticsDto last = AlbumStatisticsDto.builder()
+            .artistId(1L)
+            .artistName("BTS")
+            .releaseYear(2023)
+            .albumCount(3L)
+            .build();
+
+        // when
+        String token = AlbumStatisticsCursor.after(last).encode();
+
+        // then
+        assertThat(token).doesNotContain("BTS", "=");
+        assertThat(AlbumStatisticsCursor.decode(token))
+            .isEqualTo(new AlbumStatisticsCursor(2023, 3L, "BTS"));
+    }
+
+    @Test
+    @DisplayName("아티스트명에 구분자나 한글이 있어도 복원된다")
+    void decodeArtistNameWithDelimiter() {
+        // given
+        AlbumStatisticsCursor cursor = new AlbumStatisticsCursor(2023, 1L, "아이유 | IU");
+
+        // when & then
+        assertThat(AlbumStatisticsCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "MjAyMw", "MjAyM3x4fEJUUw"}) // "2023", "2023|x|BTS"
+    @DisplayName("형식이 잘못된 토큰은 IllegalArgumentException을 던진다")
+    void decodeInvalidToken(String token) {
+        // when & then
+        assertThatThrownBy(() -> AlbumStatisticsCursor.decode(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.spotify_song_subject.dto;
 
-import com.example.spotify_song_subject.domain.Song;
 import com.example.spotify_song_subject.domain.SongLike;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +14,7 @@ class SongLikeContextTest {
     @DisplayName("likeAdded - 좋아요 추가 컨텍스트 생성")
     void shouldCreateLikeAddedContext() {
         // given
-        Song song = mock(Song.class);
+        SongSummary song = new SongSummary(1L, "Test Song", 1L, 0L);
         SongLike songLike = mock(SongLike.class);
 
         // when
@@ -31,7 +30,7 @@ class SongLikeContextTest {
     @DisplayName("likeAdded - 총 좋아요 수 포함 컨텍스트 생성")
     void shouldCreateLikeAddedContextWithTotalLikes() {
         // given
-        Song song = mock(Song.class);
+        SongSummary song = new SongSummary(1L, "Test Song", 1L, 0L);
         SongLike songLike = mock(SongLike.class);
         Long totalLikes = 100L;
 
@@ -48,7 +47,7 @@ class SongLikeContextTest {
     @DisplayName("likeRemoved - 좋아요 취소 컨텍스트 생성")
     void shouldCreateLikeRemovedContext() {
         // given
-        Song song = mock(Song.class);
+        SongSummary song = new SongSummary(1L, "Test Song", 1L, 0L);
         Long totalLikes = 99L;
 
         // when
@@ -64,7 +63,7 @@ class SongLikeContextTest {
     @DisplayName("setTotalLikes - 총 좋아요 수 업데이트")
     void shouldUpdateTotalLikes() {
         // given
-        Song song = mock(Song.class);
+        SongSummary song = new SongSummary(1L, "Test Song", 1L, 0L);
         SongLikeContext context = SongLikeContext.likeRemoved(song, 50L);
 
         // when
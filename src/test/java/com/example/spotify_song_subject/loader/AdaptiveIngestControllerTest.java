@@ -0,0 +1,214 @@
+package com.example.spotify_song_subject.loader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveIngestController 단위 테스트")
+class AdaptiveIngestControllerTest {
+
+    private static final long TARGET_LATENCY_MILLIS = 100;
+    private static final int MAX_RETRIES = 2;
+
+    private AtomicInteger pendingAcquires;
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        pendingAcquires = new AtomicInteger();
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("라운드가 정상이면 배치 크기와 동시 배치 수를 한 단계씩 늘린다")
+    void increaseWhenHealthy() {
+        // given
+        AdaptiveIngestController controller = createController(100, 2);
+
+        // when
+        commitRound(controller, 2, 100, 10);
+
+        // then
+        assertThat(controller.batchSize()).isEqualTo(150);
+        assertThat(controller.concurrencyLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커밋 지연이 목표를 넘으면 배치 크기를 절반으로 줄인다")
+    void halveBatchSizeWhenCommitIsSlow() {
+        // given
+        AdaptiveIngestController controller = createController(400, 2);
+
+        // when
+        commitRound(controller, 2, 400, TARGET_LATENCY_MILLIS * 3);
+
+        // then
+        assertThat(controller.batchSize()).isEqualTo(200);
+        assertThat(controller.concurrencyLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커넥션 획득 대기가 생기면 동시 배치 수를 절반으로 줄인다")
+    void halveConcurrencyWhenPoolIsSaturated() {
+        // given
+        AdaptiveIngestController controller = createController(100, 8);
+        pendingAcquires.set(3);
+
+        // when
+        commitRound(controller, 8, 100, 10);
+
+        // then
+        assertThat(controller.concurrencyLimit()).isEqualTo(4);
+        assertThat(controller.batchSize()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("늘린 직후 처리량이 떨어지면 직전 증가를 되돌린다")
+    void revertIncreaseWhenThroughputDrops() {
+        // given
+        AdaptiveIngestController controller = createController(100, 1);
+        commitRound(controller, 1, 100, 10); // 100 rows / 10ms -> 150, 2
+
+        // when - 두 배치에 걸린 시간이 길어져 처리량 감소
+        commitRound(controller, 2, 150, 50);
+
+        // then
+        assertThat(controller.batchSize()).isEqualTo(100);
+        assertThat(controller.concurrencyLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 배치 크기와 동시 배치 수를 줄인 뒤 같은 배치를 다시 시도한다")
+    void backOffAndRetryOnFailure() {
+        // given
+        AdaptiveIngestController controller = createController(400, 8);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        controller.run(400, () -> attempts.incrementAndGet() == 1
+            ? Mono.error(new IllegalStateException("commit failed"))
+            : Mono.empty()).block();
+
+        // then
+        assertThat(attempts).hasValue(2);
+        assertThat(controller.batchSize()).isEqualTo(200);
+        assertThat(controller.concurrencyLimit()).isEqualTo(4);
+        assertThat(meterRegistry.get("ingest.adaptive.batch.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ingest.adaptive.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 실패하면 실패할 때마다 물러나고 원래 오류를 전달한다")
+    void failAfterRetriesExhausted() {
+        // given
+        AdaptiveIngestController controller = createController(400, 8);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        Mono<Void> failing = controller.run(400, () -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("commit failed"));
+        });
+        assertThatThrownBy(failing::block)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("commit failed");
+
+        assertThat(attempts).hasValue(MAX_RETRIES + 1);
+        assertThat(controller.batchSize()).isEqualTo(50);
+        assertThat(controller.concurrencyLimit()).isEqualTo(1);
+        assertThat(meterRegistry.get("ingest.adaptive.batch.failures").counter().count()).isEqualTo(MAX_RETRIES + 1);
+    }
+
+    @Test
+    @DisplayName("허용 동시 배치 수를 넘는 배치는 앞선 배치가 끝날 때까지 시작하지 않는다")
+    void limitInFlightBatches() {
+        // given
+        AdaptiveIngestController controller = createController(100, 1);
+        Sinks.Empty<Void> firstBatch = Sinks.empty();
+        AtomicBoolean secondStarted = new AtomicBoolean();
+
+        controller.run(100, firstBatch::asMono).subscribe();
+        controller.run(100, () -> Mono.fromRunnable(() -> secondStarted.set(true))).subscribe();
+
+        // when & then
+        assertThat(secondStarted).isFalse();
+        assertThat(meterRegistry.get("ingest.adaptive.in.flight").gauge().value()).isEqualTo(1);
+
+        firstBatch.tryEmitEmpty();
+        assertThat(secondStarted).isTrue();
+    }
+
+    @Test
+    @DisplayName("허가를 기다리던 배치가 취소되면 대기열에서 빠지고 허가가 새지 않는다")
+    void cancelWaitingBatchReturnsPermit() {
+        // given
+        AdaptiveIngestController controller = createController(100, 1);
+        Sinks.Empty<Void> firstBatch = Sinks.empty();
+        AtomicBoolean cancelledStarted = new AtomicBoolean();
+        AtomicBoolean thirdStarted = new AtomicBoolean();
+
+        controller.run(100, firstBatch::asMono).subscribe();
+        Disposable waiting = controller.run(100, () -> Mono.fromRunnable(() -> cancelledStarted.set(true))).subscribe();
+
+        // when
+        waiting.dispose();
+        firstBatch.tryEmitEmpty();
+
+        // then
+        assertThat(cancelledStarted).isFalse();
+        assertThat(meterRegistry.get("ingest.adaptive.in.flight").gauge().value()).isZero();
+
+        controller.run(100, () -> Mono.fromRunnable(() -> thirdStarted.set(true))).subscribe();
+        assertThat(thirdStarted).isTrue();
+        assertThat(meterRegistry.get("ingest.adaptive.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("현재 결정 값을 지표로 노출한다")
+    void exposeDecisionsAsMetrics() {
+        // given
+        AdaptiveIngestController controller = createController(100, 2);
+
+        // when
+        commitRound(controller, 2, 100, 10);
+
+        // then
+        assertThat(meterRegistry.get("ingest.adaptive.batch.size").gauge().value()).isEqualTo(150);
+        assertThat(meterRegistry.get("ingest.adaptive.concurrency.limit").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("ingest.adaptive.commit.latency").gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("ingest.adaptive.throughput").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("ingest.adaptive.adjustments").tag("direction", "increase").counter().count())
+            .isEqualTo(1);
+    }
+
+    private AdaptiveIngestController createController(int batchSize, int concurrency) {
+        AdaptiveIngestController.Settings settings = new AdaptiveIngestController.Settings(
+            true, batchSize, concurrency, 50, 1000, 50, 1, 16, TARGET_LATENCY_MILLIS, MAX_RETRIES, 1);
+        return new AdaptiveIngestController(settings, pendingAcquires::get, clock::get, meterRegistry);
+    }
+
+    /**
+     * 한 라운드(배치 수만큼 커밋)를 순차로 흘려보냄
+     * 배치마다 latencyMillis 만큼 시계를 진행
+     */
+    private void commitRound(AdaptiveIngestController controller, int batches, int rows, long latencyMillis) {
+        for (int i = 0; i < batches; i++) {
+            controller.run(rows, () -> Mono.fromRunnable(
+                () -> clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis)))).block();
+        }
+    }
+}
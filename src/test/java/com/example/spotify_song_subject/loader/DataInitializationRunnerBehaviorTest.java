@@ -1,18 +1,24 @@
 package com.example.spotify_song_subject.loader;
 
+import com.example.spotify_song_subject.application.SongCardService;
 import com.example.spotify_song_subject.application.SpotifyDataPersistenceService;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
 import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +31,9 @@ class DataInitializationRunnerBehaviorTest {
     private GoogleDriveDownloader googleDriveDownloader;
     private SpotifyDataStreamReader spotifyDataStreamReader;
     private SpotifyDataPersistenceService spotifyDataPersistenceService;
+    private AdaptiveIngestController adaptiveIngestController;
+    private DeferredIndexBuilder deferredIndexBuilder;
+    private SongCardService songCardService;
 
     @TempDir
     Path tempDir;
@@ -34,11 +43,19 @@ class DataInitializationRunnerBehaviorTest {
         googleDriveDownloader = mock(GoogleDriveDownloader.class);
         spotifyDataStreamReader = mock(SpotifyDataStreamReader.class);
         spotifyDataPersistenceService = mock(SpotifyDataPersistenceService.class);
+        when(spotifyDataPersistenceService.rebuildAlbumStatistics()).thenReturn(Mono.just(0L));
+        adaptiveIngestController = mock(AdaptiveIngestController.class);
+        deferredIndexBuilder = mock(DeferredIndexBuilder.class);
+        songCardService = mock(SongCardService.class);
+        when(songCardService.evictAll()).thenReturn(Mono.just(0L));
 
         dataInitializationRunner = new DataInitializationRunner(
             googleDriveDownloader,
             spotifyDataStreamReader,
-            spotifyDataPersistenceService
+            spotifyDataPersistenceService,
+            adaptiveIngestController,
+            deferredIndexBuilder,
+            songCardService
         );
         
         // parallelBatches 기본값 설정
@@ -161,7 +178,7 @@ class DataInitializationRunnerBehaviorTest {
             .thenReturn(Flux.just(mockBatch));
 
         when(spotifyDataPersistenceService.processSongBatch(any()))
-            .thenReturn(reactor.core.publisher.Mono.empty());
+            .thenReturn(Mono.empty());
 
         // when
         dataInitializationRunner.onApplicationReady();
@@ -170,6 +187,200 @@ class DataInitializationRunnerBehaviorTest {
         verify(spotifyDataStreamReader, times(1)).streamSpotifyDataInBatches();
     }
 
+    @Test
+    @DisplayName("DTO 직접 파싱 모드에서는 DTO 배치 스트림을 처리한다")
+    void DTO직접파싱모드_DTO배치처리() throws IOException {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        ReflectionTestUtils.setField(dataInitializationRunner, "directDtoParsing", true);
+
+        Path jsonFile = tempDir.resolve("900k Definitive Spotify Dataset.json");
+        Files.createFile(jsonFile);
+
+        List<SpotifySongDto> mockBatch = List.of(
+            SpotifySongDto.builder().songTitle("Song 1").build(),
+            SpotifySongDto.builder().songTitle("Song 2").build()
+        );
+        when(spotifyDataStreamReader.streamSpotifySongsInBatches())
+            .thenReturn(Flux.just(mockBatch));
+        when(spotifyDataPersistenceService.processSongDtoBatch(any()))
+            .thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then - Map 경로는 사용하지 않는다
+        verify(spotifyDataPersistenceService, times(1)).processSongDtoBatch(mockBatch);
+        verify(spotifyDataStreamReader, never()).streamSpotifyDataInBatches();
+    }
+
+    @Test
+    @DisplayName("적응형 적재가 켜져 있으면 컨트롤러를 거쳐 배치를 저장하고 배치 크기를 컨트롤러에서 읽는다")
+    void 적응형적재_컨트롤러경유() throws IOException {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        ReflectionTestUtils.setField(dataInitializationRunner, "directDtoParsing", true);
+        Files.createFile(tempDir.resolve("900k Definitive Spotify Dataset.json"));
+
+        List<SpotifySongDto> mockBatch = List.of(
+            SpotifySongDto.builder().songTitle("Song 1").build(),
+            SpotifySongDto.builder().songTitle("Song 2").build()
+        );
+        when(adaptiveIngestController.isEnabled()).thenReturn(true);
+        when(adaptiveIngestController.maxConcurrency()).thenReturn(4);
+        when(adaptiveIngestController.run(anyInt(), any())).thenAnswer(invocation -> {
+            Supplier<Mono<Void>> batchWork = invocation.getArgument(1);
+            return batchWork.get();
+        });
+        when(spotifyDataStreamReader.streamSpotifySongsInBatches()).thenReturn(Flux.just(mockBatch));
+        when(spotifyDataPersistenceService.processSongDtoBatch(any())).thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        verify(spotifyDataStreamReader).useBatchSizeSource(any());
+        verify(adaptiveIngestController).run(eq(2), any());
+        verify(spotifyDataPersistenceService, times(1)).processSongDtoBatch(mockBatch);
+    }
+
+    @Test
+    @DisplayName("대량 적재 모드에서는 데이터 적재가 끝난 뒤 보조 인덱스를 생성한다")
+    void 대량적재모드_적재후인덱스생성() throws IOException {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        ReflectionTestUtils.setField(dataInitializationRunner, "bulkLoadEnabled", true);
+        Files.createFile(tempDir.resolve("900k Definitive Spotify Dataset.json"));
+
+        when(spotifyDataStreamReader.streamSpotifyDataInBatches()).thenReturn(Flux.just(List.of(Map.of("song", "Song 1"))));
+        when(spotifyDataPersistenceService.processSongBatch(any())).thenReturn(Mono.empty());
+        when(deferredIndexBuilder.buildIndexes()).thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        InOrder inOrder = inOrder(spotifyDataPersistenceService, deferredIndexBuilder);
+        inOrder.verify(spotifyDataPersistenceService).processSongBatch(any());
+        inOrder.verify(deferredIndexBuilder).buildIndexes();
+    }
+
+    @Test
+    @DisplayName("대량 적재 모드가 아니면 인덱스 생성 단계를 실행하지 않는다")
+    void 대량적재모드아님_인덱스생성생략() throws IOException {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        Files.createFile(tempDir.resolve("900k Definitive Spotify Dataset.json"));
+
+        when(spotifyDataStreamReader.streamSpotifyDataInBatches()).thenReturn(Flux.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        verify(deferredIndexBuilder, never()).buildIndexes();
+    }
+
+    @Test
+    @DisplayName("파이프라인 다운로드 모드에서는 다운로드 스트림을 바로 파싱하여 처리한다")
+    void 파이프라인다운로드모드_스트림처리() {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        ReflectionTestUtils.setField(dataInitializationRunner, "pipelinedDownload", true);
+
+        List<SpotifySongDto> mockBatch = List.of(SpotifySongDto.builder().songTitle("Song 1").build());
+        when(spotifyDataStreamReader.streamSpotifySongsInBatches(any()))
+            .thenReturn(Flux.just(mockBatch));
+        when(spotifyDataPersistenceService.processSongDtoBatch(any()))
+            .thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then - 파일 다운로드/파일 기반 스트림은 사용하지 않는다
+        verify(spotifyDataPersistenceService, times(1)).processSongDtoBatch(mockBatch);
+        verify(googleDriveDownloader, never()).downloadAndExtractFile();
+        verify(spotifyDataStreamReader, never()).streamSpotifySongsInBatches();
+        verify(spotifyDataStreamReader, never()).streamSpotifyDataInBatches();
+    }
+
+    @Test
+    @DisplayName("체크포인트 모드에서 DB가 비어 있으면 처음부터 적재하고 완료를 기록한다")
+    void 체크포인트모드_DB비어있음_처음부터적재() throws IOException {
+        // given
+        enableCheckpoint();
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), "{\"song\": \"Song 1\"}\n");
+        Files.writeString(tempDir.resolve("ingest.checkpoint"), "stale");
+
+        List<SpotifyDataStreamReader.ByteRange> partitions = List.of(new SpotifyDataStreamReader.ByteRange(0, 19));
+        SongBatch batch = new SongBatch(0, 0, 1, List.of(SpotifySongDto.builder().songTitle("Song 1").build()));
+
+        when(spotifyDataPersistenceService.hasPersistedSongs()).thenReturn(Mono.just(false));
+        when(spotifyDataStreamReader.planPartitions()).thenReturn(partitions);
+        when(spotifyDataStreamReader.streamSongBatches(eq(partitions), any())).thenReturn(Flux.just(batch));
+        when(spotifyDataPersistenceService.processSongDtoBatch(any())).thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        verify(spotifyDataPersistenceService, times(1)).processSongDtoBatch(batch.songs());
+        assertThat(Files.readString(tempDir.resolve("ingest.checkpoint")))
+            .contains("completed=true")
+            .contains("partition.0=0,19,1");
+    }
+
+    @Test
+    @DisplayName("체크포인트 모드에서 적재 완료가 기록되어 있고 DB에 곡이 있으면 적재를 생략한다")
+    void 체크포인트모드_적재완료_생략() throws IOException {
+        // given
+        enableCheckpoint();
+        Path jsonFile = tempDir.resolve("900k Definitive Spotify Dataset.json");
+        Files.writeString(jsonFile, "{\"song\": \"Song 1\"}\n");
+        IngestCheckpoint.create(tempDir.resolve("ingest.checkpoint"), IngestCheckpoint.fingerprint(jsonFile),
+            List.of(new SpotifyDataStreamReader.ByteRange(0, 19))).markIngestCompleted();
+
+        when(spotifyDataPersistenceService.hasPersistedSongs()).thenReturn(Mono.just(true));
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        verify(spotifyDataStreamReader, never()).streamSongBatches(any(), any());
+        verify(spotifyDataPersistenceService, never()).processSongDtoBatch(any());
+    }
+
+    @Test
+    @DisplayName("체크포인트 모드에서 중단된 적재는 체크포인트의 재개 위치부터 이어서 적재한다")
+    void 체크포인트모드_중단된적재_재개() throws IOException {
+        // given
+        enableCheckpoint();
+        Path jsonFile = tempDir.resolve("900k Definitive Spotify Dataset.json");
+        Files.writeString(jsonFile, "{\"song\": \"Song 1\"}\n");
+        List<SpotifyDataStreamReader.ByteRange> partitions = List.of(new SpotifyDataStreamReader.ByteRange(0, 19));
+        IngestCheckpoint.create(tempDir.resolve("ingest.checkpoint"), IngestCheckpoint.fingerprint(jsonFile), partitions)
+            .markCommitted(new SongBatch(0, 0, 100, List.of()));
+
+        when(spotifyDataPersistenceService.hasPersistedSongs()).thenReturn(Mono.just(true));
+        when(spotifyDataStreamReader.streamSongBatches(eq(partitions), any())).thenAnswer(invocation -> {
+            IntToLongFunction resumeRow = invocation.getArgument(1);
+            assertThat(resumeRow.applyAsLong(0)).isEqualTo(100);
+            return Flux.empty();
+        });
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then - 파티션을 새로 나누지 않고 체크포인트의 파티션을 사용
+        verify(spotifyDataStreamReader, never()).planPartitions();
+        verify(spotifyDataStreamReader, times(1)).streamSongBatches(eq(partitions), any());
+    }
+
     @Test
     @DisplayName("다운로드 실패 시 예외가 발생한다")
     void 다운로드실패_예외발생() {
@@ -211,4 +422,52 @@ class DataInitializationRunnerBehaviorTest {
 
         verify(spotifyDataStreamReader, times(1)).streamSpotifyDataInBatches();
     }
-}
\ No newline at end of file
+
+    private void enableCheckpoint() {
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        ReflectionTestUtils.setField(dataInitializationRunner, "directDtoParsing", true);
+        ReflectionTestUtils.setField(dataInitializationRunner, "checkpointEnabled", true);
+    }
+
+    @Test
+    @DisplayName("데이터 적재가 끝나면 곡 카드 캐시를 모두 무효화한다")
+    void 적재후_곡카드캐시무효화() throws IOException {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        Files.createFile(tempDir.resolve("900k Definitive Spotify Dataset.json"));
+
+        when(spotifyDataStreamReader.streamSpotifyDataInBatches()).thenReturn(Flux.just(List.of(Map.of("song", "Song 1"))));
+        when(spotifyDataPersistenceService.processSongBatch(any())).thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        InOrder inOrder = inOrder(spotifyDataPersistenceService, songCardService);
+        inOrder.verify(spotifyDataPersistenceService).processSongBatch(any());
+        inOrder.verify(songCardService).evictAll();
+    }
+
+    @Test
+    @DisplayName("데이터 적재가 끝나면 앨범 통계 요약을 다시 계산한 뒤 곡 카드 캐시를 무효화한다")
+    void 적재후_앨범통계요약재계산() throws IOException {
+        // given
+        ReflectionTestUtils.setField(dataInitializationRunner, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(dataInitializationRunner, "skipDownloadIfExists", true);
+        Files.createFile(tempDir.resolve("900k Definitive Spotify Dataset.json"));
+
+        when(spotifyDataStreamReader.streamSpotifyDataInBatches()).thenReturn(Flux.just(List.of(Map.of("song", "Song 1"))));
+        when(spotifyDataPersistenceService.processSongBatch(any())).thenReturn(Mono.empty());
+
+        // when
+        dataInitializationRunner.onApplicationReady();
+
+        // then
+        InOrder inOrder = inOrder(spotifyDataPersistenceService, songCardService);
+        inOrder.verify(spotifyDataPersistenceService).processSongBatch(any());
+        inOrder.verify(spotifyDataPersistenceService).rebuildAlbumStatistics();
+        inOrder.verify(songCardService).evictAll();
+    }
+}
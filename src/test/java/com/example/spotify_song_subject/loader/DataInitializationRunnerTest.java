@@ -1,5 +1,6 @@
 package com.example.spotify_song_subject.loader;
 
+import com.example.spotify_song_subject.application.SongCardService;
 import com.example.spotify_song_subject.application.SpotifyDataPersistenceService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +15,18 @@ class DataInitializationRunnerTest {
     private GoogleDriveDownloader googleDriveDownloader;
     private SpotifyDataStreamReader spotifyDataStreamReader;
     private SpotifyDataPersistenceService spotifyDataPersistenceService;
+    private AdaptiveIngestController adaptiveIngestController;
+    private DeferredIndexBuilder deferredIndexBuilder;
+    private SongCardService songCardService;
 
     @BeforeEach
     void setUp() {
         googleDriveDownloader = mock(GoogleDriveDownloader.class);
         spotifyDataStreamReader = mock(SpotifyDataStreamReader.class);
         spotifyDataPersistenceService = mock(SpotifyDataPersistenceService.class);
+        adaptiveIngestController = mock(AdaptiveIngestController.class);
+        deferredIndexBuilder = mock(DeferredIndexBuilder.class);
+        songCardService = mock(SongCardService.class);
     }
 
     @Test
@@ -29,7 +36,10 @@ class DataInitializationRunnerTest {
         DataInitializationRunner runner = new DataInitializationRunner(
             googleDriveDownloader,
             spotifyDataStreamReader,
-            spotifyDataPersistenceService
+            spotifyDataPersistenceService,
+            adaptiveIngestController,
+            deferredIndexBuilder,
+            songCardService
         );
 
         // when & then
@@ -43,7 +53,10 @@ class DataInitializationRunnerTest {
         DataInitializationRunner runner = new DataInitializationRunner(
             googleDriveDownloader,
             spotifyDataStreamReader,
-            spotifyDataPersistenceService
+            spotifyDataPersistenceService,
+            adaptiveIngestController,
+            deferredIndexBuilder,
+            songCardService
         );
 
         // when & then
@@ -58,7 +71,10 @@ class DataInitializationRunnerTest {
         DataInitializationRunner runner = new DataInitializationRunner(
             googleDriveDownloader,
             spotifyDataStreamReader,
-            spotifyDataPersistenceService
+            spotifyDataPersistenceService,
+            adaptiveIngestController,
+            deferredIndexBuilder,
+            songCardService
         );
 
         // then
@@ -0,0 +1,66 @@
+package com.example.spotify_song_subject.loader;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeferredIndexBuilder 테스트")
+class DeferredIndexBuilderTest {
+
+    private DatabaseClient databaseClient;
+    private DeferredIndexBuilder deferredIndexBuilder;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+            "r2dbc:h2:mem:///deferred-index-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+
+        databaseClient = DatabaseClient.create(connectionFactory);
+        deferredIndexBuilder = new DeferredIndexBuilder(connectionFactory);
+    }
+
+    @Test
+    @DisplayName("적재 중 생략했던 보조 인덱스를 생성한다")
+    void buildMissingIndexes() {
+        // given - 대량 적재 모드처럼 보조 인덱스가 없는 상태
+        databaseClient.sql("DROP INDEX idx_song_genre").then().block();
+        databaseClient.sql("DROP INDEX idx_like_created").then().block();
+        assertThat(indexExists("idx_song_genre")).isFalse();
+
+        // when
+        StepVerifier.create(deferredIndexBuilder.buildIndexes())
+            .verifyComplete();
+
+        // then
+        assertThat(indexExists("idx_song_genre")).isTrue();
+        assertThat(indexExists("idx_like_created")).isTrue();
+    }
+
+    @Test
+    @DisplayName("인덱스가 이미 있으면 다시 실행해도 실패하지 않는다")
+    void buildIndexesIsIdempotent() {
+        // when & then
+        StepVerifier.create(deferredIndexBuilder.buildIndexes().then(deferredIndexBuilder.buildIndexes()))
+            .verifyComplete();
+    }
+
+    private boolean indexExists(String indexName) {
+        Long count = databaseClient.sql("SELECT COUNT(*) AS cnt FROM INFORMATION_SCHEMA.INDEXES WHERE UPPER(INDEX_NAME) = :name")
+            .bind("name", indexName.toUpperCase())
+            .map(row -> row.get("cnt", Long.class))
+            .one()
+            .block();
+        return count != null && count > 0;
+    }
+}
@@ -1,25 +1,208 @@
 package com.example.spotify_song_subject.loader;
 
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("GoogleDriveDownloader 단위 테스트")
 class GoogleDriveDownloaderTest {
 
+    private static final String JSON_FILE_NAME = "900k Definitive Spotify Dataset.json";
+    private static final String JSON_CONTENT = """
+        {"song": "Song 1", "Artist(s)": "Artist 1"}
+        {"song": "Song 2", "Artist(s)": "Artist 2"}
+        """;
+
     private GoogleDriveDownloader googleDriveDownloader;
+    private HttpServer server;
+    private volatile int rangeRequests;
+
+    @TempDir
+    Path tempDir;
 
     @BeforeEach
     void setUp() {
         googleDriveDownloader = new GoogleDriveDownloader();
     }
 
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
     @Test
     @DisplayName("GoogleDriveDownloader 인스턴스가 정상적으로 생성된다")
     void 인스턴스생성_정상() {
         // when & then
         assertThat(googleDriveDownloader).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("zip을 내려받아 압축을 해제한다")
+    void zip다운로드_압축해제() throws IOException {
+        // given
+        startServer(createZip());
+
+        // when
+        googleDriveDownloader.downloadAndExtractFile();
+
+        // then
+        assertThat(tempDir.resolve(JSON_FILE_NAME)).hasContent(JSON_CONTENT);
+        assertThat(tempDir.resolve("downloaded_file.zip")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Range를 지원하는 서버에서는 분할 다운로드 후 압축을 해제한다")
+    void Range지원_분할다운로드() throws IOException {
+        // given
+        startServer(createZip());
+        ReflectionTestUtils.setField(googleDriveDownloader, "downloadSegments", 3);
+
+        // when
+        googleDriveDownloader.downloadAndExtractFile();
+
+        // then
+        assertThat(tempDir.resolve(JSON_FILE_NAME)).hasContent(JSON_CONTENT);
+        assertThat(rangeRequests).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("체크섬이 일치하면 압축을 해제한다")
+    void 체크섬일치_압축해제() throws Exception {
+        // given
+        byte[] zipBytes = createZip();
+        startServer(zipBytes);
+        ReflectionTestUtils.setField(googleDriveDownloader, "expectedSha256",
+            HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(zipBytes)));
+
+        // when
+        googleDriveDownloader.downloadAndExtractFile();
+
+        // then
+        assertThat(tempDir.resolve(JSON_FILE_NAME)).hasContent(JSON_CONTENT);
+    }
+
+    @Test
+    @DisplayName("체크섬이 다르면 압축을 해제하지 않고 내려받은 파일을 삭제한다")
+    void 체크섬불일치_예외() throws IOException {
+        // given
+        startServer(createZip());
+        ReflectionTestUtils.setField(googleDriveDownloader, "expectedSha256", "0".repeat(64));
+
+        // when & then
+        assertThatThrownBy(() -> googleDriveDownloader.downloadAndExtractFile())
+            .isInstanceOf(RuntimeException.class)
+            .rootCause()
+            .hasMessageStartingWith("Checksum mismatch");
+        assertThat(tempDir.resolve(JSON_FILE_NAME)).doesNotExist();
+        assertThat(tempDir.resolve("downloaded_file.zip")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파이프라인 모드는 다운로드 중인 zip 엔트리를 바로 읽고 끝까지 읽으면 파일로 남긴다")
+    void 파이프라인_엔트리스트리밍_파일저장() throws IOException {
+        // given
+        startServer(createZip());
+
+        // when
+        String streamed;
+        try (InputStream in = googleDriveDownloader.openExtractedEntryStream(JSON_FILE_NAME)) {
+            streamed = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        assertThat(streamed).isEqualTo(JSON_CONTENT);
+        assertThat(tempDir.resolve(JSON_FILE_NAME)).hasContent(JSON_CONTENT);
+        assertThat(tempDir.resolve(JSON_FILE_NAME + ".part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파이프라인 모드에서 끝까지 읽기 전에 닫으면 불완전한 파일을 남기지 않는다")
+    void 파이프라인_중간종료_파일미저장() throws IOException {
+        // given
+        startServer(createZip());
+
+        // when
+        try (InputStream in = googleDriveDownloader.openExtractedEntryStream(JSON_FILE_NAME)) {
+            assertThat(in.read(new byte[10])).isPositive();
+        }
+
+        // then
+        assertThat(tempDir.resolve(JSON_FILE_NAME)).doesNotExist();
+        assertThat(tempDir.resolve(JSON_FILE_NAME + ".part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파이프라인 모드에서 엔트리가 없으면 예외가 발생한다")
+    void 파이프라인_엔트리없음_예외() throws IOException {
+        // given
+        startServer(createZip());
+
+        // when & then
+        assertThatThrownBy(() -> googleDriveDownloader.openExtractedEntryStream("missing.json"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Failed to stream data from Google Drive");
+    }
+
+    private void startServer(byte[] zipBytes) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/download", exchange -> {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            int start = 0;
+            int end = zipBytes.length - 1;
+            int status = 200;
+
+            if (range != null) {
+                String[] bounds = range.substring("bytes=".length()).split("-");
+                start = Integer.parseInt(bounds[0]);
+                end = Integer.parseInt(bounds[1]);
+                status = 206;
+                rangeRequests++;
+            }
+
+            exchange.getResponseHeaders().add("Content-Type", "application/zip");
+            exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+            exchange.sendResponseHeaders(status, end - start + 1);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(zipBytes, start, end - start + 1);
+            }
+        });
+        server.start();
+
+        ReflectionTestUtils.setField(googleDriveDownloader, "fileId", "test-file");
+        ReflectionTestUtils.setField(googleDriveDownloader, "dataDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(googleDriveDownloader, "downloadUrlTemplate",
+            "http://localhost:" + server.getAddress().getPort() + "/download?id=%s");
+    }
+
+    private byte[] createZip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bytes)) {
+            zos.putNextEntry(new ZipEntry(JSON_FILE_NAME));
+            zos.write(JSON_CONTENT.getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+}
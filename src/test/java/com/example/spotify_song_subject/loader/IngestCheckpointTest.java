@@ -0,0 +1,122 @@
+package com.example.spotify_song_subject.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IngestCheckpoint 단위 테스트")
+class IngestCheckpointTest {
+
+    private static final List<SpotifyDataStreamReader.ByteRange> PARTITIONS = List.of(
+        new SpotifyDataStreamReader.ByteRange(0, 100),
+        new SpotifyDataStreamReader.ByteRange(100, 250)
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("연속으로 커밋된 구간까지만 재개 위치를 전진한다")
+    void 연속구간_재개위치전진() {
+        // given
+        IngestCheckpoint checkpoint = IngestCheckpoint.create(tempDir.resolve("ingest.checkpoint"), "fp", PARTITIONS);
+
+        // when - 두 번째 배치가 먼저 커밋됨
+        checkpoint.markCommitted(batch(0, 10, 20));
+
+        // then
+        assertThat(checkpoint.resumeRow(0)).isZero();
+
+        // when - 첫 번째 배치 커밋
+        checkpoint.markCommitted(batch(0, 0, 10));
+
+        // then
+        assertThat(checkpoint.resumeRow(0)).isEqualTo(20);
+        assertThat(checkpoint.resumeRow(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("저장한 체크포인트를 다시 로드하면 파티션과 재개 위치가 복원된다")
+    void 저장후로드_복원() {
+        // given
+        Path file = tempDir.resolve("ingest.checkpoint");
+        IngestCheckpoint checkpoint = IngestCheckpoint.create(file, "fp", PARTITIONS);
+        checkpoint.markCommitted(batch(0, 0, 5));
+        checkpoint.markCommitted(batch(1, 0, 7));
+        checkpoint.markCommitted(batch(1, 9, 12));
+
+        // when
+        IngestCheckpoint loaded = IngestCheckpoint.load(file, "fp");
+
+        // then - 연속되지 않은 구간(9~12)은 재개 위치에 반영되지 않음
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.partitions()).containsExactlyElementsOf(PARTITIONS);
+        assertThat(loaded.resumeRow(0)).isEqualTo(5);
+        assertThat(loaded.resumeRow(1)).isEqualTo(7);
+        assertThat(loaded.committedRowCount()).isEqualTo(12);
+        assertThat(loaded.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("데이터셋 지문이 다르면 체크포인트를 무시한다")
+    void 지문불일치_무시() {
+        // given
+        Path file = tempDir.resolve("ingest.checkpoint");
+        IngestCheckpoint.create(file, "fp", PARTITIONS);
+
+        // when & then
+        assertThat(IngestCheckpoint.load(file, "other")).isNull();
+        assertThat(IngestCheckpoint.load(tempDir.resolve("missing"), "fp")).isNull();
+    }
+
+    @Test
+    @DisplayName("손상된 체크포인트 파일은 무시한다")
+    void 손상된파일_무시() throws IOException {
+        // given
+        Path file = tempDir.resolve("ingest.checkpoint");
+        Files.writeString(file, "fingerprint=fp\npartitions=2\n");
+
+        // when & then
+        assertThat(IngestCheckpoint.load(file, "fp")).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 완료 상태를 기록한다")
+    void 적재완료_기록() {
+        // given
+        Path file = tempDir.resolve("ingest.checkpoint");
+        IngestCheckpoint checkpoint = IngestCheckpoint.create(file, "fp", PARTITIONS);
+
+        // when
+        checkpoint.markIngestCompleted();
+
+        // then
+        assertThat(IngestCheckpoint.load(file, "fp").isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("데이터셋 지문은 파일 내용이 바뀌면 달라진다")
+    void 지문_내용변경감지() throws IOException {
+        // given
+        Path file = tempDir.resolve("data.json");
+        Files.writeString(file, "{\"song\": \"A\"}\n");
+        String before = IngestCheckpoint.fingerprint(file);
+
+        // when
+        Files.writeString(file, "{\"song\": \"B\"}\n");
+
+        // then
+        assertThat(IngestCheckpoint.fingerprint(file)).isNotEqualTo(before).startsWith("14:");
+    }
+
+    private SongBatch batch(int partition, long startRow, long endRow) {
+        return new SongBatch(partition, startRow, endRow, List.of());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.spotify_song_subject.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MappedFileInputStream 단위 테스트")
+class MappedFileInputStreamTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("윈도우 경계를 넘어 파일 전체를 읽는다")
+    void 윈도우경계_전체읽기() throws IOException {
+        // given
+        Path file = writeFile();
+
+        // when
+        String read;
+        try (InputStream in = new MappedFileInputStream(open(file), 0, Long.MAX_VALUE, 5)) {
+            read = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        assertThat(read).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("지정한 바이트 구간만 읽는다")
+    void 바이트구간_읽기() throws IOException {
+        // given
+        Path file = writeFile();
+
+        // when
+        String read;
+        try (InputStream in = new MappedFileInputStream(open(file), 10, 20, 3)) {
+            read = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        assertThat(read).isEqualTo("abcdefghij");
+    }
+
+    @Test
+    @DisplayName("단일 바이트 읽기는 구간 끝에서 -1을 반환한다")
+    void 단일바이트_읽기() throws IOException {
+        // given
+        Path file = writeFile();
+
+        // when & then
+        try (InputStream in = new MappedFileInputStream(open(file), 34, 36, 1)) {
+            assertThat(in.read()).isEqualTo('y');
+            assertThat(in.read()).isEqualTo('z');
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    @DisplayName("윈도우 크기가 범위를 벗어나면 예외가 발생한다")
+    void 잘못된윈도우크기_예외() throws IOException {
+        // given
+        Path file = writeFile();
+
+        // when & then
+        try (FileChannel channel = open(file)) {
+            assertThatThrownBy(() -> new MappedFileInputStream(channel, 0, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private Path writeFile() throws IOException {
+        Path file = tempDir.resolve("data.json");
+        Files.writeString(file, CONTENT);
+        return file;
+    }
+
+    private FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.spotify_song_subject.loader;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SegmentedFileDownloader 단위 테스트")
+class SegmentedFileDownloaderTest {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final byte[] content = new byte[100_000];
+    private final List<String> requestedRanges = new CopyOnWriteArrayList<>();
+    private final AtomicLong servedBytes = new AtomicLong();
+
+    private HttpServer server;
+    private boolean honourRanges = true;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        new Random(42).nextBytes(content);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/file", this::serve);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("여러 구간을 동시에 내려받아 원본과 같은 파일을 만든다")
+    void 구간동시다운로드_원본일치() throws IOException {
+        // given
+        Path target = tempDir.resolve("file.zip");
+
+        // when
+        new SegmentedFileDownloader(fileUrl(), content.length, 4, target).download();
+
+        // then
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(requestedRanges).hasSize(4);
+        assertThat(target.resolveSibling("file.zip" + SegmentedFileDownloader.JOURNAL_SUFFIX)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("저널이 있으면 남은 구간만 이어서 내려받는다")
+    void 저널존재_이어받기() throws IOException {
+        // given - 4개 구간 중 앞 두 구간은 완료, 세 번째 구간은 절반만 완료된 상태
+        Path target = tempDir.resolve("file.zip");
+        int segmentSize = content.length / 4;
+        Files.write(target, Arrays.copyOf(content, segmentSize * 2 + segmentSize / 2));
+        Files.writeString(target.resolveSibling("file.zip" + SegmentedFileDownloader.JOURNAL_SUFFIX), """
+            length=%d
+            segments=4
+            segment.done.0=%d
+            segment.done.1=%d
+            segment.done.2=%d
+            segment.done.3=0
+            """.formatted(content.length, segmentSize, segmentSize, segmentSize / 2));
+
+        // when
+        new SegmentedFileDownloader(fileUrl(), content.length, 4, target).download();
+
+        // then
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(requestedRanges).containsExactlyInAnyOrder(
+            "bytes=" + (segmentSize * 2 + segmentSize / 2) + "-" + (segmentSize * 3 - 1),
+            "bytes=" + (segmentSize * 3) + "-" + (content.length - 1));
+        assertThat(servedBytes.get()).isEqualTo(content.length - (segmentSize * 2 + segmentSize / 2));
+    }
+
+    @Test
+    @DisplayName("저널의 파일 길이가 다르면 처음부터 다시 내려받는다")
+    void 저널불일치_처음부터() throws IOException {
+        // given
+        Path target = tempDir.resolve("file.zip");
+        Files.write(target, new byte[10]);
+        Files.writeString(target.resolveSibling("file.zip" + SegmentedFileDownloader.JOURNAL_SUFFIX), """
+            length=999
+            segments=4
+            """);
+
+        // when
+        new SegmentedFileDownloader(fileUrl(), content.length, 4, target).download();
+
+        // then
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(servedBytes.get()).isEqualTo(content.length);
+    }
+
+    @Test
+    @DisplayName("서버가 Range 요청을 무시하면 예외가 발생하고 저널은 남는다")
+    void Range미지원_예외() {
+        // given
+        honourRanges = false;
+        Path target = tempDir.resolve("file.zip");
+
+        // when & then
+        assertThatThrownBy(() -> new SegmentedFileDownloader(fileUrl(), content.length, 2, target).download())
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Range request not honoured");
+        assertThat(target.resolveSibling("file.zip" + SegmentedFileDownloader.JOURNAL_SUFFIX)).exists();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range == null ? null : RANGE_PATTERN.matcher(range);
+
+        if (!honourRanges || matcher == null || !matcher.matches()) {
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(content);
+            }
+            return;
+        }
+
+        requestedRanges.add(range);
+        int start = Integer.parseInt(matcher.group(1));
+        int end = Integer.parseInt(matcher.group(2));
+        int length = end - start + 1;
+
+        exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+        exchange.sendResponseHeaders(206, length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(content, start, length);
+        }
+        servedBytes.addAndGet(length);
+    }
+
+    private URL fileUrl() throws IOException {
+        return new URL("http://localhost:" + server.getAddress().getPort() + "/file");
+    }
+}
@@ -1,7 +1,18 @@
 package com.example.spotify_song_subject.loader;
 
+import com.example.spotify_song_subject.dto.SpotifySongDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -40,7 +51,237 @@ class SpotifyDataStreamReaderTest {
         // when & then
         assertThat(clazz.getDeclaredMethods())
             .extracting("name")
-            .contains("streamSpotifyDataInBatches");
+            .contains("streamSpotifyDataInBatches", "streamSpotifySongsInBatches");
+    }
+
+    @Test
+    @DisplayName("NDJSON 파일을 SpotifySongDto 배치로 스트리밍한다")
+    void NDJSON_DTO배치_스트리밍(@TempDir Path tempDir) throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), """
+            {"Artist(s)": "Artist 1", "song": "Song 1", "Popularity": 10}
+            {}
+            {"Artist(s)": "Artist 2", "song": "Song 2", "Popularity": 20}
+            {"Artist(s)": "Artist 3", "song": "Song 3", "Popularity": 30}
+            """);
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 2);
+
+        // when & then
+        StepVerifier.create(reader.streamSpotifySongsInBatches())
+            .assertNext(batch -> assertThat(batch)
+                .extracting(SpotifySongDto::getSongTitle)
+                .containsExactly("Song 1", "Song 2"))
+            .assertNext(batch -> assertThat(batch)
+                .extracting(SpotifySongDto::getSongTitle)
+                .containsExactly("Song 3"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Map 경로와 DTO 경로는 같은 곡 수를 스트리밍한다")
+    void Map경로_DTO경로_곡수동일(@TempDir Path tempDir) throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), """
+            {"song": "Song 1"}
+            {"song": "Song 2"}
+            {"song": "Song 3"}
+            """);
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 100);
+
+        // when
+        List<Integer> mapBatchSizes = reader.streamSpotifyDataInBatches().map(List::size).collectList().block();
+        List<Integer> dtoBatchSizes = reader.streamSpotifySongsInBatches().map(List::size).collectList().block();
+
+        // then
+        assertThat(dtoBatchSizes).isEqualTo(mapBatchSizes).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("병렬 파서 모드는 모든 곡을 한 번씩만 스트리밍한다")
+    void 병렬파서_모든곡_한번씩(@TempDir Path tempDir) throws IOException {
+        // given - 길이가 서로 다른 줄로 구성된 NDJSON
+        StringBuilder json = new StringBuilder();
+        List<String> expectedTitles = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String title = "Song " + i;
+            expectedTitles.add(title);
+            json.append("{\"song\": \"").append(title).append("\", \"text\": \"")
+                .append("x".repeat(i * 7)).append("\"}\n");
+        }
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), json.toString());
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 4);
+        ReflectionTestUtils.setField(reader, "parallelParsers", 4);
+
+        // when
+        List<String> titles = reader.streamSpotifySongsInBatches()
+            .flatMapIterable(batch -> batch)
+            .map(SpotifySongDto::getSongTitle)
+            .collectList()
+            .block();
+
+        // then
+        assertThat(titles).containsExactlyInAnyOrderElementsOf(expectedTitles);
+    }
+
+    @Test
+    @DisplayName("파일 분할 구간은 줄 경계에서 시작하고 파일 전체를 빈틈없이 덮는다")
+    void 파일분할_줄경계정렬(@TempDir Path tempDir) throws IOException {
+        // given
+        Path file = tempDir.resolve("data.json");
+        Files.writeString(file, """
+            {"song": "A"}
+            {"song": "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"}
+            {"song": "C"}
+            """);
+        byte[] bytes = Files.readAllBytes(file);
+
+        // when
+        List<SpotifyDataStreamReader.ByteRange> ranges = SpotifyDataStreamReader.splitIntoRanges(file, 8);
+
+        // then
+        assertThat(ranges.get(0).start()).isZero();
+        assertThat(ranges.get(ranges.size() - 1).end()).isEqualTo(bytes.length);
+        for (int i = 0; i < ranges.size(); i++) {
+            SpotifyDataStreamReader.ByteRange range = ranges.get(i);
+            assertThat(range.end()).isGreaterThan(range.start());
+            if (i > 0) {
+                assertThat(range.start()).isEqualTo(ranges.get(i - 1).end());
+                assertThat(bytes[(int) range.start() - 1]).isEqualTo((byte) '\n');
+            }
+        }
+        assertThat(ranges).hasSizeLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("파서 수보다 곡이 적어도 병렬 모드가 정상 동작한다")
+    void 병렬파서_곡수부족(@TempDir Path tempDir) throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), """
+            {"song": "Only"}
+            """);
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 10);
+        ReflectionTestUtils.setField(reader, "parallelParsers", 8);
+
+        // when & then
+        StepVerifier.create(reader.streamSpotifySongsInBatches())
+            .assertNext(batch -> assertThat(batch)
+                .extracting(SpotifySongDto::getSongTitle)
+                .containsExactly("Only"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("mmap 모드는 buffered 모드와 같은 곡을 스트리밍한다")
+    void mmap모드_buffered모드_동일결과(@TempDir Path tempDir) throws IOException {
+        // given
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            json.append("{\"song\": \"Song ").append(i).append("\", \"Popularity\": ").append(i).append("}\n");
+        }
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), json.toString());
+
+        SpotifyDataStreamReader bufferedReader = createReader(tempDir, 7);
+        SpotifyDataStreamReader mmapReader = createReader(tempDir, 7);
+        ReflectionTestUtils.setField(mmapReader, "readerMode", "mmap");
+        ReflectionTestUtils.setField(mmapReader, "parallelParsers", 3);
+
+        // when
+        List<String> bufferedTitles = bufferedReader.streamSpotifySongsInBatches()
+            .flatMapIterable(batch -> batch)
+            .map(SpotifySongDto::getSongTitle)
+            .collectList()
+            .block();
+        List<String> mmapTitles = mmapReader.streamSpotifySongsInBatches()
+            .flatMapIterable(batch -> batch)
+            .map(SpotifySongDto::getSongTitle)
+            .collectList()
+            .block();
+
+        // then
+        assertThat(mmapTitles).hasSize(20).containsExactlyInAnyOrderElementsOf(bufferedTitles);
+    }
+
+    @Test
+    @DisplayName("파티션별 SongBatch는 행 구간을 가지며 재개 위치 이전 행은 건너뛴다")
+    void 파티션배치_재개위치이후만(@TempDir Path tempDir) throws IOException {
+        // given
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            json.append("{\"song\": \"Song ").append(i).append("\"}\n");
+        }
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), json.toString());
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 3);
+        List<SpotifyDataStreamReader.ByteRange> partitions = reader.planPartitions();
+
+        // when
+        List<SongBatch> batches = reader.streamSongBatches(partitions, partition -> 4).collectList().block();
+
+        // then
+        assertThat(partitions).hasSize(1);
+        assertThat(batches)
+            .extracting(SongBatch::startRow, SongBatch::endRow)
+            .containsExactly(tuple(4L, 7L), tuple(7L, 10L));
+        assertThat(batches.get(0).songs())
+            .extracting(SpotifySongDto::getSongTitle)
+            .containsExactly("Song 4", "Song 5", "Song 6");
+    }
+
+    @Test
+    @DisplayName("빈 객체 행도 행 번호를 차지하여 배치 구간이 끊기지 않는다")
+    void 빈객체_행번호유지(@TempDir Path tempDir) throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), """
+            {"song": "Song 0"}
+            {}
+            {"song": "Song 2"}
+            """);
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 10);
+
+        // when & then
+        StepVerifier.create(reader.streamSongBatches(reader.planPartitions(), partition -> 0))
+            .assertNext(batch -> {
+                assertThat(batch.startRow()).isZero();
+                assertThat(batch.endRow()).isEqualTo(3);
+                assertThat(batch.songs()).extracting(SpotifySongDto::getSongTitle).containsExactly("Song 0", "Song 2");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("배치 크기 공급자를 지정하면 배치를 닫을 때마다 바뀐 크기를 반영한다")
+    void 배치크기공급자_다음배치반영(@TempDir Path tempDir) throws IOException {
+        // given
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 9; i++) {
+            json.append("{\"song\": \"Song ").append(i).append("\"}\n");
+        }
+        Files.writeString(tempDir.resolve("900k Definitive Spotify Dataset.json"), json.toString());
+
+        SpotifyDataStreamReader reader = createReader(tempDir, 100);
+        AtomicInteger nextBatchSize = new AtomicInteger(2);
+        reader.useBatchSizeSource(() -> nextBatchSize.getAndIncrement());
+
+        // when
+        List<Integer> batchSizes = reader.streamSpotifySongsInBatches().map(List::size).collectList().block();
+
+        // then - 2, 3, 4 순서로 배치 크기가 늘어남
+        assertThat(batchSizes).containsExactly(2, 3, 4);
+    }
+
+    private SpotifyDataStreamReader createReader(Path dataDirectory, int batchSize) {
+        SpotifyDataStreamReader reader = new SpotifyDataStreamReader();
+        ReflectionTestUtils.setField(reader, "dataDirectory", dataDirectory.toString());
+        ReflectionTestUtils.setField(reader, "batchSize", batchSize);
+        ReflectionTestUtils.setField(reader, "bufferSize", 1024);
+        ReflectionTestUtils.setField(reader, "parallelParsers", 1);
+        ReflectionTestUtils.setField(reader, "readerMode", "buffered");
+        return reader;
     }
 
 }
\ No newline at end of file
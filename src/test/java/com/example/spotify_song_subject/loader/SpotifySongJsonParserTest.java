@@ -0,0 +1,162 @@
+package com.example.spotify_song_subject.loader;
+
+import com.example.spotify_song_subject.dto.SimilarSongDto;
+import com.example.spotify_song_subject.dto.SpotifySongDto;
+import com.example.spotify_song_subject.mapper.SpotifyDataMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpotifySongJsonParser 단위 테스트")
+class SpotifySongJsonParserTest {
+
+    private static final String SONG_JSON = """
+        {"Artist(s)": "!!!", "song": "Even When the Waters Cold", "text": "Test lyrics for the song",
+         "Length": "03:47", "emotion": "sadness", "Genre": "hip hop", "Album": "Thr!!!er",
+         "Release Date": "2013-04-29", "Key": "D min", "Tempo": 0.4378698225, "Loudness (db)": 0.785065407,
+         "Time signature": "4/4", "Explicit": "No", "Popularity": 40, "Energy": 83, "Danceability": 71,
+         "Positiveness": 87, "Speechiness": 4, "Liveness": 16, "Acousticness": 11, "Instrumentalness": 0,
+         "Good for Party": 0, "Good for Work/Study": 0, "Good for Relaxation/Meditation": 0,
+         "Good for Exercise": 1, "Good for Running": 0, "Good for Yoga/Stretching": 0, "Good for Driving": 0,
+         "Good for Social Gatherings": 0, "Good for Morning Routine": 0,
+         "Similar Songs": [
+           {"Similar Artist 1": "Corey Smith", "Similar Song 1": "If I Could Do It Again", "Similarity Score": 0.9860607848},
+           {"Similar Artist 2": "Toby Keith", "Similar Song 2": "Drinks After Work", "Similarity Score": 0.9837194774}
+         ]}
+        """;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("곡 JSON 객체를 SpotifySongDto로 직접 파싱한다")
+    void 곡객체_DTO_직접파싱() throws IOException {
+        // when
+        SpotifySongDto dto = parseDto(SONG_JSON);
+
+        // then
+        assertThat(dto).isNotNull();
+        assertThat(dto.getArtists()).isEqualTo("!!!");
+        assertThat(dto.getSongTitle()).isEqualTo("Even When the Waters Cold");
+        assertThat(dto.getLyrics()).isEqualTo("Test lyrics for the song");
+        assertThat(dto.getLength()).isEqualTo("03:47");
+        assertThat(dto.getAlbumTitle()).isEqualTo("Thr!!!er");
+        assertThat(dto.getReleaseDate()).isEqualTo("2013-04-29");
+        assertThat(dto.getTempo()).isEqualByComparingTo(new BigDecimal("0.4378698225"));
+        assertThat(dto.getLoudnessDb()).isEqualByComparingTo(new BigDecimal("0.785065407"));
+        assertThat(dto.getPopularity()).isEqualTo(40);
+        assertThat(dto.getEnergy()).isEqualTo(83);
+        assertThat(dto.getInstrumentalness()).isEqualTo(0);
+        assertThat(dto.getGoodForExercise()).isEqualTo(1);
+        assertThat(dto.getGoodForMorningRoutine()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Similar Songs 배열을 SimilarSongDto 리스트로 파싱한다")
+    void SimilarSongs_파싱() throws IOException {
+        // when
+        SpotifySongDto dto = parseDto(SONG_JSON);
+
+        // then
+        assertThat(dto.getSimilarSongs()).hasSize(2);
+
+        SimilarSongDto first = dto.getSimilarSongs().get(0);
+        assertThat(first.getArtistName()).isEqualTo("Corey Smith");
+        assertThat(first.getSongTitle()).isEqualTo("If I Could Do It Again");
+        assertThat(first.getSimilarityScore()).isEqualByComparingTo(new BigDecimal("0.9860607848"));
+    }
+
+    @Test
+    @DisplayName("DTO 직접 파싱 결과는 Map 파싱 후 변환한 결과와 같다")
+    void DTO직접파싱_Map경로_동일결과() throws IOException {
+        // when
+        SpotifySongDto direct = parseDto(SONG_JSON);
+        SpotifySongDto viaMap = SpotifyDataMapper.mapToSpotifySongDto(parseMap(SONG_JSON));
+
+        // then
+        assertThat(direct)
+            .usingRecursiveComparison()
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .isEqualTo(viaMap);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드와 중첩 구조는 건너뛴다")
+    void 알수없는필드_건너뜀() throws IOException {
+        // given
+        String json = """
+            {"unknown": {"nested": [1, 2, {"deep": true}]}, "song": "Title", "tags": ["a", "b"], "Popularity": 10}
+            """;
+
+        // when
+        SpotifySongDto dto = parseDto(json);
+
+        // then
+        assertThat(dto.getSongTitle()).isEqualTo("Title");
+        assertThat(dto.getPopularity()).isEqualTo(10);
+        assertThat(dto.getSimilarSongs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문자열로 된 숫자 필드를 파싱하고 잘못된 값은 null로 처리한다")
+    void 문자열숫자_파싱() throws IOException {
+        // given
+        String json = """
+            {"song": "Title", "Popularity": "55", "Energy": "high", "Tempo": "120.5", "Loudness (db)": "loud"}
+            """;
+
+        // when
+        SpotifySongDto dto = parseDto(json);
+
+        // then
+        assertThat(dto.getPopularity()).isEqualTo(55);
+        assertThat(dto.getEnergy()).isNull();
+        assertThat(dto.getTempo()).isEqualByComparingTo(new BigDecimal("120.5"));
+        assertThat(dto.getLoudnessDb()).isNull();
+    }
+
+    @Test
+    @DisplayName("필수 값이 빠진 Similar Song은 제외한다")
+    void 불완전한_SimilarSong_제외() throws IOException {
+        // given
+        String json = """
+            {"song": "Title", "Similar Songs": [{"Similar Artist 1": "A"}, {"Similar Artist 2": "B", "Similar Song 2": "C", "Similarity Score": 0.5}]}
+            """;
+
+        // when
+        SpotifySongDto dto = parseDto(json);
+
+        // then
+        assertThat(dto.getSimilarSongs()).hasSize(1);
+        assertThat(dto.getSimilarSongs().get(0).getArtistName()).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("빈 객체는 null을 반환한다")
+    void 빈객체_null반환() throws IOException {
+        // when & then
+        assertThat(parseDto("{}")).isNull();
+        assertThat(parseMap("{}")).isEmpty();
+    }
+
+    private SpotifySongDto parseDto(String json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+            return SpotifySongJsonParser.parseSongDto(parser);
+        }
+    }
+
+    private Map<String, Object> parseMap(String json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_OBJECT);
+            return SpotifySongJsonParser.parseSongMap(parser);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.spotify_song_subject.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeflateLyricsCodec 단위 테스트")
+class DeflateLyricsCodecTest {
+
+    private static final String LYRICS = """
+        [Verse 1]
+        I know you know I love you, baby
+        I know you know I need you tonight
+        [Chorus]
+        Oh baby, I love you, yeah yeah yeah
+        Oh baby, I love you, yeah yeah yeah
+        """;
+
+    private static final byte[] DICTIONARY = "[Verse 1]\n[Chorus]\nI love you\nI know you know\n"
+        .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("압축한 가사를 원문 그대로 복원한다")
+    void roundTrip() {
+        // given
+        DeflateLyricsCodec codec = new DeflateLyricsCodec(DICTIONARY, 6);
+
+        // when
+        byte[] encoded = codec.encode(LYRICS);
+
+        // then
+        assertThat(encoded.length).isLessThan(LYRICS.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(codec.decode(encoded)).isEqualTo(LYRICS);
+    }
+
+    @Test
+    @DisplayName("dictionary를 쓰면 같은 가사가 더 작게 압축된다")
+    void dictionaryImprovesRatio() {
+        // given
+        DeflateLyricsCodec withoutDictionary = new DeflateLyricsCodec(new byte[0], 6);
+        DeflateLyricsCodec withDictionary = new DeflateLyricsCodec(DICTIONARY, 6);
+
+        // when
+        int plainSize = withoutDictionary.encode(LYRICS).length;
+        int dictionarySize = withDictionary.encode(LYRICS).length;
+
+        // then
+        assertThat(dictionarySize).isLessThan(plainSize);
+    }
+
+    @Test
+    @DisplayName("멀티바이트 문자와 빈 가사도 복원한다")
+    void roundTripUnicodeAndEmpty() {
+        // given
+        DeflateLyricsCodec codec = new DeflateLyricsCodec(DICTIONARY, 6);
+        String unicode = "사랑해 너를 사랑해\n愛してる ♪";
+
+        // when & then
+        assertThat(codec.decode(codec.encode(unicode))).isEqualTo(unicode);
+        assertThat(codec.decode(codec.encode(""))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘린 압축 데이터는 예외를 던진다")
+    void rejectTruncatedData() {
+        // given
+        DeflateLyricsCodec codec = new DeflateLyricsCodec(DICTIONARY, 6);
+        byte[] encoded = codec.encode(LYRICS);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(truncated))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
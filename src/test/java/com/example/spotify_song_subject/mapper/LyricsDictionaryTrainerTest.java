@@ -0,0 +1,69 @@
+package com.example.spotify_song_subject.mapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LyricsDictionaryTrainer 단위 테스트")
+class LyricsDictionaryTrainerTest {
+
+    @Test
+    @DisplayName("샘플에 반복되는 구절로 dictionary를 만들고 가장 효과가 큰 구절을 끝에 둔다")
+    void trainFromRepeatedPhrases() {
+        // given
+        List<String> samples = List.of(
+            "I love you baby\nhold me tight",
+            "I love you baby\nnever let go",
+            "I love you baby\nhold me tight");
+
+        // when
+        String dictionary = new String(LyricsDictionaryTrainer.train(samples, 1024), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(dictionary).contains("I love you baby", "hold me tight");
+        assertThat(dictionary).doesNotContain("never let go");
+        assertThat(dictionary).endsWith("I love you baby\n");
+    }
+
+    @Test
+    @DisplayName("dictionary 크기는 요청 크기와 Deflate 윈도우를 넘지 않는다")
+    void respectSizeLimit() {
+        // given
+        List<String> samples = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            samples.add("phrase number " + i + " again\nphrase number " + i + " again");
+        }
+
+        // when
+        byte[] small = LyricsDictionaryTrainer.train(samples, 256);
+        byte[] large = LyricsDictionaryTrainer.train(samples, Integer.MAX_VALUE);
+
+        // then
+        assertThat(small.length).isLessThanOrEqualTo(256);
+        assertThat(large.length).isLessThanOrEqualTo(LyricsDictionaryTrainer.MAX_DICTIONARY_SIZE);
+    }
+
+    @Test
+    @DisplayName("학습한 dictionary로 압축하면 dictionary 없이 압축할 때보다 작다")
+    void trainedDictionaryImprovesCompression() {
+        // given
+        List<String> samples = List.of(
+            "Oh baby baby, how was I supposed to know\nThat something wasn't right here",
+            "Oh baby baby, I shouldn't have let you go\nAnd now you're out of sight",
+            "Show me how you want it to be\nTell me baby 'cause I need to know now");
+        String lyrics = "Oh baby baby, how was I supposed to know\nTell me baby 'cause I need to know now";
+        byte[] dictionary = LyricsDictionaryTrainer.train(samples, LyricsDictionaryTrainer.MAX_DICTIONARY_SIZE);
+
+        // when
+        int withoutDictionary = new DeflateLyricsCodec(new byte[0], 6).encode(lyrics).length;
+        int withDictionary = new DeflateLyricsCodec(dictionary, 6).encode(lyrics).length;
+
+        // then
+        assertThat(withDictionary).isLessThan(withoutDictionary);
+    }
+}
@@ -4,7 +4,10 @@ import com.example.spotify_song_subject.config.DatabaseClientConfig;
 import com.example.spotify_song_subject.domain.Album;
 import com.example.spotify_song_subject.domain.Artist;
 import com.example.spotify_song_subject.domain.ArtistAlbum;
+import com.example.spotify_song_subject.dto.AlbumStatisticsCursor;
 import com.example.spotify_song_subject.dto.AlbumStatisticsDto;
+import com.example.spotify_song_subject.dto.ArtistAlbumYearCount;
+import com.example.spotify_song_subject.repository.bulk.ArtistAlbumYearStatsBulkRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -20,11 +24,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DisplayName("AlbumStatisticsCustomRepository 통합 테스트")
 @RepositoryTestConfiguration
@@ -43,6 +49,9 @@ class AlbumStatisticsCustomRepositoryTest {
     @Autowired
     private ArtistAlbumRepository artistAlbumRepository;
 
+    @Autowired
+    private ArtistAlbumYearStatsBulkRepository artistAlbumYearStatsBulkRepository;
+
     @Autowired
     private DatabaseClient databaseClient;
 
@@ -51,13 +60,17 @@ class AlbumStatisticsCustomRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        initializeTestData().block();
+        // 적재 후 요약 테이블 재계산과 동일하게 준비
+        initializeTestData()
+            .then(artistAlbumYearStatsBulkRepository.rebuild())
+            .block();
     }
 
     @AfterEach
     void tearDown() {
         // 데이터 정리 (역순으로)
-        artistAlbumRepository.deleteAll()
+        databaseClient.sql("DELETE FROM artist_album_year_stats").then()
+            .then(artistAlbumRepository.deleteAll())
             .then(albumRepository.deleteAll())
             .then(artistRepository.deleteAll())
             .block();
@@ -204,7 +217,7 @@ class AlbumStatisticsCustomRepositoryTest {
 
         // when
         Mono<Page<AlbumStatisticsDto>> result =
-            albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+            findPage(year, pageable);
 
         // then
         StepVerifier.create(result)
@@ -234,7 +247,7 @@ class AlbumStatisticsCustomRepositoryTest {
         Pageable pageableSecond = PageRequest.of(1, 2);
 
         // when & then - 첫 페이지
-        StepVerifier.create(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageableFirst))
+        StepVerifier.create(findPage(year, pageableFirst))
             .assertNext(page -> {
                 assertThat(page.getContent()).hasSize(2);
                 assertThat(page.getTotalElements()).isEqualTo(3);
@@ -246,7 +259,7 @@ class AlbumStatisticsCustomRepositoryTest {
             .verifyComplete();
 
         // when & then - 두 번째 페이지
-        StepVerifier.create(albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageableSecond))
+        StepVerifier.create(findPage(year, pageableSecond))
             .assertNext(page -> {
                 assertThat(page.getContent()).hasSize(1);
                 assertThat(page.getTotalElements()).isEqualTo(3);
@@ -265,7 +278,7 @@ class AlbumStatisticsCustomRepositoryTest {
 
         // when
         Mono<Page<AlbumStatisticsDto>> result =
-            albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+            findPage(year, pageable);
 
         // then
         StepVerifier.create(result)
@@ -286,7 +299,7 @@ class AlbumStatisticsCustomRepositoryTest {
 
         // when
         Mono<Page<AlbumStatisticsDto>> result =
-            albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+            findPage(year, pageable);
 
         // then
         StepVerifier.create(result)
@@ -309,7 +322,7 @@ class AlbumStatisticsCustomRepositoryTest {
 
         // when
         Mono<Page<AlbumStatisticsDto>> result =
-            albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+            findPage(year, pageable);
 
         // then
         StepVerifier.create(result)
@@ -342,9 +355,12 @@ class AlbumStatisticsCustomRepositoryTest {
             .then()
             .block();
 
+        // 요약 테이블은 재계산 시점에 삭제를 반영
+        artistAlbumYearStatsBulkRepository.rebuild().block();
+
         // when
         Mono<Page<AlbumStatisticsDto>> result =
-            albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+            findPage(year, pageable);
 
         // then
         StepVerifier.create(result)
@@ -373,7 +389,7 @@ class AlbumStatisticsCustomRepositoryTest {
 
         // when
         Mono<Page<AlbumStatisticsDto>> result =
-            albumStatisticsCustomRepository.findAlbumStatisticsByYear(year, pageable);
+            findPage(year, pageable);
 
         // then
         StepVerifier.create(result)
@@ -385,4 +401,138 @@ class AlbumStatisticsCustomRepositoryTest {
             })
             .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("증분 반영된 앨범 수가 순위에 바로 반영된다")
+    void findAlbumStatisticsByYear_ReflectsIncrementalCounts() {
+        // given
+        Artist seventeen = testArtists.get(2);
+        artistAlbumYearStatsBulkRepository.bulkInsert(List.of(
+            new ArtistAlbumYearCount(2023, seventeen.getId(), seventeen.getName(), 2)
+        )).block();
+
+        // when
+        Mono<Page<AlbumStatisticsDto>> result =
+            findPage(2023, PageRequest.of(0, 10));
+
+        // then - 앨범 수가 같으면 아티스트명 순
+        StepVerifier.create(result)
+            .assertNext(page -> {
+                assertThat(page.getTotalElements()).isEqualTo(3);
+                assertThat(page.getContent())
+                    .extracting(AlbumStatisticsDto::getArtistName, AlbumStatisticsDto::getAlbumCount)
+                    .containsExactly(
+                        tuple("BTS", 3L),
+                        tuple("Seventeen", 3L),
+                        tuple("IU", 2L));
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("커서 없이 조회하면 첫 행부터 limit 건을 반환한다")
+    void findAlbumStatisticsAfter_FirstPage() {
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, null, 2).collectList())
+            .assertNext(rows -> assertThat(rows)
+                .extracting(AlbumStatisticsDto::getArtistName)
+                .containsExactly("BTS", "IU"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("커서 다음 행부터 정렬 순서대로 이어서 조회한다")
+    void findAlbumStatisticsAfter_SeeksPastCursor() {
+        // given
+        AlbumStatisticsCursor afterBts = new AlbumStatisticsCursor(2023, 3L, "BTS");
+
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, afterBts, 10).collectList())
+            .assertNext(rows -> assertThat(rows)
+                .extracting(AlbumStatisticsDto::getArtistName, AlbumStatisticsDto::getAlbumCount)
+                .containsExactly(tuple("IU", 2L), tuple("Seventeen", 1L)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("앨범 수가 같은 아티스트는 아티스트명으로 이어서 조회한다")
+    void findAlbumStatisticsAfter_TieBreaksOnArtistName() {
+        // given - Seventeen 3개로 BTS와 동률
+        Artist seventeen = testArtists.get(2);
+        artistAlbumYearStatsBulkRepository.bulkInsert(List.of(
+            new ArtistAlbumYearCount(2023, seventeen.getId(), seventeen.getName(), 2)
+        )).block();
+        AlbumStatisticsCursor afterBts = new AlbumStatisticsCursor(2023, 3L, "BTS");
+
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, afterBts, 1).collectList())
+            .assertNext(rows -> assertThat(rows)
+                .extracting(AlbumStatisticsDto::getArtistName)
+                .containsExactly("Seventeen"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("마지막 행 이후의 커서로 조회하면 빈 결과를 반환한다")
+    void findAlbumStatisticsAfter_PastLastRow() {
+        // given
+        AlbumStatisticsCursor afterLast = new AlbumStatisticsCursor(2023, 1L, "Seventeen");
+
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.findAlbumStatisticsAfter(2023, afterLast, 10))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("연도별 아티스트 수를 조회한다")
+    void countAlbumStatisticsByYear() {
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.countAlbumStatisticsByYear(2023))
+            .expectNext(3L)
+            .verifyComplete();
+
+        StepVerifier.create(albumStatisticsCustomRepository.countAlbumStatisticsByYear(2025))
+            .expectNext(0L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("연도 범위의 전체 순위를 연도, 앨범 수 내림차순 순으로 스트리밍한다")
+    void streamAlbumStatistics_Range() {
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.streamAlbumStatistics(2022, 2024))
+            .recordWith(ArrayList::new)
+            .expectNextCount(5)
+            .consumeRecordedWith(rows -> assertThat(rows)
+                .extracting(AlbumStatisticsDto::getReleaseYear, AlbumStatisticsDto::getArtistName, AlbumStatisticsDto::getAlbumCount)
+                .containsExactly(
+                    tuple(2022, "BTS", 1L),
+                    tuple(2023, "BTS", 3L),
+                    tuple(2023, "IU", 2L),
+                    tuple(2023, "Seventeen", 1L),
+                    tuple(2024, "IU", 1L)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("요청한 만큼만 행을 내보낸다")
+    void streamAlbumStatistics_Backpressure() {
+        // when & then
+        StepVerifier.create(albumStatisticsCustomRepository.streamAlbumStatistics(2023, 2023), 1)
+            .assertNext(dto -> assertThat(dto.getArtistName()).isEqualTo("BTS"))
+            .expectNoEvent(Duration.ofMillis(100))
+            .thenRequest(2)
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+
+    /**
+     * 페이지 데이터와 전체 개수를 합쳐 페이지로 조회 (서비스의 페이지 조회와 동일한 조합)
+     */
+    private Mono<Page<AlbumStatisticsDto>> findPage(Integer year, Pageable pageable) {
+        return Mono.zip(
+                albumStatisticsCustomRepository.findAlbumStatisticsData(year, pageable).collectList(),
+                albumStatisticsCustomRepository.countAlbumStatisticsByYear(year))
+            .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+}
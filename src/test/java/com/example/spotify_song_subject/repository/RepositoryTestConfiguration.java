@@ -1,5 +1,6 @@
 package com.example.spotify_song_subject.repository;
 
+import com.example.spotify_song_subject.config.LyricsCodecConfig;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
@@ -25,6 +26,6 @@ import java.lang.annotation.Target;
     )
 })
 @ActiveProfiles("test")
-@Import({TestSchemaInitializer.class, TestR2dbcAuditingConfig.class})
+@Import({TestSchemaInitializer.class, TestR2dbcAuditingConfig.class, LyricsCodecConfig.class})
 public @interface RepositoryTestConfiguration {
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.example.spotify_song_subject.repository;
+
+import com.example.spotify_song_subject.dto.SongCard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SongCardRedisRepository 단위 테스트")
+class SongCardRedisRepositoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReactiveStringRedisTemplate redisTemplate;
+    private ReactiveValueOperations<String, String> valueOperations;
+    private SongCardRedisRepository songCardRedisRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        songCardRedisRepository = new SongCardRedisRepository(redisTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("여러 곡 카드를 MGET 한 번으로 조회하고 없는 키는 건너뛴다")
+    void findAllWithMultiGet() throws Exception {
+        // given
+        SongCard card = new SongCard(1L, "Song 1", "Artist 1, Artist 2", "Album 1");
+        when(valueOperations.multiGet(List.of("song:card:1", "song:card:2")))
+            .thenReturn(Mono.just(Arrays.asList(objectMapper.writeValueAsString(card), null)));
+
+        // when & then
+        StepVerifier.create(songCardRedisRepository.findAll(List.of(1L, 2L)))
+            .assertNext(cards -> assertThat(cards).containsExactlyEntriesOf(Map.of(1L, card)))
+            .verifyComplete();
+
+        verify(valueOperations, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패는 캐시 미스로 취급한다")
+    void findAllTreatsFailureAsMiss() {
+        // given
+        when(valueOperations.multiGet(anyList()))
+            .thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+        // when & then
+        StepVerifier.create(songCardRedisRepository.findAll(List.of(1L)))
+            .assertNext(cards -> assertThat(cards).isEmpty())
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("여러 곡 카드를 TTL과 함께 스크립트 한 번으로 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveAllInSingleCall() throws Exception {
+        // given
+        SongCard first = new SongCard(1L, "Song 1", "Artist 1", "Album 1");
+        SongCard second = new SongCard(2L, "Song 2", "Artist 2", "Album 2");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenReturn(Flux.just(2L));
+
+        // when & then
+        StepVerifier.create(songCardRedisRepository.saveAll(List.of(first, second)))
+            .expectNext(2L)
+            .verifyComplete();
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), args.capture());
+
+        assertThat(keys.getValue()).containsExactly("song:card:1", "song:card:2");
+        assertThat(args.getValue()).containsExactly(
+            "3600", objectMapper.writeValueAsString(first), objectMapper.writeValueAsString(second));
+    }
+
+    @Test
+    @DisplayName("곡 ID로 곡 카드를 삭제한다")
+    void deleteAll() {
+        // given
+        when(redisTemplate.delete("song:card:1", "song:card:2")).thenReturn(Mono.just(2L));
+
+        // when & then
+        StepVerifier.create(songCardRedisRepository.deleteAll(List.of(1L, 2L)))
+            .expectNext(2L)
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.spotify_song_subject.repository;
+
+import com.example.spotify_song_subject.dto.SongCard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RepositoryTestConfiguration
+@DisplayName("SongCardRepository Integration Tests")
+class SongCardRepositoryTest {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private SongCardRepository songCardRepository;
+
+    @BeforeEach
+    void setUp() {
+        songCardRepository = new SongCardRepository(databaseClient);
+
+        // 테스트 데이터 초기화
+        cleanupTestData().block();
+        initializeTestData().block();
+    }
+
+    private Mono<Void> cleanupTestData() {
+        return databaseClient.sql("DELETE FROM artist_songs").fetch().rowsUpdated()
+            .then(databaseClient.sql("DELETE FROM artists").fetch().rowsUpdated())
+            .then(databaseClient.sql("DELETE FROM songs").fetch().rowsUpdated())
+            .then(databaseClient.sql("DELETE FROM albums").fetch().rowsUpdated())
+            .then();
+    }
+
+    private Mono<Void> initializeTestData() {
+        String insertAlbumsSql = """
+            INSERT INTO albums (id, title, release_date, created_at, updated_at)
+            VALUES
+            (1, 'Album 1', '2024-01-01', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 'Album 2', '2024-02-01', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (3, 'Album 3', '2024-03-01', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+        String insertArtistsSql = """
+            INSERT INTO artists (id, name, created_at, updated_at)
+            VALUES
+            (1, 'Artist 1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 'Artist 2', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (3, 'Artist 3', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (4, 'Artist 4', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+        String insertSongsSql = """
+            INSERT INTO songs (id, title, album_id, popularity, created_at, updated_at)
+            VALUES
+            (1, 'Song 1', 1, 90, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 'Song 2', 2, 85, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (3, 'Song 3', 3, 80, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (4, 'Song 4', 1, 75, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (5, 'Song 5', 2, 70, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+        String insertArtistSongsSql = """
+            INSERT INTO artist_songs (artist_id, song_id, created_at, updated_at)
+            VALUES
+            (1, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (3, 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (1, 4, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 5, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+        return databaseClient.sql(insertAlbumsSql).fetch().rowsUpdated()
+            .then(databaseClient.sql(insertArtistsSql).fetch().rowsUpdated())
+            .then(databaseClient.sql(insertSongsSql).fetch().rowsUpdated())
+            .then(databaseClient.sql(insertArtistSongsSql).fetch().rowsUpdated())
+            .then();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 정상 케이스")
+    void findSongCardsByIds_Success() {
+        // When & Then
+        StepVerifier.create(songCardRepository.findSongCardsByIds(List.of(1L, 2L, 3L))
+                .sort(Comparator.comparing(SongCard::songId)))
+            .assertNext(card -> assertThat(card).isEqualTo(new SongCard(1L, "Song 1", "Artist 1", "Album 1")))
+            .assertNext(card -> assertThat(card).isEqualTo(new SongCard(2L, "Song 2", "Artist 2", "Album 2")))
+            .assertNext(card -> assertThat(card).isEqualTo(new SongCard(3L, "Song 3", "Artist 3", "Album 3")))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 여러 아티스트가 참여한 곡은 한 건으로 이름을 연결")
+    void findSongCardsByIds_MultipleArtists() {
+        // Given - Song 1에 Artist 4 추가 참여
+        databaseClient.sql("INSERT INTO artist_songs (artist_id, song_id, created_at, updated_at) VALUES (4, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+            .fetch()
+            .rowsUpdated()
+            .block();
+
+        // When & Then
+        StepVerifier.create(songCardRepository.findSongCardsByIds(List.of(1L)))
+            .assertNext(card -> {
+                assertThat(card.songId()).isEqualTo(1L);
+                assertThat(card.artistNames()).isEqualTo("Artist 1, Artist 4");
+                assertThat(card.albumTitle()).isEqualTo("Album 1");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 앨범이 없는 곡 처리 (INNER JOIN으로 인해 결과 없음)")
+    void findSongCardsByIds_SongWithoutAlbum() {
+        // Given - Song 100은 존재하지 않는 앨범을 참조하도록 설정
+        databaseClient.sql("INSERT INTO songs (id, title, album_id, created_at, updated_at) VALUES (100, 'Song Without Album', 999, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+            .fetch()
+            .rowsUpdated()
+            .block();
+
+        // When & Then - INNER JOIN이므로 존재하지 않는 앨범을 참조하는 곡은 조회되지 않음
+        StepVerifier.create(songCardRepository.findSongCardsByIds(List.of(100L)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 존재하지 않는 곡 ID")
+    void findSongCardsByIds_NonExistentSongIds() {
+        // When & Then
+        StepVerifier.create(songCardRepository.findSongCardsByIds(List.of(999L, 1000L)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 빈 리스트 처리")
+    void findSongCardsByIds_EmptyList() {
+        // When & Then
+        StepVerifier.create(songCardRepository.findSongCardsByIds(List.of()))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 아티스트 정보가 삭제된 곡 처리 (INNER JOIN으로 인해 결과 없음)")
+    void findSongCardsByIds_DeletedArtist() {
+        // Given
+        // 아티스트를 soft delete 처리
+        databaseClient.sql("UPDATE artists SET deleted_at = CURRENT_TIMESTAMP WHERE id = 1")
+            .fetch()
+            .rowsUpdated()
+            .block();
+
+        // When & Then - INNER JOIN이므로 삭제된 아티스트의 곡은 조회되지 않음
+        StepVerifier.create(songCardRepository.findSongCardsByIds(List.of(1L)))
+            .verifyComplete();
+
+        // 원상복구
+        databaseClient.sql("UPDATE artists SET deleted_at = NULL WHERE id = 1")
+            .fetch()
+            .rowsUpdated()
+            .block();
+    }
+
+    @Test
+    @DisplayName("곡 카드 조회 - 다수의 곡 처리 (10개)")
+    void findSongCardsByIds_MultipleSongs() {
+        // Given - 추가 곡 데이터 삽입
+        String insertMoreSongsSql = """
+            INSERT INTO songs (id, title, album_id, popularity, created_at, updated_at)
+            VALUES
+            (6, 'Song 6', 1, 65, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (7, 'Song 7', 2, 60, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (8, 'Song 8', 3, 55, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (9, 'Song 9', 1, 50, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (10, 'Song 10', 2, 45, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+        databaseClient.sql(insertMoreSongsSql).fetch().rowsUpdated().block();
+
+        // 추가 곡에 대한 artist_songs 관계 추가
+        String insertMoreArtistSongsSql = """
+            INSERT INTO artist_songs (artist_id, song_id, created_at, updated_at)
+            VALUES
+            (1, 6, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 7, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (3, 8, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (1, 9, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+            (2, 10, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+        databaseClient.sql(insertMoreArtistSongsSql).fetch().rowsUpdated().block();
+
+        List<Long> songIds = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+        // When & Then
+        StepVerifier.create(songCardRepository.findSongCardsByIds(songIds).collectList())
+            .assertNext(cards -> assertThat(cards)
+                .extracting(SongCard::songId)
+                .containsExactlyInAnyOrderElementsOf(songIds))
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.spotify_song_subject.repository;
+
+import com.example.spotify_song_subject.dto.SongLikeScore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SongLikeRedisRepository 단위 테스트")
+class SongLikeRedisRepositoryTest {
+
+    private ReactiveStringRedisTemplate redisTemplate;
+    private SongLikeRedisRepository songLikeRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        songLikeRedisRepository = new SongLikeRedisRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("버킷 증감과 캐시 갱신을 스크립트 한 번으로 보낸다")
+    @SuppressWarnings("unchecked")
+    void applyLikeInSingleCall() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(7L));
+
+        // when & then
+        StepVerifier.create(songLikeRedisRepository.applyLike(1L, -1, 7L))
+            .expectNext(7L)
+            .verifyComplete();
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), args.capture());
+        verifyNoMoreInteractions(redisTemplate);
+
+        assertThat(keys.getValue()).hasSize(3);
+        assertThat(keys.getValue().get(0)).startsWith("likes:bucket:");
+        assertThat(keys.getValue().get(1)).isEqualTo("song:like:cache:1");
+        assertThat(keys.getValue().get(2)).isEqualTo("likes:trending:window");
+        assertThat(args.getValue()).containsExactly("1", "-1", "4200", "7", "300");
+    }
+
+    @Test
+    @DisplayName("Redis 실패 시에도 좋아요 수를 그대로 반환한다")
+    @SuppressWarnings("unchecked")
+    void applyLikeIgnoresRedisFailure() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.error(new IllegalStateException("connection refused")));
+
+        // when & then
+        StepVerifier.create(songLikeRedisRepository.applyLike(1L, 1, 3L))
+            .expectNext(3L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("트렌딩 조회는 윈도우 ZSET을 한 번 읽는다")
+    @SuppressWarnings("unchecked")
+    void getTop10TrendingSongsReadsWindow() {
+        // given
+        ReactiveZSetOperations<String, String> zSetOperations = mock(ReactiveZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeWithScores("likes:trending:window", Range.closed(0L, 9L)))
+            .thenReturn(Flux.just(
+                ZSetOperations.TypedTuple.of("3", 5.0),
+                ZSetOperations.TypedTuple.of("1", 2.0)));
+
+        // when & then
+        StepVerifier.create(songLikeRedisRepository.getTop10TrendingSongs())
+            .assertNext(scores -> assertThat(scores).containsExactly(
+                new SongLikeScore(3L, 5L),
+                new SongLikeScore(1L, 2L)))
+            .verifyComplete();
+
+        verify(zSetOperations, never()).unionAndStore(any(), anyList(), any());
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @Test
+    @DisplayName("윈도우 재구성은 최근 12개 버킷을 윈도우 키에 합산한다")
+    @SuppressWarnings("unchecked")
+    void rebuildTrendingWindow() {
+        // given
+        ReactiveZSetOperations<String, String> zSetOperations = mock(ReactiveZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.unionAndStore(any(), anyList(), eq("likes:trending:window")))
+            .thenReturn(Mono.just(4L));
+
+        // when & then
+        StepVerifier.create(songLikeRedisRepository.rebuildTrendingWindow())
+            .expectNext(4L)
+            .verifyComplete();
+
+        ArgumentCaptor<String> firstKey = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<String>> otherKeys = ArgumentCaptor.forClass(List.class);
+        verify(zSetOperations).unionAndStore(firstKey.capture(), otherKeys.capture(), eq("likes:trending:window"));
+        assertThat(firstKey.getValue()).startsWith("likes:bucket:");
+        assertThat(otherKeys.getValue()).hasSize(11).allMatch(key -> key.startsWith("likes:bucket:"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.spotify_song_subject.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SongLikeRepository 단위 테스트")
+@RepositoryTestConfiguration
+class SongLikeRepositoryTest {
+
+    private static final Long USER_ID = 100L;
+
+    @Autowired
+    private SongLikeRepository songLikeRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private Long songId;
+
+    @BeforeEach
+    void setUp() {
+        songId = databaseClient.sql("INSERT INTO songs (title) VALUES ('Toggle Song')")
+            .filter(statement -> statement.returnGeneratedValues("id"))
+            .map(row -> row.get("id", Long.class))
+            .one()
+            .block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("DELETE FROM song_likes").then().block();
+        databaseClient.sql("DELETE FROM songs").then().block();
+    }
+
+    @Test
+    @DisplayName("첫 토글은 좋아요 행을 만들고 true를 반환한다")
+    void firstToggleLikes() {
+        // when & then
+        StepVerifier.create(songLikeRepository.toggle(songId, USER_ID))
+            .expectNext(true)
+            .verifyComplete();
+
+        StepVerifier.create(songLikeRepository.findBySongIdAndUserId(songId, USER_ID))
+            .assertNext(like -> assertThat(like.getUserId()).isEqualTo(USER_ID))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("토글을 반복해도 같은 행의 상태만 뒤집는다")
+    void toggleReusesSameRow() {
+        // when & then
+        StepVerifier.create(songLikeRepository.toggle(songId, USER_ID))
+            .expectNext(true)
+            .verifyComplete();
+
+        StepVerifier.create(songLikeRepository.toggle(songId, USER_ID))
+            .expectNext(false)
+            .verifyComplete();
+
+        StepVerifier.create(songLikeRepository.findBySongIdAndUserId(songId, USER_ID))
+            .verifyComplete();
+
+        StepVerifier.create(songLikeRepository.toggle(songId, USER_ID))
+            .expectNext(true)
+            .verifyComplete();
+
+        assertThat(countRows()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("사용자별로 독립적으로 토글된다")
+    void toggleIsPerUser() {
+        // when & then
+        StepVerifier.create(songLikeRepository.toggle(songId, USER_ID))
+            .expectNext(true)
+            .verifyComplete();
+
+        StepVerifier.create(songLikeRepository.toggle(songId, USER_ID + 1))
+            .expectNext(true)
+            .verifyComplete();
+
+        StepVerifier.create(songLikeRepository.countBySongId(songId))
+            .expectNext(2L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 곡이면 빈 결과를 반환하고 행을 만들지 않는다")
+    void toggleUnknownSong() {
+        // when & then
+        StepVerifier.create(songLikeRepository.toggle(songId + 999, USER_ID))
+            .verifyComplete();
+
+        assertThat(countRows()).isZero();
+    }
+
+    private Long countRows() {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM song_likes")
+            .map(row -> row.get("cnt", Long.class))
+            .one()
+            .block();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.spotify_song_subject.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SongLyricsRepository 단위 테스트")
+@RepositoryTestConfiguration
+class SongLyricsRepositoryTest {
+
+    @Autowired
+    private SongLyricsRepository songLyricsRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @AfterEach
+    void tearDown() {
+        songLyricsRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("곡 id로 인코딩된 가사 바이트를 조회한다")
+    void findById() {
+        // given
+        byte[] encoded = "Is this just fantasy?".getBytes(StandardCharsets.UTF_8);
+        insertLyrics(2L, encoded);
+
+        // when & then
+        StepVerifier.create(songLyricsRepository.findById(2L))
+            .assertNext(found -> {
+                assertThat(found.getSongId()).isEqualTo(2L);
+                assertThat(found.getLyrics()).isEqualTo(encoded);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("인코딩 결과가 큰 가사도 길이 제한 없이 저장한다")
+    void findByIdWithLargeLyrics() {
+        // given
+        byte[] encoded = "Mama, just killed a man\n".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        insertLyrics(3L, encoded);
+
+        // when & then
+        StepVerifier.create(songLyricsRepository.findById(3L))
+            .assertNext(found -> assertThat(found.getLyrics()).hasSize(encoded.length).isEqualTo(encoded))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("가사가 없는 곡은 빈 결과를 반환한다")
+    void findByIdWhenAbsent() {
+        // when & then
+        StepVerifier.create(songLyricsRepository.findById(999L))
+            .verifyComplete();
+    }
+
+    private void insertLyrics(Long songId, byte[] lyrics) {
+        databaseClient.sql("INSERT INTO song_lyrics (song_id, lyrics) VALUES (:songId, :lyrics)")
+            .bind("songId", songId)
+            .bind("lyrics", lyrics)
+            .then()
+            .block();
+    }
+}
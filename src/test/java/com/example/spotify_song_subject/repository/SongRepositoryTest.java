@@ -61,6 +61,19 @@ class SongRepositoryTest {
                 .block();
     }
 
+    @Test
+    @DisplayName("저장된 곡이 있는지 확인한다")
+    void existsAny() {
+        // when & then
+        StepVerifier.create(songRepository.existsAny())
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(songRepository.save(testSong).then(songRepository.existsAny()))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("곡을 저장한다")
     void saveSong() {
@@ -71,7 +84,6 @@ class SongRepositoryTest {
                     assertThat(saved.getId()).isNotNull();
                     assertThat(saved.getTitle()).isEqualTo("Test Song");
                     assertThat(saved.getAlbumId()).isEqualTo(1L);
-                    assertThat(saved.getLyrics()).isEqualTo("Test lyrics");
                     assertThat(saved.getGenre()).isEqualTo("pop");
                     assertThat(saved.getPopularity()).isEqualTo(75);
                     assertThat(saved.getCreatedAt()).isNotNull();
@@ -274,4 +286,48 @@ class SongRepositoryTest {
         .expectNext(3L)
         .verifyComplete();
     }
-}
\ No newline at end of file
+    @Test
+    @DisplayName("곡 조회 시 가사는 songs 테이블에서 읽지 않는다")
+    void findSongWithoutLyrics() {
+        // when & then
+        StepVerifier.create(
+                songRepository.save(testSong)
+                    .flatMap(saved -> songRepository.findById(saved.getId()))
+        )
+        .assertNext(found -> {
+            assertThat(found.getTitle()).isEqualTo("Test Song");
+            assertThat(found.getLyrics()).isNull();
+        })
+        .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("id로 곡 요약(id, 제목, 앨범ID, 좋아요 수)만 조회한다")
+    void findSummaryById() {
+        // when & then
+        StepVerifier.create(
+                songRepository.save(testSong)
+                    .flatMap(saved -> songRepository.findSummaryById(saved.getId()))
+        )
+        .assertNext(summary -> {
+            assertThat(summary.id()).isNotNull();
+            assertThat(summary.title()).isEqualTo("Test Song");
+            assertThat(summary.albumId()).isEqualTo(1L);
+            assertThat(summary.likeCount()).isZero();
+        })
+        .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("id로 좋아요 수만 조회한다")
+    void findLikeCountById() {
+        // when & then
+        StepVerifier.create(
+                songRepository.save(testSong)
+                    .flatMap(saved -> songRepository.incrementLikeCount(saved.getId())
+                        .then(songRepository.findLikeCountById(saved.getId())))
+        )
+        .expectNext(1L)
+        .verifyComplete();
+    }
+}
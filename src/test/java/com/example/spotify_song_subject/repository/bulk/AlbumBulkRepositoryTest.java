@@ -8,6 +8,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
@@ -27,6 +30,9 @@ class AlbumBulkRepositoryTest {
     @Autowired
     private AlbumRepository albumRepository;
 
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
     private List<Album> testAlbums;
 
     @BeforeEach
@@ -66,6 +72,40 @@ class AlbumBulkRepositoryTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("일괄 삽입 후 생성된 id를 삽입 순서대로 반환한다")
+    void bulkInsertReturningIds() {
+        // when
+        List<Long> ids = albumBulkRepository.bulkInsertReturningIds(testAlbums).block();
+
+        // then
+        assertThat(ids).hasSize(3).doesNotContainNull();
+        for (int i = 0; i < ids.size(); i++) {
+            Album saved = albumRepository.findById(ids.get(i)).block();
+            assertThat(saved.getTitle()).isEqualTo(testAlbums.get(i).getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 트랜잭션이 롤백되면 일괄 삽입도 롤백된다")
+    void bulkInsertParticipatesInTransaction() {
+        // given
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+
+        // when
+        Mono<Long> insertThenFail = albumBulkRepository.bulkInsert(testAlbums)
+            .then(Mono.error(new IllegalStateException("rollback")));
+
+        // then
+        StepVerifier.create(insertThenFail.as(transactionalOperator::transactional))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        StepVerifier.create(albumRepository.count())
+            .expectNext(0L)
+            .verifyComplete();
+    }
+
     @Test
     @DisplayName("release_date가 null인 앨범도 삽입한다")
     void bulkInsertAlbumsWithNullReleaseDate() {
@@ -0,0 +1,196 @@
+package com.example.spotify_song_subject.repository.bulk;
+
+import com.example.spotify_song_subject.domain.Album;
+import com.example.spotify_song_subject.domain.Artist;
+import com.example.spotify_song_subject.domain.ArtistAlbum;
+import com.example.spotify_song_subject.dto.ArtistAlbumYearCount;
+import com.example.spotify_song_subject.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ArtistAlbumYearStatsBulkRepository 단위 테스트")
+@RepositoryTestConfiguration
+class ArtistAlbumYearStatsBulkRepositoryTest {
+
+    @Autowired
+    private ArtistAlbumYearStatsBulkRepository artistAlbumYearStatsBulkRepository;
+
+    @Autowired
+    private ArtistAlbumRepository artistAlbumRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    private Long artistId1;
+    private Long artistId2;
+
+    @BeforeEach
+    void setUp() {
+        artistId1 = artistRepository.save(Artist.of("Artist 1")).block().getId();
+        artistId2 = artistRepository.save(Artist.of("Artist 2")).block().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("DELETE FROM artist_album_year_stats").then().block();
+        artistAlbumRepository.deleteAll().block();
+        albumRepository.deleteAll().block();
+        artistRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("같은 연도와 아티스트의 앨범 수는 기존 값에 더한다")
+    void bulkInsertAccumulatesCounts() {
+        // given
+        artistAlbumYearStatsBulkRepository.bulkInsert(List.of(
+            new ArtistAlbumYearCount(2023, artistId1, "Artist 1", 2),
+            new ArtistAlbumYearCount(2023, artistId2, "Artist 2", 1)
+        )).block();
+
+        // when
+        artistAlbumYearStatsBulkRepository.bulkInsert(List.of(
+            new ArtistAlbumYearCount(2023, artistId1, "Artist 1", 3),
+            new ArtistAlbumYearCount(2024, artistId1, "Artist 1", 1)
+        )).block();
+
+        // then
+        StepVerifier.create(findAllStats())
+            .assertNext(rows -> assertThat(rows)
+                .extracting(ArtistAlbumYearCount::releaseYear, ArtistAlbumYearCount::artistId, ArtistAlbumYearCount::albumCount)
+                .containsExactly(
+                    tuple(2023, artistId1, 5L),
+                    tuple(2023, artistId2, 1L),
+                    tuple(2024, artistId1, 1L)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("같은 아티스트를 서로 다른 순서로 담은 배치가 동시에 커밋되어도 교착 없이 모두 반영된다")
+    void concurrentBatchesSharingArtists() {
+        // given
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+        List<ArtistAlbumYearCount> forward = List.of(
+            new ArtistAlbumYearCount(2023, artistId1, "Artist 1", 1),
+            new ArtistAlbumYearCount(2023, artistId2, "Artist 2", 1),
+            new ArtistAlbumYearCount(2024, artistId1, "Artist 1", 1)
+        );
+        List<ArtistAlbumYearCount> reversed = forward.reversed();
+        int batches = 20;
+
+        // when
+        Flux<Long> concurrentBatches = Flux.range(0, batches)
+            .flatMap(i -> artistAlbumYearStatsBulkRepository.bulkInsert(i % 2 == 0 ? forward : reversed)
+                .delayElement(Duration.ofMillis(10))
+                .as(transactionalOperator::transactional)
+                .subscribeOn(Schedulers.boundedElastic()), batches);
+
+        // then
+        StepVerifier.create(concurrentBatches)
+            .expectNextCount(batches)
+            .verifyComplete();
+
+        StepVerifier.create(findAllStats())
+            .assertNext(rows -> assertThat(rows)
+                .extracting(ArtistAlbumYearCount::releaseYear, ArtistAlbumYearCount::artistId, ArtistAlbumYearCount::albumCount)
+                .containsExactly(
+                    tuple(2023, artistId1, (long) batches),
+                    tuple(2023, artistId2, (long) batches),
+                    tuple(2024, artistId1, (long) batches)))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("빈 컬렉션을 반영하면 0을 반환한다")
+    void bulkInsertEmptyCollection() {
+        // when & then
+        StepVerifier.create(artistAlbumYearStatsBulkRepository.bulkInsert(Collections.emptyList()))
+            .expectNext(0L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("재계산하면 원본 관계 기준으로 요약을 다시 만든다")
+    void rebuildFromSourceTables() {
+        // given
+        Long album2023a = albumRepository.save(Album.of("Album A", LocalDate.of(2023, 1, 1))).block().getId();
+        Long album2023b = albumRepository.save(Album.of("Album B", LocalDate.of(2023, 6, 1))).block().getId();
+        Long album2024 = albumRepository.save(Album.of("Album C", LocalDate.of(2024, 3, 1))).block().getId();
+        Long undated = albumRepository.save(Album.of("Album D", null)).block().getId();
+        Long deleted = albumRepository.save(Album.of("Album E", LocalDate.of(2023, 9, 1))).block().getId();
+
+        artistAlbumRepository.saveAll(List.of(
+            ArtistAlbum.builder().artistId(artistId1).albumId(album2023a).build(),
+            ArtistAlbum.builder().artistId(artistId1).albumId(album2023b).build(),
+            ArtistAlbum.builder().artistId(artistId1).albumId(album2024).build(),
+            ArtistAlbum.builder().artistId(artistId2).albumId(album2023a).build(),
+            ArtistAlbum.builder().artistId(artistId2).albumId(undated).build(),
+            ArtistAlbum.builder().artistId(artistId2).albumId(deleted).build()
+        )).blockLast();
+
+        databaseClient.sql("UPDATE albums SET deleted_at = CURRENT_TIMESTAMP WHERE id = :id")
+            .bind("id", deleted)
+            .then()
+            .block();
+
+        // 증분 반영 중 어긋난 값은 재계산으로 덮어씀
+        artistAlbumYearStatsBulkRepository.bulkInsert(List.of(
+            new ArtistAlbumYearCount(2023, artistId2, "Artist 2", 10),
+            new ArtistAlbumYearCount(2022, artistId1, "Artist 1", 1)
+        )).block();
+
+        // when & then
+        StepVerifier.create(artistAlbumYearStatsBulkRepository.rebuild())
+            .expectNext(3L)
+            .verifyComplete();
+
+        StepVerifier.create(findAllStats())
+            .assertNext(rows -> assertThat(rows)
+                .containsExactly(
+                    new ArtistAlbumYearCount(2023, artistId1, "Artist 1", 2),
+                    new ArtistAlbumYearCount(2023, artistId2, "Artist 2", 1),
+                    new ArtistAlbumYearCount(2024, artistId1, "Artist 1", 1)))
+            .verifyComplete();
+    }
+
+    private Mono<List<ArtistAlbumYearCount>> findAllStats() {
+        return databaseClient.sql("""
+                SELECT release_year, artist_id, artist_name, album_count
+                FROM artist_album_year_stats
+                ORDER BY release_year, artist_id
+                """)
+            .map(row -> new ArtistAlbumYearCount(
+                row.get("release_year", Integer.class),
+                row.get("artist_id", Long.class),
+                row.get("artist_name", String.class),
+                row.get("album_count", Long.class)))
+            .all()
+            .collectList();
+    }
+}
@@ -15,6 +15,7 @@ import reactor.test.StepVerifier;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -90,6 +91,29 @@ class ArtistBulkRepositoryTest {
             .verifyComplete();
     }
     
+    @Test
+    @DisplayName("새로 삽입된 아티스트만 이름별 생성 id로 반환")
+    void testBulkInsertReturningIds() {
+        // Given
+        Artist existingArtist = artistRepository.save(Artist.of("Artist1")).block();
+
+        List<Artist> artistsToInsert = Arrays.asList(
+            Artist.of("Artist1"), // 이미 존재 - 무시됨
+            Artist.of("Artist2"),
+            Artist.of("Artist3")
+        );
+
+        // When
+        Map<String, Long> ids = artistBulkRepository.bulkInsertReturningIds(artistsToInsert).block();
+
+        // Then
+        assertThat(ids).containsOnlyKeys("Artist2", "Artist3");
+        assertThat(ids).doesNotContainValue(existingArtist.getId());
+        StepVerifier.create(artistRepository.findById(ids.get("Artist3")))
+            .assertNext(artist -> assertThat(artist.getName()).isEqualTo("Artist3"))
+            .verifyComplete();
+    }
+    
     @Test
     @DisplayName("빈 리스트 처리")
     void testBulkInsertEmptyList() {
@@ -2,8 +2,11 @@ package com.example.spotify_song_subject.repository.bulk;
 
 import com.example.spotify_song_subject.domain.Album;
 import com.example.spotify_song_subject.domain.Song;
+import com.example.spotify_song_subject.dto.LikeCountDelta;
+import com.example.spotify_song_subject.mapper.LyricsCodec;
 import com.example.spotify_song_subject.repository.AlbumRepository;
 import com.example.spotify_song_subject.repository.RepositoryTestConfiguration;
+import com.example.spotify_song_subject.repository.SongLyricsRepository;
 import com.example.spotify_song_subject.repository.SongRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,9 +34,15 @@ class SongBulkRepositoryTest {
     @Autowired
     private SongRepository songRepository;
 
+    @Autowired
+    private SongLyricsRepository songLyricsRepository;
+
     @Autowired
     private AlbumRepository albumRepository;
 
+    @Autowired
+    private LyricsCodec lyricsCodec;
+
     private Long albumId;
     private List<Song> testSongs;
 
@@ -52,6 +61,7 @@ class SongBulkRepositoryTest {
 
     @AfterEach
     void tearDown() {
+        songLyricsRepository.deleteAll().block();
         songRepository.deleteAll().block();
         albumRepository.deleteAll().block();
     }
@@ -88,6 +98,70 @@ class SongBulkRepositoryTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("일괄 삽입 후 생성된 id를 삽입 순서대로 반환한다")
+    void bulkInsertReturningIds() {
+        // when
+        List<Long> ids = songBulkRepository.bulkInsertReturningIds(testSongs).block();
+
+        // then
+        assertThat(ids).hasSize(3).doesNotContainNull();
+        for (int i = 0; i < ids.size(); i++) {
+            Song saved = songRepository.findById(ids.get(i)).block();
+            assertThat(saved.getTitle()).isEqualTo(testSongs.get(i).getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("가사는 생성된 곡 id로 song_lyrics 테이블에 인코딩하여 저장한다")
+    void bulkInsertStoresLyricsSeparately() {
+        // given
+        List<Song> songs = Arrays.asList(
+            Song.builder().title("With lyrics").albumId(albumId).lyrics("First verse").build(),
+            Song.builder().title("Instrumental").albumId(albumId).build()
+        );
+
+        // when
+        List<Long> ids = songBulkRepository.bulkInsertReturningIds(songs).block();
+
+        // then
+        StepVerifier.create(songLyricsRepository.findById(ids.get(0)))
+            .assertNext(songLyrics -> assertThat(lyricsCodec.decode(songLyrics.getLyrics())).isEqualTo("First verse"))
+            .verifyComplete();
+
+        StepVerifier.create(songLyricsRepository.count())
+            .expectNext(1L)
+            .verifyComplete();
+
+        StepVerifier.create(songRepository.findById(ids.get(0)))
+            .assertNext(song -> assertThat(song.getLyrics()).isNull())
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("곡별 좋아요 증감분을 like_count에 일괄 반영하고 0 미만으로 내리지 않는다")
+    void bulkAddLikeCounts() {
+        // given
+        List<Long> ids = songBulkRepository.bulkInsertReturningIds(testSongs).block();
+
+        // when & then
+        StepVerifier.create(songBulkRepository.bulkAddLikeCounts(List.of(
+                new LikeCountDelta(ids.get(0), 5L),
+                new LikeCountDelta(ids.get(1), -3L))))
+            .expectNext(2L)
+            .verifyComplete();
+
+        StepVerifier.create(songRepository.findLikeCountById(ids.get(0)))
+            .expectNext(5L)
+            .verifyComplete();
+        StepVerifier.create(songRepository.findLikeCountById(ids.get(1)))
+            .expectNext(0L)
+            .verifyComplete();
+        StepVerifier.create(songRepository.findLikeCountById(ids.get(2)))
+            .expectNext(0L)
+            .verifyComplete();
+    }
+
     @Test
     @DisplayName("nullable 필드가 null인 노래도 삽입한다")
     void bulkInsertSongsWithNullFields() {
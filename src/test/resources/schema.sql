@@ -54,7 +54,6 @@ CREATE TABLE IF NOT EXISTS songs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '곡 고유 ID',
     album_id BIGINT COMMENT '앨범 ID',
     title VARCHAR(500) NOT NULL COMMENT '곡 제목',
-    lyrics CLOB COMMENT '가사',
     length TIME COMMENT '곡 길이',
     music_key VARCHAR(20) COMMENT '음악 키 (예: C major)',
     tempo DECIMAL(10,2) COMMENT '템포 (BPM)',
@@ -95,6 +94,12 @@ CREATE INDEX IF NOT EXISTS idx_song_genre ON songs(genre);
 CREATE INDEX IF NOT EXISTS idx_song_like_count ON songs(like_count DESC);
 CREATE INDEX IF NOT EXISTS idx_song_deleted_at ON songs(deleted_at);
 
+-- 4-1. Song_Lyrics 테이블: 곡 가사 (songs 행 크기를 줄이기 위해 분리, 상세 조회 시에만 읽음)
+CREATE TABLE IF NOT EXISTS song_lyrics (
+    song_id BIGINT PRIMARY KEY COMMENT '곡 ID',
+    lyrics VARBINARY NOT NULL COMMENT '가사 (LyricsCodec으로 인코딩된 바이트, 기본 Deflate 압축, 길이 제한 없음)'
+);
+
 -- 5. Artist_Songs 테이블: 아티스트와 곡의 관계를 저장하는 테이블
 CREATE TABLE IF NOT EXISTS artist_songs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '관계 고유 ID',
@@ -125,7 +130,7 @@ CREATE TABLE IF NOT EXISTS song_likes (
 
 CREATE INDEX IF NOT EXISTS idx_like_song ON song_likes(song_id);
 CREATE INDEX IF NOT EXISTS idx_like_user ON song_likes(user_id);
-CREATE INDEX IF NOT EXISTS idx_like_song_user ON song_likes(song_id, user_id); -- 중복 체크용 복합 인덱스
+CREATE UNIQUE INDEX IF NOT EXISTS uk_like_song_user ON song_likes(song_id, user_id); -- 사용자당 곡별 좋아요 한 행 (토글은 deleted_at만 변경)
 CREATE INDEX IF NOT EXISTS idx_like_created ON song_likes(created_at DESC);
 CREATE INDEX IF NOT EXISTS idx_like_deleted_at ON song_likes(deleted_at);
 
@@ -146,3 +151,14 @@ CREATE TABLE IF NOT EXISTS similar_songs (
 CREATE INDEX IF NOT EXISTS idx_similar_score ON similar_songs(song_id, similarity_score DESC);
 CREATE INDEX IF NOT EXISTS idx_similar_artist_song ON similar_songs(similar_artist_name, similar_song_title);
 CREATE INDEX IF NOT EXISTS idx_similar_deleted_at ON similar_songs(deleted_at);
+
+-- 8. Artist_Album_Year_Stats 테이블: 연도별 아티스트 앨범 수 요약 (앨범 통계 조회용)
+CREATE TABLE IF NOT EXISTS artist_album_year_stats (
+    release_year INT NOT NULL COMMENT '발매 연도',
+    artist_id BIGINT NOT NULL COMMENT '아티스트 ID',
+    artist_name VARCHAR(255) NOT NULL COMMENT '아티스트명 (역정규화)',
+    album_count BIGINT NOT NULL DEFAULT 0 COMMENT '해당 연도 앨범 수',
+    PRIMARY KEY (release_year, artist_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_album_year_stats_rank ON artist_album_year_stats(release_year, album_count DESC, artist_name); -- 연도별 순위 페이징